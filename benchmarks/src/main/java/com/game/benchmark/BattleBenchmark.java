@@ -0,0 +1,130 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.battle.AttackCommand;
+import com.game.battle.BatchBattleStepper;
+import com.game.battle.BattleManager;
+import com.game.battle.BattleSimulator;
+import com.game.battle.BattleStateStore;
+import com.game.battle.Command;
+import com.game.battle.SimulationResult;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.skill.DamageContext;
+import com.game.skill.SkillBuilder;
+import com.game.skill.SkillCache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.game.GameConstants.*;
+
+/**
+ * End-to-end battle per detik: jalur Character/Command (seperti Main tanpa display)
+ * dibandingkan dengan BattleSimulator headless
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+    private static final long MASTER_SEED = 42L;
+    private static final int BATCH_SIZE = 4096;
+    
+    private SkillBuilder skillBuilder;
+    private SkillCache skillCache;
+    private GameRandom random;
+    private DamageContext damageContext;
+    private BattleSimulator simulator;
+    private SimulationResult result;
+    private long battleIndex;
+    private BattleStateStore store;
+    private BatchBattleStepper stepper;
+    
+    @Setup
+    public void setUp() {
+        skillBuilder = new SkillBuilder();
+        skillCache = new SkillCache();
+        random = new GameRandom(MASTER_SEED);
+        damageContext = new DamageContext(random);
+        simulator = new BattleSimulator(new Warrior("Aragorn"), new Mage("Gandalf"));
+        result = simulator.newResult();
+        store = new BattleStateStore(BATCH_SIZE);
+        stepper = new BatchBattleStepper(store, result);
+    }
+    
+    @Benchmark
+    public int commandBattle() {
+        return runCommandBattle(false);
+    }
+    
+    @Benchmark
+    public int cachedCommandBattle() {
+        return runCommandBattle(true);
+    }
+    
+    private int runCommandBattle(boolean cachedSkills) {
+        random.setStream(MASTER_SEED, battleIndex++);
+        BattleManager battleManager = new BattleManager(new Warrior("Aragorn"), new Mage("Gandalf"));
+        Character player1 = battleManager.getPlayer1();
+        Character player2 = battleManager.getPlayer2();
+        
+        int turnNumber = 0;
+        while (battleManager.isBattleOngoing() && turnNumber < MAX_TURNS) {
+            turnNumber++;
+            if (battleManager.isBattleOngoing()) {
+                battleManager.executeCommand(createCommand(player1, player2, cachedSkills));
+            }
+            if (battleManager.isBattleOngoing()) {
+                battleManager.executeCommand(createCommand(player2, player1, cachedSkills));
+            }
+        }
+        battleManager.endAsDraw();
+        return battleManager.getTotalCommands();
+    }
+    
+    private Command createCommand(Character attacker, Character target, boolean cachedSkills) {
+        if (cachedSkills) {
+            if (random.nextInt(2) == 0) {
+                return new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker));
+            }
+            return new UseSkillCommand(attacker, target, skillCache.getDecoratedSkill(attacker), damageContext);
+        }
+        if (random.nextInt(2) == 0) {
+            return new AttackCommand(attacker, target);
+        }
+        return new UseSkillCommand(attacker, target, skillBuilder.buildDecoratedSkill(attacker, random),
+            damageContext);
+    }
+    
+    @Benchmark
+    public long simulatedBattle() {
+        long index = battleIndex++;
+        simulator.simulateRange(MASTER_SEED, index, index + 1, result);
+        return result.getBattles();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long batchedBattle() {
+        store.clear();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            store.addBattle(simulator.getPlayer1(), simulator.getPlayer2(), MASTER_SEED, battleIndex++);
+        }
+        stepper.runToCompletion();
+        return result.getBattles();
+    }
+}
@@ -0,0 +1,22 @@
+package com.game.benchmark;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+
+/**
+ * Character dengan HP sangat besar supaya benchmark command
+ * bisa berjalan jutaan kali tanpa target mati
+ */
+class BenchmarkCharacter extends Character {
+    private final CharacterType characterType;
+    
+    BenchmarkCharacter(String name, CharacterType characterType, int attackPower) {
+        super(name, Integer.MAX_VALUE, attackPower);
+        this.characterType = characterType;
+    }
+    
+    @Override
+    public CharacterType getCharacterType() {
+        return characterType;
+    }
+}
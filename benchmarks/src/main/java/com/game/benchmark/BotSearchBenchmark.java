@@ -0,0 +1,86 @@
+package com.game.benchmark;
+
+import com.game.ai.BotMatchup;
+import com.game.ai.LookaheadSearch;
+import com.game.battle.CombatProfile;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.event.ActionType;
+import com.game.skill.SkillBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency satu keputusan bot dan throughput rollout LookaheadSearch
+ *
+ * decide: keputusan dari state yang berganti-ganti dengan budget 1 ms,
+ * table dipakai ulang seperti di server. rollouts: hanya iterasi pertama
+ * (horizon satu keputusan, 256 rollout per leaf); counter rollouts = waktu per rollout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotSearchBenchmark {
+    private static final long DECISION_BUDGET_NANOS = 1_000_000L;
+    
+    private BotMatchup[] matchups;
+    private LookaheadSearch search;
+    private LookaheadSearch rolloutSearch;
+    private int step;
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RolloutCounter {
+        public long rollouts;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            rollouts = 0;
+        }
+    }
+    
+    @Setup
+    public void setUp() {
+        SkillBuilder skillBuilder = new SkillBuilder();
+        CombatProfile warrior = CombatProfile.of(new Warrior("Warrior"), skillBuilder);
+        CombatProfile mage = CombatProfile.of(new Mage("Mage"), skillBuilder);
+        matchups = new BotMatchup[] {
+            BotMatchup.of(warrior, mage, true),
+            BotMatchup.of(mage, warrior, false)
+        };
+        search = new LookaheadSearch(42L);
+        rolloutSearch = new LookaheadSearch(42L, 4, 256);
+    }
+    
+    @Benchmark
+    public ActionType decide() {
+        int i = step++;
+        BotMatchup matchup = matchups[0];
+        int selfHp = 1 + (i * 37) % matchup.self().getMaxHp();
+        int opponentHp = 1 + (i * 53) % matchup.opponent().getMaxHp();
+        return search.search(matchup, selfHp, opponentHp, 1 + (i % 10), DECISION_BUDGET_NANOS);
+    }
+    
+    @Benchmark
+    public ActionType rollouts(RolloutCounter counter) {
+        BotMatchup matchup = matchups[step++ & 1];
+        ActionType action = rolloutSearch.search(matchup, matchup.self().getMaxHp(),
+            matchup.opponent().getMaxHp(), 1, 1L);
+        counter.rollouts += rolloutSearch.getRollouts();
+        return action;
+    }
+}
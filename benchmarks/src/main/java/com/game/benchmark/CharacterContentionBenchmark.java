@@ -0,0 +1,72 @@
+package com.game.benchmark;
+
+import com.game.character.Character;
+import com.game.character.CharacterSnapshot;
+import com.game.character.CharacterType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Banyak thread memukul satu character bersamaan sementara thread lain membaca snapshot
+ *
+ * Setiap iterasi diakhiri dengan pengecekan bahwa tidak ada damage yang hilang:
+ * HP akhir harus sama dengan maxHp dikurangi jumlah hit, dan version sama dengan jumlah hit.
+ * (Angka throughput hit termasuk biaya LongAdder untuk menghitung hit.)
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharacterContentionBenchmark {
+    private static final int DAMAGE = 1;
+    
+    private Character target;
+    private final LongAdder hits = new LongAdder();
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        target = new BenchmarkCharacter("Aragorn", CharacterType.WARRIOR, 20);
+        hits.reset();
+    }
+    
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public boolean hit() {
+        hits.increment();
+        return target.applyDamage(DAMAGE);
+    }
+    
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public CharacterSnapshot read() {
+        return target.snapshot();
+    }
+    
+    @TearDown(Level.Iteration)
+    public void verify() {
+        CharacterSnapshot snapshot = target.snapshot();
+        long applied = (long) snapshot.maxHp() - snapshot.hp();
+        if (applied != hits.sum() * DAMAGE || (int) applied != snapshot.version()) {
+            throw new IllegalStateException("Lost update: " + hits.sum() + " hits, "
+                + applied + " damage applied, version " + snapshot.version());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.battle.BattleManager;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.checkpoint.BattleCheckpoint;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Satu pass checkpoint untuk banyak battle yang sedang berjalan
+ *
+ * dirtyEvery=1 berarti semua battle berubah sejak pass sebelumnya,
+ * dirtyEvery=10 hanya 10% battle yang berubah (checkpoint incremental).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckpointBenchmark {
+    
+    @Param({"100000"})
+    public int battles;
+    
+    @Param({"1", "10"})
+    public int dirtyEvery;
+    
+    private Path file;
+    private BattleCheckpoint checkpoint;
+    private BattleManager[] battleManagers;
+    private GameRandom[] randoms;
+    
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("battles", ".ckpt");
+        checkpoint = BattleCheckpoint.create(file, battles);
+        battleManagers = new BattleManager[battles];
+        randoms = new GameRandom[battles];
+        for (int i = 0; i < battles; i++) {
+            battleManagers[i] = new BattleManager(new Warrior("Warrior " + i), new Mage("Mage " + i));
+            randoms[i] = GameRandom.forStream(42L, i);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        checkpoint.close();
+        Files.deleteIfExists(file);
+    }
+    
+    @Benchmark
+    public int checkpointAll() {
+        for (int i = 0; i < battles; i += dirtyEvery) {
+            randoms[i].nextLong();
+        }
+        int written = 0;
+        for (int i = 0; i < battles; i++) {
+            if (checkpoint.checkpoint(i, battleManagers[i], randoms[i])) {
+                written++;
+            }
+        }
+        return written;
+    }
+}
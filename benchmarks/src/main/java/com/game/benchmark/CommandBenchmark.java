@@ -0,0 +1,82 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.skill.DamageContext;
+import com.game.skill.SkillBuilder;
+import com.game.skill.SkillCache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Satu round-trip BattleManager.executeCommand(), termasuk pembuatan command
+ * seperti yang dilakukan Main setiap turn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+    
+    private SkillBuilder skillBuilder;
+    private SkillCache skillCache;
+    private GameRandom random;
+    private DamageContext damageContext;
+    private Character attacker;
+    private Character target;
+    private BattleManager battleManager;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        skillBuilder = new SkillBuilder();
+        skillCache = new SkillCache();
+        random = new GameRandom(42L);
+        damageContext = new DamageContext(random);
+        attacker = new BenchmarkCharacter("Gandalf", CharacterType.MAGE, 30);
+        target = new BenchmarkCharacter("Aragorn", CharacterType.WARRIOR, 20);
+        battleManager = new BattleManager(attacker, target);
+    }
+    
+    @Benchmark
+    public int attackCommand() {
+        battleManager.executeCommand(new AttackCommand(attacker, target));
+        return target.getHp();
+    }
+    
+    @Benchmark
+    public int skillCommand() {
+        battleManager.executeCommand(
+            new UseSkillCommand(attacker, target, skillBuilder.buildDecoratedSkill(attacker, random),
+                damageContext));
+        return target.getHp();
+    }
+    
+    @Benchmark
+    public int cachedAttackCommand() {
+        battleManager.executeCommand(new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker)));
+        return target.getHp();
+    }
+    
+    @Benchmark
+    public int cachedSkillCommand() {
+        battleManager.executeCommand(
+            new UseSkillCommand(attacker, target, skillCache.getDecoratedSkill(attacker), damageContext));
+        return target.getHp();
+    }
+}
@@ -0,0 +1,78 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.skill.CompiledSkill;
+import com.game.skill.CriticalHitDecorator;
+import com.game.skill.DamageBoostDecorator;
+import com.game.skill.DamageContext;
+import com.game.skill.Fireball;
+import com.game.skill.Skill;
+import com.game.skill.SkillCompiler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Satu hit penuh lewat execute(random) vs resolve(DamageContext)
+ *
+ * gc.alloc.rate.norm untuk resolve* harus ~0 B/op: context, attacker dan
+ * target dipakai ulang dan semua modifier ditulis ke field context.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageResolutionBenchmark {
+    
+    @Param({"2", "8"})
+    private int depth;
+    
+    private Skill skill;
+    private CompiledSkill compiledSkill;
+    private GameRandom random;
+    private DamageContext context;
+    
+    @Setup
+    public void setUp() {
+        random = new GameRandom(42L);
+        Skill decorated = new Fireball(30);
+        for (int i = 0; i < depth; i++) {
+            decorated = i % 2 == 0
+                ? new DamageBoostDecorator(decorated, DAMAGE_BOOST_AMOUNT)
+                : new CriticalHitDecorator(decorated, CRITICAL_HIT_CHANCE, random);
+        }
+        skill = decorated;
+        compiledSkill = SkillCompiler.compile(decorated);
+        context = new DamageContext().prepare(random, new Mage("Mage"), new Warrior("Warrior"));
+    }
+    
+    @Benchmark
+    public int executeWithRandom() {
+        return skill.execute(random);
+    }
+    
+    @Benchmark
+    public int resolve() {
+        return context.resolve(skill);
+    }
+    
+    @Benchmark
+    public int resolveCompiled() {
+        return context.resolve(compiledSkill);
+    }
+}
@@ -0,0 +1,76 @@
+package com.game.benchmark;
+
+import com.game.character.Character;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.effect.EffectScheduler;
+import com.game.effect.EffectSpec;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Biaya satu turn EffectScheduler saat banyak effect pasif aktif
+ *
+ * Setiap operasi menerapkan satu BURN 8 turn (sekitar 8 tick per turn) dan
+ * satu ATTACK_BUFF dengan durasi acak rata-rata activeEffects turn, lalu maju
+ * satu turn. Jumlah buff aktif stabil di sekitar activeEffects; waktu per
+ * operasi tidak tumbuh linear dengan activeEffects, sisa selisihnya cache miss
+ * saat node buff dipindah antar level wheel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectSchedulerBenchmark {
+    
+    @Param({"0", "1000", "100000"})
+    private int activeEffects;
+    
+    private static final EffectSpec BURN = EffectSpec.burn(0, 8);
+    
+    private Character warrior;
+    private Character mage;
+    private EffectScheduler scheduler;
+    private EffectSpec[] buffs;
+    private SplittableRandom random;
+    private int turn;
+    
+    @Setup
+    public void setUp() {
+        warrior = new Warrior("Warrior");
+        mage = new Mage("Mage");
+        scheduler = new EffectScheduler(0, warrior, mage);
+        random = new SplittableRandom(42L);
+        // Durasi 1 .. 2 * activeEffects, dibuat di awal supaya operasi tidak mengukur alokasi spec
+        buffs = new EffectSpec[4_096];
+        for (int i = 0; i < buffs.length; i++) {
+            buffs[i] = EffectSpec.attackBuff(1, 1 + random.nextInt(Math.max(1, 2 * activeEffects)));
+        }
+        for (int i = 0; i < activeEffects; i++) {
+            scheduler.apply(buffs[i & (buffs.length - 1)], warrior, mage);
+        }
+        turn = 0;
+    }
+    
+    @Benchmark
+    public int advanceTurn() {
+        scheduler.apply(BURN, warrior, mage);
+        if (activeEffects > 0) {
+            scheduler.apply(buffs[random.nextInt(buffs.length)], warrior, mage);
+        }
+        return scheduler.advanceTo(++turn);
+    }
+}
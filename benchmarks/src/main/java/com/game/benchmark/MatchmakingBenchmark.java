@@ -0,0 +1,68 @@
+package com.game.benchmark;
+
+import com.game.matchmaking.MatchmakingConfig;
+import com.game.matchmaking.MatchmakingService;
+import com.game.registry.GameRegistry;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Biaya satu pairing (enqueue, pencarian index, spawn BattleManager) saat antrian berisi banyak player
+ *
+ * Antrian diisi player archetype 0 yang tidak punya lawan (mirror dilarang).
+ * Setiap operasi memasukkan satu player archetype 1 yang langsung dipasangkan
+ * dan satu pengganti archetype 0, lalu menjalankan satu tick. Clock sintetis maju
+ * 1 us per operasi dengan window melebar tiap 1 ms, jadi jalur pelebaran ikut terukur.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchmakingBenchmark {
+    
+    @Param({"1000", "100000"})
+    private int queuedPlayers;
+    
+    private MatchmakingService service;
+    private SplittableRandom random;
+    private static final long STEP_NANOS = 1_000L;
+    private static final long WIDEN_INTERVAL_NANOS = 1_000_000L;
+    
+    private long nextPlayerId;
+    private long now;
+    private long battles;
+    
+    @Setup
+    public void setUp() {
+        MatchmakingConfig defaults = MatchmakingConfig.defaults();
+        MatchmakingConfig config = new MatchmakingConfig(defaults.bucketWidth(), defaults.maxRating(),
+            defaults.initialWindow(), defaults.maxWindow(), WIDEN_INTERVAL_NANOS, defaults.batchSize(), false);
+        service = new MatchmakingService(GameRegistry.defaults(), config, matched -> battles += matched.size());
+        random = new SplittableRandom(42L);
+        for (int i = 0; i < queuedPlayers; i++) {
+            service.enqueue(nextPlayerId++, 0, random.nextInt(3_000), 0L);
+        }
+        service.tick(0L);
+    }
+    
+    @Benchmark
+    public int pairing() {
+        now += STEP_NANOS;
+        service.enqueue(nextPlayerId++, 1, random.nextInt(3_000), now);
+        service.enqueue(nextPlayerId++, 0, random.nextInt(3_000), now);
+        return service.tick(now);
+    }
+}
@@ -0,0 +1,75 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.battle.BattleManager;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.metrics.BattleMetrics;
+import com.game.skill.DamageContext;
+import com.game.skill.Skill;
+import com.game.skill.SkillCache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead BattleMetrics pada command skill yang sudah di-cache:
+ * metricsEnabled=false harus setara dengan CommandBenchmark.cachedSkillCommand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean metricsEnabled;
+    
+    private GameRandom random;
+    private DamageContext damageContext;
+    private Character attacker;
+    private Character target;
+    private Skill skill;
+    private BattleManager battleManager;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        if (metricsEnabled) {
+            BattleMetrics.enable();
+        } else {
+            BattleMetrics.disable();
+        }
+        random = new GameRandom(42L);
+        damageContext = new DamageContext(random);
+        attacker = new BenchmarkCharacter("Gandalf", CharacterType.MAGE, 30);
+        target = new BenchmarkCharacter("Aragorn", CharacterType.WARRIOR, 20);
+        skill = new SkillCache().getDecoratedSkill(attacker);
+        battleManager = new BattleManager(attacker, target);
+    }
+    
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        BattleMetrics.disable();
+        BattleMetrics.reset();
+    }
+    
+    @Benchmark
+    public int skillCommand() {
+        battleManager.executeCommand(new UseSkillCommand(attacker, target, skill, damageContext));
+        return target.getHp();
+    }
+}
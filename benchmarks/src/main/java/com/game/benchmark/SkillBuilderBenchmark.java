@@ -0,0 +1,73 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.character.Character;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.skill.Skill;
+import com.game.skill.SkillBuilder;
+import com.game.skill.SkillCache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Biaya (waktu dan alokasi) SkillBuilder.buildDecoratedSkill() per turn.
+ * Jalankan dengan -prof gc untuk melihat gc.alloc.rate.norm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillBuilderBenchmark {
+    
+    private SkillBuilder skillBuilder;
+    private SkillCache skillCache;
+    private GameRandom random;
+    private Character warrior;
+    private Character mage;
+    
+    @Setup
+    public void setUp() {
+        skillBuilder = new SkillBuilder();
+        skillCache = new SkillCache();
+        random = new GameRandom(42L);
+        warrior = new Warrior("Aragorn");
+        mage = new Mage("Gandalf");
+    }
+    
+    @Benchmark
+    public Skill buildWarriorSkill() {
+        return skillBuilder.buildDecoratedSkill(warrior, random);
+    }
+    
+    @Benchmark
+    public Skill buildMageSkill() {
+        return skillBuilder.buildDecoratedSkill(mage, random);
+    }
+    
+    @Benchmark
+    public Skill buildMageSkillWithoutRandom() {
+        return skillBuilder.buildDecoratedSkill(mage);
+    }
+    
+    @Benchmark
+    public Skill cachedMageSkill() {
+        return skillCache.getDecoratedSkill(mage);
+    }
+    
+    @Benchmark
+    public int executeCachedMageSkill() {
+        return skillCache.getDecoratedSkill(mage).execute(random);
+    }
+}
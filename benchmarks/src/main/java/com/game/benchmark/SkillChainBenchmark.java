@@ -0,0 +1,80 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.skill.CompiledSkill;
+import com.game.skill.CriticalHitDecorator;
+import com.game.skill.DamageBoostDecorator;
+import com.game.skill.Fireball;
+import com.game.skill.Skill;
+import com.game.skill.SkillCompiler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Skill.execute() dan getDescription() melalui decorator chain dengan kedalaman berbeda
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillChainBenchmark {
+    
+    @Param({"2", "8", "32"})
+    private int depth;
+    
+    private Skill skill;
+    private CompiledSkill compiledSkill;
+    private GameRandom random;
+    
+    @Setup
+    public void setUp() {
+        random = new GameRandom(42L);
+        Skill decorated = new Fireball(30);
+        for (int i = 0; i < depth; i++) {
+            decorated = i % 2 == 0
+                ? new DamageBoostDecorator(decorated, DAMAGE_BOOST_AMOUNT)
+                : new CriticalHitDecorator(decorated, CRITICAL_HIT_CHANCE, random);
+        }
+        skill = decorated;
+        compiledSkill = SkillCompiler.compile(decorated);
+    }
+    
+    @Benchmark
+    public int execute() {
+        return skill.execute();
+    }
+    
+    @Benchmark
+    public int executeWithRandom() {
+        return skill.execute(random);
+    }
+    
+    @Benchmark
+    public int executeCompiled() {
+        return compiledSkill.execute(random);
+    }
+    
+    @Benchmark
+    public String description() {
+        return skill.getDescription();
+    }
+    
+    @Benchmark
+    public String compiledDescription() {
+        return compiledSkill.getDescription();
+    }
+}
@@ -0,0 +1,85 @@
+package com.game.benchmark;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.event.ActionType;
+import com.game.spectator.SpectatorCursor;
+import com.game.spectator.SpectatorFeed;
+import com.game.spectator.SpectatorFrameHandler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Biaya satu command untuk spectator: delta frame di SpectatorFeed dibanding
+ * teks status penuh seperti ConsoleDisplay.displayBattleStatus()
+ *
+ * fanOut menulis satu frame lalu semua cursor membaca frame itu dari buffer
+ * bersama; gc.alloc.rate.norm harus ~0 B/op berapapun jumlah spectator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpectatorFeedBenchmark {
+    
+    @Param({"1", "1000"})
+    private int spectators;
+    
+    private Character attacker;
+    private Character target;
+    private SpectatorFeed feed;
+    private SpectatorCursor[] cursors;
+    private SpectatorFrameHandler handler;
+    private long damageSum;
+    
+    @Setup
+    public void setUp() {
+        attacker = new BenchmarkCharacter("Warrior", CharacterType.WARRIOR, 20);
+        target = new BenchmarkCharacter("Mage", CharacterType.MAGE, 30);
+        feed = new SpectatorFeed(0, attacker, target);
+        cursors = new SpectatorCursor[spectators];
+        for (int i = 0; i < spectators; i++) {
+            cursors[i] = feed.subscribe();
+        }
+        handler = frame -> damageSum += frame.getDamage();
+    }
+    
+    @Benchmark
+    public void publishDelta() {
+        target.applyDamage(20);
+        feed.commandExecuted(0, ActionType.ATTACK, 20, false);
+    }
+    
+    @Benchmark
+    public long fanOut() {
+        target.applyDamage(20);
+        feed.commandExecuted(0, ActionType.ATTACK, 20, false);
+        for (SpectatorCursor cursor : cursors) {
+            cursor.poll(handler, 4);
+        }
+        return damageSum;
+    }
+    
+    /**
+     * Baseline: status penuh kedua character yang dicetak ulang setiap kali
+     */
+    @Benchmark
+    public void fullStatusText(Blackhole blackhole) {
+        target.applyDamage(20);
+        blackhole.consume(attacker.toString());
+        blackhole.consume(target.toString());
+    }
+}
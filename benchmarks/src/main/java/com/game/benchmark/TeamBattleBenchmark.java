@@ -0,0 +1,87 @@
+package com.game.benchmark;
+
+import com.game.GameRandom;
+import com.game.battle.BattleSimulator;
+import com.game.battle.CombatProfile;
+import com.game.battle.TargetingStrategy;
+import com.game.battle.TeamBattle;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Biaya per aksi TeamBattle: 1v1 dibandingkan raid 50v50
+ *
+ * Counter "actions" dilaporkan sebagai throughput aksi per mikrodetik,
+ * sehingga ukuran team yang berbeda bisa dibandingkan langsung.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamBattleBenchmark {
+    private static final long MASTER_SEED = 42L;
+    
+    @Param({"1", "50"})
+    public int teamSize;
+    
+    @Param({"LOWEST_HP", "HIGHEST_THREAT", "RANDOM"})
+    public TargetingStrategy targeting;
+    
+    private TeamBattle battle;
+    private GameRandom random;
+    private long battleIndex;
+    
+    /**
+     * Jumlah aksi yang dieksekusi, dilaporkan JMH sebagai ops
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Actions {
+        public long actions;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            actions = 0;
+        }
+    }
+    
+    @Setup
+    public void setUp() {
+        BattleSimulator simulator = new BattleSimulator(new Warrior("Aragorn"), new Mage("Gandalf"));
+        List<CombatProfile> combatants = new ArrayList<>();
+        int[] teams = new int[2 * teamSize];
+        for (int i = 0; i < teams.length; i++) {
+            combatants.add(i % 2 == 0 ? simulator.getPlayer1() : simulator.getPlayer2());
+            teams[i] = i % 2;
+        }
+        battle = new TeamBattle(combatants, teams, targeting);
+        random = new GameRandom(MASTER_SEED);
+    }
+    
+    @Benchmark
+    public int battle(Actions actions) {
+        random.setStream(MASTER_SEED, battleIndex++);
+        battle.reset();
+        int winner = battle.run(random);
+        actions.actions += battle.getActionCount();
+        return winner;
+    }
+}
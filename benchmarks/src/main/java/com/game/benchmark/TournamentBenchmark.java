@@ -0,0 +1,55 @@
+package com.game.benchmark;
+
+import com.game.character.MageCreator;
+import com.game.character.WarriorCreator;
+import com.game.skill.SkillBuilder;
+import com.game.tournament.Entrant;
+import com.game.tournament.TournamentEngine;
+import com.game.tournament.TournamentFormat;
+import com.game.tournament.TournamentListener;
+import com.game.tournament.TournamentResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Waktu satu tournament penuh (best of 5) di pool bawaan TournamentEngine (semua core)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentBenchmark {
+    
+    @Param({"256", "4096"})
+    private int entrants;
+    
+    @Param({"SWISS", "SINGLE_ELIMINATION"})
+    private TournamentFormat format;
+    
+    private List<Entrant> roster;
+    private TournamentEngine engine;
+    
+    @Setup
+    public void setUp() {
+        roster = Entrant.roster(List.of(new WarriorCreator(), new MageCreator()), entrants, new SkillBuilder());
+        engine = new TournamentEngine(42L, 5);
+    }
+    
+    @Benchmark
+    public TournamentResult tournament() {
+        return engine.run(format, roster, TournamentListener.IGNORE);
+    }
+}
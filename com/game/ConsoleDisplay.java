@@ -1,18 +1,34 @@
 package com.game;
 
 import com.game.character.Character;
+import com.game.event.BattleEndedEvent;
+import com.game.event.BattleEvent;
+import com.game.event.BattleEventFormatter;
+import com.game.event.BattleEventSink;
 
 /**
  * Class untuk menangani semua console output
  * Memisahkan presentation logic dari business logic
  * Mengikuti Single Responsibility Principle
+ * 
+ * ConsoleDisplay juga subscriber battle event: log command, decorator dan
+ * factory dicetak dari event, bukan langsung dari hot path.
  */
-public class ConsoleDisplay {
+public class ConsoleDisplay implements BattleEventSink {
     
     private static final String HORIZONTAL_LINE = "========================================";
     private static final String BOX_TOP = "╔════════════════════════════════════════════╗";
     private static final String BOX_BOTTOM = "╚════════════════════════════════════════════╝";
     
+    @Override
+    public void onEvent(BattleEvent event) {
+        // Akhir battle ditampilkan oleh displayBattleEnd()/displayWinner()
+        if (event instanceof BattleEndedEvent) {
+            return;
+        }
+        System.out.print(BattleEventFormatter.format(event));
+    }
+    
     public void displayGameHeader() {
         System.out.println(BOX_TOP);
         System.out.println("║  MINI ONLINE MULTIPLAYER TURN-BASED GAME  ║");
@@ -0,0 +1,65 @@
+package com.game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random generator kecil berbasis SplitMix64 untuk battle
+ *
+ * - Deterministik: state hanya satu long, mudah di-seed ulang dan di-snapshot
+ * - Splittable: setiap battle bisa mendapat stream sendiri yang diturunkan
+ *   dari master seed + index battle, jadi hasil tidak tergantung jumlah thread
+ * - Tidak thread-safe: satu instance dipakai oleh satu battle/thread saja
+ */
+public final class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = mix64(seed);
+    }
+
+    /**
+     * Buat stream random untuk battle ke-index dari master seed
+     */
+    public static GameRandom forStream(long masterSeed, long streamIndex) {
+        GameRandom random = new GameRandom(0L);
+        random.setStream(masterSeed, streamIndex);
+        return random;
+    }
+
+    /**
+     * Seed ulang instance ini ke stream battle ke-index tanpa alokasi baru
+     */
+    public void setStream(long masterSeed, long streamIndex) {
+        this.state = mix64(masterSeed ^ mix64(streamIndex * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Turunkan generator baru yang independen dari generator ini
+     */
+    public GameRandom split() {
+        GameRandom child = new GameRandom(0L);
+        child.state = mix64(nextLong() ^ GOLDEN_GAMMA);
+        return child;
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -6,7 +6,12 @@ import com.game.character.WarriorCreator;
 import com.game.character.MageCreator;
 import com.game.skill.*;
 import com.game.battle.*;
-import java.util.Random;
+import com.game.event.BattleEvents;
+import com.game.log.BattleLogHistory;
+import com.game.log.BattleLogWriter;
+import com.game.log.RecordingRandom;
+import java.io.IOException;
+import java.nio.file.Path;
 
 import static com.game.GameConstants.*;
 
@@ -27,21 +32,64 @@ import static com.game.GameConstants.*;
 public class Main {
     
     private final ConsoleDisplay display;
-    private final SkillBuilder skillBuilder;
-    private final Random random;
+    private final SkillCache skillCache;
+    private final GameRandom random;
+    private final long seed;
+    private Path battleLog;
+    // Context skill command; random-nya diganti RecordingRandom saat battle direkam
+    private final DamageContext commandContext;
     
     public Main() {
+        this(System.nanoTime());
+    }
+    
+    /**
+     * Semua random draw (pilihan aksi dan critical hit) berasal dari satu seed,
+     * sehingga battle yang sama bisa diulang persis
+     */
+    public Main(long seed) {
         this.display = new ConsoleDisplay();
-        this.skillBuilder = new SkillBuilder();
-        this.random = new Random();
+        this.skillCache = new SkillCache();
+        this.random = new GameRandom(seed);
+        this.seed = seed;
+        this.commandContext = new DamageContext(random);
+    }
+    
+    /**
+     * Rekam battle ke file battle log (battle id = seed), bisa di-replay lewat BattleLogReader
+     */
+    public Main recordTo(Path battleLog) {
+        this.battleLog = battleLog;
+        return this;
     }
     
-    public static void main(String[] args) {
-        Main game = new Main();
+    /**
+     * Pemakaian: java com.game.Main [seed] [battle.log]
+     */
+    public static void main(String[] args) throws IOException {
+        Main game = args.length > 0 ? new Main(Long.parseLong(args[0])) : new Main();
+        if (args.length > 1) {
+            game.recordTo(Path.of(args[1]));
+        }
         game.run();
     }
     
-    private void run() {
+    private void run() throws IOException {
+        if (battleLog == null) {
+            run(CommandHistory.countOnly());
+            return;
+        }
+        try (BattleLogWriter writer = BattleLogWriter.create(battleLog)) {
+            RecordingRandom recordingRandom = new RecordingRandom(random);
+            commandContext.prepare(recordingRandom, null, null);
+            run(new BattleLogHistory(writer, seed, recordingRandom));
+        } finally {
+            commandContext.prepare(random, null, null);
+        }
+    }
+    
+    private void run(CommandHistory commandHistory) {
+        BattleEvents.subscribe(display);
         display.displayGameHeader();
         
         // Phase 1: Character Creation (Factory Method Pattern)
@@ -52,7 +100,7 @@ public class Main {
         
         // Phase 2: Battle Setup
         display.displayPhaseHeader("PHASE 2: BATTLE INITIALIZATION");
-        BattleManager battleManager = new BattleManager(player1, player2);
+        BattleManager battleManager = new BattleManager(player1, player2, commandHistory);
         display.displayBattleStatus(player1, player2);
         
         // Phase 3: Battle Simulation
@@ -62,6 +110,7 @@ public class Main {
         
         // Phase 4: Display Results
         displayBattleResults(battleManager);
+        BattleEvents.unsubscribe(display);
     }
     
     /**
@@ -84,7 +133,7 @@ public class Main {
         int turnNumber = 0;
         
         while (battleManager.isBattleOngoing() && turnNumber < MAX_TURNS) {
-            turnNumber++;
+            turnNumber = battleManager.startNextTurn();
             display.displayTurnHeader(turnNumber);
             
             executeTurn(battleManager);
@@ -92,6 +141,7 @@ public class Main {
         
         if (turnNumber >= MAX_TURNS) {
             display.displayMaxTurnsReached();
+            battleManager.endAsDraw();
         }
     }
     
@@ -114,6 +164,9 @@ public class Main {
     /**
      * Execute one player's turn
      * Uses DECORATOR PATTERN and COMMAND PATTERN
+     * 
+     * Command dibuat tepat sebelum dieksekusi, jadi urutan random draw sama
+     * dengan BattleSimulator dan BatchBattleStepper untuk seed yang sama
      */
     private void executePlayerTurn(Character attacker, Character target, 
                                    BattleManager battleManager) {
@@ -128,10 +181,10 @@ public class Main {
         int action = random.nextInt(2);
         
         if (action == 0) {
-            return new AttackCommand(attacker, target);
+            return new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker));
         } else {
-            Skill decoratedSkill = skillBuilder.buildDecoratedSkill(attacker);
-            return new UseSkillCommand(attacker, target, decoratedSkill);
+            Skill decoratedSkill = skillCache.getDecoratedSkill(attacker);
+            return new UseSkillCommand(attacker, target, decoratedSkill, commandContext);
         }
     }
     
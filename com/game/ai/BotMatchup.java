@@ -0,0 +1,28 @@
+package com.game.ai;
+
+import com.game.battle.CombatProfile;
+
+/**
+ * Sudut pandang satu bot dalam satu match
+ *
+ * @param actsFirst           true jika bot adalah player 1 (beraksi duluan setiap turn)
+ * @param opponentSkillChance peluang lawan memakai skill; 0.5 sama dengan client random
+ */
+public record BotMatchup(CombatProfile self, CombatProfile opponent, boolean actsFirst,
+                         double opponentSkillChance) {
+    public static final double RANDOM_OPPONENT = 0.5;
+
+    public BotMatchup {
+        if (self == null || opponent == null) {
+            throw new IllegalArgumentException("Combat profiles cannot be null");
+        }
+        if (opponentSkillChance < 0.0 || opponentSkillChance > 1.0) {
+            throw new IllegalArgumentException("Opponent skill chance must be between 0 and 1, got: "
+                + opponentSkillChance);
+        }
+    }
+
+    public static BotMatchup of(CombatProfile self, CombatProfile opponent, boolean actsFirst) {
+        return new BotMatchup(self, opponent, actsFirst, RANDOM_OPPONENT);
+    }
+}
@@ -0,0 +1,14 @@
+package com.game.ai;
+
+import com.game.event.ActionType;
+
+/**
+ * Strategi bot untuk memilih aksi pada gilirannya
+ */
+public interface BotPolicy {
+
+    /**
+     * @param turnNumber turn yang sedang berjalan (1..MAX_TURNS)
+     */
+    ActionType chooseAction(BotMatchup matchup, int selfHp, int opponentHp, int turnNumber);
+}
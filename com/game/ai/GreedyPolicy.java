@@ -0,0 +1,31 @@
+package com.game.ai;
+
+import com.game.battle.CombatProfile;
+import com.game.event.ActionType;
+
+/**
+ * Tanpa lookahead: ambil kill jika bisa, selain itu expected damage terbesar
+ *
+ * Juga dipakai sebagai rollout policy di LookaheadSearch.
+ */
+public final class GreedyPolicy implements BotPolicy {
+
+    @Override
+    public ActionType chooseAction(BotMatchup matchup, int selfHp, int opponentHp, int turnNumber) {
+        CombatProfile self = matchup.self();
+        return choose(self.getAttackDamage(), self.getSkillDamage(), self.getSkillCritDamage(),
+            self.getCritChance(), opponentHp);
+    }
+
+    static ActionType choose(int attackDamage, int skillDamage, int skillCritDamage,
+                             double critChance, int opponentHp) {
+        if (attackDamage >= opponentHp) {
+            return ActionType.ATTACK;
+        }
+        if (skillDamage >= opponentHp || (critChance > 0.0 && skillCritDamage >= opponentHp)) {
+            return ActionType.SKILL;
+        }
+        double expectedSkill = skillDamage * (1.0 - critChance) + skillCritDamage * critChance;
+        return expectedSkill > attackDamage ? ActionType.SKILL : ActionType.ATTACK;
+    }
+}
@@ -0,0 +1,52 @@
+package com.game.ai;
+
+import com.game.GameRandom;
+import com.game.event.ActionType;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BotPolicy berbasis LookaheadSearch yang aman dipakai banyak match sekaligus
+ *
+ * LookaheadSearch (beserta transposition table-nya) dipinjam dari pool untuk
+ * satu keputusan lalu dikembalikan, jadi jumlah instance sebanding dengan
+ * keputusan yang berjalan bersamaan, bukan dengan jumlah match.
+ */
+public final class LookaheadPolicy implements BotPolicy {
+    public static final long DEFAULT_BUDGET_MICROS = 2_000L;
+
+    private final ConcurrentLinkedQueue<LookaheadSearch> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nextStream = new AtomicLong();
+    private final long masterSeed;
+    private final long budgetNanos;
+
+    public LookaheadPolicy(long masterSeed) {
+        this(masterSeed, DEFAULT_BUDGET_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    public LookaheadPolicy(long masterSeed, long budget, TimeUnit unit) {
+        if (budget <= 0 || unit == null) {
+            throw new IllegalArgumentException("Budget must be positive, got: " + budget);
+        }
+        this.masterSeed = masterSeed;
+        this.budgetNanos = unit.toNanos(budget);
+    }
+
+    @Override
+    public ActionType chooseAction(BotMatchup matchup, int selfHp, int opponentHp, int turnNumber) {
+        LookaheadSearch search = idle.poll();
+        if (search == null) {
+            search = new LookaheadSearch(GameRandom.forStream(masterSeed, nextStream.getAndIncrement()).nextLong());
+        }
+        try {
+            return search.search(matchup, selfHp, opponentHp, turnNumber, budgetNanos);
+        } finally {
+            idle.offer(search);
+        }
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+}
@@ -0,0 +1,369 @@
+package com.game.ai;
+
+import com.game.GameRandom;
+import com.game.battle.CombatProfile;
+import com.game.event.ActionType;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Expectimax search untuk satu keputusan bot dengan batas waktu
+ *
+ * Node keputusan bot mengambil aksi dengan nilai terbesar; critical roll bot dan
+ * aksi lawan (attack/skill/critical menurut BotMatchup.opponentSkillChance)
+ * adalah chance node. Nilai = peluang menang + DRAW x peluang draw.
+ *
+ * Search memakai iterative deepening per keputusan bot sampai batas waktu habis
+ * atau sampai MAX_TURNS (hasil exact). State di luar horizon dinilai dengan
+ * rollout: bot memakai GreedyPolicy, lawan di-sample dari modelnya.
+ * Semua state berupa primitif (hp, hp, turn) dan nilainya di-cache di
+ * transposition table, jadi search tidak mengalokasikan object.
+ *
+ * Satu instance hanya untuk satu thread; table dipakai ulang antar keputusan
+ * selama matchup-nya sama.
+ */
+public final class LookaheadSearch {
+    public static final double WIN = 1.0;
+    public static final double LOSS = 0.0;
+    public static final double DRAW = 0.5;
+
+    private static final int DEFAULT_TABLE_BITS = 16;
+    private static final int DEFAULT_ROLLOUTS_PER_LEAF = 16;
+    private static final int DEADLINE_CHECK_MASK = 63;
+
+    private final TranspositionTable table;
+    private final GameRandom random;
+    private final int rolloutsPerLeaf;
+
+    // Model matchup saat ini
+    private boolean prepared;
+    private boolean actsFirst;
+    private int attackDamage;
+    private int skillDamage;
+    private int skillCritDamage;
+    private double critChance;
+    private int opponentOutcomes;
+    private final int[] opponentDamage = new int[3];
+    private final double[] opponentProbability = new double[3];
+    private final double[] opponentCumulative = new double[3];
+    private final int[] scratchDamage = new int[3];
+    private final double[] scratchProbability = new double[3];
+
+    // State pencarian
+    private long deadline;
+    private boolean deadlineActive;
+    private boolean aborted;
+
+    // Statistik keputusan terakhir
+    private long nodes;
+    private long rollouts;
+    private int completedDepth;
+    private boolean exact;
+    private double attackValue;
+    private double skillValue;
+
+    public LookaheadSearch(long seed) {
+        this(seed, DEFAULT_TABLE_BITS, DEFAULT_ROLLOUTS_PER_LEAF);
+    }
+
+    /**
+     * @param tableBits       ukuran transposition table = 2^tableBits entry
+     * @param rolloutsPerLeaf jumlah rollout untuk menilai satu state di luar horizon
+     */
+    public LookaheadSearch(long seed, int tableBits, int rolloutsPerLeaf) {
+        if (rolloutsPerLeaf <= 0) {
+            throw new IllegalArgumentException("Rollouts per leaf must be positive, got: " + rolloutsPerLeaf);
+        }
+        this.table = new TranspositionTable(tableBits);
+        this.random = new GameRandom(seed);
+        this.rolloutsPerLeaf = rolloutsPerLeaf;
+    }
+
+    /**
+     * Cari aksi terbaik untuk bot pada state ini
+     *
+     * Iterasi pertama (satu keputusan ke depan) selalu diselesaikan walaupun
+     * melewati budget, sehingga selalu ada aksi yang valid.
+     *
+     * @param turnNumber  turn yang sedang berjalan (1..MAX_TURNS)
+     * @param budgetNanos batas waktu untuk keputusan ini
+     */
+    public ActionType search(BotMatchup matchup, int selfHp, int opponentHp, int turnNumber, long budgetNanos) {
+        if (selfHp <= 0 || opponentHp <= 0) {
+            throw new IllegalArgumentException("HP must be positive, got: " + selfHp + ", " + opponentHp);
+        }
+        if (turnNumber < 1 || turnNumber > MAX_TURNS) {
+            throw new IllegalArgumentException("Turn number must be between 1 and " + MAX_TURNS + ", got: " + turnNumber);
+        }
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Budget must be positive, got: " + budgetNanos);
+        }
+        prepare(matchup);
+
+        deadline = System.nanoTime() + budgetNanos;
+        aborted = false;
+        nodes = 0;
+        rollouts = 0;
+        completedDepth = 0;
+        attackValue = Double.NaN;
+        skillValue = Double.NaN;
+
+        int remaining = MAX_TURNS - turnNumber + 1;
+        ActionType best = GreedyPolicy.choose(attackDamage, skillDamage, skillCritDamage, critChance, opponentHp);
+        for (int depth = 1; depth <= remaining; depth++) {
+            deadlineActive = depth > 1;
+            double attack = actionValue(ActionType.ATTACK, selfHp, opponentHp, turnNumber, depth);
+            double skill = actionValue(ActionType.SKILL, selfHp, opponentHp, turnNumber, depth);
+            if (aborted) {
+                break;
+            }
+            attackValue = attack;
+            skillValue = skill;
+            completedDepth = depth;
+            best = skill > attack ? ActionType.SKILL : ActionType.ATTACK;
+            table.store(TranspositionTable.key(selfHp, opponentHp, turnNumber), depth, Math.max(attack, skill));
+        }
+        exact = completedDepth == remaining;
+        return best;
+    }
+
+    /**
+     * Ubah model bot/lawan; table dikosongkan hanya jika angkanya berubah
+     */
+    private void prepare(BotMatchup matchup) {
+        if (matchup == null) {
+            throw new IllegalArgumentException("Matchup cannot be null");
+        }
+        CombatProfile self = matchup.self();
+        CombatProfile opponent = matchup.opponent();
+        if (self.getMaxHp() > TranspositionTable.MAX_HP || opponent.getMaxHp() > TranspositionTable.MAX_HP) {
+            throw new IllegalArgumentException("HP must be at most " + TranspositionTable.MAX_HP);
+        }
+
+        int[] damage = scratchDamage;
+        double[] probability = scratchProbability;
+        double skillChance = matchup.opponentSkillChance();
+        int outcomes = 0;
+        outcomes = addOutcome(damage, probability, outcomes, opponent.getAttackDamage(), 1.0 - skillChance);
+        outcomes = addOutcome(damage, probability, outcomes, opponent.getSkillDamage(),
+            skillChance * (1.0 - opponent.getCritChance()));
+        outcomes = addOutcome(damage, probability, outcomes, opponent.getSkillCritDamage(),
+            skillChance * opponent.getCritChance());
+
+        boolean unchanged = prepared
+            && actsFirst == matchup.actsFirst()
+            && attackDamage == self.getAttackDamage()
+            && skillDamage == self.getSkillDamage()
+            && skillCritDamage == self.getSkillCritDamage()
+            && critChance == self.getCritChance()
+            && opponentOutcomes == outcomes;
+        for (int i = 0; unchanged && i < outcomes; i++) {
+            unchanged = opponentDamage[i] == damage[i] && opponentProbability[i] == probability[i];
+        }
+        if (unchanged) {
+            return;
+        }
+
+        table.clear();
+        prepared = true;
+        actsFirst = matchup.actsFirst();
+        attackDamage = self.getAttackDamage();
+        skillDamage = self.getSkillDamage();
+        skillCritDamage = self.getSkillCritDamage();
+        critChance = self.getCritChance();
+        opponentOutcomes = outcomes;
+        double cumulative = 0.0;
+        for (int i = 0; i < outcomes; i++) {
+            opponentDamage[i] = damage[i];
+            opponentProbability[i] = probability[i];
+            cumulative += probability[i];
+            opponentCumulative[i] = cumulative;
+        }
+    }
+
+    private static int addOutcome(int[] damage, double[] probability, int count, int value, double chance) {
+        if (chance == 0.0) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if (damage[i] == value) {
+                probability[i] += chance;
+                return count;
+            }
+        }
+        damage[count] = value;
+        probability[count] = chance;
+        return count + 1;
+    }
+
+    /**
+     * Nilai state saat bot akan beraksi, dengan sisa depth keputusan
+     */
+    private double value(int selfHp, int opponentHp, int turn, int depth) {
+        // Depth yang mencapai MAX_TURNS sudah exact; dipotong supaya entry-nya bisa dipakai ulang
+        depth = Math.min(depth, MAX_TURNS - turn + 1);
+        long key = TranspositionTable.key(selfHp, opponentHp, turn);
+        double cached = table.probe(key, depth);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+        if (aborted) {
+            return LOSS;
+        }
+        nodes++;
+        if (deadlineActive && (nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+            return LOSS;
+        }
+
+        double value;
+        if (depth == 0) {
+            value = rolloutValue(selfHp, opponentHp, turn);
+        } else {
+            value = Math.max(
+                actionValue(ActionType.ATTACK, selfHp, opponentHp, turn, depth),
+                actionValue(ActionType.SKILL, selfHp, opponentHp, turn, depth));
+        }
+        if (aborted) {
+            return LOSS;
+        }
+        table.store(key, depth, value);
+        return value;
+    }
+
+    private double actionValue(ActionType action, int selfHp, int opponentHp, int turn, int depth) {
+        if (action == ActionType.ATTACK) {
+            return afterSelfHit(selfHp, opponentHp - attackDamage, turn, depth);
+        }
+        double value = 0.0;
+        if (critChance < 1.0) {
+            value += (1.0 - critChance) * afterSelfHit(selfHp, opponentHp - skillDamage, turn, depth);
+        }
+        if (critChance > 0.0) {
+            value += critChance * afterSelfHit(selfHp, opponentHp - skillCritDamage, turn, depth);
+        }
+        return value;
+    }
+
+    /**
+     * Chance node aksi lawan setelah aksi bot
+     *
+     * Bot sebagai player 1: lawan membalas di turn yang sama.
+     * Bot sebagai player 2: turn selesai, lawan beraksi duluan di turn berikutnya.
+     */
+    private double afterSelfHit(int selfHp, int opponentHp, int turn, int depth) {
+        if (opponentHp <= 0) {
+            return WIN;
+        }
+        if (!actsFirst && turn == MAX_TURNS) {
+            return DRAW;
+        }
+        double value = 0.0;
+        for (int i = 0; i < opponentOutcomes; i++) {
+            int hp = selfHp - opponentDamage[i];
+            double outcome;
+            if (hp <= 0) {
+                outcome = LOSS;
+            } else if (turn == MAX_TURNS) {
+                outcome = DRAW;
+            } else {
+                outcome = value(hp, opponentHp, turn + 1, depth - 1);
+            }
+            value += opponentProbability[i] * outcome;
+        }
+        return value;
+    }
+
+    private double rolloutValue(int selfHp, int opponentHp, int turn) {
+        double total = 0.0;
+        for (int i = 0; i < rolloutsPerLeaf; i++) {
+            total += rollout(selfHp, opponentHp, turn);
+        }
+        rollouts += rolloutsPerLeaf;
+        return total / rolloutsPerLeaf;
+    }
+
+    /**
+     * Mainkan sisa battle dari keputusan bot pada turn ini sampai selesai
+     */
+    private double rollout(int selfHp, int opponentHp, int turn) {
+        while (true) {
+            opponentHp -= rollSelfDamage(opponentHp);
+            if (opponentHp <= 0) {
+                return WIN;
+            }
+            if (actsFirst) {
+                selfHp -= sampleOpponentDamage();
+                if (selfHp <= 0) {
+                    return LOSS;
+                }
+                if (turn == MAX_TURNS) {
+                    return DRAW;
+                }
+                turn++;
+            } else {
+                if (turn == MAX_TURNS) {
+                    return DRAW;
+                }
+                turn++;
+                selfHp -= sampleOpponentDamage();
+                if (selfHp <= 0) {
+                    return LOSS;
+                }
+            }
+        }
+    }
+
+    private int rollSelfDamage(int opponentHp) {
+        if (GreedyPolicy.choose(attackDamage, skillDamage, skillCritDamage, critChance, opponentHp)
+                == ActionType.ATTACK) {
+            return attackDamage;
+        }
+        return random.nextDouble() < critChance ? skillCritDamage : skillDamage;
+    }
+
+    private int sampleOpponentDamage() {
+        double roll = random.nextDouble();
+        int last = opponentOutcomes - 1;
+        for (int i = 0; i < last; i++) {
+            if (roll < opponentCumulative[i]) {
+                return opponentDamage[i];
+            }
+        }
+        return opponentDamage[last];
+    }
+
+    // ===== Statistik keputusan terakhir =====
+
+    /**
+     * Jumlah keputusan bot ke depan yang selesai dicari
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * true jika search mencapai MAX_TURNS (nilai tanpa rollout)
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Jumlah state yang dievaluasi (tidak termasuk hit transposition table)
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getRollouts() {
+        return rollouts;
+    }
+
+    /**
+     * Nilai aksi pada iterasi terakhir yang selesai (peluang menang + DRAW x peluang draw)
+     */
+    public double getValue(ActionType action) {
+        return action == ActionType.ATTACK ? attackValue : skillValue;
+    }
+}
@@ -0,0 +1,25 @@
+package com.game.ai;
+
+import com.game.event.ActionType;
+import java.util.random.RandomGenerator;
+
+/**
+ * 50/50 attack atau skill, sama seperti Main.createCommand()
+ *
+ * Tidak thread-safe jika random-nya tidak thread-safe.
+ */
+public final class RandomPolicy implements BotPolicy {
+    private final RandomGenerator random;
+
+    public RandomPolicy(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        this.random = random;
+    }
+
+    @Override
+    public ActionType chooseAction(BotMatchup matchup, int selfHp, int opponentHp, int turnNumber) {
+        return random.nextInt(2) == 0 ? ActionType.ATTACK : ActionType.SKILL;
+    }
+}
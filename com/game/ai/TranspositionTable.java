@@ -0,0 +1,70 @@
+package com.game.ai;
+
+import java.util.Arrays;
+
+/**
+ * Cache nilai state (selfHp, opponentHp, turn) untuk LookaheadSearch
+ *
+ * Array primitif dengan bucket dua slot: slot pertama depth-preferred,
+ * slot kedua selalu ditimpa. clear() hanya menaikkan generation, O(1).
+ */
+final class TranspositionTable {
+    static final int MAX_HP = (1 << 24) - 1;
+
+    private final long[] keys;
+    private final int[] generations;
+    private final int[] depths;
+    private final double[] values;
+    private final int shift;
+    private int generation = 1;
+
+    TranspositionTable(int bits) {
+        if (bits < 1 || bits > 26) {
+            throw new IllegalArgumentException("Table bits must be between 1 and 26, got: " + bits);
+        }
+        int size = 1 << bits;
+        this.keys = new long[size];
+        this.generations = new int[size];
+        this.depths = new int[size];
+        this.values = new double[size];
+        this.shift = 64 - bits;
+    }
+
+    static long key(int selfHp, int opponentHp, int turn) {
+        return ((long) turn << 48) | ((long) selfHp << 24) | opponentHp;
+    }
+
+    private int bucket(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift) & ~1;
+    }
+
+    /**
+     * @return nilai yang dicari minimal sedalam minDepth, atau NaN
+     */
+    double probe(long key, int minDepth) {
+        int slot = bucket(key);
+        for (int i = slot; i <= slot + 1; i++) {
+            if (generations[i] == generation && keys[i] == key && depths[i] >= minDepth) {
+                return values[i];
+            }
+        }
+        return Double.NaN;
+    }
+
+    void store(long key, int depth, double value) {
+        int slot = bucket(key);
+        boolean deepSlotFree = generations[slot] != generation || keys[slot] == key || depths[slot] <= depth;
+        int target = deepSlotFree ? slot : slot + 1;
+        keys[target] = key;
+        generations[target] = generation;
+        depths[target] = depth;
+        values[target] = value;
+    }
+
+    void clear() {
+        if (++generation == 0) {
+            Arrays.fill(generations, 0);
+            generation = 1;
+        }
+    }
+}
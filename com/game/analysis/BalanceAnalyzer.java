@@ -0,0 +1,145 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+import com.game.battle.SimulationResult;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Monte Carlo balance analysis dengan early stopping
+ *
+ * Setiap titik grid disimulasikan per chunk (ukuran chunk berlipat dua setiap
+ * ronde) dan win rate Warrior (player 1) diestimasi dengan Wilson interval.
+ * Titik berhenti begitu half-width interval <= target, atau saat batas
+ * jumlah battle tercapai. Titik grid dijalankan paralel di ForkJoinPool.
+ *
+ * Semua titik memakai master seed yang sama (common random numbers): battle
+ * ke-i di setiap titik memakai stream random yang sama, sehingga perbedaan
+ * antar titik berasal dari parameter, bukan dari noise. Hasil deterministik
+ * berapapun jumlah thread-nya.
+ *
+ * Catatan: karena interval dicek setelah setiap chunk, coverage sebenarnya
+ * sedikit di bawah nominal; pakai Z_99 jika butuh interval yang lebih ketat.
+ */
+public class BalanceAnalyzer {
+    private static final int INITIAL_CHUNK = 1_024;
+    private static final int MAX_CHUNK = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final double targetHalfWidth;
+    private final double z;
+    private final long maxBattles;
+
+    public BalanceAnalyzer(double targetHalfWidth, long maxBattles) {
+        this(ForkJoinPool.commonPool(), targetHalfWidth, WinRateEstimate.Z_95, maxBattles);
+    }
+
+    public BalanceAnalyzer(ForkJoinPool pool, double targetHalfWidth, double z, long maxBattles) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (targetHalfWidth <= 0.0 || targetHalfWidth >= 0.5) {
+            throw new IllegalArgumentException("Target half-width must be in (0, 0.5), got: " + targetHalfWidth);
+        }
+        if (z <= 0.0) {
+            throw new IllegalArgumentException("z must be positive, got: " + z);
+        }
+        if (maxBattles <= 0) {
+            throw new IllegalArgumentException("Max battles must be positive, got: " + maxBattles);
+        }
+        this.pool = pool;
+        this.targetHalfWidth = targetHalfWidth;
+        this.z = z;
+        this.maxBattles = maxBattles;
+    }
+
+    /**
+     * Analisis semua titik grid; hasil dikembalikan sesuai urutan grid
+     */
+    public List<BalanceResult> analyze(List<BalanceConfig> grid, long masterSeed, BalanceListener listener) {
+        if (grid == null || listener == null) {
+            throw new IllegalArgumentException("Grid and listener cannot be null");
+        }
+
+        List<ForkJoinTask<BalanceResult>> tasks = new ArrayList<>(grid.size());
+        for (BalanceConfig config : grid) {
+            tasks.add(pool.submit(() -> analyzePoint(config, masterSeed, listener)));
+        }
+
+        List<BalanceResult> results = new ArrayList<>(grid.size());
+        for (ForkJoinTask<BalanceResult> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Analisis satu titik grid di thread pemanggil
+     */
+    public BalanceResult analyzePoint(BalanceConfig config, long masterSeed, BalanceListener listener) {
+        BattleSimulator simulator = config.toSimulator();
+        SimulationResult result = simulator.newResult();
+        long simulated = 0;
+        long chunk = INITIAL_CHUNK;
+
+        while (true) {
+            long next = Math.min(maxBattles, simulated + chunk);
+            simulator.simulateRange(masterSeed, simulated, next, result);
+            simulated = next;
+            chunk = Math.min(MAX_CHUNK, chunk * 2);
+
+            WinRateEstimate estimate = WinRateEstimate.wilson(
+                result.getWins(SimulationResult.PLAYER_1), result.getBattles(), z);
+            boolean converged = estimate.halfWidth() <= targetHalfWidth;
+            boolean finished = converged || simulated >= maxBattles;
+            listener.onUpdate(config, estimate, finished);
+            if (finished) {
+                return new BalanceResult(config, estimate, result, converged);
+            }
+        }
+    }
+
+    /**
+     * Sweep contoh di sekitar konfigurasi game saat ini
+     *
+     * Pemakaian: java com.game.analysis.BalanceAnalyzer [targetHalfWidth] [maxBattles] [seed]
+     */
+    public static void main(String[] args) {
+        double targetHalfWidth = args.length > 0 ? Double.parseDouble(args[0]) : 0.005;
+        long maxBattles = args.length > 1 ? Long.parseLong(args[1]) : 10_000_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        List<BalanceConfig> grid = ParameterGrid.around(BalanceConfig.defaults())
+            .warriorHp(ParameterGrid.range(120, 180, 10))
+            .mageAttack(ParameterGrid.range(24, 36, 2))
+            .critChance(0.2, 0.3, 0.4)
+            .points();
+        System.out.printf("Analyzing %d configurations (target +/- %.2f%%, max %d battles each)%n",
+            grid.size(), targetHalfWidth * 100, maxBattles);
+
+        long start = System.nanoTime();
+        List<BalanceResult> results = new BalanceAnalyzer(targetHalfWidth, maxBattles).analyze(grid, seed,
+            (config, estimate, finished) -> {
+                if (finished) {
+                    System.out.println(config + " -> Warrior win rate " + estimate);
+                }
+            });
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long totalBattles = 0;
+        for (BalanceResult result : results) {
+            totalBattles += result.estimate().battles();
+        }
+        System.out.printf("%nSimulated %d battles in %.2f s (fixed N would need %d)%n",
+            totalBattles, seconds, maxBattles * grid.size());
+
+        System.out.println("Closest to 50%:");
+        results.stream()
+            .sorted(Comparator.comparingDouble(result -> Math.abs(result.estimate().winRate() - 0.5)))
+            .limit(5)
+            .forEach(result -> System.out.println("  " + result.config() + " -> " + result.estimate()));
+    }
+}
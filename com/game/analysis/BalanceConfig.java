@@ -0,0 +1,73 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+import com.game.battle.CombatProfile;
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.CriticalHitDecorator;
+import com.game.skill.DamageBoostDecorator;
+import com.game.skill.Fireball;
+import com.game.skill.Skill;
+import com.game.skill.SkillCompiler;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Satu titik di parameter grid: stat Warrior/Mage dan angka decorator
+ *
+ * Skill pipeline dibangun dengan struktur yang sama seperti SkillBuilder
+ * (base skill + Damage Boost + Critical Chance), hanya angkanya yang diganti.
+ */
+public record BalanceConfig(int warriorHp, int warriorAttack, int mageHp, int mageAttack,
+                            int damageBoost, double critChance) {
+
+    public BalanceConfig {
+        if (warriorHp <= 0 || mageHp <= 0) {
+            throw new IllegalArgumentException("HP must be positive");
+        }
+        if (warriorAttack <= 0 || mageAttack <= 0) {
+            throw new IllegalArgumentException("Attack power must be positive");
+        }
+        if (damageBoost < 0) {
+            throw new IllegalArgumentException("Damage boost cannot be negative, got: " + damageBoost);
+        }
+        if (critChance < 0.0 || critChance > 1.0) {
+            throw new IllegalArgumentException("Crit chance must be between 0 and 1, got: " + critChance);
+        }
+    }
+
+    /**
+     * Konfigurasi yang dipakai game saat ini
+     */
+    public static BalanceConfig defaults() {
+        Character warrior = new Warrior("Warrior");
+        Character mage = new Mage("Mage");
+        return new BalanceConfig(warrior.getMaxHp(), warrior.getAttackPower(),
+            mage.getMaxHp(), mage.getAttackPower(), DAMAGE_BOOST_AMOUNT, CRITICAL_HIT_CHANCE);
+    }
+
+    /**
+     * Simulator headless Warrior (player 1) vs Mage (player 2)
+     */
+    public BattleSimulator toSimulator() {
+        return new BattleSimulator(
+            profile(CharacterType.WARRIOR, warriorHp, warriorAttack),
+            profile(CharacterType.MAGE, mageHp, mageAttack));
+    }
+
+    private CombatProfile profile(CharacterType type, int hp, int attackPower) {
+        Character character = new TunedCharacter(type, hp, attackPower);
+        Skill base = type == CharacterType.MAGE ? new Fireball(attackPower) : new BasicAttackSkill(attackPower);
+        Skill decorated = new CriticalHitDecorator(new DamageBoostDecorator(base, damageBoost), critChance);
+        return CombatProfile.of(character, SkillCompiler.compile(decorated));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Warrior %d/%d, Mage %d/%d, boost %d, crit %.2f",
+            warriorHp, warriorAttack, mageHp, mageAttack, damageBoost, critChance);
+    }
+}
@@ -0,0 +1,17 @@
+package com.game.analysis;
+
+/**
+ * Menerima estimasi win rate yang terus diperbarui selama analisis
+ *
+ * Dipanggil dari worker thread BalanceAnalyzer, jadi implementasi harus thread-safe.
+ */
+@FunctionalInterface
+public interface BalanceListener {
+
+    BalanceListener IGNORE = (config, estimate, finished) -> { };
+
+    /**
+     * @param finished true untuk update terakhir dari titik grid ini
+     */
+    void onUpdate(BalanceConfig config, WinRateEstimate estimate, boolean finished);
+}
@@ -0,0 +1,13 @@
+package com.game.analysis;
+
+import com.game.battle.SimulationResult;
+
+/**
+ * Hasil akhir satu titik grid
+ *
+ * @param converged true jika berhenti karena interval sudah cukup sempit,
+ *                  false jika berhenti karena batas jumlah battle
+ */
+public record BalanceResult(BalanceConfig config, WinRateEstimate estimate,
+                            SimulationResult simulation, boolean converged) {
+}
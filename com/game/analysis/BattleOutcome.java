@@ -0,0 +1,16 @@
+package com.game.analysis;
+
+/**
+ * Peluang hasil battle yang dihitung secara exact
+ *
+ * @param expectedTurns expected jumlah turn sampai battle selesai (termasuk turn yang sudah lewat)
+ */
+public record BattleOutcome(double player1WinProbability, double player2WinProbability,
+                            double drawProbability, double expectedTurns) {
+
+    @Override
+    public String toString() {
+        return String.format("P1 %.4f%%, P2 %.4f%%, draw %.4f%%, expected turns %.4f",
+            player1WinProbability * 100, player2WinProbability * 100, drawProbability * 100, expectedTurns);
+    }
+}
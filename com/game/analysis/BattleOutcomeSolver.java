@@ -0,0 +1,180 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+import com.game.battle.CombatProfile;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Solver exact untuk peluang menang/draw dan expected turn sebuah matchup
+ *
+ * Alternatif dari BattleSimulator ketika yang dibutuhkan hanya peluang: hasilnya
+ * exact (tanpa sampling noise) dan dihitung dengan dynamic programming atas
+ * state (turn, hp1, hp2). Tabel per matchup dan hasil dari awal battle
+ * disimpan di cache LRU terpisah, sehingga query berulang tidak dihitung ulang.
+ * Tabel berukuran MAX_TURNS x maxHp1 x maxHp2, jadi cache tabel dibatasi total byte
+ * (OutcomeTable.sizeBytes()), bukan jumlah entry. Setiap tabel dibangun sekali:
+ * thread lain yang meminta matchup yang sama menunggu future milik pembangunnya.
+ */
+public class BattleOutcomeSolver {
+    private static final long DEFAULT_MAX_TABLE_BYTES = 256L << 20;
+    private static final int DEFAULT_MAX_OUTCOMES = 65_536;
+
+    private final long maxTableBytes;
+    private final Map<MatchupKey, CompletableFuture<OutcomeTable>> tables;
+    private final Map<MatchupKey, BattleOutcome> outcomes;
+    private long tableBytes;
+
+    private record MatchupKey(int maxHp1, int attack1, int skill1, int skillCrit1, double critChance1,
+                              int maxHp2, int attack2, int skill2, int skillCrit2, double critChance2) {
+
+        static MatchupKey of(CombatProfile player1, CombatProfile player2) {
+            return new MatchupKey(
+                player1.getMaxHp(), player1.getAttackDamage(), player1.getSkillDamage(),
+                player1.getSkillCritDamage(), player1.getCritChance(),
+                player2.getMaxHp(), player2.getAttackDamage(), player2.getSkillDamage(),
+                player2.getSkillCritDamage(), player2.getCritChance());
+        }
+
+        long tableBytes() {
+            return OutcomeTable.sizeBytes(maxHp1, maxHp2);
+        }
+    }
+
+    public BattleOutcomeSolver() {
+        this(DEFAULT_MAX_TABLE_BYTES, DEFAULT_MAX_OUTCOMES);
+    }
+
+    /**
+     * @param maxTableBytes total ukuran tabel yang disimpan; tabel yang lebih besar
+     *                      dari batas ini tetap dihitung, tapi tidak disimpan
+     * @param maxOutcomes jumlah hasil dari awal battle yang disimpan
+     */
+    public BattleOutcomeSolver(long maxTableBytes, int maxOutcomes) {
+        if (maxTableBytes <= 0) {
+            throw new IllegalArgumentException("Max table bytes must be positive, got: " + maxTableBytes);
+        }
+        if (maxOutcomes <= 0) {
+            throw new IllegalArgumentException("Max outcomes must be positive, got: " + maxOutcomes);
+        }
+        this.maxTableBytes = maxTableBytes;
+        this.tables = new LinkedHashMap<>(16, 0.75f, true);
+        this.outcomes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MatchupKey, BattleOutcome> eldest) {
+                return size() > maxOutcomes;
+            }
+        };
+    }
+
+    /**
+     * Hasil battle dari awal untuk matchup player1 vs player2
+     *
+     * @throws IllegalArgumentException jika maxHp1 x maxHp2 melebihi OutcomeTable.MAX_STATES
+     */
+    public BattleOutcome solve(CombatProfile player1, CombatProfile player2) {
+        MatchupKey key = MatchupKey.of(player1, player2);
+        synchronized (this) {
+            BattleOutcome outcome = outcomes.get(key);
+            if (outcome != null) {
+                return outcome;
+            }
+        }
+
+        // Tabel dihitung di luar lock supaya query matchup lain tidak ikut menunggu
+        BattleOutcome outcome = table(key, player1, player2).initialOutcome();
+        synchronized (this) {
+            outcomes.put(key, outcome);
+        }
+        return outcome;
+    }
+
+    public BattleOutcome solve(BalanceConfig config) {
+        BattleSimulator simulator = config.toSimulator();
+        return solve(simulator.getPlayer1(), simulator.getPlayer2());
+    }
+
+    /**
+     * Tabel lengkap untuk query dari state di tengah battle
+     *
+     * @throws IllegalArgumentException jika maxHp1 x maxHp2 melebihi OutcomeTable.MAX_STATES
+     */
+    public OutcomeTable table(CombatProfile player1, CombatProfile player2) {
+        return table(MatchupKey.of(player1, player2), player1, player2);
+    }
+
+    private OutcomeTable table(MatchupKey key, CombatProfile player1, CombatProfile player2) {
+        long bytes = key.tableBytes();
+        CompletableFuture<OutcomeTable> future;
+        CompletableFuture<OutcomeTable> created = null;
+        synchronized (this) {
+            future = tables.get(key);
+            if (future == null) {
+                created = new CompletableFuture<>();
+                future = created;
+                tables.put(key, created);
+                tableBytes += bytes;
+                evictTables();
+            }
+        }
+
+        if (created != null) {
+            // Dibangun di luar lock; query matchup yang sama menunggu future ini
+            try {
+                created.complete(new OutcomeTable(player1, player2));
+            } catch (RuntimeException | Error e) {
+                synchronized (this) {
+                    if (tables.remove(key, created)) {
+                        tableBytes -= bytes;
+                    }
+                }
+                created.completeExceptionally(e);
+                throw e;
+            }
+            synchronized (this) {
+                evictTables();
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Buang tabel yang sudah selesai, mulai dari yang paling lama tidak dipakai,
+     * sampai total ukuran tidak melebihi maxTableBytes. Tabel yang masih dibangun
+     * tetap dihitung ukurannya tapi tidak dibuang.
+     */
+    private void evictTables() {
+        Iterator<Map.Entry<MatchupKey, CompletableFuture<OutcomeTable>>> entries = tables.entrySet().iterator();
+        while (tableBytes > maxTableBytes && entries.hasNext()) {
+            Map.Entry<MatchupKey, CompletableFuture<OutcomeTable>> entry = entries.next();
+            if (entry.getValue().isDone()) {
+                entries.remove();
+                tableBytes -= entry.getKey().tableBytes();
+            }
+        }
+    }
+
+    /**
+     * Total ukuran tabel di cache (termasuk yang sedang dibangun)
+     */
+    public synchronized long getTableBytes() {
+        return tableBytes;
+    }
+
+    public synchronized void clear() {
+        tables.clear();
+        tableBytes = 0;
+        outcomes.clear();
+    }
+}
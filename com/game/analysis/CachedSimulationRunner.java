@@ -0,0 +1,200 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+import com.game.battle.SimulationResult;
+import com.game.metrics.BattleMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Menjalankan batch SimulationJob dengan SimulationResultStore sebagai cache
+ *
+ * Range battle setiap job ditutup dengan range yang sudah tersimpan untuk
+ * key yang sama (mulai dari fromIndex, selalu memilih range terpanjang yang
+ * muat); hanya celah yang belum ada yang disimulasikan. Celah dipecah di
+ * kelipatan chunkSize, sehingga query yang lebih lebar nanti bisa memakai
+ * ulang chunk yang sama. Piece yang sama dari beberapa job di satu batch
+ * hanya dihitung sekali, dan semua piece yang hilang dihitung paralel.
+ *
+ * Karena battle ke-i selalu memakai stream GameRandom.forStream(masterSeed, i),
+ * hasil dari cache identik dengan simulasi ulang.
+ */
+public class CachedSimulationRunner {
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 16;
+
+    private final SimulationResultStore store;
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+    private final AtomicLong cachedBattles = new AtomicLong();
+    private final AtomicLong computedBattles = new AtomicLong();
+    private final AtomicLong storeFailures = new AtomicLong();
+
+    private record Piece(SimulationKey key, long fromIndex, long toIndex) {
+    }
+
+    public CachedSimulationRunner(SimulationResultStore store) {
+        this(store, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public CachedSimulationRunner(SimulationResultStore store, ForkJoinPool pool, long chunkSize) {
+        if (store == null || pool == null) {
+            throw new IllegalArgumentException("Store and pool cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        this.store = store;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public SimulationResult run(SimulationJob job) {
+        return runAll(List.of(job)).get(0);
+    }
+
+    /**
+     * Jalankan semua job; hasil dikembalikan sesuai urutan job
+     */
+    public List<SimulationResult> runAll(List<SimulationJob> jobs) {
+        if (jobs == null) {
+            throw new IllegalArgumentException("Jobs cannot be null");
+        }
+
+        Map<Piece, SimulationResult> cached = new HashMap<>();
+        Map<Piece, BattleSimulator> missing = new LinkedHashMap<>();
+        List<List<Piece>> piecesPerJob = new ArrayList<>(jobs.size());
+
+        for (SimulationJob job : jobs) {
+            SimulationKey key = job.key();
+            List<Piece> pieces = cover(key, job.fromIndex(), job.toIndex());
+            piecesPerJob.add(pieces);
+            for (Piece piece : pieces) {
+                if (cached.containsKey(piece) || missing.containsKey(piece)) {
+                    continue;
+                }
+                SimulationResult result = store.get(key, piece.fromIndex(), piece.toIndex());
+                if (result != null) {
+                    cached.put(piece, result);
+                } else {
+                    missing.put(piece, job.simulator());
+                }
+            }
+        }
+
+        // Baru dihitung setelah semua lookup: put() dari piece baru bisa meng-evict
+        // entry yang masih akan dibaca batch ini
+        Map<Piece, ForkJoinTask<SimulationResult>> computing = new HashMap<>();
+        for (Map.Entry<Piece, BattleSimulator> entry : missing.entrySet()) {
+            Piece piece = entry.getKey();
+            BattleSimulator simulator = entry.getValue();
+            computing.put(piece, pool.submit(() -> compute(simulator, piece)));
+        }
+
+        List<SimulationResult> results = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            SimulationResult result = jobs.get(i).simulator().newResult();
+            for (Piece piece : piecesPerJob.get(i)) {
+                SimulationResult pieceResult = cached.get(piece);
+                if (pieceResult != null) {
+                    cachedBattles.addAndGet(piece.toIndex() - piece.fromIndex());
+                } else {
+                    pieceResult = computing.get(piece).join();
+                }
+                result.merge(pieceResult);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Tutup [fromIndex, toIndex) dengan range tersimpan, sisanya menjadi piece baru
+     */
+    private List<Piece> cover(SimulationKey key, long fromIndex, long toIndex) {
+        NavigableMap<Long, NavigableSet<Long>> ranges = store.ranges(key);
+        List<Piece> pieces = new ArrayList<>();
+        long position = fromIndex;
+        while (position < toIndex) {
+            NavigableSet<Long> ends = ranges.get(position);
+            Long end = ends == null ? null : ends.floor(toIndex);
+            if (end == null || end <= position) {
+                // Celah sampai range tersimpan berikutnya atau batas chunk
+                Long nextStart = ranges.higherKey(position);
+                long chunkEnd = (position / chunkSize + 1) * chunkSize;
+                end = Math.min(Math.min(toIndex, chunkEnd), nextStart == null ? toIndex : nextStart);
+            }
+            pieces.add(new Piece(key, position, end));
+            position = end;
+        }
+        return pieces;
+    }
+
+    private SimulationResult compute(BattleSimulator simulator, Piece piece) {
+        SimulationResult result = simulator.newResult();
+        simulator.simulateRange(piece.key().masterSeed(), piece.fromIndex(), piece.toIndex(), result);
+        try {
+            store.put(piece.key(), piece.fromIndex(), piece.toIndex(), result);
+        } catch (UncheckedIOException e) {
+            // Cache hanya optimasi; hasil simulasi tetap valid
+            storeFailures.incrementAndGet();
+            BattleMetrics.recordError("CACHE", "Failed to store simulation result", e);
+        }
+        computedBattles.addAndGet(piece.toIndex() - piece.fromIndex());
+        return result;
+    }
+
+    /**
+     * Total battle yang diambil dari cache sejak runner dibuat
+     */
+    public long getCachedBattles() {
+        return cachedBattles.get();
+    }
+
+    /**
+     * Total battle yang benar-benar disimulasikan sejak runner dibuat
+     */
+    public long getComputedBattles() {
+        return computedBattles.get();
+    }
+
+    /**
+     * Jumlah hasil yang gagal disimpan ke store (hasil tetap dikembalikan,
+     * lihat juga BattleMetrics.getErrorCount())
+     */
+    public long getStoreFailures() {
+        return storeFailures.get();
+    }
+
+    /**
+     * Contoh pemakaian di CI: jalankan matchup default dengan cache di direktori
+     *
+     * Pemakaian: java com.game.analysis.CachedSimulationRunner [cacheDir] [battles] [seed]
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args.length > 0 ? args[0] : ".simulation-cache");
+        long battles = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        SimulationResultStore store = new SimulationResultStore(directory, 256L << 20);
+        CachedSimulationRunner runner = new CachedSimulationRunner(store);
+        long start = System.nanoTime();
+        SimulationResult result = runner.run(SimulationJob.of(BalanceConfig.defaults(), seed, battles));
+        double millis = (System.nanoTime() - start) / 1e6;
+
+        System.out.println(result);
+        System.out.printf("%n%.1f ms: %d battles from cache, %d simulated (%d entries, %d KiB in %s)%n",
+            millis, runner.getCachedBattles(), runner.getComputedBattles(),
+            store.size(), store.getTotalBytes() / 1024, directory);
+    }
+}
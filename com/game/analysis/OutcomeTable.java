@@ -0,0 +1,168 @@
+package com.game.analysis;
+
+import com.game.battle.CombatProfile;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Tabel hasil exact untuk setiap state (turn yang sudah dimainkan, hp1, hp2) satu matchup
+ *
+ * Diisi dengan backward induction dari turn MAX_TURNS (draw) ke turn 0.
+ * Setiap aksi punya maksimal tiga outcome: basic attack (50%), skill (50% x (1 - crit))
+ * dan skill critical (50% x crit), sama dengan aturan BattleSimulator.
+ * State dengan HP 0 adalah terminal dan tidak disimpan di tabel.
+ * Tabel memakai 3 x (MAX_TURNS + 1) double per state (hp1 x hp2), jadi
+ * jumlah state dibatasi MAX_STATES (lihat sizeBytes()).
+ */
+public final class OutcomeTable {
+    /**
+     * Batas hp1 x hp2 (~126 MiB tabel untuk MAX_TURNS 20, mis. 512 x 512 HP)
+     */
+    public static final int MAX_STATES = 1 << 18;
+
+    private final int maxHp1;
+    private final int maxHp2;
+    private final double[][] player1Wins;
+    private final double[][] player2Wins;
+    private final double[][] remainingTurns;
+
+    OutcomeTable(CombatProfile player1, CombatProfile player2) {
+        this.maxHp1 = player1.getMaxHp();
+        this.maxHp2 = player2.getMaxHp();
+        int states = stateCount(maxHp1, maxHp2);
+        this.player1Wins = new double[MAX_TURNS + 1][states];
+        this.player2Wins = new double[MAX_TURNS + 1][states];
+        this.remainingTurns = new double[MAX_TURNS + 1][states];
+
+        int[] damage1 = new int[3];
+        double[] probability1 = new double[3];
+        int outcomes1 = actionOutcomes(player1, damage1, probability1);
+        int[] damage2 = new int[3];
+        double[] probability2 = new double[3];
+        int outcomes2 = actionOutcomes(player2, damage2, probability2);
+
+        // Baris MAX_TURNS tetap 0: battle berakhir draw tanpa turn tambahan
+        for (int played = MAX_TURNS - 1; played >= 0; played--) {
+            double[] nextWin1 = player1Wins[played + 1];
+            double[] nextWin2 = player2Wins[played + 1];
+            double[] nextTurns = remainingTurns[played + 1];
+            double[] win1 = player1Wins[played];
+            double[] win2 = player2Wins[played];
+            double[] turns = remainingTurns[played];
+
+            for (int hp1 = 1; hp1 <= maxHp1; hp1++) {
+                for (int hp2 = 1; hp2 <= maxHp2; hp2++) {
+                    double p1 = 0.0;
+                    double p2 = 0.0;
+                    double expected = 1.0;
+
+                    for (int a = 0; a < outcomes1; a++) {
+                        int hp2After = hp2 - damage1[a];
+                        if (hp2After <= 0) {
+                            p1 += probability1[a];
+                            continue;
+                        }
+                        for (int b = 0; b < outcomes2; b++) {
+                            double probability = probability1[a] * probability2[b];
+                            int hp1After = hp1 - damage2[b];
+                            if (hp1After <= 0) {
+                                p2 += probability;
+                                continue;
+                            }
+                            int next = index(hp1After, hp2After);
+                            p1 += probability * nextWin1[next];
+                            p2 += probability * nextWin2[next];
+                            expected += probability * nextTurns[next];
+                        }
+                    }
+
+                    int state = index(hp1, hp2);
+                    win1[state] = p1;
+                    win2[state] = p2;
+                    turns[state] = expected;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ukuran tabel dalam byte untuk matchup dengan HP maksimal maxHp1 dan maxHp2
+     *
+     * @throws IllegalArgumentException jika maxHp1 x maxHp2 melebihi MAX_STATES
+     */
+    public static long sizeBytes(int maxHp1, int maxHp2) {
+        return 3L * (MAX_TURNS + 1) * stateCount(maxHp1, maxHp2) * Double.BYTES;
+    }
+
+    private static int stateCount(int maxHp1, int maxHp2) {
+        long stateCount = (long) maxHp1 * maxHp2;
+        if (stateCount > MAX_STATES) {
+            throw new IllegalArgumentException("Outcome table needs " + maxHp1 + " x " + maxHp2 + " = " + stateCount
+                + " HP states, max " + MAX_STATES + "; use BalanceAnalyzer (Monte Carlo) for this matchup");
+        }
+        return (int) stateCount;
+    }
+
+    /**
+     * Damage dan peluang outcome satu aksi; damage yang sama digabung
+     */
+    private static int actionOutcomes(CombatProfile profile, int[] damage, double[] probability) {
+        int count = 0;
+        count = addOutcome(damage, probability, count, profile.getAttackDamage(), 0.5);
+        count = addOutcome(damage, probability, count, profile.getSkillDamage(), 0.5 * (1.0 - profile.getCritChance()));
+        count = addOutcome(damage, probability, count, profile.getSkillCritDamage(), 0.5 * profile.getCritChance());
+        return count;
+    }
+
+    private static int addOutcome(int[] damage, double[] probability, int count, int value, double chance) {
+        if (chance == 0.0) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if (damage[i] == value) {
+                probability[i] += chance;
+                return count;
+            }
+        }
+        damage[count] = value;
+        probability[count] = chance;
+        return count + 1;
+    }
+
+    private int index(int hp1, int hp2) {
+        return (hp1 - 1) * maxHp2 + (hp2 - 1);
+    }
+
+    /**
+     * Hasil dari state di awal turn berikutnya
+     *
+     * @param turnsPlayed jumlah turn yang sudah selesai (0 untuk awal battle)
+     */
+    public BattleOutcome outcome(int hp1, int hp2, int turnsPlayed) {
+        if (hp1 < 0 || hp1 > maxHp1 || hp2 < 0 || hp2 > maxHp2) {
+            throw new IllegalArgumentException("HP out of range: " + hp1 + "/" + maxHp1 + ", " + hp2 + "/" + maxHp2);
+        }
+        if (turnsPlayed < 0 || turnsPlayed > MAX_TURNS) {
+            throw new IllegalArgumentException("Turns played must be between 0 and " + MAX_TURNS + ", got: " + turnsPlayed);
+        }
+        if (hp2 == 0) {
+            return new BattleOutcome(hp1 > 0 ? 1.0 : 0.0, 0.0, hp1 > 0 ? 0.0 : 1.0, turnsPlayed);
+        }
+        if (hp1 == 0) {
+            return new BattleOutcome(0.0, 1.0, 0.0, turnsPlayed);
+        }
+
+        int state = index(hp1, hp2);
+        double win1 = player1Wins[turnsPlayed][state];
+        double win2 = player2Wins[turnsPlayed][state];
+        return new BattleOutcome(win1, win2, Math.max(0.0, 1.0 - win1 - win2),
+            turnsPlayed + remainingTurns[turnsPlayed][state]);
+    }
+
+    /**
+     * Hasil battle dari awal (HP penuh, belum ada turn)
+     */
+    public BattleOutcome initialOutcome() {
+        return outcome(maxHp1, maxHp2, 0);
+    }
+}
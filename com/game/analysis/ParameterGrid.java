@@ -0,0 +1,111 @@
+package com.game.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cartesian product dari nilai-nilai parameter yang ingin di-sweep
+ *
+ * Parameter yang tidak diatur memakai nilai dari konfigurasi dasar.
+ */
+public final class ParameterGrid {
+    private int[] warriorHp;
+    private int[] warriorAttack;
+    private int[] mageHp;
+    private int[] mageAttack;
+    private int[] damageBoost;
+    private double[] critChance;
+
+    private ParameterGrid(BalanceConfig base) {
+        this.warriorHp = new int[] { base.warriorHp() };
+        this.warriorAttack = new int[] { base.warriorAttack() };
+        this.mageHp = new int[] { base.mageHp() };
+        this.mageAttack = new int[] { base.mageAttack() };
+        this.damageBoost = new int[] { base.damageBoost() };
+        this.critChance = new double[] { base.critChance() };
+    }
+
+    public static ParameterGrid around(BalanceConfig base) {
+        return new ParameterGrid(base);
+    }
+
+    /**
+     * Nilai from, from + step, ... sampai to (inklusif)
+     */
+    public static int[] range(int from, int to, int step) {
+        if (step <= 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range: " + from + ".." + to + " step " + step);
+        }
+        int[] values = new int[(to - from) / step + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+
+    public ParameterGrid warriorHp(int... values) {
+        this.warriorHp = checked(values);
+        return this;
+    }
+
+    public ParameterGrid warriorAttack(int... values) {
+        this.warriorAttack = checked(values);
+        return this;
+    }
+
+    public ParameterGrid mageHp(int... values) {
+        this.mageHp = checked(values);
+        return this;
+    }
+
+    public ParameterGrid mageAttack(int... values) {
+        this.mageAttack = checked(values);
+        return this;
+    }
+
+    public ParameterGrid damageBoost(int... values) {
+        this.damageBoost = checked(values);
+        return this;
+    }
+
+    public ParameterGrid critChance(double... values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Parameter values cannot be empty");
+        }
+        this.critChance = values.clone();
+        return this;
+    }
+
+    private static int[] checked(int[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Parameter values cannot be empty");
+        }
+        return values.clone();
+    }
+
+    public int size() {
+        return warriorHp.length * warriorAttack.length * mageHp.length
+            * mageAttack.length * damageBoost.length * critChance.length;
+    }
+
+    /**
+     * Semua kombinasi parameter, parameter terakhir (crit chance) berubah paling cepat
+     */
+    public List<BalanceConfig> points() {
+        List<BalanceConfig> points = new ArrayList<>(size());
+        for (int wHp : warriorHp) {
+            for (int wAttack : warriorAttack) {
+                for (int mHp : mageHp) {
+                    for (int mAttack : mageAttack) {
+                        for (int boost : damageBoost) {
+                            for (double crit : critChance) {
+                                points.add(new BalanceConfig(wHp, wAttack, mHp, mAttack, boost, crit));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,37 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+
+/**
+ * Permintaan simulasi battle dengan index [fromIndex, toIndex) dari master seed
+ */
+public record SimulationJob(BattleSimulator simulator, long masterSeed, long fromIndex, long toIndex) {
+
+    public SimulationJob {
+        if (simulator == null) {
+            throw new IllegalArgumentException("Simulator cannot be null");
+        }
+        if (fromIndex < 0 || toIndex < fromIndex) {
+            throw new IllegalArgumentException("Invalid battle range: [" + fromIndex + ", " + toIndex + ")");
+        }
+    }
+
+    /**
+     * Battle dengan index [0, battles)
+     */
+    public static SimulationJob of(BattleSimulator simulator, long masterSeed, long battles) {
+        return new SimulationJob(simulator, masterSeed, 0, battles);
+    }
+
+    public static SimulationJob of(BalanceConfig config, long masterSeed, long battles) {
+        return of(config.toSimulator(), masterSeed, battles);
+    }
+
+    public SimulationKey key() {
+        return SimulationKey.of(simulator, masterSeed);
+    }
+
+    public long battles() {
+        return toIndex - fromIndex;
+    }
+}
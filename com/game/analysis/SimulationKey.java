@@ -0,0 +1,66 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+import com.game.battle.CombatProfile;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Identitas konfigurasi simulasi untuk cache hasil
+ *
+ * Berisi semua yang mempengaruhi hasil BattleSimulator: stat dan skill
+ * pipeline kedua player (dalam bentuk CombatProfile), master seed, MAX_TURNS
+ * dan versi aturan simulator. Nama character tidak ikut, jadi dua matchup
+ * dengan stat yang sama berbagi hasil.
+ */
+public record SimulationKey(int maxHp1, int attack1, int skill1, int skillCrit1, double critChance1,
+                            int maxHp2, int attack2, int skill2, int skillCrit2, double critChance2,
+                            long masterSeed, int maxTurns, int simulatorVersion) {
+
+    /**
+     * Naikkan jika aturan BattleSimulator berubah, supaya hasil lama tidak dipakai lagi
+     */
+    public static final int SIMULATOR_VERSION = 1;
+
+    static final int ENCODED_SIZE = 4 * 8 + 8 * 2 + 8 + 4 * 2;
+
+    public static SimulationKey of(BattleSimulator simulator, long masterSeed) {
+        CombatProfile player1 = simulator.getPlayer1();
+        CombatProfile player2 = simulator.getPlayer2();
+        return new SimulationKey(
+            player1.getMaxHp(), player1.getAttackDamage(), player1.getSkillDamage(),
+            player1.getSkillCritDamage(), player1.getCritChance(),
+            player2.getMaxHp(), player2.getAttackDamage(), player2.getSkillDamage(),
+            player2.getSkillCritDamage(), player2.getCritChance(),
+            masterSeed, MAX_TURNS, SIMULATOR_VERSION);
+    }
+
+    /**
+     * Encoding kanonik (big-endian, urutan field tetap)
+     */
+    byte[] encode() {
+        return ByteBuffer.allocate(ENCODED_SIZE)
+            .putInt(maxHp1).putInt(attack1).putInt(skill1).putInt(skillCrit1)
+            .putDouble(critChance1)
+            .putInt(maxHp2).putInt(attack2).putInt(skill2).putInt(skillCrit2)
+            .putDouble(critChance2)
+            .putLong(masterSeed).putInt(maxTurns).putInt(simulatorVersion)
+            .array();
+    }
+
+    /**
+     * SHA-256 dari encoding kanonik (128 bit pertama, hex)
+     */
+    public String configHash() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(encode());
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
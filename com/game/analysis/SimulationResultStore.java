@@ -0,0 +1,266 @@
+package com.game.analysis;
+
+import com.game.battle.SimulationResult;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Cache persistent untuk SimulationResult di direktori lokal
+ *
+ * Setiap entry adalah hasil agregat battle [fromIndex, toIndex) untuk satu
+ * SimulationKey, disimpan sebagai satu file "hash-from-to.sim". Index range
+ * per config hash dibangun dari nama file saat store dibuka, jadi lookup
+ * tidak perlu membaca isi file. Total ukuran dibatasi maxBytes dengan eviction
+ * LRU; urutan LRU disimpan lewat last-modified file sehingga bertahan antar proses.
+ *
+ * File ditulis ke file sementara lalu di-rename secara atomik, dan isi file
+ * (key lengkap + range) diverifikasi saat dibaca; entry yang rusak atau hilang
+ * diperlakukan sebagai miss. Semua method thread-safe.
+ */
+public class SimulationResultStore {
+    private static final int MAGIC = 0x4D545352; // "MTSR"
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".sim";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entrySizes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, NavigableMap<Long, NavigableSet<Long>>> rangesByHash = new HashMap<>();
+    private long totalBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public SimulationResultStore(Path directory, long maxBytes) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive, got: " + maxBytes);
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        loadIndex();
+        evictIfNeeded();
+    }
+
+    /**
+     * Bangun index dari file yang ada, yang paling lama tidak dipakai lebih dulu
+     */
+    private void loadIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SUFFIX) && parseName(name) != null) {
+                    files.add(file);
+                }
+            }
+        }
+        Map<Path, FileTime> modified = new HashMap<>();
+        for (Path file : files) {
+            modified.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort(Comparator.comparing(modified::get));
+        for (Path file : files) {
+            addEntry(file.getFileName().toString(), Files.size(file));
+        }
+    }
+
+    /**
+     * [hash, from, to] dari nama file, atau null jika bukan nama entry
+     */
+    private static String[] parseName(String name) {
+        String[] parts = name.substring(0, name.length() - SUFFIX.length()).split("-");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            Long.parseLong(parts[1]);
+            Long.parseLong(parts[2]);
+            return parts;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String fileName(String hash, long fromIndex, long toIndex) {
+        return hash + "-" + fromIndex + "-" + toIndex + SUFFIX;
+    }
+
+    private void addEntry(String name, long size) {
+        Long previous = entrySizes.put(name, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        String[] parts = parseName(name);
+        rangesByHash.computeIfAbsent(parts[0], hash -> new TreeMap<>())
+            .computeIfAbsent(Long.parseLong(parts[1]), from -> new TreeSet<>())
+            .add(Long.parseLong(parts[2]));
+    }
+
+    private void removeEntry(String name) {
+        Long size = entrySizes.remove(name);
+        if (size == null) {
+            return;
+        }
+        totalBytes -= size;
+        String[] parts = parseName(name);
+        NavigableMap<Long, NavigableSet<Long>> ranges = rangesByHash.get(parts[0]);
+        long from = Long.parseLong(parts[1]);
+        NavigableSet<Long> ends = ranges.get(from);
+        ends.remove(Long.parseLong(parts[2]));
+        if (ends.isEmpty()) {
+            ranges.remove(from);
+        }
+        if (ranges.isEmpty()) {
+            rangesByHash.remove(parts[0]);
+        }
+    }
+
+    /**
+     * Range yang tersimpan untuk key: fromIndex -> semua toIndex (salinan)
+     */
+    public synchronized NavigableMap<Long, NavigableSet<Long>> ranges(SimulationKey key) {
+        NavigableMap<Long, NavigableSet<Long>> ranges = rangesByHash.get(key.configHash());
+        NavigableMap<Long, NavigableSet<Long>> copy = new TreeMap<>();
+        if (ranges != null) {
+            for (Map.Entry<Long, NavigableSet<Long>> entry : ranges.entrySet()) {
+                copy.put(entry.getKey(), new TreeSet<>(entry.getValue()));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Hasil tersimpan untuk battle [fromIndex, toIndex), atau null jika tidak ada
+     */
+    public synchronized SimulationResult get(SimulationKey key, long fromIndex, long toIndex) {
+        String name = fileName(key.configHash(), fromIndex, toIndex);
+        // get() juga memindahkan entry ke posisi paling baru dipakai
+        if (entrySizes.get(name) == null) {
+            misses++;
+            return null;
+        }
+
+        Path file = directory.resolve(name);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            SimulationResult result = readEntry(in, key, fromIndex, toIndex);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            hits++;
+            return result;
+        } catch (IOException e) {
+            // Hilang (dihapus proses lain) atau rusak: anggap miss
+            removeEntry(name);
+            deleteQuietly(file);
+            misses++;
+            return null;
+        }
+    }
+
+    private static SimulationResult readEntry(DataInputStream in, SimulationKey key, long fromIndex, long toIndex)
+            throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a simulation result entry");
+        }
+        byte[] storedKey = new byte[SimulationKey.ENCODED_SIZE];
+        in.readFully(storedKey);
+        if (!Arrays.equals(storedKey, key.encode()) || in.readLong() != fromIndex || in.readLong() != toIndex) {
+            throw new IOException("Simulation result entry does not match its key");
+        }
+        return SimulationResult.readFrom(in);
+    }
+
+    /**
+     * Simpan hasil battle [fromIndex, toIndex); entry lama dengan range sama ditimpa
+     */
+    public synchronized void put(SimulationKey key, long fromIndex, long toIndex, SimulationResult result) {
+        String name = fileName(key.configHash(), fromIndex, toIndex);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, "entry", ".tmp");
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.write(key.encode());
+                out.writeLong(fromIndex);
+                out.writeLong(toIndex);
+                result.writeTo(out);
+            }
+            Path target = directory.resolve(name);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            addEntry(name, Files.size(target));
+        } catch (IOException e) {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+            throw new UncheckedIOException("Failed to store simulation result " + name, e);
+        }
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        while (totalBytes > maxBytes && !entrySizes.isEmpty()) {
+            String eldest = entrySizes.keySet().iterator().next();
+            removeEntry(eldest);
+            deleteQuietly(directory.resolve(eldest));
+            evictions++;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Entry tetap tidak dipakai; file akan ditimpa atau dihapus lain kali
+        }
+    }
+
+    public synchronized int size() {
+        return entrySizes.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
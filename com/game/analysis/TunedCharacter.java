@@ -0,0 +1,21 @@
+package com.game.analysis;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+
+/**
+ * Character dengan HP/attack hasil tuning, dipakai untuk membangun CombatProfile
+ */
+class TunedCharacter extends Character {
+    private final CharacterType characterType;
+
+    TunedCharacter(CharacterType characterType, int hp, int attackPower) {
+        super(characterType.getDisplayName(), hp, attackPower);
+        this.characterType = characterType;
+    }
+
+    @Override
+    public CharacterType getCharacterType() {
+        return characterType;
+    }
+}
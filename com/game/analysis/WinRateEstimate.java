@@ -0,0 +1,54 @@
+package com.game.analysis;
+
+/**
+ * Estimasi win rate dengan Wilson score interval
+ *
+ * Wilson interval tetap masuk akal untuk win rate mendekati 0 atau 1
+ * dan untuk jumlah battle kecil, tidak seperti normal approximation biasa.
+ */
+public record WinRateEstimate(long wins, long battles, double winRate, double lower, double upper) {
+
+    /**
+     * z untuk confidence 95%
+     */
+    public static final double Z_95 = 1.959963984540054;
+
+    /**
+     * z untuk confidence 99%
+     */
+    public static final double Z_99 = 2.5758293035489004;
+
+    public static WinRateEstimate wilson(long wins, long battles, double z) {
+        if (battles < 0 || wins < 0 || wins > battles) {
+            throw new IllegalArgumentException("Invalid counts: " + wins + " wins of " + battles);
+        }
+        if (battles == 0) {
+            return new WinRateEstimate(0, 0, 0.0, 0.0, 1.0);
+        }
+
+        double n = battles;
+        double p = wins / n;
+        double z2 = z * z;
+        double denominator = 1.0 + z2 / n;
+        double center = (p + z2 / (2.0 * n)) / denominator;
+        double halfWidth = z * Math.sqrt(p * (1.0 - p) / n + z2 / (4.0 * n * n)) / denominator;
+        return new WinRateEstimate(wins, battles, p,
+            Math.max(0.0, center - halfWidth), Math.min(1.0, center + halfWidth));
+    }
+
+    public double halfWidth() {
+        return (upper - lower) / 2.0;
+    }
+
+    /**
+     * Cek apakah nilai tertentu (mis. 0.5) ada di dalam interval
+     */
+    public boolean contains(double value) {
+        return value >= lower && value <= upper;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.2f%% [%.2f%%, %.2f%%] n=%d", winRate * 100, lower * 100, upper * 100, battles);
+    }
+}
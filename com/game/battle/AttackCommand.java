@@ -1,6 +1,11 @@
 package com.game.battle;
 
 import com.game.character.Character;
+import com.game.effect.EffectScheduler;
+import com.game.event.ActionType;
+import com.game.event.BattleEvents;
+import com.game.event.CommandExecutedEvent;
+import com.game.event.DamageDealtEvent;
 import com.game.skill.Skill;
 import com.game.skill.BasicAttackSkill;
 
@@ -10,26 +15,93 @@ import com.game.skill.BasicAttackSkill;
  * 
  * AttackCommand mengenkapsulasi action basic attack.
  * Command ini menyimpan reference ke attacker dan target (receivers).
+ * Dengan EffectScheduler, bonus ATTACK_BUFF ditambahkan dan shield target menyerap damage.
  */
 public class AttackCommand implements Command {
     private Character attacker;
     private Character target;
+    private Skill basicAttack;
+    private EffectScheduler effects;
+    private int damageDealt;
+    private boolean lethal;
     
     public AttackCommand(Character attacker, Character target) {
+        this(attacker, target, new BasicAttackSkill(attacker.getAttackPower()));
+    }
+    
+    /**
+     * Command dengan basic attack skill yang sudah ada (mis. dari SkillCache)
+     */
+    public AttackCommand(Character attacker, Character target, Skill basicAttack) {
         this.attacker = attacker;
         this.target = target;
+        this.basicAttack = basicAttack;
+    }
+    
+    /**
+     * Command untuk battle dengan status effect (lihat BattleManager.enableStatusEffects())
+     */
+    public AttackCommand(Character attacker, Character target, Skill basicAttack, EffectScheduler effects) {
+        this(attacker, target, basicAttack);
+        this.effects = effects;
+    }
+    
+    @Override
+    public Character getAttacker() {
+        return attacker;
+    }
+    
+    @Override
+    public Character getTarget() {
+        return target;
+    }
+    
+    @Override
+    public ActionType getActionType() {
+        return ActionType.ATTACK;
+    }
+    
+    @Override
+    public Skill getSkill() {
+        return basicAttack;
+    }
+    
+    @Override
+    public int getDamageDealt() {
+        return damageDealt;
+    }
+    
+    @Override
+    public boolean isLethal() {
+        return lethal;
     }
     
     @Override
     public void execute() {
-        System.out.println("\n[COMMAND] Executing: " + attacker.getName() + " attacks " + target.getName());
+        execute(LethalHitListener.IGNORE);
+    }
+    
+    @Override
+    public void execute(LethalHitListener listener) {
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new CommandExecutedEvent(
+                ActionType.ATTACK, attacker.getName(), target.getName(), null));
+        }
         
-        Skill basicAttack = new BasicAttackSkill(attacker.getAttackPower());
         int damage = basicAttack.execute();
+        if (effects != null) {
+            damage = effects.absorb(target, damage + effects.getAttackBonus(attacker));
+        }
         
-        target.takeDamage(damage);
+        lethal = target.applyDamage(damage);
+        damageDealt = damage;
+        if (lethal) {
+            listener.onLethalHit(attacker, target);
+        }
         
-        System.out.println("  → " + basicAttack.getDescription() + " deals " + damage + " damage!");
-        System.out.println("  → " + target.getName() + " HP: " + target.getHp() + "/" + target.getMaxHp());
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new DamageDealtEvent(ActionType.ATTACK, basicAttack.getDescription(),
+                attacker.getName(), target.getName(), damage, target.getHp(), target.getMaxHp()));
+        }
     }
 }
@@ -0,0 +1,154 @@
+package com.game.battle;
+
+import com.game.GameRandom;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Memajukan semua battle di BattleStateStore satu turn per pass
+ *
+ * Aturan dan urutan random draw sama dengan BattleSimulator dan jalur
+ * Character/Command (player 1 lalu player 2, 50/50 attack atau skill,
+ * critical roll hanya untuk skill), sehingga outcome-nya identik untuk
+ * random stream yang sama. Battle yang sudah selesai dikeluarkan dari
+ * daftar aktif supaya pass berikutnya hanya menyentuh battle yang masih berjalan.
+ */
+public class BatchBattleStepper {
+    private final BattleStateStore store;
+    private final SimulationResult result;
+    private final GameRandom random = new GameRandom(0L);
+    private final int[] active;
+    private int activeCount;
+    private int trackedBattles;
+    private int trackedGeneration;
+
+    public BatchBattleStepper(BattleStateStore store) {
+        this(store, null);
+    }
+
+    /**
+     * @param result jika tidak null, setiap hit dan battle yang selesai dicatat ke sini
+     *               (semua battle di store harus memakai matchup yang sama dengan result)
+     */
+    public BatchBattleStepper(BattleStateStore store, SimulationResult result) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        this.store = store;
+        this.result = result;
+        this.active = new int[store.getCapacity()];
+    }
+
+    /**
+     * Satu turn untuk semua battle yang masih berjalan.
+     * Mengembalikan jumlah battle yang masih berjalan setelah pass ini.
+     */
+    public int stepTurn() {
+        trackNewBattles();
+
+        int[] hp = store.hp;
+        long[] randomState = store.randomState;
+        int[] turns = store.turns;
+        int[] outcome = store.outcome;
+
+        int i = 0;
+        while (i < activeCount) {
+            int battle = active[i];
+            int player1 = BattleStateStore.player1Id(battle);
+            int player2 = BattleStateStore.player2Id(battle);
+            random.setState(randomState[battle]);
+            turns[battle]++;
+
+            int damage = rollDamage(player1);
+            if (result != null) {
+                result.recordHit(SimulationResult.PLAYER_1, damage);
+            }
+            hp[player2] = Math.max(0, hp[player2] - damage);
+
+            if (hp[player2] > 0) {
+                damage = rollDamage(player2);
+                if (result != null) {
+                    result.recordHit(SimulationResult.PLAYER_2, damage);
+                }
+                hp[player1] = Math.max(0, hp[player1] - damage);
+            }
+            randomState[battle] = random.getState();
+
+            int finished = BattleStateStore.ONGOING;
+            if (hp[player2] == 0) {
+                finished = SimulationResult.PLAYER_1;
+            } else if (hp[player1] == 0) {
+                finished = SimulationResult.PLAYER_2;
+            } else if (turns[battle] >= MAX_TURNS) {
+                finished = BattleStateStore.TIMEOUT;
+            }
+
+            if (finished == BattleStateStore.ONGOING) {
+                i++;
+            } else {
+                outcome[battle] = finished;
+                if (result != null) {
+                    result.recordBattle(finished == BattleStateStore.TIMEOUT ? -1 : finished, turns[battle]);
+                }
+                active[i] = active[--activeCount];
+            }
+        }
+        return activeCount;
+    }
+
+    /**
+     * Jalankan pass sampai semua battle selesai
+     */
+    public void runToCompletion() {
+        while (stepTurn() > 0) {
+            // setiap pass memajukan semua battle yang masih berjalan satu turn
+        }
+    }
+
+    /**
+     * Simulasikan battle [0, battles) dalam batch berukuran batchSize memakai
+     * satu store yang dipakai ulang; hasilnya sama dengan BattleSimulator.simulate()
+     */
+    public static SimulationResult simulate(CombatProfile player1, CombatProfile player2,
+                                            long battles, long masterSeed, int batchSize) {
+        BattleStateStore store = new BattleStateStore(batchSize);
+        SimulationResult result = new SimulationResult(player1.getMaxHitDamage(), player2.getMaxHitDamage());
+        BatchBattleStepper stepper = new BatchBattleStepper(store, result);
+
+        for (long from = 0; from < battles; from += batchSize) {
+            store.clear();
+            long to = Math.min(battles, from + batchSize);
+            for (long index = from; index < to; index++) {
+                store.addBattle(player1, player2, masterSeed, index);
+            }
+            stepper.runToCompletion();
+        }
+        return result;
+    }
+
+    private void trackNewBattles() {
+        int battleCount = store.getBattleCount();
+        if (store.getGeneration() != trackedGeneration) {
+            // store di-clear, mulai lagi dari awal
+            trackedGeneration = store.getGeneration();
+            trackedBattles = 0;
+            activeCount = 0;
+        }
+        for (int battle = trackedBattles; battle < battleCount; battle++) {
+            if (store.outcome[battle] == BattleStateStore.ONGOING) {
+                active[activeCount++] = battle;
+            }
+        }
+        trackedBattles = battleCount;
+    }
+
+    private int rollDamage(int combatant) {
+        if (random.nextInt(2) == 0) {
+            return store.attack[combatant];
+        }
+        if (random.nextDouble() < store.critChance[combatant]) {
+            return store.skillCritDamage[combatant];
+        }
+        return store.skillDamage[combatant];
+    }
+}
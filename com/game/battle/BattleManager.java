@@ -1,8 +1,15 @@
 package com.game.battle;
 
 import com.game.character.Character;
+import com.game.effect.EffectScheduler;
+import com.game.event.BattleEndedEvent;
+import com.game.event.BattleEvents;
+import com.game.metrics.BattleMetrics;
+import com.game.spectator.SpectatorFeed;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DESIGN PATTERN: Command
@@ -13,24 +20,425 @@ import java.util.List;
  * 
  * Invoker memisahkan objek yang menginvoke operasi dari objek yang
  * melakukan operasi tersebut.
+ * 
+ * History command disimpan sesuai CommandHistory policy (default: hanya hitung),
+ * sehingga battle yang sangat panjang tidak menahan semua Command di memory.
+ * History ditutup saat battle selesai (mis. file spillToFile di-flush dan ditutup).
+ * Battle yang berhenti karena batas turn harus diakhiri dengan endAsDraw(),
+ * supaya history, metrics dan BattleEndedEvent juga diproses untuk draw.
+ * 
+ * Command boleh dieksekusi dari beberapa thread sekaligus: HP character di-update
+ * secara atomik, dan hasil battle ditentukan sekali oleh hit lethal pertama, tepat
+ * saat Character.applyDamage mengembalikan true (lihat LethalHitListener); attacker-nya
+ * menang meskipun ada hit balasan yang masih berjalan. Command dari attacker yang
+ * sudah kalah, atau setelah hasil battle ditentukan, ditolak sebelum dieksekusi.
+ * 
+ * Selain executeCommand(), command bisa dijalankan lewat turn pipeline:
+ * collect() semua command turn ini, lalu resolvePending() memvalidasi,
+ * mengeksekusi dan mempublish hasilnya sekaligus. Stage collect/resolve
+ * hanya boleh dipanggil oleh satu thread (lihat CommandPipeline).
+ * 
+ * Jika BattleMetrics aktif saat battle dibuat, latency command, durasi turn,
+ * durasi battle dan alokasi memory thread selama battle ikut dicatat.
+ * 
+ * Status effect bersifat opt-in lewat enableStatusEffects(): event effect
+ * diproses di startNextTurn(), dan command dari character yang terkena stun
+ * ditolak saat validate. Battle dengan status effect harus dijalankan dari satu thread.
+ * 
+ * Spectator feed juga opt-in lewat enableSpectatorFeed(): setiap turn dan command
+ * menulis satu delta frame ke broadcast buffer feed (lihat SpectatorFeed), jadi
+ * battle dengan spectator juga harus dijalankan dari satu thread.
  */
 public class BattleManager {
-    private List<Command> commandHistory;
+    private static final int UNDECIDED = -2;
+    private static final int DRAW = -1;
+    
+    private CommandHistory commandHistory;
     private Character player1;
     private Character player2;
+    private int turnNumber;
+    private final AtomicInteger outcome = new AtomicInteger(UNDECIDED);
+    private final LethalHitListener settleOnLethalHit = this::settleLethalHit;
+    private EffectScheduler effects;
+    private SpectatorFeed spectators;
+    private final List<Command> pendingCommands = new ArrayList<>();
+    private CommandStatus[] pendingStatuses = new CommandStatus[4];
+    private final boolean metered;
+    private Thread meteredThread;
+    private long battleStartNanos;
+    private long battleStartAllocated;
+    private long turnStartNanos;
     
     public BattleManager(Character player1, Character player2) {
+        this(player1, player2, CommandHistory.countOnly());
+    }
+    
+    public BattleManager(Character player1, Character player2, CommandHistory commandHistory) {
+        if (commandHistory == null) {
+            throw new IllegalArgumentException("Command history cannot be null");
+        }
         this.player1 = player1;
         this.player2 = player2;
-        this.commandHistory = new ArrayList<>();
+        this.commandHistory = commandHistory;
+        this.metered = BattleMetrics.isEnabled();
+        if (metered) {
+            this.meteredThread = Thread.currentThread();
+            this.battleStartAllocated = BattleMetrics.currentThreadAllocatedBytes();
+            this.battleStartNanos = System.nanoTime();
+            this.turnStartNanos = battleStartNanos;
+        }
+    }
+    
+    /**
+     * Lanjutkan battle dari checkpoint
+     * 
+     * HP character harus sudah di-restore. History memakai countOnly yang
+     * melanjutkan totalCommands.
+     * 
+     * @param winnerIndex 0 atau 1 jika battle sudah dimenangkan player tersebut, selain itu -1
+     */
+    public static BattleManager resume(Character player1, Character player2, int turnNumber,
+                                       int totalCommands, int winnerIndex) {
+        if (turnNumber < 0) {
+            throw new IllegalArgumentException("Turn number cannot be negative, got: " + turnNumber);
+        }
+        if (winnerIndex < -1 || winnerIndex > 1) {
+            throw new IllegalArgumentException("Winner index must be -1, 0 or 1, got: " + winnerIndex);
+        }
+        BattleManager battleManager = new BattleManager(player1, player2, CommandHistory.countOnly(totalCommands));
+        battleManager.turnNumber = turnNumber;
+        if (!battleManager.isBattleOngoing()) {
+            battleManager.outcome.set(winnerIndex >= 0 ? winnerIndex : DRAW);
+        }
+        return battleManager;
     }
     
     /**
      * Set command dan eksekusi
+     * 
+     * @return EXECUTED, atau REJECTED_BATTLE_OVER / REJECTED_ATTACKER_DEFEATED
+     *         jika command tidak dieksekusi
+     */
+    public CommandStatus executeCommand(Command command) {
+        if (outcome.get() != UNDECIDED || !isBattleOngoing()) {
+            return CommandStatus.REJECTED_BATTLE_OVER;
+        }
+        Character attacker = command.getAttacker();
+        if (attacker != null && !attacker.isAlive()) {
+            return CommandStatus.REJECTED_ATTACKER_DEFEATED;
+        }
+        execute(command);
+        return CommandStatus.EXECUTED;
+    }
+    
+    private void execute(Command command) {
+        if (BattleMetrics.isEnabled()) {
+            long start = System.nanoTime();
+            command.execute(settleOnLethalHit);
+            BattleMetrics.recordCommand(command.getActionType(), System.nanoTime() - start,
+                command.getDamageDealt());
+        } else {
+            command.execute(settleOnLethalHit);
+        }
+        int actorIndex = actorIndexOf(command.getAttacker());
+        commandHistory.record(command, actorIndex, turnNumber);
+        if (spectators != null) {
+            spectators.commandExecuted(actorIndex, command.getActionType(), command.getDamageDealt(),
+                command.isCritical());
+        }
+        
+        if (!isBattleOngoing() && settledBy(command)) {
+            onBattleEnded();
+        }
+    }
+    
+    private void onBattleEnded() {
+        commandHistory.close();
+        if (spectators != null) {
+            spectators.battleEnded(outcome.get());
+        }
+        if (metered && BattleMetrics.isEnabled()) {
+            recordBattleMetrics();
+        }
+        if (BattleEvents.isEnabled()) {
+            Character winner = getWinner();
+            BattleEvents.publish(new BattleEndedEvent(
+                winner == null ? null : winner.getName(),
+                winner == null ? null : winner.getCharacterType(),
+                getTotalCommands()));
+        }
+    }
+    
+    /**
+     * Akhiri battle yang masih berjalan sebagai draw (mis. MAX_TURNS tercapai)
+     * 
+     * Sama seperti battle yang selesai karena hit lethal: history ditutup,
+     * metrics dicatat dan BattleEndedEvent tanpa pemenang dipublish tepat sekali.
+     * Command berikutnya ditolak dengan REJECTED_BATTLE_OVER.
+     * 
+     * @return false (tanpa efek) jika hasil battle sudah ditentukan
+     */
+    public boolean endAsDraw() {
+        if (!isBattleOngoing() || !outcome.compareAndSet(UNDECIDED, DRAW)) {
+            return false;
+        }
+        onBattleEnded();
+        return true;
+    }
+    
+    /**
+     * Aktifkan status effect untuk battle ini (idempotent)
+     * 
+     * Command yang membawa effect dibuat dengan scheduler yang dikembalikan,
+     * mis. new UseSkillCommand(attacker, target, skill, damageContext, effects).
+     */
+    public EffectScheduler enableStatusEffects() {
+        if (effects == null) {
+            effects = new EffectScheduler(turnNumber, player1, player2);
+        }
+        return effects;
+    }
+    
+    /**
+     * Scheduler status effect, atau null jika belum diaktifkan
      */
-    public void executeCommand(Command command) {
-        commandHistory.add(command);
-        command.execute();
+    public EffectScheduler getStatusEffects() {
+        return effects;
+    }
+    
+    /**
+     * Aktifkan spectator feed untuk battle ini (idempotent)
+     */
+    public SpectatorFeed enableSpectatorFeed() {
+        return enableSpectatorFeed(SpectatorFeed.DEFAULT_CAPACITY, SpectatorFeed.DEFAULT_KEYFRAME_INTERVAL);
+    }
+    
+    /**
+     * @param capacity         ukuran broadcast buffer dalam byte, pangkat dua
+     * @param keyframeInterval jumlah frame di antara dua keyframe
+     */
+    public SpectatorFeed enableSpectatorFeed(int capacity, int keyframeInterval) {
+        if (spectators == null) {
+            spectators = new SpectatorFeed(capacity, keyframeInterval, turnNumber, player1, player2);
+            if (outcome.get() != UNDECIDED) {
+                spectators.battleEnded(outcome.get());
+            }
+        }
+        return spectators;
+    }
+    
+    /**
+     * Spectator feed, atau null jika belum diaktifkan
+     */
+    public SpectatorFeed getSpectatorFeed() {
+        return spectators;
+    }
+    
+    /**
+     * Catat turn terakhir dan ringkasan battle ke BattleMetrics
+     * 
+     * Alokasi hanya valid jika battle dimulai dan selesai di thread yang sama.
+     */
+    private void recordBattleMetrics() {
+        long now = System.nanoTime();
+        if (turnNumber > 0) {
+            BattleMetrics.recordTurn(now - turnStartNanos);
+        }
+        long allocated = -1;
+        if (Thread.currentThread() == meteredThread && battleStartAllocated >= 0) {
+            long current = BattleMetrics.currentThreadAllocatedBytes();
+            allocated = current < 0 ? -1 : current - battleStartAllocated;
+        }
+        BattleMetrics.recordBattle(now - battleStartNanos, allocated);
+    }
+    
+    /**
+     * Stage collect: tampung command untuk di-resolve di resolvePending()
+     * 
+     * Setiap participant hanya boleh punya satu command per turn.
+     * 
+     * @return false (command tidak ditampung) jika attacker sudah punya command di turn ini
+     */
+    public boolean collect(Command command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        Character attacker = command.getAttacker();
+        if (attacker != null && hasPendingCommandFrom(attacker)) {
+            return false;
+        }
+        pendingCommands.add(command);
+        return true;
+    }
+    
+    /**
+     * true jika semua participant yang masih hidup sudah punya command di turn ini,
+     * atau battle sudah selesai (command yang tersisa akan ditolak saat resolve)
+     */
+    public boolean isTurnComplete() {
+        if (outcome.get() != UNDECIDED || !isBattleOngoing()) {
+            return true;
+        }
+        return hasPendingCommandFrom(player1) && hasPendingCommandFrom(player2);
+    }
+    
+    private boolean hasPendingCommandFrom(Character attacker) {
+        for (int i = 0; i < pendingCommands.size(); i++) {
+            if (pendingCommands.get(i).getAttacker() == attacker) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Jumlah command yang sudah di-collect tetapi belum di-resolve
+     */
+    public int getPendingCount() {
+        return pendingCommands.size();
+    }
+    
+    /**
+     * Command yang sudah di-collect tetapi belum di-resolve (read-only)
+     */
+    public List<Command> getPendingCommands() {
+        return Collections.unmodifiableList(pendingCommands);
+    }
+    
+    /**
+     * Resolve semua command yang di-collect sesuai urutan masuk
+     * 
+     * Setiap command divalidasi tepat sebelum dieksekusi, jadi command dari
+     * character yang baru saja kalah di batch yang sama akan ditolak.
+     * Listener dipanggil setelah seluruh batch selesai di-resolve.
+     * 
+     * @return jumlah command yang dieksekusi
+     */
+    public int resolvePending(CommandResultListener listener) {
+        int count = pendingCommands.size();
+        if (pendingStatuses.length < count) {
+            pendingStatuses = new CommandStatus[Math.max(count, pendingStatuses.length * 2)];
+        }
+        
+        int executed = 0;
+        for (int i = 0; i < count; i++) {
+            Command command = pendingCommands.get(i);
+            CommandStatus status = validate(command);
+            if (status.isExecuted()) {
+                execute(command);
+                executed++;
+            }
+            pendingStatuses[i] = status;
+        }
+        
+        for (int i = 0; i < count; i++) {
+            listener.onResult(this, pendingCommands.get(i), pendingStatuses[i]);
+            pendingStatuses[i] = null;
+        }
+        pendingCommands.clear();
+        return executed;
+    }
+    
+    /**
+     * Stage validate: cek apakah command masih boleh dieksekusi saat ini
+     */
+    public CommandStatus validate(Command command) {
+        if (outcome.get() != UNDECIDED || !isBattleOngoing()) {
+            return CommandStatus.REJECTED_BATTLE_OVER;
+        }
+        Character attacker = command.getAttacker();
+        if (attacker == null) {
+            return CommandStatus.EXECUTED;
+        }
+        if (actorIndexOf(attacker) < 0 || (command.getTarget() != null && actorIndexOf(command.getTarget()) < 0)) {
+            return CommandStatus.REJECTED_NOT_A_PARTICIPANT;
+        }
+        if (!attacker.isAlive()) {
+            return CommandStatus.REJECTED_ATTACKER_DEFEATED;
+        }
+        if (effects != null && effects.isStunned(attacker)) {
+            return CommandStatus.REJECTED_STUNNED;
+        }
+        return CommandStatus.EXECUTED;
+    }
+    
+    /**
+     * Hit lethal baru saja mendarat: tentukan hasil battle di sini (CAS pertama menang)
+     */
+    private void settleLethalHit(Character attacker, Character target) {
+        int targetIndex = actorIndexOf(target);
+        if (targetIndex >= 0) {
+            outcome.compareAndSet(UNDECIDED, 1 - targetIndex);
+        }
+    }
+    
+    /**
+     * true jika command ini yang menentukan hasil battle (tepat satu command per battle)
+     */
+    private boolean settledBy(Command command) {
+        if (command.isLethal()) {
+            // Hanya satu hit yang lethal untuk setiap target, jadi hasil 1 - targetIndex milik command ini
+            int targetIndex = actorIndexOf(command.getTarget());
+            return targetIndex >= 0 && outcome.get() == 1 - targetIndex;
+        }
+        if (command.getTarget() == null) {
+            return outcome.compareAndSet(UNDECIDED, indexOfAlive());
+        }
+        // Hit non-lethal; hasil ditentukan oleh command yang membunuh target
+        return false;
+    }
+    
+    private int indexOfAlive() {
+        if (player1.isAlive()) {
+            return 0;
+        } else if (player2.isAlive()) {
+            return 1;
+        }
+        return DRAW;
+    }
+    
+    private int actorIndexOf(Character actor) {
+        if (actor == player1) {
+            return 0;
+        } else if (actor == player2) {
+            return 1;
+        }
+        return -1;
+    }
+    
+    /**
+     * Mulai turn berikutnya, mengembalikan nomor turn yang baru (mulai dari 1)
+     * 
+     * Jika status effect aktif, event effect turn ini diproses lebih dulu;
+     * battle bisa berakhir di sini karena damage BURN.
+     */
+    public int startNextTurn() {
+        if (metered && BattleMetrics.isEnabled()) {
+            long now = System.nanoTime();
+            if (turnNumber > 0) {
+                BattleMetrics.recordTurn(now - turnStartNanos);
+            }
+            turnStartNanos = now;
+        }
+        turnNumber++;
+        boolean ongoing = isBattleOngoing();
+        if (effects != null && ongoing) {
+            effects.advanceTo(turnNumber);
+        }
+        if (spectators != null) {
+            spectators.turnStarted(turnNumber);
+        }
+        if (effects != null && ongoing && !isBattleOngoing() && outcome.compareAndSet(UNDECIDED, indexOfAlive())) {
+            onBattleEnded();
+        }
+        return turnNumber;
+    }
+    
+    /**
+     * Nomor turn saat ini (0 jika belum ada turn yang dimulai)
+     */
+    public int getTurnNumber() {
+        return turnNumber;
     }
     
     /**
@@ -44,9 +452,13 @@ public class BattleManager {
      * Mendapatkan pemenang battle
      */
     public Character getWinner() {
-        if (player1.isAlive()) {
+        int result = outcome.get();
+        if (result == UNDECIDED) {
+            result = indexOfAlive();
+        }
+        if (result == 0) {
             return player1;
-        } else if (player2.isAlive()) {
+        } else if (result == 1) {
             return player2;
         }
         return null;
@@ -72,4 +484,11 @@ public class BattleManager {
     public int getTotalCommands() {
         return commandHistory.size();
     }
+    
+    /**
+     * Mendapatkan history command sesuai policy yang dipakai
+     */
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
 }
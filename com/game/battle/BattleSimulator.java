@@ -0,0 +1,162 @@
+package com.game.battle;
+
+import com.game.GameRandom;
+import com.game.character.Character;
+import com.game.skill.SkillBuilder;
+import java.util.random.RandomGenerator;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Headless battle simulator untuk balance testing
+ *
+ * Menjalankan N battle dengan aturan yang sama seperti Main
+ * (player 1 lalu player 2 tiap turn, 50/50 attack atau skill, maksimal MAX_TURNS)
+ * tetapi tanpa console I/O dan tanpa alokasi object per turn.
+ * Semua state battle disimpan di variabel lokal primitif.
+ */
+public class BattleSimulator {
+    private final CombatProfile player1;
+    private final CombatProfile player2;
+
+    public BattleSimulator(CombatProfile player1, CombatProfile player2) {
+        if (player1 == null || player2 == null) {
+            throw new IllegalArgumentException("Combat profiles cannot be null");
+        }
+        this.player1 = player1;
+        this.player2 = player2;
+    }
+
+    public BattleSimulator(Character player1, Character player2) {
+        this(player1, player2, new SkillBuilder());
+    }
+
+    public BattleSimulator(Character player1, Character player2, SkillBuilder skillBuilder) {
+        this(CombatProfile.of(player1, skillBuilder), CombatProfile.of(player2, skillBuilder));
+    }
+
+    public CombatProfile getPlayer1() {
+        return player1;
+    }
+
+    public CombatProfile getPlayer2() {
+        return player2;
+    }
+
+    /**
+     * Buat result kosong yang cocok untuk matchup ini
+     */
+    public SimulationResult newResult() {
+        return new SimulationResult(player1.getMaxHitDamage(), player2.getMaxHitDamage());
+    }
+
+    /**
+     * Simulasikan sejumlah battle dengan master seed tertentu.
+     * Battle ke-i memakai stream GameRandom.forStream(masterSeed, i),
+     * sehingga hasilnya identik dengan ParallelBattleRunner.
+     */
+    public SimulationResult simulate(long battles, long masterSeed) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Battle count cannot be negative, got: " + battles);
+        }
+
+        SimulationResult result = newResult();
+        simulateRange(masterSeed, 0, battles, result);
+        return result;
+    }
+
+    /**
+     * Simulasikan battle dengan index [fromIndex, toIndex) dan catat ke result
+     */
+    public void simulateRange(long masterSeed, long fromIndex, long toIndex, SimulationResult result) {
+        GameRandom random = new GameRandom(masterSeed);
+        for (long index = fromIndex; index < toIndex; index++) {
+            random.setStream(masterSeed, index);
+            runBattle(random, result);
+        }
+    }
+
+    /**
+     * Simulasikan sejumlah battle memakai random generator yang diberikan
+     */
+    public SimulationResult simulate(long battles, RandomGenerator random) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Battle count cannot be negative, got: " + battles);
+        }
+
+        SimulationResult result = newResult();
+        for (long i = 0; i < battles; i++) {
+            runBattle(random, result);
+        }
+        return result;
+    }
+
+    /**
+     * Jalankan satu battle dan catat hasilnya ke result
+     */
+    void runBattle(RandomGenerator random, SimulationResult result) {
+        int hp1 = player1.getMaxHp();
+        int hp2 = player2.getMaxHp();
+        int turns = 0;
+
+        while (hp1 > 0 && hp2 > 0 && turns < MAX_TURNS) {
+            turns++;
+
+            int damage = rollDamage(player1, random);
+            result.recordHit(SimulationResult.PLAYER_1, damage);
+            hp2 = Math.max(0, hp2 - damage);
+
+            if (hp2 > 0) {
+                damage = rollDamage(player2, random);
+                result.recordHit(SimulationResult.PLAYER_2, damage);
+                hp1 = Math.max(0, hp1 - damage);
+            }
+        }
+
+        int winner;
+        if (hp1 > 0 && hp2 > 0) {
+            winner = -1;
+        } else {
+            winner = hp1 > 0 ? SimulationResult.PLAYER_1 : SimulationResult.PLAYER_2;
+        }
+        result.recordBattle(winner, turns);
+    }
+
+    /**
+     * Jalankan satu battle tanpa statistik; urutan random draw sama dengan runBattle()
+     *
+     * @return SimulationResult.PLAYER_1, SimulationResult.PLAYER_2, atau -1 jika draw (MAX_TURNS)
+     */
+    public int play(RandomGenerator random) {
+        int hp1 = player1.getMaxHp();
+        int hp2 = player2.getMaxHp();
+        int turns = 0;
+
+        while (hp1 > 0 && hp2 > 0 && turns < MAX_TURNS) {
+            turns++;
+            hp2 = Math.max(0, hp2 - rollDamage(player1, random));
+            if (hp2 > 0) {
+                hp1 = Math.max(0, hp1 - rollDamage(player2, random));
+            }
+        }
+
+        if (hp1 > 0 && hp2 > 0) {
+            return -1;
+        }
+        return hp1 > 0 ? SimulationResult.PLAYER_1 : SimulationResult.PLAYER_2;
+    }
+
+    /**
+     * Pilih aksi (attack/skill) dan hitung damage-nya,
+     * urutan draw random sama dengan Main.createCommand() + CriticalHitDecorator
+     */
+    static int rollDamage(CombatProfile attacker, RandomGenerator random) {
+        if (random.nextInt(2) == 0) {
+            return attacker.getAttackDamage();
+        }
+        if (random.nextDouble() < attacker.getCritChance()) {
+            return attacker.getSkillCritDamage();
+        }
+        return attacker.getSkillDamage();
+    }
+}
@@ -0,0 +1,146 @@
+package com.game.battle;
+
+import com.game.GameRandom;
+import java.util.Arrays;
+
+/**
+ * Penyimpanan state banyak battle dalam bentuk struct-of-arrays
+ *
+ * Setiap combatant punya id; combatant battle b adalah 2b (player 1)
+ * dan 2b + 1 (player 2). Semua stat disimpan di kolom array primitif
+ * sehingga BatchBattleStepper bisa memproses ribuan battle dengan akses
+ * memory berurutan dan tanpa alokasi per turn.
+ */
+public final class BattleStateStore {
+    public static final int ONGOING = -2;
+    public static final int TIMEOUT = -1;
+
+    // Kolom per combatant
+    final int[] hp;
+    final int[] maxHp;
+    final int[] attack;
+    final int[] typeOrdinal;
+    final int[] skillDamage;
+    final int[] skillCritDamage;
+    final double[] critChance;
+
+    // Kolom per battle
+    final long[] randomState;
+    final int[] turns;
+    final int[] outcome;
+
+    private final int capacity;
+    private int battleCount;
+    private int generation;
+
+    public BattleStateStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.capacity = capacity;
+        int combatants = capacity * 2;
+        this.hp = new int[combatants];
+        this.maxHp = new int[combatants];
+        this.attack = new int[combatants];
+        this.typeOrdinal = new int[combatants];
+        this.skillDamage = new int[combatants];
+        this.skillCritDamage = new int[combatants];
+        this.critChance = new double[combatants];
+        this.randomState = new long[capacity];
+        this.turns = new int[capacity];
+        this.outcome = new int[capacity];
+    }
+
+    /**
+     * Tambahkan battle baru dengan random stream battle ke-index dari master seed
+     * (sama seperti BattleSimulator.simulateRange()). Mengembalikan id battle.
+     */
+    public int addBattle(CombatProfile player1, CombatProfile player2, long masterSeed, long battleIndex) {
+        return addBattle(player1, player2, GameRandom.forStream(masterSeed, battleIndex).getState());
+    }
+
+    /**
+     * Tambahkan battle baru dengan state GameRandom tertentu. Mengembalikan id battle.
+     */
+    public int addBattle(CombatProfile player1, CombatProfile player2, long randomState) {
+        if (battleCount == capacity) {
+            throw new IllegalStateException("Battle store is full (capacity " + capacity + ")");
+        }
+        int battle = battleCount++;
+        setCombatant(player1Id(battle), player1);
+        setCombatant(player2Id(battle), player2);
+        this.randomState[battle] = randomState;
+        this.turns[battle] = 0;
+        this.outcome[battle] = ONGOING;
+        return battle;
+    }
+
+    private void setCombatant(int id, CombatProfile profile) {
+        hp[id] = profile.getMaxHp();
+        maxHp[id] = profile.getMaxHp();
+        attack[id] = profile.getAttackDamage();
+        typeOrdinal[id] = profile.getCharacterType().ordinal();
+        skillDamage[id] = profile.getSkillDamage();
+        skillCritDamage[id] = profile.getSkillCritDamage();
+        critChance[id] = profile.getCritChance();
+    }
+
+    /**
+     * Kosongkan store supaya bisa dipakai ulang tanpa alokasi array baru
+     */
+    public void clear() {
+        Arrays.fill(outcome, 0, battleCount, ONGOING);
+        battleCount = 0;
+        generation++;
+    }
+
+    /**
+     * Bertambah setiap kali store di-clear
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    public static int player1Id(int battle) {
+        return battle * 2;
+    }
+
+    public static int player2Id(int battle) {
+        return battle * 2 + 1;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBattleCount() {
+        return battleCount;
+    }
+
+    public int getHp(int combatant) {
+        return hp[combatant];
+    }
+
+    public int getMaxHp(int combatant) {
+        return maxHp[combatant];
+    }
+
+    public int getAttack(int combatant) {
+        return attack[combatant];
+    }
+
+    public int getTypeOrdinal(int combatant) {
+        return typeOrdinal[combatant];
+    }
+
+    public int getTurns(int battle) {
+        return turns[battle];
+    }
+
+    /**
+     * ONGOING, TIMEOUT, atau SimulationResult.PLAYER_1 / PLAYER_2 sebagai pemenang
+     */
+    public int getOutcome(int battle) {
+        return outcome[battle];
+    }
+}
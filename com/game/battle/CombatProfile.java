@@ -0,0 +1,124 @@
+package com.game.battle;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.skill.CompiledSkill;
+import com.game.skill.SkillBuilder;
+import com.game.skill.SkillCompiler;
+import com.game.skill.SkillProvider;
+
+/**
+ * Immutable snapshot dari angka-angka combat satu character
+ * (HP, damage basic attack, damage skill dan critical chance).
+ *
+ * Dipakai oleh BattleSimulator supaya battle headless tidak perlu
+ * membuat Command/Skill object baru dan tidak mencetak ke console.
+ */
+public final class CombatProfile {
+    private final String name;
+    private final CharacterType characterType;
+    private final int maxHp;
+    private final int attackDamage;
+    private final int skillDamage;
+    private final int skillCritDamage;
+    private final double critChance;
+
+    public CombatProfile(String name, CharacterType characterType, int maxHp,
+                         int attackDamage, int skillDamage, double critChance) {
+        this(name, characterType, maxHp, attackDamage, skillDamage, skillDamage * 2, critChance);
+    }
+
+    public CombatProfile(String name, CharacterType characterType, int maxHp,
+                         int attackDamage, int skillDamage, int skillCritDamage, double critChance) {
+        if (maxHp <= 0) {
+            throw new IllegalArgumentException("HP must be positive, got: " + maxHp);
+        }
+        if (attackDamage < 0 || skillDamage < 0 || skillCritDamage < 0) {
+            throw new IllegalArgumentException("Damage cannot be negative");
+        }
+        if (critChance < 0.0 || critChance > 1.0) {
+            throw new IllegalArgumentException("Crit chance must be between 0 and 1, got: " + critChance);
+        }
+
+        this.name = name;
+        this.characterType = characterType;
+        this.maxHp = maxHp;
+        this.attackDamage = attackDamage;
+        this.skillDamage = skillDamage;
+        this.skillCritDamage = skillCritDamage;
+        this.critChance = critChance;
+    }
+
+    /**
+     * Buat profile dari character dengan skill pipeline yang sama seperti
+     * SkillBuilder.buildDecoratedSkill(): base skill + Damage Boost + Critical Chance.
+     * Character yang mengimplementasi SkillProvider memakai pipeline miliknya sendiri.
+     */
+    public static CombatProfile of(Character character, SkillBuilder skillBuilder) {
+        if (character instanceof SkillProvider provider) {
+            return of(character, SkillCompiler.compile(provider.getDecoratedSkill()));
+        }
+        return of(character, SkillCompiler.compile(skillBuilder.buildDecoratedSkill(character)));
+    }
+
+    /**
+     * Buat profile dari character dan compiled skill pipeline-nya.
+     * Pipeline harus deterministik dengan maksimal satu critical stage dan tanpa status effect.
+     */
+    public static CombatProfile of(Character character, CompiledSkill skill) {
+        if (!skill.isConstantSource() || skill.getCritStageCount() > 1 || skill.hasEffects()) {
+            throw new IllegalArgumentException("Skill cannot be simulated headless: " + skill.getDescription());
+        }
+        boolean canCrit = skill.getCritStageCount() == 1;
+        return new CombatProfile(
+            character.getName(),
+            character.getCharacterType(),
+            character.getMaxHp(),
+            character.getAttackPower(),
+            skill.damageFor(0L),
+            skill.damageFor(canCrit ? 1L : 0L),
+            canCrit ? skill.getCritChance(0) : 0.0);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CharacterType getCharacterType() {
+        return characterType;
+    }
+
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    public int getAttackDamage() {
+        return attackDamage;
+    }
+
+    public int getSkillDamage() {
+        return skillDamage;
+    }
+
+    public int getSkillCritDamage() {
+        return skillCritDamage;
+    }
+
+    public double getCritChance() {
+        return critChance;
+    }
+
+    /**
+     * Damage terbesar yang mungkin dihasilkan oleh satu aksi
+     */
+    public int getMaxHitDamage() {
+        return Math.max(attackDamage, skillCritDamage);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s) - HP: %d, Attack: %d, Skill: %d/%d (crit %.0f%%)",
+            name, characterType.getDisplayName(), maxHp, attackDamage,
+            skillDamage, skillCritDamage, critChance * 100);
+    }
+}
@@ -1,5 +1,9 @@
 package com.game.battle;
 
+import com.game.character.Character;
+import com.game.event.ActionType;
+import com.game.skill.Skill;
+
 /**
  * DESIGN PATTERN: Command (Behavioral)
  * Peran: Command interface
@@ -16,4 +20,66 @@ public interface Command {
      * Eksekusi command
      */
     void execute();
+    
+    /**
+     * Eksekusi command dan panggil listener tepat saat hit lethal mendarat
+     * 
+     * Default: execute(), lalu listener dipanggil jika isLethal(). Command yang
+     * memberi damage sebaiknya memanggil listener langsung setelah applyDamage.
+     */
+    default void execute(LethalHitListener listener) {
+        execute();
+        if (isLethal()) {
+            listener.onLethalHit(getAttacker(), getTarget());
+        }
+    }
+    
+    /**
+     * Character yang melakukan command, atau null jika tidak ada
+     */
+    default Character getAttacker() {
+        return null;
+    }
+    
+    /**
+     * Character yang menjadi target command, atau null jika tidak ada
+     */
+    default Character getTarget() {
+        return null;
+    }
+    
+    /**
+     * Jenis aksi command, atau null untuk command non-battle
+     */
+    default ActionType getActionType() {
+        return null;
+    }
+    
+    /**
+     * Skill yang dipakai command, atau null jika tidak ada
+     */
+    default Skill getSkill() {
+        return null;
+    }
+    
+    /**
+     * Damage dari eksekusi terakhir (0 sebelum execute())
+     */
+    default int getDamageDealt() {
+        return 0;
+    }
+    
+    /**
+     * True jika eksekusi terakhir adalah hit yang membunuh target
+     */
+    default boolean isLethal() {
+        return false;
+    }
+    
+    /**
+     * True jika eksekusi terakhir adalah critical hit (false jika tidak diketahui)
+     */
+    default boolean isCritical() {
+        return false;
+    }
 }
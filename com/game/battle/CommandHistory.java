@@ -0,0 +1,84 @@
+package com.game.battle;
+
+import com.game.character.Character;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Policy penyimpanan history command di BattleManager
+ *
+ * - countOnly(): hanya menghitung jumlah command (default, memory konstan, thread-safe)
+ * - ringBuffer(n): menyimpan n CommandRecord terakhir dalam array primitif (single writer)
+ * - spillToFile(path): menulis semua record ke file append-only (single writer)
+ *
+ * Tidak ada policy yang menyimpan reference ke Command, jadi memory
+ * tetap flat berapapun panjang battle-nya.
+ */
+public interface CommandHistory extends AutoCloseable {
+    
+    /**
+     * Catat command yang baru saja dieksekusi
+     *
+     * @param actorIndex 0 untuk player 1, 1 untuk player 2, -1 jika tidak diketahui
+     * @param turn       nomor turn saat ini (lihat BattleManager.startNextTurn())
+     */
+    void record(Command command, int actorIndex, int turn);
+    
+    /**
+     * Total command yang pernah dicatat
+     */
+    int size();
+    
+    /**
+     * Record yang masih tersedia untuk replay (kosong untuk countOnly)
+     */
+    List<CommandRecord> getRecords();
+    
+    /**
+     * true untuk countOnly(): state-nya cukup berupa size(), jadi bisa dilanjutkan
+     * setelah restore (lihat BattleManager.resume())
+     */
+    default boolean isCountOnly() {
+        return false;
+    }
+    
+    @Override
+    default void close() {
+    }
+    
+    static CommandHistory countOnly() {
+        return new CountOnlyHistory(0);
+    }
+    
+    /**
+     * countOnly() yang melanjutkan hitungan dari battle sebelumnya (mis. hasil restore)
+     */
+    static CommandHistory countOnly(int initialCount) {
+        if (initialCount < 0) {
+            throw new IllegalArgumentException("Initial count cannot be negative, got: " + initialCount);
+        }
+        return new CountOnlyHistory(initialCount);
+    }
+    
+    static CommandHistory ringBuffer(int capacity) {
+        return new RingBufferHistory(capacity);
+    }
+    
+    static CommandHistory spillToFile(Path file) throws IOException {
+        return new FileSpillHistory(file);
+    }
+    
+    /**
+     * Terapkan ulang damage dari record ke character baru (urutan sesuai sequence)
+     */
+    static void replay(List<CommandRecord> records, Character player1, Character player2) {
+        for (CommandRecord record : records) {
+            if (record.actorIndex() == 0) {
+                player2.takeDamage(record.damage());
+            } else if (record.actorIndex() == 1) {
+                player1.takeDamage(record.damage());
+            }
+        }
+    }
+}
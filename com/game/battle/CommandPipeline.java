@@ -0,0 +1,191 @@
+package com.game.battle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded MPSC queue command dari banyak battle yang di-drain per batch
+ *
+ * Banyak thread (mis. thread koneksi) memasukkan command; satu thread
+ * server memanggil drain() yang menjalankan turn pipeline:
+ * 1. collect - ambil sampai batchSize command dan tampung di turn battle-nya;
+ *    command kedua dari participant yang sama di satu turn langsung ditolak
+ *    (REJECTED_ALREADY_ACTED)
+ * 2. validate + resolve - turn battle di-resolve hanya jika semua participant
+ *    sudah beraksi atau turn timeout sejak command pertama turn itu
+ *    (BattleManager.startNextTurn() lalu resolvePending()); participant yang
+ *    tidak beraksi sampai timeout dilewati
+ * 3. publish - status setiap command dikirim ke CommandResultListener
+ *
+ * Turn yang menunggu timeout hanya di-resolve saat drain() dipanggil, jadi
+ * consumer harus tetap memanggil drain() selama getOpenTurnCount() > 0.
+ *
+ * Jika queue penuh, offer() langsung mengembalikan false dan submit() menunggu
+ * sampai ada slot kosong (backpressure, tidak ada command yang hilang).
+ */
+public class CommandPipeline {
+    public static final long DEFAULT_TURN_TIMEOUT_MILLIS = 5_000L;
+    private static final long FULL_PARK_NANOS = 1_000L;
+
+    private final AtomicReferenceArray<Submission> ring;
+    private final int mask;
+    private final int batchSize;
+    private final CommandResultListener listener;
+    private final long turnTimeoutNanos;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong consumedSequence = new AtomicLong();
+    // Battle yang turn-nya sudah punya command tetapi belum di-resolve, dan kapan turn itu dibuka
+    private final List<BattleManager> openBattles = new ArrayList<>();
+    private long[] openedAtNanos = new long[16];
+
+    private record Submission(BattleManager battle, Command command) {
+    }
+
+    public CommandPipeline(int capacity, int batchSize, CommandResultListener listener) {
+        this(capacity, batchSize, DEFAULT_TURN_TIMEOUT_MILLIS, listener);
+    }
+
+    /**
+     * @param turnTimeoutMillis batas waktu turn sejak command pertama, setelah itu turn
+     *                          di-resolve meskipun belum semua participant beraksi
+     */
+    public CommandPipeline(int capacity, int batchSize, long turnTimeoutMillis, CommandResultListener listener) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two, got: " + capacity);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+        if (turnTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Turn timeout must be positive, got: " + turnTimeoutMillis);
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        this.turnTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(turnTimeoutMillis);
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.batchSize = batchSize;
+        this.listener = listener;
+    }
+
+    /**
+     * Masukkan command tanpa menunggu
+     *
+     * @return false jika queue penuh
+     */
+    public boolean offer(BattleManager battle, Command command) {
+        Submission submission = newSubmission(battle, command);
+        long sequence;
+        do {
+            sequence = nextSequence.get();
+            if (sequence - consumedSequence.get() >= ring.length()) {
+                return false;
+            }
+        } while (!nextSequence.compareAndSet(sequence, sequence + 1));
+        ring.lazySet((int) sequence & mask, submission);
+        return true;
+    }
+
+    /**
+     * Masukkan command, menunggu selama queue penuh
+     */
+    public void submit(BattleManager battle, Command command) {
+        Submission submission = newSubmission(battle, command);
+        long sequence = nextSequence.getAndIncrement();
+        while (sequence - consumedSequence.get() >= ring.length()) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        ring.lazySet((int) sequence & mask, submission);
+    }
+
+    private static Submission newSubmission(BattleManager battle, Command command) {
+        if (battle == null || command == null) {
+            throw new IllegalArgumentException("Battle and command cannot be null");
+        }
+        return new Submission(battle, command);
+    }
+
+    /**
+     * Jalankan satu batch dan resolve turn yang sudah lengkap atau timeout;
+     * hanya boleh dipanggil oleh satu thread consumer
+     *
+     * @return jumlah command yang diambil dari queue
+     */
+    public int drain() {
+        long now = System.nanoTime();
+        long sequence = consumedSequence.get();
+        int drained = 0;
+
+        while (drained < batchSize) {
+            int slot = (int) sequence & mask;
+            Submission submission = ring.get(slot);
+            if (submission == null) {
+                break;
+            }
+            ring.lazySet(slot, null);
+            sequence++;
+            drained++;
+
+            BattleManager battle = submission.battle();
+            boolean turnOpen = battle.getPendingCount() > 0;
+            if (!battle.collect(submission.command())) {
+                listener.onResult(battle, submission.command(), CommandStatus.REJECTED_ALREADY_ACTED);
+            } else if (!turnOpen) {
+                openTurn(battle, now);
+            }
+        }
+        consumedSequence.lazySet(sequence);
+
+        int i = 0;
+        while (i < openBattles.size()) {
+            BattleManager battle = openBattles.get(i);
+            if (battle.isTurnComplete() || now - openedAtNanos[i] >= turnTimeoutNanos) {
+                battle.startNextTurn();
+                battle.resolvePending(listener);
+                closeTurn(i);
+            } else {
+                i++;
+            }
+        }
+        return drained;
+    }
+
+    private void openTurn(BattleManager battle, long now) {
+        int index = openBattles.size();
+        if (index == openedAtNanos.length) {
+            openedAtNanos = Arrays.copyOf(openedAtNanos, index * 2);
+        }
+        openBattles.add(battle);
+        openedAtNanos[index] = now;
+    }
+
+    /**
+     * Hapus turn ke-index dengan memindahkan turn terakhir ke posisinya
+     */
+    private void closeTurn(int index) {
+        int last = openBattles.size() - 1;
+        openBattles.set(index, openBattles.get(last));
+        openedAtNanos[index] = openedAtNanos[last];
+        openBattles.remove(last);
+    }
+
+    /**
+     * Jumlah battle yang turn-nya masih menunggu participant lain atau timeout
+     */
+    public int getOpenTurnCount() {
+        return openBattles.size();
+    }
+
+    /**
+     * Jumlah command yang menunggu di queue (perkiraan jika ada producer aktif)
+     */
+    public int size() {
+        return (int) Math.max(0, nextSequence.get() - consumedSequence.get());
+    }
+}
@@ -0,0 +1,19 @@
+package com.game.battle;
+
+import com.game.event.ActionType;
+
+/**
+ * Ringkasan compact dari satu command yang sudah dieksekusi
+ *
+ * Tidak menyimpan reference ke Character, Command atau Skill,
+ * sehingga history tidak menahan object graph battle di memory.
+ *
+ * @param sequence    urutan command di battle (mulai dari 0)
+ * @param turn        nomor turn saat command dieksekusi (0 jika battle tidak memakai turn)
+ * @param actorIndex  0 untuk player 1, 1 untuk player 2, -1 jika tidak diketahui
+ * @param actionType  jenis aksi, atau null untuk command non-battle
+ * @param damage      damage yang diberikan ke target
+ * @param targetHp    HP target setelah command
+ */
+public record CommandRecord(int sequence, int turn, int actorIndex, ActionType actionType, int damage, int targetHp) {
+}
@@ -0,0 +1,16 @@
+package com.game.battle;
+
+/**
+ * Tahap publish dari turn pipeline: menerima status setiap command
+ * setelah semua command di batch selesai di-resolve
+ */
+@FunctionalInterface
+public interface CommandResultListener {
+    
+    /**
+     * Listener yang mengabaikan semua hasil
+     */
+    CommandResultListener IGNORE = (battle, command, status) -> { };
+    
+    void onResult(BattleManager battle, Command command, CommandStatus status);
+}
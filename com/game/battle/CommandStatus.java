@@ -0,0 +1,18 @@
+package com.game.battle;
+
+/**
+ * Hasil validasi/eksekusi satu command di turn pipeline
+ */
+public enum CommandStatus {
+    EXECUTED,
+    REJECTED_BATTLE_OVER,
+    REJECTED_ATTACKER_DEFEATED,
+    REJECTED_NOT_A_PARTICIPANT,
+    REJECTED_STUNNED,
+    /** Attacker sudah mengirim command di turn ini (lihat CommandPipeline) */
+    REJECTED_ALREADY_ACTED;
+    
+    public boolean isExecuted() {
+        return this == EXECUTED;
+    }
+}
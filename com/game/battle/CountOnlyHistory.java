@@ -0,0 +1,37 @@
+package com.game.battle;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * History yang hanya menghitung jumlah command
+ * (aman dipakai oleh beberapa thread sekaligus)
+ */
+class CountOnlyHistory implements CommandHistory {
+    private final AtomicInteger count;
+    
+    CountOnlyHistory(int initialCount) {
+        this.count = new AtomicInteger(initialCount);
+    }
+    
+    @Override
+    public void record(Command command, int actorIndex, int turn) {
+        count.incrementAndGet();
+    }
+    
+    @Override
+    public int size() {
+        return count.get();
+    }
+    
+    @Override
+    public List<CommandRecord> getRecords() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public boolean isCountOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,104 @@
+package com.game.battle;
+
+import com.game.event.ActionType;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * History yang menulis setiap record ke file append-only
+ *
+ * Memory tetap konstan (hanya buffer output); record dibaca kembali
+ * dari file saat getRecords() dipanggil untuk replay. BattleManager menutup
+ * file saat battle selesai; getRecords() tetap bisa dipanggil setelahnya.
+ * Format per record: int sequence, int turn, byte actorIndex, byte actionType, int damage, int targetHp.
+ */
+class FileSpillHistory implements CommandHistory {
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+    
+    private final Path file;
+    private final DataOutputStream output;
+    private int count;
+    private boolean closed;
+    
+    FileSpillHistory(Path file) throws IOException {
+        this.file = file;
+        this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)));
+    }
+    
+    @Override
+    public void record(Command command, int actorIndex, int turn) {
+        if (closed) {
+            throw new IllegalStateException("Command history is closed: " + file);
+        }
+        try {
+            output.writeInt(count);
+            output.writeInt(turn);
+            output.writeByte(actorIndex);
+            output.writeByte(command.getActionType() == null ? -1 : command.getActionType().ordinal());
+            output.writeInt(command.getDamageDealt());
+            output.writeInt(command.getTarget() == null ? 0 : command.getTarget().getHp());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write command history to " + file, e);
+        }
+        count++;
+    }
+    
+    @Override
+    public int size() {
+        return count;
+    }
+    
+    @Override
+    public List<CommandRecord> getRecords() {
+        List<CommandRecord> records = new ArrayList<>(count);
+        try {
+            if (!closed) {
+                output.flush();
+            }
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                while (true) {
+                    int sequence;
+                    try {
+                        sequence = input.readInt();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    int turn = input.readInt();
+                    int actorIndex = input.readByte();
+                    int actionType = input.readByte();
+                    int damage = input.readInt();
+                    int targetHp = input.readInt();
+                    records.add(new CommandRecord(sequence, turn, actorIndex,
+                        actionType < 0 ? null : ACTION_TYPES[actionType], damage, targetHp));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read command history from " + file, e);
+        }
+        return records;
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            output.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close command history " + file, e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.game.battle;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap atas index combatant dengan key dari array eksternal
+ *
+ * Posisi setiap combatant di heap disimpan, sehingga update key (mis. HP turun)
+ * dan remove (combatant mati) cukup O(log n) tanpa pencarian linear.
+ * Tie dipecah dengan index terkecil supaya hasil deterministik.
+ */
+final class IndexedMinHeap {
+    private final int[] keys;
+    private final int[] heap;
+    private final int[] position;
+    private int size;
+
+    IndexedMinHeap(int[] keys, int capacity) {
+        this.keys = keys;
+        this.heap = new int[capacity];
+        this.position = new int[keys.length];
+        Arrays.fill(position, -1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Elemen dengan key terkecil, atau -1 jika heap kosong
+     */
+    int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    void add(int element) {
+        heap[size] = element;
+        position[element] = size;
+        siftUp(size++);
+    }
+
+    void remove(int element) {
+        int index = position[element];
+        if (index < 0) {
+            return;
+        }
+        position[element] = -1;
+        int last = heap[--size];
+        if (index == size) {
+            return;
+        }
+        heap[index] = last;
+        position[last] = index;
+        siftDown(index);
+        siftUp(position[last]);
+    }
+
+    /**
+     * Key elemen turun (mis. HP berkurang)
+     */
+    void decreased(int element) {
+        int index = position[element];
+        if (index >= 0) {
+            siftUp(index);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        int element = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(element, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = element;
+        position[element] = index;
+    }
+
+    private void siftDown(int index) {
+        int element = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], element)) {
+                break;
+            }
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = element;
+        position[element] = index;
+    }
+}
@@ -0,0 +1,21 @@
+package com.game.battle;
+
+import com.game.character.Character;
+
+/**
+ * Dipanggil command tepat saat hit-nya membunuh target
+ * (Character.applyDamage mengembalikan true), sebelum command selesai
+ *
+ * BattleManager memakai callback ini untuk menentukan hasil battle di titik hit
+ * lethal, sehingga dari beberapa hit lethal yang berjalan bersamaan yang pertama menang.
+ */
+@FunctionalInterface
+public interface LethalHitListener {
+    
+    /**
+     * Listener yang mengabaikan semua hit lethal
+     */
+    LethalHitListener IGNORE = (attacker, target) -> { };
+    
+    void onLethalHit(Character attacker, Character target);
+}
@@ -0,0 +1,120 @@
+package com.game.battle;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Menjalankan battle headless secara paralel di semua core memakai fork-join
+ *
+ * Setiap battle mendapat stream random sendiri (master seed + index battle)
+ * dan hasil per-batch hanya berisi counter yang dijumlahkan, sehingga hasil
+ * akhirnya bit-identical berapapun jumlah thread yang dipakai.
+ *
+ * Pool yang dibuat runner sendiri (konstruktor dengan parallelism) di-shutdown
+ * oleh close(); pool dari luar dan commonPool tidak disentuh.
+ */
+public class ParallelBattleRunner implements AutoCloseable {
+    private static final int DEFAULT_BATCH_SIZE = 16_384;
+
+    private final BattleSimulator simulator;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final boolean ownsPool;
+
+    public ParallelBattleRunner(BattleSimulator simulator) {
+        this(simulator, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Runner dengan pool sendiri; panggil close() setelah selesai
+     */
+    public ParallelBattleRunner(BattleSimulator simulator, int parallelism) {
+        this(simulator, new ForkJoinPool(parallelism), DEFAULT_BATCH_SIZE, true);
+    }
+
+    /**
+     * Runner di pool dari luar; pemanggil tetap bertanggung jawab atas pool tersebut
+     */
+    public ParallelBattleRunner(BattleSimulator simulator, ForkJoinPool pool, int batchSize) {
+        this(simulator, pool, batchSize, false);
+    }
+
+    private ParallelBattleRunner(BattleSimulator simulator, ForkJoinPool pool, int batchSize, boolean ownsPool) {
+        if (simulator == null || pool == null) {
+            throw new IllegalArgumentException("Simulator and pool cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+        this.simulator = simulator;
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Jalankan battle dengan index [0, battles) secara paralel
+     */
+    public SimulationResult run(long battles, long masterSeed) {
+        return run(masterSeed, 0, battles);
+    }
+
+    /**
+     * Jalankan battle dengan index [fromIndex, toIndex) secara paralel
+     */
+    public SimulationResult run(long masterSeed, long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex < fromIndex) {
+            throw new IllegalArgumentException("Invalid battle range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        return pool.invoke(new BattleRangeTask(masterSeed, fromIndex, toIndex));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shutdown pool milik runner; battle yang sedang berjalan tetap diselesaikan
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Split range battle sampai ukuran batch, lalu simulasikan secara sequential
+     *
+     * RecursiveTask bersifat Serializable, tetapi task ini tidak pernah diserialisasi
+     * (dan memegang runner yang memang tidak Serializable).
+     */
+    @SuppressWarnings("serial")
+    private class BattleRangeTask extends RecursiveTask<SimulationResult> {
+        private final long masterSeed;
+        private final long fromIndex;
+        private final long toIndex;
+
+        BattleRangeTask(long masterSeed, long fromIndex, long toIndex) {
+            this.masterSeed = masterSeed;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (toIndex - fromIndex <= batchSize) {
+                SimulationResult result = simulator.newResult();
+                simulator.simulateRange(masterSeed, fromIndex, toIndex, result);
+                return result;
+            }
+
+            long middle = fromIndex + (toIndex - fromIndex) / 2;
+            BattleRangeTask left = new BattleRangeTask(masterSeed, fromIndex, middle);
+            BattleRangeTask right = new BattleRangeTask(masterSeed, middle, toIndex);
+            left.fork();
+            SimulationResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+}
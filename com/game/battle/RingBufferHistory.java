@@ -0,0 +1,64 @@
+package com.game.battle;
+
+import com.game.event.ActionType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * History berukuran tetap yang menyimpan record terakhir
+ *
+ * Record disimpan di kolom array primitif, jadi mencatat command
+ * tidak mengalokasikan object apapun. Counter berupa long supaya slot
+ * tidak negatif setelah lebih dari 2^31 record.
+ */
+class RingBufferHistory implements CommandHistory {
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+    
+    private final int[] turn;
+    private final int[] actorIndex;
+    private final byte[] actionType;
+    private final int[] damage;
+    private final int[] targetHp;
+    private long count;
+    
+    RingBufferHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.turn = new int[capacity];
+        this.actorIndex = new int[capacity];
+        this.actionType = new byte[capacity];
+        this.damage = new int[capacity];
+        this.targetHp = new int[capacity];
+    }
+    
+    @Override
+    public void record(Command command, int actorIndex, int turn) {
+        int slot = (int) (count % this.actorIndex.length);
+        this.turn[slot] = turn;
+        this.actorIndex[slot] = actorIndex;
+        this.actionType[slot] = (byte) (command.getActionType() == null ? -1 : command.getActionType().ordinal());
+        this.damage[slot] = command.getDamageDealt();
+        this.targetHp[slot] = command.getTarget() == null ? 0 : command.getTarget().getHp();
+        count++;
+    }
+    
+    @Override
+    public int size() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public List<CommandRecord> getRecords() {
+        int capacity = actorIndex.length;
+        long first = Math.max(0, count - capacity);
+        List<CommandRecord> records = new ArrayList<>((int) (count - first));
+        for (long sequence = first; sequence < count; sequence++) {
+            int slot = (int) (sequence % capacity);
+            records.add(new CommandRecord((int) sequence, turn[slot], actorIndex[slot],
+                actionType[slot] < 0 ? null : ACTION_TYPES[actionType[slot]],
+                damage[slot], targetHp[slot]));
+        }
+        return records;
+    }
+}
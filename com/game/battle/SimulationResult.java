@@ -0,0 +1,247 @@
+package com.game.battle;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Hasil agregat dari banyak battle headless
+ *
+ * Menyimpan win rate, histogram jumlah turn, distribusi damage per hit
+ * dan jumlah battle yang berakhir karena MAX_TURNS (timeout/draw).
+ * Hanya berisi counter primitif sehingga murah untuk di-update dan di-merge.
+ */
+public final class SimulationResult {
+    public static final int PLAYER_1 = 0;
+    public static final int PLAYER_2 = 1;
+
+    private long battles;
+    private final long[] wins = new long[2];
+    private long timeouts;
+    private long totalTurns;
+    private final long[] turnHistogram = new long[MAX_TURNS + 1];
+    private final long[] hits = new long[2];
+    private final long[] totalDamage = new long[2];
+    private final long[][] hitDamageHistogram = new long[2][];
+
+    public SimulationResult(int maxHitDamage1, int maxHitDamage2) {
+        this.hitDamageHistogram[PLAYER_1] = new long[maxHitDamage1 + 1];
+        this.hitDamageHistogram[PLAYER_2] = new long[maxHitDamage2 + 1];
+    }
+
+    void recordHit(int player, int damage) {
+        hits[player]++;
+        totalDamage[player] += damage;
+        hitDamageHistogram[player][damage]++;
+    }
+
+    void recordBattle(int winner, int turns) {
+        battles++;
+        totalTurns += turns;
+        turnHistogram[turns]++;
+        if (winner < 0) {
+            timeouts++;
+        } else {
+            wins[winner]++;
+        }
+    }
+
+    /**
+     * Gabungkan hasil lain ke hasil ini (mis. dari batch/thread lain)
+     */
+    public SimulationResult merge(SimulationResult other) {
+        if (other.hitDamageHistogram[PLAYER_1].length != hitDamageHistogram[PLAYER_1].length
+                || other.hitDamageHistogram[PLAYER_2].length != hitDamageHistogram[PLAYER_2].length) {
+            throw new IllegalArgumentException("Cannot merge results of different matchups");
+        }
+
+        battles += other.battles;
+        timeouts += other.timeouts;
+        totalTurns += other.totalTurns;
+        addAll(turnHistogram, other.turnHistogram);
+        addAll(wins, other.wins);
+        addAll(hits, other.hits);
+        addAll(totalDamage, other.totalDamage);
+        addAll(hitDamageHistogram[PLAYER_1], other.hitDamageHistogram[PLAYER_1]);
+        addAll(hitDamageHistogram[PLAYER_2], other.hitDamageHistogram[PLAYER_2]);
+        return this;
+    }
+
+    private static void addAll(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    /**
+     * Tulis semua counter dalam format binary (lihat readFrom())
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(battles);
+        out.writeLong(timeouts);
+        out.writeLong(totalTurns);
+        writeAll(out, wins);
+        writeAll(out, hits);
+        writeAll(out, totalDamage);
+        writeAll(out, turnHistogram);
+        writeAll(out, hitDamageHistogram[PLAYER_1]);
+        writeAll(out, hitDamageHistogram[PLAYER_2]);
+    }
+
+    /**
+     * Baca hasil yang ditulis writeTo()
+     *
+     * @throws IOException jika data tidak valid atau ditulis dengan MAX_TURNS berbeda
+     */
+    public static SimulationResult readFrom(DataInput in) throws IOException {
+        long battles = in.readLong();
+        long timeouts = in.readLong();
+        long totalTurns = in.readLong();
+        long[] wins = readAll(in, 2);
+        long[] hits = readAll(in, 2);
+        long[] totalDamage = readAll(in, 2);
+        long[] turnHistogram = readAll(in, -1);
+        if (turnHistogram.length != MAX_TURNS + 1) {
+            throw new IOException("Result was written with MAX_TURNS " + (turnHistogram.length - 1));
+        }
+        long[] histogram1 = readAll(in, -1);
+        long[] histogram2 = readAll(in, -1);
+        if (histogram1.length == 0 || histogram2.length == 0) {
+            throw new IOException("Invalid hit damage histogram");
+        }
+
+        SimulationResult result = new SimulationResult(histogram1.length - 1, histogram2.length - 1);
+        result.battles = battles;
+        result.timeouts = timeouts;
+        result.totalTurns = totalTurns;
+        addAll(result.wins, wins);
+        addAll(result.hits, hits);
+        addAll(result.totalDamage, totalDamage);
+        addAll(result.turnHistogram, turnHistogram);
+        addAll(result.hitDamageHistogram[PLAYER_1], histogram1);
+        addAll(result.hitDamageHistogram[PLAYER_2], histogram2);
+        return result;
+    }
+
+    private static void writeAll(DataOutput out, long[] values) throws IOException {
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    /**
+     * @param expectedLength panjang yang harus dibaca, atau -1 untuk panjang berapapun
+     */
+    private static long[] readAll(DataInput in, int expectedLength) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > 1 << 16 || (expectedLength >= 0 && length != expectedLength)) {
+            throw new IOException("Invalid array length in simulation result: " + length);
+        }
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+
+    public long getBattles() {
+        return battles;
+    }
+
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public double getWinRate(int player) {
+        return battles == 0 ? 0.0 : (double) wins[player] / battles;
+    }
+
+    public double getTimeoutRate() {
+        return battles == 0 ? 0.0 : (double) timeouts / battles;
+    }
+
+    public double getAverageTurns() {
+        return battles == 0 ? 0.0 : (double) totalTurns / battles;
+    }
+
+    /**
+     * Histogram jumlah turn, index = jumlah turn (1..MAX_TURNS)
+     */
+    public long[] getTurnHistogram() {
+        return turnHistogram.clone();
+    }
+
+    public long getHits(int player) {
+        return hits[player];
+    }
+
+    public long getTotalDamage(int player) {
+        return totalDamage[player];
+    }
+
+    public double getAverageHitDamage(int player) {
+        return hits[player] == 0 ? 0.0 : (double) totalDamage[player] / hits[player];
+    }
+
+    /**
+     * Histogram damage per hit, index = besar damage
+     */
+    public long[] getHitDamageHistogram(int player) {
+        return hitDamageHistogram[player].clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SimulationResult)) {
+            return false;
+        }
+        SimulationResult other = (SimulationResult) o;
+        return battles == other.battles
+            && timeouts == other.timeouts
+            && totalTurns == other.totalTurns
+            && Arrays.equals(wins, other.wins)
+            && Arrays.equals(turnHistogram, other.turnHistogram)
+            && Arrays.equals(hits, other.hits)
+            && Arrays.equals(totalDamage, other.totalDamage)
+            && Arrays.deepEquals(hitDamageHistogram, other.hitDamageHistogram);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(battles);
+        result = 31 * result + Arrays.hashCode(wins);
+        result = 31 * result + Arrays.hashCode(turnHistogram);
+        result = 31 * result + Arrays.hashCode(totalDamage);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Battles: %d%n", battles));
+        sb.append(String.format("Player 1 wins: %d (%.2f%%)%n", wins[PLAYER_1], getWinRate(PLAYER_1) * 100));
+        sb.append(String.format("Player 2 wins: %d (%.2f%%)%n", wins[PLAYER_2], getWinRate(PLAYER_2) * 100));
+        sb.append(String.format("Timeouts (MAX_TURNS): %d (%.2f%%)%n", timeouts, getTimeoutRate() * 100));
+        sb.append(String.format("Average turns: %.2f%n", getAverageTurns()));
+        sb.append(String.format("Average hit damage: %.2f / %.2f%n",
+            getAverageHitDamage(PLAYER_1), getAverageHitDamage(PLAYER_2)));
+        sb.append("Turn histogram:");
+        for (int turn = 1; turn < turnHistogram.length; turn++) {
+            if (turnHistogram[turn] > 0) {
+                sb.append(' ').append(turn).append('=').append(turnHistogram[turn]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.game.battle;
+
+/**
+ * Cara combatant memilih target di TeamBattle
+ */
+public enum TargetingStrategy {
+    /**
+     * Musuh dengan HP terendah (tie: index terkecil)
+     */
+    LOWEST_HP,
+    
+    /**
+     * Musuh dengan damage terbesar per hit (tie: index terkecil)
+     */
+    HIGHEST_THREAT,
+    
+    /**
+     * Musuh hidup yang dipilih acak secara uniform
+     */
+    RANDOM
+}
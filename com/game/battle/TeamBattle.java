@@ -0,0 +1,306 @@
+package com.game.battle;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Battle headless dengan banyak team (team vs team, raid, free-for-all)
+ *
+ * State combatant disimpan dalam kolom array primitif. Setiap turn semua
+ * combatant yang masih hidup beraksi sesuai urutan index: pilih target, lalu
+ * attack/skill dengan aturan yang sama seperti BattleSimulator.
+ *
+ * Target dipilih lewat struktur ter-index, bukan scan semua combatant:
+ * - LOWEST_HP / HIGHEST_THREAT: heap per team + segment tree antar team, O(log n)
+ * - RANDOM: bitmap combatant hidup per team, O(n / 64)
+ * Akhir battle dideteksi dari counter combatant hidup per team, O(1).
+ *
+ * Dua combatant di dua team dengan LOWEST_HP menghasilkan battle yang identik
+ * dengan BattleSimulator untuk random stream yang sama.
+ */
+public final class TeamBattle {
+    public static final int DRAW = -1;
+
+    private final CombatProfile[] profiles;
+    private final int[] teamOf;
+    private final TargetingStrategy[] targeting;
+    private final int teamCount;
+
+    private final int[] hp;
+    private final int[] negativeThreat;
+    private final long[] alive;
+    private final long[][] aliveInTeam;
+    private final int[] aliveCount;
+    private final TeamTargetIndex lowestHp;
+    private final TeamTargetIndex highestThreat;
+
+    private int aliveTotal;
+    private int aliveTeams;
+    private int turnNumber;
+    private long actionCount;
+
+    public TeamBattle(List<CombatProfile> combatants, int[] teamOf, TargetingStrategy targeting) {
+        this(combatants, teamOf, filled(combatants.size(), targeting));
+    }
+
+    public TeamBattle(List<CombatProfile> combatants, int[] teamOf, TargetingStrategy[] targeting) {
+        if (combatants == null || teamOf == null || targeting == null) {
+            throw new IllegalArgumentException("Combatants, teams and targeting cannot be null");
+        }
+        int count = combatants.size();
+        if (teamOf.length != count || targeting.length != count) {
+            throw new IllegalArgumentException("Teams and targeting must have one entry per combatant");
+        }
+
+        int maxTeam = -1;
+        for (int i = 0; i < count; i++) {
+            if (teamOf[i] < 0) {
+                throw new IllegalArgumentException("Team index cannot be negative, got: " + teamOf[i]);
+            }
+            if (targeting[i] == null) {
+                throw new IllegalArgumentException("Targeting cannot be null");
+            }
+            maxTeam = Math.max(maxTeam, teamOf[i]);
+        }
+        this.teamCount = maxTeam + 1;
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("Team battle needs at least two teams");
+        }
+
+        this.profiles = combatants.toArray(new CombatProfile[0]);
+        this.teamOf = teamOf.clone();
+        this.targeting = targeting.clone();
+        this.hp = new int[count];
+        this.negativeThreat = new int[count];
+        this.alive = new long[words(count)];
+        this.aliveInTeam = new long[teamCount][words(count)];
+        this.aliveCount = new int[teamCount];
+
+        int[] teamSizes = new int[teamCount];
+        boolean usesLowestHp = false;
+        boolean usesThreat = false;
+        for (int i = 0; i < count; i++) {
+            teamSizes[teamOf[i]]++;
+            negativeThreat[i] = -profiles[i].getMaxHitDamage();
+            usesLowestHp |= targeting[i] == TargetingStrategy.LOWEST_HP;
+            usesThreat |= targeting[i] == TargetingStrategy.HIGHEST_THREAT;
+        }
+        for (int team = 0; team < teamCount; team++) {
+            if (teamSizes[team] == 0) {
+                throw new IllegalArgumentException("Team " + team + " has no combatants");
+            }
+        }
+
+        // Index hanya dipelihara jika ada combatant yang memakainya
+        this.lowestHp = usesLowestHp ? new TeamTargetIndex(hp, this.teamOf, teamSizes) : null;
+        this.highestThreat = usesThreat ? new TeamTargetIndex(negativeThreat, this.teamOf, teamSizes) : null;
+        reset();
+    }
+
+    /**
+     * Free-for-all: setiap combatant adalah team sendiri
+     */
+    public static TeamBattle freeForAll(List<CombatProfile> combatants, TargetingStrategy targeting) {
+        int[] teams = new int[combatants.size()];
+        for (int i = 0; i < teams.length; i++) {
+            teams[i] = i;
+        }
+        return new TeamBattle(combatants, teams, targeting);
+    }
+
+    private static TargetingStrategy[] filled(int count, TargetingStrategy targeting) {
+        TargetingStrategy[] strategies = new TargetingStrategy[count];
+        Arrays.fill(strategies, targeting);
+        return strategies;
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Kembalikan semua combatant ke HP penuh tanpa alokasi baru
+     */
+    public void reset() {
+        Arrays.fill(alive, 0L);
+        for (long[] teamBits : aliveInTeam) {
+            Arrays.fill(teamBits, 0L);
+        }
+        Arrays.fill(aliveCount, 0);
+        if (lowestHp != null) {
+            lowestHp.clear();
+        }
+        if (highestThreat != null) {
+            highestThreat.clear();
+        }
+
+        for (int i = 0; i < profiles.length; i++) {
+            hp[i] = profiles[i].getMaxHp();
+            alive[i >>> 6] |= 1L << i;
+            aliveInTeam[teamOf[i]][i >>> 6] |= 1L << i;
+            aliveCount[teamOf[i]]++;
+            if (lowestHp != null) {
+                lowestHp.add(i);
+            }
+            if (highestThreat != null) {
+                highestThreat.add(i);
+            }
+        }
+        aliveTotal = profiles.length;
+        aliveTeams = teamCount;
+        turnNumber = 0;
+        actionCount = 0;
+    }
+
+    /**
+     * Jalankan battle sampai selesai atau MAX_TURNS
+     *
+     * @return index team pemenang, atau DRAW
+     */
+    public int run(RandomGenerator random) {
+        return run(random, MAX_TURNS);
+    }
+
+    /**
+     * Jalankan battle dengan batas turn sendiri; free-for-all dengan ratusan
+     * combatant biasanya butuh lebih dari MAX_TURNS untuk selesai
+     */
+    public int run(RandomGenerator random, int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turns must be positive, got: " + maxTurns);
+        }
+        while (isBattleOngoing() && turnNumber < maxTurns) {
+            stepTurn(random);
+        }
+        return getWinningTeam();
+    }
+
+    /**
+     * Satu turn: setiap combatant hidup beraksi sekali sesuai urutan index
+     */
+    public void stepTurn(RandomGenerator random) {
+        turnNumber++;
+        for (int attacker = 0; attacker < profiles.length && aliveTeams > 1; attacker++) {
+            if (hp[attacker] > 0) {
+                act(attacker, random);
+            }
+        }
+    }
+
+    private void act(int attacker, RandomGenerator random) {
+        int target = selectTarget(attacker, random);
+        int damage = BattleSimulator.rollDamage(profiles[attacker], random);
+        actionCount++;
+
+        int remaining = Math.max(0, hp[target] - damage);
+        hp[target] = remaining;
+        if (remaining == 0) {
+            kill(target);
+        } else if (lowestHp != null && damage > 0) {
+            lowestHp.decreased(target);
+        }
+    }
+
+    private int selectTarget(int attacker, RandomGenerator random) {
+        int team = teamOf[attacker];
+        return switch (targeting[attacker]) {
+            case LOWEST_HP -> lowestHp.bestExcluding(team);
+            case HIGHEST_THREAT -> highestThreat.bestExcluding(team);
+            case RANDOM -> randomEnemy(team, random.nextInt(aliveTotal - aliveCount[team]));
+        };
+    }
+
+    /**
+     * Musuh hidup ke-n (urut index) dari bitmap alive tanpa anggota team sendiri
+     */
+    private int randomEnemy(int team, int n) {
+        long[] own = aliveInTeam[team];
+        for (int word = 0; word < alive.length; word++) {
+            long enemies = alive[word] & ~own[word];
+            int count = Long.bitCount(enemies);
+            if (n < count) {
+                for (int skip = 0; skip < n; skip++) {
+                    enemies &= enemies - 1;
+                }
+                return (word << 6) + Long.numberOfTrailingZeros(enemies);
+            }
+            n -= count;
+        }
+        throw new IllegalStateException("No alive enemy for team " + team);
+    }
+
+    private void kill(int combatant) {
+        int team = teamOf[combatant];
+        long bit = ~(1L << combatant);
+        alive[combatant >>> 6] &= bit;
+        aliveInTeam[team][combatant >>> 6] &= bit;
+        aliveTotal--;
+        if (--aliveCount[team] == 0) {
+            aliveTeams--;
+        }
+        if (lowestHp != null) {
+            lowestHp.remove(combatant);
+        }
+        if (highestThreat != null) {
+            highestThreat.remove(combatant);
+        }
+    }
+
+    public boolean isBattleOngoing() {
+        return aliveTeams > 1;
+    }
+
+    /**
+     * Team yang masih tersisa setelah battle selesai, atau DRAW
+     * (battle masih berjalan atau berhenti karena MAX_TURNS)
+     */
+    public int getWinningTeam() {
+        if (aliveTeams != 1) {
+            return DRAW;
+        }
+        for (int team = 0; team < teamCount; team++) {
+            if (aliveCount[team] > 0) {
+                return team;
+            }
+        }
+        return DRAW;
+    }
+
+    public int getCombatantCount() {
+        return profiles.length;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getTeam(int combatant) {
+        return teamOf[combatant];
+    }
+
+    public int getHp(int combatant) {
+        return hp[combatant];
+    }
+
+    public boolean isAlive(int combatant) {
+        return hp[combatant] > 0;
+    }
+
+    public int getAliveCount(int team) {
+        return aliveCount[team];
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    /**
+     * Jumlah aksi sejak reset()
+     */
+    public long getActionCount() {
+        return actionCount;
+    }
+}
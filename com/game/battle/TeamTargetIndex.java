@@ -0,0 +1,106 @@
+package com.game.battle;
+
+import java.util.Arrays;
+
+/**
+ * Index target terbaik per team untuk satu kriteria (mis. HP terendah)
+ *
+ * Setiap team punya IndexedMinHeap; di atasnya ada segment tree kecil berisi
+ * combatant terbaik setiap team. Target terbaik "selain team sendiri" adalah
+ * gabungan query prefix dan suffix di segment tree: O(log teams), baik untuk
+ * 2 team (raid) maupun ratusan team berisi satu combatant (free-for-all).
+ */
+final class TeamTargetIndex {
+    private final int[] keys;
+    private final int[] teamOf;
+    private final IndexedMinHeap[] teamHeaps;
+    private final int leaves;
+    private final int[] tree;
+
+    TeamTargetIndex(int[] keys, int[] teamOf, int[] teamSizes) {
+        this.keys = keys;
+        this.teamOf = teamOf;
+        this.teamHeaps = new IndexedMinHeap[teamSizes.length];
+        for (int team = 0; team < teamSizes.length; team++) {
+            teamHeaps[team] = new IndexedMinHeap(keys, teamSizes[team]);
+        }
+        int leafCount = 1;
+        while (leafCount < teamSizes.length) {
+            leafCount <<= 1;
+        }
+        this.leaves = leafCount;
+        this.tree = new int[2 * leafCount];
+        Arrays.fill(tree, -1);
+    }
+
+    void add(int combatant) {
+        int team = teamOf[combatant];
+        teamHeaps[team].add(combatant);
+        refresh(team);
+    }
+
+    void remove(int combatant) {
+        int team = teamOf[combatant];
+        teamHeaps[team].remove(combatant);
+        refresh(team);
+    }
+
+    /**
+     * Key combatant turun (HP berkurang)
+     */
+    void decreased(int combatant) {
+        int team = teamOf[combatant];
+        teamHeaps[team].decreased(combatant);
+        if (teamHeaps[team].peek() == combatant) {
+            refresh(team);
+        }
+    }
+
+    void clear() {
+        for (IndexedMinHeap heap : teamHeaps) {
+            heap.clear();
+        }
+        Arrays.fill(tree, -1);
+    }
+
+    /**
+     * Combatant terbaik dari semua team kecuali team yang diberikan, atau -1
+     */
+    int bestExcluding(int team) {
+        return better(query(0, team), query(team + 1, teamHeaps.length));
+    }
+
+    private void refresh(int team) {
+        int node = leaves + team;
+        tree[node] = teamHeaps[team].peek();
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Terbaik di team [from, to)
+     */
+    private int query(int from, int to) {
+        int best = -1;
+        for (int left = from + leaves, right = to + leaves; left < right; left >>>= 1, right >>>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b) ? a : b;
+    }
+}
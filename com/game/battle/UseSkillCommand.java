@@ -1,6 +1,12 @@
 package com.game.battle;
 
 import com.game.character.Character;
+import com.game.effect.EffectScheduler;
+import com.game.event.ActionType;
+import com.game.event.BattleEvents;
+import com.game.event.CommandExecutedEvent;
+import com.game.event.DamageDealtEvent;
+import com.game.skill.DamageContext;
 import com.game.skill.Skill;
 
 /**
@@ -9,28 +15,120 @@ import com.game.skill.Skill;
  * 
  * UseSkillCommand mengenkapsulasi action penggunaan skill.
  * Command ini menerima skill yang sudah bisa didekorasi dengan Decorator Pattern.
+ * 
+ * Skill selalu di-resolve lewat DamageContext milik battle (damage sama dengan
+ * execute(random) dengan random context) supaya critical hit ikut tercatat dan
+ * battle bisa di-reproduce dari seed; context dipakai ulang oleh semua command
+ * battle, jadi execute() tidak mengalokasikan context.
+ * Dengan EffectScheduler, bonus ATTACK_BUFF attacker ditambahkan, shield target
+ * menyerap damage, lalu status effect dari StatusEffectDecorator diterapkan.
  */
 public class UseSkillCommand implements Command {
     private Character attacker;
     private Character target;
     private Skill skill;
+    private DamageContext context;
+    private EffectScheduler effects;
+    private int damageDealt;
+    private boolean lethal;
+    private boolean critical;
+    
+    /**
+     * Command untuk skill pipeline bersama (mis. dari SkillCache);
+     * critical roll memakai random context, context dipakai ulang oleh command battle berikutnya
+     * 
+     * @param context context milik battle (satu per battle/thread), sudah punya random
+     */
+    public UseSkillCommand(Character attacker, Character target, Skill skill, DamageContext context) {
+        this(attacker, target, skill, context, null);
+    }
     
-    public UseSkillCommand(Character attacker, Character target, Skill skill) {
+    /**
+     * Command untuk battle dengan status effect (lihat BattleManager.enableStatusEffects())
+     */
+    public UseSkillCommand(Character attacker, Character target, Skill skill, DamageContext context,
+                           EffectScheduler effects) {
+        if (context == null) {
+            throw new IllegalArgumentException("Damage context cannot be null");
+        }
+        if (context.getRandom() == null) {
+            throw new IllegalArgumentException("Damage context must be prepared with a random");
+        }
         this.attacker = attacker;
         this.target = target;
         this.skill = skill;
+        this.context = context;
+        this.effects = effects;
+    }
+    
+    @Override
+    public Character getAttacker() {
+        return attacker;
+    }
+    
+    @Override
+    public Character getTarget() {
+        return target;
+    }
+    
+    @Override
+    public ActionType getActionType() {
+        return ActionType.SKILL;
+    }
+    
+    @Override
+    public Skill getSkill() {
+        return skill;
+    }
+    
+    @Override
+    public int getDamageDealt() {
+        return damageDealt;
+    }
+    
+    @Override
+    public boolean isLethal() {
+        return lethal;
+    }
+    
+    @Override
+    public boolean isCritical() {
+        return critical;
     }
     
     @Override
     public void execute() {
-        System.out.println("\n[COMMAND] Executing: " + attacker.getName() + " uses skill on " + target.getName());
-        System.out.println("  → Skill: " + skill.getDescription());
+        execute(LethalHitListener.IGNORE);
+    }
+    
+    @Override
+    public void execute(LethalHitListener listener) {
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new CommandExecutedEvent(
+                ActionType.SKILL, attacker.getName(), target.getName(), skill.getDescription()));
+        }
+        
+        int damage = context.prepare(context.getRandom(), attacker, target).resolve(skill);
+        critical = context.isCritical();
+        if (effects != null) {
+            damage = effects.absorb(target, damage + effects.getAttackBonus(attacker));
+        }
         
-        int damage = skill.execute();
+        lethal = target.applyDamage(damage);
+        damageDealt = damage;
+        if (lethal) {
+            listener.onLethalHit(attacker, target);
+        }
         
-        target.takeDamage(damage);
+        if (effects != null) {
+            for (int i = 0; i < context.getEffectCount(); i++) {
+                effects.apply(context.getEffect(i), attacker, target);
+            }
+        }
         
-        System.out.println("  → Total damage dealt: " + damage);
-        System.out.println("  → " + target.getName() + " HP: " + target.getHp() + "/" + target.getMaxHp());
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new DamageDealtEvent(ActionType.SKILL, skill.getDescription(),
+                attacker.getName(), target.getName(), damage, target.getHp(), target.getMaxHp()));
+        }
     }
 }
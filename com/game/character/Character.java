@@ -1,14 +1,35 @@
 package com.game.character;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 /**
  * Abstract class untuk Character
  * Peran: Product dalam Factory Method Pattern
+ * 
+ * HP aman diubah dari banyak thread sekaligus: HP dan version disimpan
+ * dalam satu long dan di-update lewat CAS (tanpa lock), sehingga tidak ada
+ * damage yang hilang dan pembaca selalu melihat pasangan HP/version yang konsisten.
  */
 public abstract class Character {
-    protected String name;
-    protected int hp;
-    protected int maxHp;
-    protected int attackPower;
+    private static final VarHandle STATE;
+    
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Character.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    protected final String name;
+    protected final int maxHp;
+    protected final int attackPower;
+    
+    /**
+     * version (32 bit atas) | hp (32 bit bawah)
+     */
+    private volatile long state;
     
     public Character(String name, int hp, int attackPower) {
         validateName(name);
@@ -16,9 +37,9 @@ public abstract class Character {
         validateAttackPower(attackPower);
         
         this.name = name;
-        this.hp = hp;
         this.maxHp = hp;
         this.attackPower = attackPower;
+        this.state = pack(0, hp);
     }
     
     private void validateName(String name) {
@@ -44,7 +65,7 @@ public abstract class Character {
     }
     
     public int getHp() {
-        return hp;
+        return hpOf(state);
     }
     
     public int getMaxHp() {
@@ -56,11 +77,75 @@ public abstract class Character {
     }
     
     public void takeDamage(int damage) {
-        this.hp = Math.max(0, this.hp - damage);
+        applyDamage(damage);
+    }
+    
+    /**
+     * Kurangi HP secara atomik
+     * 
+     * Character yang sudah mati tidak berubah lagi (version juga tidak naik),
+     * sehingga dari semua hit yang datang bersamaan tepat satu yang lethal.
+     * 
+     * @return true hanya untuk hit yang membuat HP menjadi 0
+     */
+    public boolean applyDamage(int damage) {
+        if (damage < 0) {
+            throw new IllegalArgumentException("Damage cannot be negative, got: " + damage);
+        }
+        long current = state;
+        while (true) {
+            int hp = hpOf(current);
+            if (hp == 0) {
+                return false;
+            }
+            int newHp = Math.max(0, hp - damage);
+            long updated = pack(versionOf(current) + 1, newHp);
+            long witness = (long) STATE.compareAndExchange(this, current, updated);
+            if (witness == current) {
+                return newHp == 0;
+            }
+            current = witness;
+        }
     }
     
     public boolean isAlive() {
-        return hp > 0;
+        return hpOf(state) > 0;
+    }
+    
+    /**
+     * HP dan version yang dibaca bersamaan dalam satu volatile read
+     */
+    public CharacterSnapshot snapshot() {
+        long current = state;
+        return new CharacterSnapshot(hpOf(current), maxHp, versionOf(current));
+    }
+    
+    /**
+     * Kembalikan HP dan version dari checkpoint
+     * 
+     * Hanya untuk character hasil restore yang belum dipakai di battle.
+     */
+    public void restore(CharacterSnapshot snapshot) {
+        if (snapshot.maxHp() != maxHp) {
+            throw new IllegalArgumentException("Snapshot max HP " + snapshot.maxHp()
+                + " does not match character max HP " + maxHp);
+        }
+        if (snapshot.hp() < 0 || snapshot.hp() > maxHp) {
+            throw new IllegalArgumentException("HP must be between 0 and " + maxHp + ", got: " + snapshot.hp());
+        }
+        state = pack(snapshot.version(), snapshot.hp());
+    }
+    
+    private static long pack(int version, int hp) {
+        return ((long) version << 32) | (hp & 0xFFFFFFFFL);
+    }
+    
+    private static int hpOf(long state) {
+        return (int) state;
+    }
+    
+    private static int versionOf(long state) {
+        return (int) (state >>> 32);
     }
     
     public abstract CharacterType getCharacterType();
@@ -68,6 +153,6 @@ public abstract class Character {
     @Override
     public String toString() {
         return String.format("%s (%s) - HP: %d/%d, Attack: %d", 
-            name, getCharacterType().getDisplayName(), hp, maxHp, attackPower);
+            name, getCharacterType().getDisplayName(), getHp(), maxHp, attackPower);
     }
 }
@@ -1,5 +1,8 @@
 package com.game.character;
 
+import com.game.event.BattleEvents;
+import com.game.event.CharacterCreatedEvent;
+
 /**
  * DESIGN PATTERN: Factory Method (Creational)
  * Peran: Creator (abstract class)
@@ -15,7 +18,10 @@ public abstract class CharacterCreator {
     
     public Character orderCharacter(String name) {
         Character character = createCharacter(name);
-        System.out.println("[FACTORY] Character created: " + character.toString());
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new CharacterCreatedEvent(character.getName(), character.getCharacterType(),
+                character.getHp(), character.getMaxHp(), character.getAttackPower()));
+        }
         return character;
     }
 }
@@ -0,0 +1,22 @@
+package com.game.character;
+
+/**
+ * Potret state character pada satu titik waktu
+ * 
+ * Version (32 bit) naik setiap kali HP berubah, sehingga pembaca bisa mendeteksi
+ * apakah character sudah berubah sejak snapshot sebelumnya.
+ */
+public record CharacterSnapshot(int hp, int maxHp, int version) {
+    
+    public boolean isAlive() {
+        return hp > 0;
+    }
+    
+    /**
+     * Cek apakah snapshot ini lebih baru dari snapshot lain milik character yang sama
+     * (aman terhadap version yang wrap-around)
+     */
+    public boolean isNewerThan(CharacterSnapshot other) {
+        return version - other.version > 0;
+    }
+}
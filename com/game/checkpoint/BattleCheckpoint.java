@@ -0,0 +1,486 @@
+package com.game.checkpoint;
+
+import com.game.GameRandom;
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.battle.Command;
+import com.game.battle.CommandHistory;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.character.CharacterSnapshot;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.effect.EffectScheduler;
+import com.game.event.ActionType;
+import com.game.registry.ArchetypeCharacter;
+import com.game.registry.GameRegistry;
+import com.game.skill.DamageContext;
+import com.game.skill.SkillCache;
+import com.game.spectator.SpectatorFeed;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.game.checkpoint.CheckpointFormat.*;
+
+/**
+ * Checkpoint banyak battle yang sedang berjalan ke satu file memory-mapped
+ * (lihat CheckpointFormat)
+ *
+ * Setiap battle menempati satu slot berukuran tetap. checkpoint() hanya
+ * menulis battle yang berubah sejak checkpoint terakhir (turn, jumlah command,
+ * pending command, version HP atau random state), dan penulisan hanyalah
+ * copy ke page cache tanpa system call, jadi ratusan ribu battle bisa
+ * di-checkpoint dalam hitungan milidetik tanpa menghentikan battle lain.
+ * Jika proses mati, isi page cache tetap ditulis OS ke file; force() hanya
+ * diperlukan untuk bertahan dari crash OS/mesin.
+ *
+ * Restore mengembalikan HP, version, turn, total command, pemenang, random
+ * state dan pending command, sehingga battle berlanjut bit-exact. Pending
+ * command dibuat ulang dengan skill dari SkillCache dan random stream battle
+ * (seperti Main dan Match). Character yang didukung: Warrior, Mage dan
+ * character dari archetype registry.
+ *
+ * Status effect dan spectator feed yang aktif ikut di-restore sebagai flag:
+ * scheduler diaktifkan lagi (battle dengan effect yang masih berjalan ditolak,
+ * karena timer effect tidak disimpan) dan feed dibuat ulang dengan capacity dan
+ * keyframe interval yang sama, mulai dari keyframe state hasil restore;
+ * spectator harus subscribe ulang. History command hanya bisa dilanjutkan untuk
+ * CommandHistory.countOnly(); policy lain ditolak, karena record-nya tidak
+ * ada di checkpoint.
+ *
+ * Slot yang berbeda boleh di-checkpoint dari thread berbeda; satu battle
+ * sebaiknya di-checkpoint oleh thread pemiliknya di antara turn, supaya
+ * snapshot-nya konsisten.
+ */
+public class BattleCheckpoint implements AutoCloseable {
+    private static final int STAMP_WORDS = 5;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotCount;
+    private final long[] sequences;
+    private final long[] stamps;
+    private final boolean[] stamped;
+    private final List<WeakReference<Character>> writtenIdentity;
+
+    private BattleCheckpoint(Path file, FileChannel channel, MappedByteBuffer buffer, int slotCount) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slotCount = slotCount;
+        this.sequences = new long[slotCount];
+        this.stamps = new long[slotCount * STAMP_WORDS];
+        this.stamped = new boolean[slotCount];
+        this.writtenIdentity = new ArrayList<>(Collections.nCopies(slotCount * 4, null));
+        for (int slot = 0; slot < slotCount; slot++) {
+            sequences[slot] = Math.max(validSequence(copyOffset(slot, 0)), validSequence(copyOffset(slot, 1)));
+        }
+    }
+
+    /**
+     * Buat file checkpoint baru dengan slotCount slot kosong (file lama ditimpa)
+     */
+    public static BattleCheckpoint create(Path file, int slotCount) throws IOException {
+        if (slotCount <= 0 || slotCount > (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE) {
+            throw new IllegalArgumentException("Slot count out of range, got: " + slotCount);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            long size = HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(OFFSET_SLOT_COUNT, slotCount);
+            return new BattleCheckpoint(file, channel, buffer, slotCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Buka file checkpoint yang sudah ada (mis. setelah proses sebelumnya mati)
+     */
+    public static BattleCheckpoint open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a battle checkpoint: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a battle checkpoint: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported battle checkpoint version " + buffer.getInt(4) + ": " + file);
+            }
+            int slotCount = buffer.getInt(OFFSET_SLOT_COUNT);
+            if (slotCount <= 0 || channel.size() < HEADER_SIZE + (long) slotCount * SLOT_SIZE) {
+                throw new IOException("Truncated battle checkpoint: " + file);
+            }
+            return new BattleCheckpoint(file, channel, buffer, slotCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static int copyOffset(int slot, int copy) {
+        return HEADER_SIZE + slot * SLOT_SIZE + copy * COPY_SIZE;
+    }
+
+    /**
+     * Sequence copy, atau 0 jika copy kosong atau tidak selesai ditulis
+     */
+    private long validSequence(int offset) {
+        long sequence = buffer.getLong(offset + OFFSET_SEQUENCE);
+        return (sequence & 1) == 0 ? sequence : 0;
+    }
+
+    /**
+     * Copy dengan state terbaru, atau -1 jika slot kosong
+     */
+    private int latestCopyOffset(int slot) {
+        int first = copyOffset(slot, 0);
+        int second = copyOffset(slot, 1);
+        long firstSequence = validSequence(first);
+        long secondSequence = validSequence(second);
+        if (firstSequence == 0 && secondSequence == 0) {
+            return -1;
+        }
+        int latest = firstSequence > secondSequence ? first : second;
+        return (buffer.get(latest + OFFSET_FLAGS) & FLAG_FREE) != 0 ? -1 : latest;
+    }
+
+    /**
+     * Tulis state battle ke slot jika berubah sejak checkpoint terakhir
+     *
+     * @return true jika slot ditulis
+     */
+    public boolean checkpoint(int slot, BattleManager battleManager, GameRandom random) {
+        checkSlot(slot);
+        if (battleManager == null || random == null) {
+            throw new IllegalArgumentException("Battle manager and random cannot be null");
+        }
+        EffectScheduler effects = battleManager.getStatusEffects();
+        if (effects != null && effects.getActiveCount() > 0) {
+            throw new IllegalArgumentException("Cannot checkpoint battle with active status effects");
+        }
+        CommandHistory history = battleManager.getCommandHistory();
+        if (!history.isCountOnly()) {
+            throw new IllegalArgumentException("Cannot checkpoint battle with " + history.getClass().getSimpleName()
+                + "; only count-only command history can be restored");
+        }
+        SpectatorFeed feed = battleManager.getSpectatorFeed();
+        int flags = (effects != null ? FLAG_STATUS_EFFECTS : 0) | (feed != null ? FLAG_SPECTATOR_FEED : 0);
+        Character player1 = battleManager.getPlayer1();
+        Character player2 = battleManager.getPlayer2();
+        CharacterSnapshot snapshot1 = player1.snapshot();
+        CharacterSnapshot snapshot2 = player2.snapshot();
+        List<Command> pending = battleManager.getPendingCommands();
+        if (pending.size() > MAX_PENDING) {
+            throw new IllegalStateException("Cannot checkpoint more than " + MAX_PENDING
+                + " pending commands, got: " + pending.size());
+        }
+
+        long randomState = random.getState();
+        long progress = ((long) battleManager.getTurnNumber() << 32)
+            | (battleManager.getTotalCommands() & 0xFFFFFFFFL);
+        long state1 = stateOf(snapshot1);
+        long state2 = stateOf(snapshot2);
+        int stamp = slot * STAMP_WORDS;
+        if (stamped[slot] && stamps[stamp] == randomState && stamps[stamp + 1] == progress
+                && stamps[stamp + 2] == state1 && stamps[stamp + 3] == state2
+                && stamps[stamp + 4] == (pending.size() | flags << 8)) {
+            return false;
+        }
+
+        int offset = beginWrite(slot);
+        buffer.putLong(offset + OFFSET_RANDOM_STATE, randomState);
+        buffer.putInt(offset + OFFSET_TURN, battleManager.getTurnNumber());
+        buffer.putInt(offset + OFFSET_TOTAL_COMMANDS, battleManager.getTotalCommands());
+        buffer.put(offset + OFFSET_WINNER, (byte) winnerIndexOf(battleManager));
+        buffer.put(offset + OFFSET_PENDING_COUNT, (byte) pending.size());
+        buffer.put(offset + OFFSET_FLAGS, (byte) flags);
+        buffer.put(offset + OFFSET_SPECTATOR_CAPACITY_SHIFT,
+            (byte) (feed != null ? Integer.numberOfTrailingZeros(feed.getCapacity()) : 0));
+        buffer.putInt(offset + OFFSET_SPECTATOR_KEYFRAME_INTERVAL, feed != null ? feed.getKeyframeInterval() : 0);
+        int identity = slot * 4 + (offset - copyOffset(slot, 0)) / COPY_SIZE * 2;
+        writePlayer(offset + OFFSET_PLAYER_1, player1, snapshot1, identity);
+        writePlayer(offset + OFFSET_PLAYER_2, player2, snapshot2, identity + 1);
+        for (int i = 0; i < pending.size(); i++) {
+            writePending(offset + OFFSET_PENDING + i * PENDING_SIZE, pending.get(i), player1, player2);
+        }
+        endWrite(slot, offset);
+
+        stamps[stamp] = randomState;
+        stamps[stamp + 1] = progress;
+        stamps[stamp + 2] = state1;
+        stamps[stamp + 3] = state2;
+        stamps[stamp + 4] = pending.size() | flags << 8;
+        stamped[slot] = true;
+        return true;
+    }
+
+    /**
+     * Kosongkan slot (mis. battle sudah selesai) supaya tidak ikut di-restore
+     */
+    public void remove(int slot) {
+        checkSlot(slot);
+        if (latestCopyOffset(slot) < 0) {
+            return;
+        }
+        int offset = beginWrite(slot);
+        buffer.put(offset + OFFSET_FLAGS, (byte) FLAG_FREE);
+        endWrite(slot, offset);
+        stamped[slot] = false;
+        for (int identity = slot * 4; identity < slot * 4 + 4; identity++) {
+            writtenIdentity.set(identity, null);
+        }
+    }
+
+    /**
+     * Tandai copy tujuan sebagai sedang ditulis (sequence ganjil)
+     */
+    private int beginWrite(int slot) {
+        long sequence = sequences[slot] + 2;
+        int offset = copyOffset(slot, (int) (sequence >>> 1) & 1);
+        buffer.putLong(offset + OFFSET_SEQUENCE, sequence - 1);
+        VarHandle.storeStoreFence();
+        return offset;
+    }
+
+    /**
+     * Publish copy: sequence genap ditulis terakhir
+     */
+    private void endWrite(int slot, int offset) {
+        long sequence = sequences[slot] + 2;
+        VarHandle.storeStoreFence();
+        buffer.putLong(offset + OFFSET_SEQUENCE, sequence);
+        sequences[slot] = sequence;
+    }
+
+    private static long stateOf(CharacterSnapshot snapshot) {
+        return ((long) snapshot.version() << 32) | (snapshot.hp() & 0xFFFFFFFFL);
+    }
+
+    private static int winnerIndexOf(BattleManager battleManager) {
+        if (battleManager.isBattleOngoing()) {
+            return -1;
+        }
+        Character winner = battleManager.getWinner();
+        if (winner == battleManager.getPlayer1()) {
+            return 0;
+        } else if (winner == battleManager.getPlayer2()) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Tulis HP/version player; identitas (nama, tipe, stat) hanya ditulis
+     * jika copy ini belum berisi character yang sama. Reference-nya weak,
+     * jadi battle yang sudah selesai tidak ditahan oleh checkpoint.
+     */
+    private void writePlayer(int offset, Character character, CharacterSnapshot snapshot, int identity) {
+        buffer.putInt(offset + PLAYER_HP, snapshot.hp());
+        buffer.putInt(offset + PLAYER_VERSION, snapshot.version());
+        WeakReference<Character> written = writtenIdentity.get(identity);
+        if (written == null || written.get() != character) {
+            writeIdentity(offset, character);
+            writtenIdentity.set(identity, new WeakReference<>(character));
+        }
+    }
+
+    private void writeIdentity(int offset, Character character) {
+        byte kind;
+        byte[] key = null;
+        if (character instanceof ArchetypeCharacter archetypeCharacter) {
+            kind = KIND_ARCHETYPE;
+            key = archetypeCharacter.getArchetype().key().getBytes(StandardCharsets.UTF_8);
+        } else if (character.getClass() == Warrior.class) {
+            kind = KIND_WARRIOR;
+        } else if (character.getClass() == Mage.class) {
+            kind = KIND_MAGE;
+        } else {
+            throw new IllegalArgumentException("Cannot checkpoint character of type " + character.getClass().getName());
+        }
+        byte[] name = character.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Character name too long for checkpoint: " + character.getName());
+        }
+        if (key != null && key.length > MAX_KEY_BYTES) {
+            throw new IllegalArgumentException("Archetype key too long for checkpoint: "
+                + new String(key, StandardCharsets.UTF_8));
+        }
+
+        buffer.put(offset + PLAYER_KIND, kind);
+        buffer.put(offset + PLAYER_NAME_LENGTH, (byte) name.length);
+        buffer.put(offset + PLAYER_KEY_LENGTH, (byte) (key == null ? 0 : key.length));
+        buffer.putInt(offset + PLAYER_MAX_HP, character.getMaxHp());
+        buffer.putInt(offset + PLAYER_ATTACK, character.getAttackPower());
+        buffer.put(offset + PLAYER_NAME, name);
+        if (key != null) {
+            buffer.put(offset + PLAYER_KEY, key);
+        }
+    }
+
+    private void writePending(int offset, Command command, Character player1, Character player2) {
+        ActionType actionType = command.getActionType();
+        int attacker = indexOf(command.getAttacker(), player1, player2);
+        int target = indexOf(command.getTarget(), player1, player2);
+        if (actionType == null || attacker < 0 || target < 0) {
+            throw new IllegalArgumentException("Cannot checkpoint pending command " + command.getClass().getName());
+        }
+        buffer.put(offset, (byte) actionType.ordinal());
+        buffer.put(offset + 1, (byte) attacker);
+        buffer.put(offset + 2, (byte) target);
+    }
+
+    private static int indexOf(Character character, Character player1, Character player2) {
+        if (character == player1) {
+            return 0;
+        } else if (character == player2) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Restore battle di slot, atau null jika slot kosong
+     *
+     * @param registry   registry untuk character archetype (harus berisi archetype dengan stat yang sama)
+     * @param skillCache sumber skill untuk pending command
+     */
+    public RestoredBattle restore(int slot, GameRegistry registry, SkillCache skillCache) {
+        checkSlot(slot);
+        if (registry == null || skillCache == null) {
+            throw new IllegalArgumentException("Registry and skill cache cannot be null");
+        }
+        int offset = latestCopyOffset(slot);
+        if (offset < 0) {
+            return null;
+        }
+
+        Character player1 = readPlayer(offset + OFFSET_PLAYER_1, registry);
+        Character player2 = readPlayer(offset + OFFSET_PLAYER_2, registry);
+        GameRandom random = new GameRandom(0L);
+        random.setState(buffer.getLong(offset + OFFSET_RANDOM_STATE));
+        BattleManager battleManager = BattleManager.resume(player1, player2,
+            buffer.getInt(offset + OFFSET_TURN), buffer.getInt(offset + OFFSET_TOTAL_COMMANDS),
+            buffer.get(offset + OFFSET_WINNER));
+
+        int flags = buffer.get(offset + OFFSET_FLAGS);
+        EffectScheduler effects = (flags & FLAG_STATUS_EFFECTS) != 0 ? battleManager.enableStatusEffects() : null;
+        if ((flags & FLAG_SPECTATOR_FEED) != 0) {
+            battleManager.enableSpectatorFeed(1 << buffer.get(offset + OFFSET_SPECTATOR_CAPACITY_SHIFT),
+                buffer.getInt(offset + OFFSET_SPECTATOR_KEYFRAME_INTERVAL));
+        }
+
+        int pendingCount = buffer.get(offset + OFFSET_PENDING_COUNT);
+        DamageContext damageContext = new DamageContext(random);
+        ActionType[] actionTypes = ActionType.values();
+        for (int i = 0; i < pendingCount; i++) {
+            int pendingOffset = offset + OFFSET_PENDING + i * PENDING_SIZE;
+            Character attacker = buffer.get(pendingOffset + 1) == 0 ? player1 : player2;
+            Character target = buffer.get(pendingOffset + 2) == 0 ? player1 : player2;
+            ActionType actionType = actionTypes[buffer.get(pendingOffset)];
+            battleManager.collect(actionType == ActionType.SKILL
+                ? new UseSkillCommand(attacker, target, skillCache.getDecoratedSkill(attacker), damageContext, effects)
+                : new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker)));
+        }
+        return new RestoredBattle(slot, battleManager, random);
+    }
+
+    /**
+     * Restore semua slot yang berisi battle, urut berdasarkan slot
+     */
+    public List<RestoredBattle> restoreAll(GameRegistry registry, SkillCache skillCache) {
+        List<RestoredBattle> battles = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            RestoredBattle battle = restore(slot, registry, skillCache);
+            if (battle != null) {
+                battles.add(battle);
+            }
+        }
+        return battles;
+    }
+
+    private Character readPlayer(int offset, GameRegistry registry) {
+        String name = readString(offset + PLAYER_NAME, buffer.get(offset + PLAYER_NAME_LENGTH));
+        int maxHp = buffer.getInt(offset + PLAYER_MAX_HP);
+        int attackPower = buffer.getInt(offset + PLAYER_ATTACK);
+
+        Character character = switch (buffer.get(offset + PLAYER_KIND)) {
+            case KIND_WARRIOR -> new Warrior(name);
+            case KIND_MAGE -> new Mage(name);
+            case KIND_ARCHETYPE -> {
+                String key = readString(offset + PLAYER_KEY, buffer.get(offset + PLAYER_KEY_LENGTH));
+                int archetypeId = registry.idOf(key);
+                if (archetypeId < 0) {
+                    throw new IllegalStateException("Unknown archetype in checkpoint: " + key);
+                }
+                yield registry.createCharacter(archetypeId, name);
+            }
+            default -> throw new IllegalStateException("Unknown character kind in checkpoint: "
+                + buffer.get(offset + PLAYER_KIND));
+        };
+        if (character.getMaxHp() != maxHp || character.getAttackPower() != attackPower) {
+            throw new IllegalStateException("Stats of " + name + " changed since checkpoint");
+        }
+        character.restore(new CharacterSnapshot(buffer.getInt(offset + PLAYER_HP), maxHp,
+            buffer.getInt(offset + PLAYER_VERSION)));
+        return character;
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length & 0xFF];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of range [0, " + slotCount + ")");
+        }
+    }
+
+    /**
+     * Paksa semua perubahan ke disk (bertahan dari crash OS, bukan hanya proses)
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public boolean isOccupied(int slot) {
+        checkSlot(slot);
+        return latestCopyOffset(slot) >= 0;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close battle checkpoint", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.game.checkpoint;
+
+/**
+ * Layout file checkpoint battle
+ *
+ * Header 64 byte: int magic "MTCP", int version, int slotCount, sisanya reserved.
+ * Setelah header, setiap slot berisi dua copy berukuran COPY_SIZE. Checkpoint
+ * selalu menulis copy yang tidak berisi state terbaru, jadi proses yang mati
+ * di tengah penulisan tidak merusak checkpoint sebelumnya.
+ *
+ * Copy (big-endian):
+ *
+ *   offset   0  long  sequence       (0 = belum pernah ditulis, ganjil = sedang ditulis)
+ *   offset   8  long  randomState    (GameRandom.getState())
+ *   offset  16  int   turnNumber
+ *   offset  20  int   totalCommands
+ *   offset  24  byte  winnerIndex    (-1 = belum ada pemenang)
+ *   offset  25  byte  pendingCount
+ *   offset  26  byte  flags          (FLAG_FREE, FLAG_STATUS_EFFECTS, FLAG_SPECTATOR_FEED)
+ *   offset  27  byte  spectatorCapacityShift (log2 capacity feed, 0 jika tanpa feed)
+ *   offset  28  int   spectatorKeyframeInterval
+ *   offset  32  player 1 (PLAYER_SIZE byte)
+ *   offset 160  player 2
+ *   offset 288  pending command, 4 byte per command:
+ *               byte actionType (ordinal), byte attackerIndex, byte targetIndex, byte reserved
+ *
+ * Player:
+ *
+ *   offset   0  byte  kind           (KIND_WARRIOR, KIND_MAGE, KIND_ARCHETYPE)
+ *   offset   1  byte  nameLength     (UTF-8)
+ *   offset   2  byte  keyLength      (archetype key, 0 jika bukan archetype)
+ *   offset   4  int   maxHp
+ *   offset   8  int   attackPower
+ *   offset  12  int   hp
+ *   offset  16  int   version
+ *   offset  20  name (MAX_NAME_BYTES)
+ *   offset  84  archetype key (MAX_KEY_BYTES)
+ */
+final class CheckpointFormat {
+    static final int MAGIC = 0x4D544350; // "MTCP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int OFFSET_SLOT_COUNT = 8;
+
+    static final int COPY_SIZE = 384;
+    static final int SLOT_SIZE = COPY_SIZE * 2;
+
+    static final int OFFSET_SEQUENCE = 0;
+    static final int OFFSET_RANDOM_STATE = 8;
+    static final int OFFSET_TURN = 16;
+    static final int OFFSET_TOTAL_COMMANDS = 20;
+    static final int OFFSET_WINNER = 24;
+    static final int OFFSET_PENDING_COUNT = 25;
+    static final int OFFSET_FLAGS = 26;
+    static final int OFFSET_SPECTATOR_CAPACITY_SHIFT = 27;
+    static final int OFFSET_SPECTATOR_KEYFRAME_INTERVAL = 28;
+    static final int OFFSET_PLAYER_1 = 32;
+    static final int OFFSET_PLAYER_2 = 160;
+    static final int OFFSET_PENDING = 288;
+
+    static final int PLAYER_SIZE = 128;
+    static final int PLAYER_KIND = 0;
+    static final int PLAYER_NAME_LENGTH = 1;
+    static final int PLAYER_KEY_LENGTH = 2;
+    static final int PLAYER_MAX_HP = 4;
+    static final int PLAYER_ATTACK = 8;
+    static final int PLAYER_HP = 12;
+    static final int PLAYER_VERSION = 16;
+    static final int PLAYER_NAME = 20;
+    static final int PLAYER_KEY = 84;
+    static final int MAX_NAME_BYTES = 64;
+    static final int MAX_KEY_BYTES = 44;
+
+    static final int PENDING_SIZE = 4;
+    static final int MAX_PENDING = (COPY_SIZE - OFFSET_PENDING) / PENDING_SIZE;
+
+    static final byte KIND_WARRIOR = 0;
+    static final byte KIND_MAGE = 1;
+    static final byte KIND_ARCHETYPE = 2;
+
+    static final int FLAG_FREE = 1;
+    static final int FLAG_STATUS_EFFECTS = 2;
+    static final int FLAG_SPECTATOR_FEED = 4;
+
+    private CheckpointFormat() {
+    }
+}
@@ -0,0 +1,10 @@
+package com.game.checkpoint;
+
+import com.game.GameRandom;
+import com.game.battle.BattleManager;
+
+/**
+ * Battle hasil restore dari checkpoint beserta random stream-nya
+ */
+public record RestoredBattle(int slot, BattleManager battleManager, GameRandom random) {
+}
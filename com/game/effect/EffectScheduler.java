@@ -0,0 +1,377 @@
+package com.game.effect;
+
+import com.game.character.Character;
+import com.game.event.BattleEvents;
+import com.game.event.StatusEffectEvent;
+
+/**
+ * Scheduler status effect untuk satu battle, memakai hierarchical timing wheel per turn
+ *
+ * Setiap effect hanya terdaftar di slot turn event berikutnya (tick BURN,
+ * mulai STUN, atau expiry), jadi advanceTo() hanya menyentuh effect yang
+ * memang fire di turn itu. Effect pasif (SHIELD, ATTACK_BUFF, STUN yang
+ * berjalan) tidak pernah di-scan; nilainya disimpan sebagai agregat per
+ * combatant sehingga query isStunned/getShield/getAttackBonus O(1).
+ * Shield yang masih punya sisa HP juga ada di list intrusive per target,
+ * sehingga absorb dan expiry shield tidak perlu mencari di list tersebut.
+ *
+ * Level 0 punya W slot masing-masing satu turn, level k punya W slot masing-masing
+ * W^k turn. Event ditaruh di level terendah yang window-nya memuat turn event;
+ * di awal setiap block level k, slot block itu dipindah ke level di bawahnya.
+ * Jumlah level cukup untuk seluruh rentang turn int, jadi tidak ada list overflow
+ * yang di-scan ulang, dan setiap effect dipindah paling banyak (level - 1) kali
+ * sebelum fire, berapapun durasinya.
+ *
+ * Tidak thread-safe: dipakai dari thread yang menjalankan turn battle.
+ */
+public final class EffectScheduler {
+    public static final int DEFAULT_WHEEL_SIZE = 64;
+    public static final int MAX_WHEEL_SIZE = 1 << 10;
+
+    private final Character[] combatants;
+    private final int shift;
+    private final int mask;
+    private final StatusEffect[][] heads;
+    private final StatusEffect[][] tails;
+    private StatusEffect free;
+
+    private final int[] shield;
+    private final int[] attackBonus;
+    private final int[] stunCount;
+    // Shield per combatant yang masih punya sisa HP, tertua di head (list intrusive shieldPrev/shieldNext)
+    private final StatusEffect[] shieldHeads;
+    private final StatusEffect[] shieldTails;
+
+    private int currentTurn;
+    private int activeCount;
+    private long firedCount;
+
+    public EffectScheduler(int currentTurn, Character... combatants) {
+        this(DEFAULT_WHEEL_SIZE, currentTurn, combatants);
+    }
+
+    /**
+     * @param wheelSize   jumlah slot per level (W), pangkat dua antara 2 dan MAX_WHEEL_SIZE
+     * @param currentTurn turn battle saat scheduler dibuat
+     */
+    public EffectScheduler(int wheelSize, int currentTurn, Character... combatants) {
+        if (wheelSize < 2 || wheelSize > MAX_WHEEL_SIZE || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two between 2 and " + MAX_WHEEL_SIZE
+                + ", got: " + wheelSize);
+        }
+        if (currentTurn < 0) {
+            throw new IllegalArgumentException("Turn number cannot be negative, got: " + currentTurn);
+        }
+        if (combatants == null || combatants.length == 0) {
+            throw new IllegalArgumentException("Effect scheduler needs at least one combatant");
+        }
+        this.combatants = combatants.clone();
+        this.shift = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        int levels = (Integer.SIZE - 1 + shift - 1) / shift;
+        this.heads = new StatusEffect[levels][wheelSize];
+        this.tails = new StatusEffect[levels][wheelSize];
+        this.currentTurn = currentTurn;
+        this.shield = new int[combatants.length];
+        this.attackBonus = new int[combatants.length];
+        this.stunCount = new int[combatants.length];
+        this.shieldHeads = new StatusEffect[combatants.length];
+        this.shieldTails = new StatusEffect[combatants.length];
+    }
+
+    /**
+     * Terapkan effect dari source; target effect ditentukan EffectSpec.onSelf()
+     */
+    public void apply(EffectSpec spec, Character source, Character target) {
+        if (spec == null) {
+            throw new IllegalArgumentException("Effect spec cannot be null");
+        }
+        int sourceIndex = indexOf(source);
+        int targetIndex = spec.onSelf() ? sourceIndex : indexOf(target);
+
+        StatusEffect effect = acquire();
+        effect.reset(spec, sourceIndex, targetIndex);
+        activeCount++;
+        int turn = currentTurn;
+        switch (effect.type) {
+            case BURN -> {
+                effect.remaining = spec.duration();
+                effect.expiryTurn = turn + spec.duration();
+                schedule(effect, turn + 1);
+            }
+            case STUN -> {
+                effect.expiryTurn = turn + spec.duration() + 1;
+                schedule(effect, turn + 1);
+            }
+            case SHIELD -> {
+                effect.remaining = spec.magnitude();
+                effect.expiryTurn = turn + spec.duration() + 1;
+                shield[targetIndex] += spec.magnitude();
+                if (effect.remaining > 0) {
+                    linkShield(effect);
+                }
+                schedule(effect, effect.expiryTurn);
+            }
+            case ATTACK_BUFF -> {
+                effect.expiryTurn = turn + spec.duration() + 1;
+                attackBonus[targetIndex] += spec.magnitude();
+                schedule(effect, effect.expiryTurn);
+            }
+        }
+        publish(StatusEffectEvent.Phase.APPLIED, effect.type, targetIndex, spec.magnitude());
+    }
+
+    /**
+     * Maju sampai turn tertentu dan jalankan semua event yang jatuh tempo
+     *
+     * @return jumlah event yang fire
+     */
+    public int advanceTo(int turn) {
+        if (turn < currentTurn) {
+            throw new IllegalArgumentException("Cannot move back from turn " + currentTurn + " to " + turn);
+        }
+        int fired = 0;
+        while (currentTurn < turn) {
+            currentTurn++;
+            int slot = currentTurn & mask;
+            if (slot == 0) {
+                // Awal block di level 1..top: turunkan dari level tertinggi dulu
+                int top = Math.min(heads.length - 1, Integer.numberOfTrailingZeros(currentTurn) / shift);
+                for (int level = top; level > 0; level--) {
+                    cascade(level, (currentTurn >>> (level * shift)) & mask);
+                }
+            }
+            StatusEffect effect = heads[0][slot];
+            heads[0][slot] = null;
+            tails[0][slot] = null;
+            // Expiry dan mulai stun dulu, supaya shield yang berakhir turn ini tidak menyerap tick BURN
+            StatusEffect ticksHead = null;
+            StatusEffect ticksTail = null;
+            while (effect != null) {
+                StatusEffect next = effect.next;
+                effect.next = null;
+                if (effect.type == StatusEffectType.BURN) {
+                    if (ticksTail == null) {
+                        ticksHead = effect;
+                    } else {
+                        ticksTail.next = effect;
+                    }
+                    ticksTail = effect;
+                } else {
+                    fire(effect);
+                    fired++;
+                }
+                effect = next;
+            }
+            while (ticksHead != null) {
+                StatusEffect next = ticksHead.next;
+                ticksHead.next = null;
+                fire(ticksHead);
+                fired++;
+                ticksHead = next;
+            }
+        }
+        firedCount += fired;
+        return fired;
+    }
+
+    private void fire(StatusEffect effect) {
+        int target = effect.target;
+        switch (effect.type) {
+            case BURN -> {
+                if (combatants[target].isAlive()) {
+                    int damage = absorb(target, effect.magnitude);
+                    combatants[target].applyDamage(damage);
+                    publish(StatusEffectEvent.Phase.TICK, effect.type, target, damage);
+                }
+                if (--effect.remaining > 0) {
+                    schedule(effect, currentTurn + 1);
+                } else {
+                    release(effect);
+                }
+            }
+            case STUN -> {
+                if (!effect.started) {
+                    effect.started = true;
+                    stunCount[target]++;
+                    schedule(effect, effect.expiryTurn);
+                } else {
+                    stunCount[target]--;
+                    release(effect);
+                }
+            }
+            case SHIELD -> {
+                if (effect.remaining > 0) {
+                    shield[target] -= effect.remaining;
+                    effect.remaining = 0;
+                    unlinkShield(effect);
+                }
+                release(effect);
+            }
+            case ATTACK_BUFF -> {
+                attackBonus[target] -= effect.magnitude;
+                release(effect);
+            }
+        }
+    }
+
+    /**
+     * Kurangi damage dengan shield target, shield tertua dipakai dulu
+     *
+     * @return damage yang tersisa setelah diserap
+     */
+    public int absorb(Character target, int damage) {
+        return absorb(indexOf(target), damage);
+    }
+
+    private int absorb(int target, int damage) {
+        if (damage <= 0 || shield[target] == 0) {
+            return damage;
+        }
+        int absorbed = 0;
+        StatusEffect head;
+        while (damage > 0 && (head = shieldHeads[target]) != null) {
+            int taken = Math.min(head.remaining, damage);
+            head.remaining -= taken;
+            damage -= taken;
+            absorbed += taken;
+            if (head.remaining == 0) {
+                // Tetap terjadwal sampai expiry; hanya keluar dari list shield
+                unlinkShield(head);
+            }
+        }
+        shield[target] -= absorbed;
+        publish(StatusEffectEvent.Phase.ABSORBED, StatusEffectType.SHIELD, target, absorbed);
+        return damage;
+    }
+
+    private void linkShield(StatusEffect effect) {
+        int target = effect.target;
+        StatusEffect tail = shieldTails[target];
+        effect.shieldPrev = tail;
+        effect.shieldNext = null;
+        if (tail == null) {
+            shieldHeads[target] = effect;
+        } else {
+            tail.shieldNext = effect;
+        }
+        shieldTails[target] = effect;
+    }
+
+    private void unlinkShield(StatusEffect effect) {
+        int target = effect.target;
+        StatusEffect prev = effect.shieldPrev;
+        StatusEffect next = effect.shieldNext;
+        if (prev == null) {
+            shieldHeads[target] = next;
+        } else {
+            prev.shieldNext = next;
+        }
+        if (next == null) {
+            shieldTails[target] = prev;
+        } else {
+            next.shieldPrev = prev;
+        }
+        effect.shieldPrev = null;
+        effect.shieldNext = null;
+    }
+
+    private void schedule(StatusEffect effect, int turn) {
+        effect.eventTurn = turn;
+        effect.next = null;
+        // Level terendah yang block induknya sama dengan turn saat ini
+        int level = 0;
+        while (level < heads.length - 1 && !sameBlock(turn, (level + 1) * shift)) {
+            level++;
+        }
+        int slot = (turn >>> (level * shift)) & mask;
+        if (tails[level][slot] == null) {
+            heads[level][slot] = effect;
+        } else {
+            tails[level][slot].next = effect;
+        }
+        tails[level][slot] = effect;
+    }
+
+    private boolean sameBlock(int turn, int bits) {
+        return bits >= Integer.SIZE || (turn >>> bits) == (currentTurn >>> bits);
+    }
+
+    private void cascade(int level, int slot) {
+        StatusEffect effect = heads[level][slot];
+        heads[level][slot] = null;
+        tails[level][slot] = null;
+        while (effect != null) {
+            StatusEffect next = effect.next;
+            schedule(effect, effect.eventTurn);
+            effect = next;
+        }
+    }
+
+    private StatusEffect acquire() {
+        StatusEffect effect = free;
+        if (effect == null) {
+            return new StatusEffect();
+        }
+        free = effect.next;
+        return effect;
+    }
+
+    private void release(StatusEffect effect) {
+        publish(StatusEffectEvent.Phase.EXPIRED, effect.type, effect.target, 0);
+        activeCount--;
+        effect.next = free;
+        free = effect;
+    }
+
+    private void publish(StatusEffectEvent.Phase phase, StatusEffectType type, int target, int amount) {
+        if (BattleEvents.isEnabled()) {
+            Character character = combatants[target];
+            BattleEvents.publish(new StatusEffectEvent(phase, type, character.getName(), amount,
+                character.getHp(), character.getMaxHp()));
+        }
+    }
+
+    private int indexOf(Character character) {
+        for (int i = 0; i < combatants.length; i++) {
+            if (combatants[i] == character) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not a combatant of this battle: "
+            + (character == null ? null : character.getName()));
+    }
+
+    public boolean isStunned(Character character) {
+        return stunCount[indexOf(character)] > 0;
+    }
+
+    /**
+     * Total sisa shield yang masih aktif
+     */
+    public int getShield(Character character) {
+        return shield[indexOf(character)];
+    }
+
+    public int getAttackBonus(Character character) {
+        return attackBonus[indexOf(character)];
+    }
+
+    public int getCurrentTurn() {
+        return currentTurn;
+    }
+
+    /**
+     * Jumlah effect yang masih terjadwal (shield yang sudah habis tetap terhitung sampai expiry)
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Total event (tick, mulai, expiry) yang sudah fire
+     */
+    public long getFiredCount() {
+        return firedCount;
+    }
+}
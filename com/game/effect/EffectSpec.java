@@ -0,0 +1,50 @@
+package com.game.effect;
+
+/**
+ * Template immutable satu status effect, dibawa oleh StatusEffectDecorator
+ *
+ * Effect yang diterapkan pada turn T aktif selama duration turn berikutnya:
+ * - BURN: magnitude damage di awal turn T+1 .. T+duration
+ * - STUN: target tidak bisa beraksi di turn T+1 .. T+duration
+ * - SHIELD, ATTACK_BUFF: langsung aktif, berakhir di awal turn T+duration+1
+ *
+ * @param onSelf true jika diterapkan ke pemakai skill, false ke target
+ */
+public record EffectSpec(StatusEffectType type, int magnitude, int duration, boolean onSelf) {
+
+    public EffectSpec {
+        if (type == null) {
+            throw new IllegalArgumentException("Effect type cannot be null");
+        }
+        if (magnitude < 0) {
+            throw new IllegalArgumentException("Magnitude cannot be negative, got: " + magnitude);
+        }
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Duration must be positive, got: " + duration);
+        }
+    }
+
+    public static EffectSpec burn(int damagePerTurn, int turns) {
+        return new EffectSpec(StatusEffectType.BURN, damagePerTurn, turns, false);
+    }
+
+    public static EffectSpec shield(int amount, int turns) {
+        return new EffectSpec(StatusEffectType.SHIELD, amount, turns, true);
+    }
+
+    public static EffectSpec stun(int turns) {
+        return new EffectSpec(StatusEffectType.STUN, 0, turns, false);
+    }
+
+    public static EffectSpec attackBuff(int bonus, int turns) {
+        return new EffectSpec(StatusEffectType.ATTACK_BUFF, bonus, turns, true);
+    }
+
+    public String getDescription() {
+        return switch (type) {
+            case BURN -> "Burn " + magnitude + "x" + duration;
+            case STUN -> "Stun " + duration;
+            default -> type.getDisplayName() + " " + magnitude + "/" + duration;
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.game.effect;
+
+/**
+ * Satu status effect aktif; node intrusive di list slot timing wheel
+ * dan, untuk SHIELD yang masih punya sisa HP, di list shield target
+ *
+ * Instance dipakai ulang oleh EffectScheduler (free list), jadi reference
+ * tidak boleh disimpan di luar scheduler.
+ */
+final class StatusEffect {
+    StatusEffectType type;
+    int source;
+    int target;
+    int magnitude;
+    // BURN: sisa tick, SHIELD: sisa HP shield
+    int remaining;
+    int expiryTurn;
+    // STUN: true setelah mulai berlaku
+    boolean started;
+
+    int eventTurn;
+    StatusEffect next;
+    StatusEffect shieldPrev;
+    StatusEffect shieldNext;
+
+    void reset(EffectSpec spec, int source, int target) {
+        this.type = spec.type();
+        this.source = source;
+        this.target = target;
+        this.magnitude = spec.magnitude();
+        this.remaining = 0;
+        this.started = false;
+        this.next = null;
+        this.shieldPrev = null;
+        this.shieldNext = null;
+    }
+}
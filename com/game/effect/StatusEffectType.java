@@ -0,0 +1,39 @@
+package com.game.effect;
+
+/**
+ * Jenis status effect dengan durasi dalam turn
+ */
+public enum StatusEffectType {
+    /** Damage over time: magnitude damage di awal setiap turn */
+    BURN("Burn", false),
+    /** Menyerap damage sampai magnitude habis atau durasi selesai */
+    SHIELD("Shield", true),
+    /** Target tidak bisa beraksi */
+    STUN("Stun", false),
+    /** Bonus damage flat untuk setiap hit */
+    ATTACK_BUFF("Attack Buff", true);
+
+    private final String displayName;
+    private final boolean selfTargeted;
+
+    StatusEffectType(String displayName, boolean selfTargeted) {
+        this.displayName = displayName;
+        this.selfTargeted = selfTargeted;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * true jika secara default diterapkan ke pemakai skill, bukan ke target
+     */
+    public boolean isSelfTargeted() {
+        return selfTargeted;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,9 @@
+package com.game.event;
+
+/**
+ * Jenis aksi battle yang bisa dilakukan character dalam satu turn
+ */
+public enum ActionType {
+    ATTACK,
+    SKILL
+}
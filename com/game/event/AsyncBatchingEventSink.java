@@ -0,0 +1,185 @@
+package com.game.event;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sink asynchronous yang menulis event ke console atau file secara batch
+ *
+ * Producer (thread battle) hanya memasukkan event ke ring buffer lalu kembali;
+ * formatting dan I/O dikerjakan oleh satu writer thread yang menguras buffer
+ * per batch dan melakukan satu flush per batch.
+ * Jika buffer penuh, producer menunggu sampai ada slot kosong (tidak ada event hilang).
+ *
+ * Jika writer thread mati karena exception dari writer, kegagalannya dicatat
+ * dan event berikutnya dibuang (dihitung di getDroppedCount()) supaya producer
+ * tidak menunggu slot selamanya; close() melempar ulang kegagalan tersebut.
+ */
+public class AsyncBatchingEventSink implements BattleEventSink, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final long IDLE_PARK_NANOS = 100_000L;
+
+    private final AtomicReferenceArray<BattleEvent> ring;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong consumedSequence = new AtomicLong();
+    private final Writer writer;
+    private final boolean closeWriter;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile Throwable failure;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public AsyncBatchingEventSink(Writer writer, int capacity, boolean closeWriter) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two, got: " + capacity);
+        }
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.writer = writer;
+        this.closeWriter = closeWriter;
+        this.writerThread = new Thread(this::drainLoop, "battle-event-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Sink yang menulis ke System.out
+     */
+    public static AsyncBatchingEventSink toConsole() {
+        return new AsyncBatchingEventSink(newWriter(new FileOutputStream(FileDescriptor.out)),
+            DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Sink yang menambahkan (append) event ke file
+     */
+    public static AsyncBatchingEventSink toFile(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new AsyncBatchingEventSink(newWriter(out), DEFAULT_CAPACITY, true);
+    }
+
+    private static Writer newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    @Override
+    public void onEvent(BattleEvent event) {
+        if (!running) {
+            return;
+        }
+        if (failure != null) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        long sequence = nextSequence.getAndIncrement();
+        while (sequence - consumedSequence.get() >= ring.length()) {
+            if (failure != null) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            LockSupport.parkNanos(1_000L);
+        }
+        ring.lazySet((int) sequence & mask, event);
+    }
+
+    private void drainLoop() {
+        try {
+            drain();
+        } catch (Throwable e) {
+            failure = e;
+        }
+    }
+
+    private void drain() {
+        StringBuilder batch = new StringBuilder(4096);
+        long sequence = consumedSequence.get();
+
+        while (true) {
+            BattleEvent event = ring.get((int) sequence & mask);
+            if (event != null) {
+                ring.lazySet((int) sequence & mask, null);
+                sequence++;
+                consumedSequence.lazySet(sequence);
+                BattleEventFormatter.format(event, batch);
+                continue;
+            }
+
+            if (batch.length() > 0) {
+                write(batch);
+                batch.setLength(0);
+            }
+            if (!running && sequence == nextSequence.get()) {
+                break;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void write(StringBuilder batch) {
+        try {
+            writer.append(batch);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write battle events", e);
+        }
+    }
+
+    /**
+     * Exception yang menghentikan writer thread, atau null jika writer masih sehat
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Jumlah event yang dibuang karena writer thread sudah mati
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Tunggu semua event yang sudah dipublish tertulis, lalu hentikan writer thread
+     *
+     * @throws IllegalStateException jika writer thread sebelumnya mati karena exception
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (closeWriter) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close battle event writer", e);
+            }
+        }
+        Throwable error = failure;
+        if (error != null) {
+            throw new IllegalStateException("Battle event writer failed, dropped events: " + droppedCount.get(), error);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.game.event;
+
+import com.game.character.CharacterType;
+
+/**
+ * Battle selesai karena salah satu character kalah, atau draw saat batas turn tercapai.
+ * winnerName dan winnerType bernilai null jika tidak ada pemenang.
+ */
+public record BattleEndedEvent(String winnerName, CharacterType winnerType,
+                               int totalCommands) implements BattleEvent {
+}
@@ -0,0 +1,13 @@
+package com.game.event;
+
+/**
+ * Base type untuk semua battle event
+ *
+ * Event adalah data immutable yang menggambarkan apa yang terjadi di battle.
+ * Semua nilai di-capture saat event dibuat, sehingga aman diproses belakangan
+ * (mis. oleh sink asynchronous) walaupun state character sudah berubah.
+ */
+public sealed interface BattleEvent
+    permits CharacterCreatedEvent, CommandExecutedEvent, DamageBoostEvent,
+            CriticalHitEvent, DamageDealtEvent, BattleEndedEvent, StatusEffectEvent, ServiceErrorEvent {
+}
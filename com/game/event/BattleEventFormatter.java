@@ -0,0 +1,69 @@
+package com.game.event;
+
+/**
+ * Mengubah battle event menjadi teks log yang sama seperti output console lama
+ */
+public final class BattleEventFormatter {
+    private static final String NEW_LINE = System.lineSeparator();
+    
+    private BattleEventFormatter() {
+        throw new AssertionError("BattleEventFormatter should not be instantiated");
+    }
+    
+    /**
+     * Format event dan tambahkan ke builder, setiap baris diakhiri line separator
+     */
+    public static void format(BattleEvent event, StringBuilder out) {
+        switch (event) {
+            case CharacterCreatedEvent e -> line(out, String.format(
+                "[FACTORY] Character created: %s (%s) - HP: %d/%d, Attack: %d",
+                e.name(), e.characterType().getDisplayName(), e.hp(), e.maxHp(), e.attackPower()));
+            case CommandExecutedEvent e -> {
+                if (e.actionType() == ActionType.ATTACK) {
+                    line(out, "\n[COMMAND] Executing: " + e.attackerName() + " attacks " + e.targetName());
+                } else {
+                    line(out, "\n[COMMAND] Executing: " + e.attackerName() + " uses skill on " + e.targetName());
+                    line(out, "  → Skill: " + e.skillDescription());
+                }
+            }
+            case DamageBoostEvent e -> line(out, "[DECORATOR] Damage Boost applied: +" + e.boostAmount() + " damage");
+            case CriticalHitEvent e -> line(out, "[DECORATOR] CRITICAL HIT! Damage doubled!");
+            case DamageDealtEvent e -> {
+                if (e.actionType() == ActionType.ATTACK) {
+                    line(out, "  → " + e.skillDescription() + " deals " + e.damage() + " damage!");
+                } else {
+                    line(out, "  → Total damage dealt: " + e.damage());
+                }
+                line(out, "  → " + e.targetName() + " HP: " + e.targetHp() + "/" + e.targetMaxHp());
+            }
+            case StatusEffectEvent e -> {
+                switch (e.phase()) {
+                    case APPLIED -> line(out, "[EFFECT] " + e.targetName() + " gains " + e.effectType()
+                        + (e.amount() > 0 ? " (" + e.amount() + ")" : ""));
+                    case TICK -> line(out, "[EFFECT] " + e.effectType() + " deals " + e.amount() + " damage to "
+                        + e.targetName() + " (HP: " + e.targetHp() + "/" + e.targetMaxHp() + ")");
+                    case ABSORBED -> line(out, "[EFFECT] " + e.effectType() + " absorbs " + e.amount()
+                        + " damage for " + e.targetName());
+                    case EXPIRED -> line(out, "[EFFECT] " + e.effectType() + " on " + e.targetName() + " expired");
+                }
+            }
+            case BattleEndedEvent e -> {
+                String winner = e.winnerName() == null
+                    ? "DRAW"
+                    : e.winnerName() + " (" + e.winnerType().getDisplayName() + ")";
+                line(out, "[BATTLE] Battle ended, winner: " + winner + ", commands: " + e.totalCommands());
+            }
+            case ServiceErrorEvent e -> line(out, "[" + e.service() + "] " + e.message() + ": " + e.error());
+        }
+    }
+    
+    public static String format(BattleEvent event) {
+        StringBuilder out = new StringBuilder();
+        format(event, out);
+        return out.toString();
+    }
+    
+    private static void line(StringBuilder out, String text) {
+        out.append(text).append(NEW_LINE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.game.event;
+
+/**
+ * Subscriber untuk battle event
+ *
+ * Implementasi harus thread-safe jika event dipublish dari banyak thread.
+ */
+public interface BattleEventSink {
+    
+    void onEvent(BattleEvent event);
+}
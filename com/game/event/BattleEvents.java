@@ -0,0 +1,69 @@
+package com.game.event;
+
+import java.util.Arrays;
+
+/**
+ * Dispatcher global untuk battle event
+ *
+ * Kode di hot path selalu mengecek isEnabled() sebelum membuat event:
+ *
+ *     if (BattleEvents.isEnabled()) {
+ *         BattleEvents.publish(new DamageBoostEvent(boostAmount));
+ *     }
+ *
+ * Jika tidak ada subscriber, biaya logging hanya satu volatile read
+ * dan tidak ada string/event yang dialokasikan.
+ * Daftar subscriber di-publish secara copy-on-write.
+ */
+public final class BattleEvents {
+    private static final BattleEventSink[] NO_SINKS = new BattleEventSink[0];
+    
+    private static volatile BattleEventSink[] sinks = NO_SINKS;
+    
+    private BattleEvents() {
+        throw new AssertionError("BattleEvents should not be instantiated");
+    }
+    
+    public static boolean isEnabled() {
+        return sinks.length > 0;
+    }
+    
+    public static void publish(BattleEvent event) {
+        for (BattleEventSink sink : sinks) {
+            sink.onEvent(event);
+        }
+    }
+    
+    public static synchronized void subscribe(BattleEventSink sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink cannot be null");
+        }
+        if (sink == NoOpEventSink.INSTANCE || indexOf(sink) >= 0) {
+            return;
+        }
+        BattleEventSink[] updated = Arrays.copyOf(sinks, sinks.length + 1);
+        updated[sinks.length] = sink;
+        sinks = updated;
+    }
+    
+    public static synchronized void unsubscribe(BattleEventSink sink) {
+        int index = indexOf(sink);
+        if (index < 0) {
+            return;
+        }
+        BattleEventSink[] updated = new BattleEventSink[sinks.length - 1];
+        System.arraycopy(sinks, 0, updated, 0, index);
+        System.arraycopy(sinks, index + 1, updated, index, sinks.length - index - 1);
+        sinks = updated.length == 0 ? NO_SINKS : updated;
+    }
+    
+    private static int indexOf(BattleEventSink sink) {
+        BattleEventSink[] current = sinks;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == sink) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.game.event;
+
+import com.game.character.CharacterType;
+
+/**
+ * Character baru dibuat oleh factory (CharacterCreator.orderCharacter)
+ */
+public record CharacterCreatedEvent(String name, CharacterType characterType,
+                                    int hp, int maxHp, int attackPower) implements BattleEvent {
+}
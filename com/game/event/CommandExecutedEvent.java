@@ -0,0 +1,8 @@
+package com.game.event;
+
+/**
+ * Sebuah command mulai dieksekusi
+ */
+public record CommandExecutedEvent(ActionType actionType, String attackerName,
+                                   String targetName, String skillDescription) implements BattleEvent {
+}
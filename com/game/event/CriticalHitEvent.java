@@ -0,0 +1,7 @@
+package com.game.event;
+
+/**
+ * CriticalHitDecorator menghasilkan critical hit
+ */
+public record CriticalHitEvent(int originalDamage, int critDamage) implements BattleEvent {
+}
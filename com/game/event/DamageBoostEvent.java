@@ -0,0 +1,7 @@
+package com.game.event;
+
+/**
+ * DamageBoostDecorator menambahkan damage
+ */
+public record DamageBoostEvent(int boostAmount) implements BattleEvent {
+}
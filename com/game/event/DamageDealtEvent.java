@@ -0,0 +1,9 @@
+package com.game.event;
+
+/**
+ * Damage dari sebuah command sudah diterapkan ke target
+ */
+public record DamageDealtEvent(ActionType actionType, String skillDescription,
+                               String attackerName, String targetName,
+                               int damage, int targetHp, int targetMaxHp) implements BattleEvent {
+}
@@ -0,0 +1,44 @@
+package com.game.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sink yang menyimpan semua event di memory (untuk analisis atau debugging)
+ */
+public class InMemoryEventCollector implements BattleEventSink {
+    private final List<BattleEvent> events = new ArrayList<>();
+    
+    @Override
+    public synchronized void onEvent(BattleEvent event) {
+        events.add(event);
+    }
+    
+    /**
+     * Salinan semua event yang sudah dikumpulkan
+     */
+    public synchronized List<BattleEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+    
+    /**
+     * Salinan event dengan tipe tertentu
+     */
+    public synchronized <T extends BattleEvent> List<T> getEvents(Class<T> type) {
+        List<T> result = new ArrayList<>();
+        for (BattleEvent event : events) {
+            if (type.isInstance(event)) {
+                result.add(type.cast(event));
+            }
+        }
+        return result;
+    }
+    
+    public synchronized int size() {
+        return events.size();
+    }
+    
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,18 @@
+package com.game.event;
+
+/**
+ * Sink yang membuang semua event
+ *
+ * BattleEvents tidak pernah mendaftarkan sink ini, sehingga
+ * subscribe(NoOpEventSink.INSTANCE) tetap membuat logging nonaktif.
+ */
+public final class NoOpEventSink implements BattleEventSink {
+    public static final NoOpEventSink INSTANCE = new NoOpEventSink();
+    
+    private NoOpEventSink() {
+    }
+    
+    @Override
+    public void onEvent(BattleEvent event) {
+    }
+}
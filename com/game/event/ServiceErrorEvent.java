@@ -0,0 +1,12 @@
+package com.game.event;
+
+/**
+ * Kegagalan di service latar (matchmaking, match server, metrics, cache simulasi)
+ * yang tidak bisa dilempar ke caller, mis. karena terjadi di thread scheduler
+ *
+ * @param service nama service, mis. "MATCHMAKING"
+ * @param message apa yang gagal
+ * @param error   penyebab kegagalan
+ */
+public record ServiceErrorEvent(String service, String message, Throwable error) implements BattleEvent {
+}
@@ -0,0 +1,19 @@
+package com.game.event;
+
+import com.game.effect.StatusEffectType;
+
+/**
+ * Status effect diterapkan, memberi damage (BURN), menyerap damage (SHIELD) atau berakhir
+ *
+ * @param amount magnitude saat APPLIED, damage saat TICK dan ABSORBED, 0 saat EXPIRED
+ */
+public record StatusEffectEvent(Phase phase, StatusEffectType effectType, String targetName,
+                                int amount, int targetHp, int targetMaxHp) implements BattleEvent {
+
+    public enum Phase {
+        APPLIED,
+        TICK,
+        ABSORBED,
+        EXPIRED
+    }
+}
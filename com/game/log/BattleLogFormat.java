@@ -0,0 +1,42 @@
+package com.game.log;
+
+/**
+ * Layout file binary battle log
+ *
+ * Header 16 byte: int magic "MTBL", int version, long reserved.
+ * Setelah header, record berukuran variabel (big-endian, kelipatan 8 byte):
+ *
+ *   offset  0  long  battleId
+ *   offset  8  int   turn
+ *   offset 12  byte  actorIndex   (0 = player 1, 1 = player 2, -1 = unknown)
+ *   offset 13  byte  actionType   (ActionType.ordinal(), -1 = none)
+ *   offset 14  short drawCount    (unsigned, jumlah random draw command ini)
+ *   offset 16  int   skillId      (id SkillDefinition registry + 1, 0 = basic attack/none)
+ *   offset 20  int   damage
+ *   offset 24  long  rngDraw x drawCount (nilai mentah nextLong sesuai urutan draw)
+ */
+final class BattleLogFormat {
+    static final int MAGIC = 0x4D54424C; // "MTBL"
+    static final int VERSION = 3;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 24;
+    static final int DRAW_SIZE = 8;
+    static final int MAX_DRAWS = 0xFFFF;
+    static final int MAX_RECORD_SIZE = RECORD_HEADER_SIZE + MAX_DRAWS * DRAW_SIZE;
+    
+    static final int OFFSET_BATTLE_ID = 0;
+    static final int OFFSET_TURN = 8;
+    static final int OFFSET_ACTOR = 12;
+    static final int OFFSET_ACTION = 13;
+    static final int OFFSET_DRAW_COUNT = 14;
+    static final int OFFSET_SKILL_ID = 16;
+    static final int OFFSET_DAMAGE = 20;
+    static final int OFFSET_DRAWS = 24;
+    
+    private BattleLogFormat() {
+    }
+    
+    static int recordSize(int drawCount) {
+        return RECORD_HEADER_SIZE + drawCount * DRAW_SIZE;
+    }
+}
@@ -0,0 +1,102 @@
+package com.game.log;
+
+import com.game.battle.Command;
+import com.game.battle.CommandHistory;
+import com.game.battle.CommandRecord;
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.event.ActionType;
+import com.game.registry.ArchetypeCharacter;
+import com.game.registry.ArchetypeDefinition;
+import com.game.registry.GameRegistry;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CommandHistory yang menulis setiap command ke BattleLogWriter
+ *
+ * Untuk merekam RNG outcome, command skill harus memakai RecordingRandom
+ * yang sama dengan history ini; semua draw sejak record sebelumnya dicatat
+ * sebagai draw command ini. Record dibaca kembali lewat BattleLogReader,
+ * bukan getRecords(). Writer tidak ditutup oleh history karena bisa dipakai
+ * bersama oleh banyak battle.
+ */
+public class BattleLogHistory implements CommandHistory {
+    private static final int[] DEFAULT_SKILL_IDS = defaultSkillIds();
+    
+    private final BattleLogWriter writer;
+    private final long battleId;
+    private final RecordingRandom recordingRandom;
+    private int count;
+    
+    public BattleLogHistory(BattleLogWriter writer, long battleId, RecordingRandom recordingRandom) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        this.writer = writer;
+        this.battleId = battleId;
+        this.recordingRandom = recordingRandom;
+    }
+    
+    @Override
+    public void record(Command command, int actorIndex, int turn) {
+        long[] draws = null;
+        int drawCount = 0;
+        if (recordingRandom != null) {
+            draws = recordingRandom.drawBuffer();
+            drawCount = recordingRandom.getDrawCount();
+        }
+        writer.append(battleId, turn, actorIndex, command.getActionType(), skillIdOf(command),
+            draws, drawCount, command.getDamageDealt());
+        if (recordingRandom != null) {
+            recordingRandom.reset();
+        }
+        count++;
+    }
+    
+    /**
+     * Id skill di log: id SkillDefinition di registry + 1 untuk command skill, 0 untuk
+     * basic attack atau command tanpa skill
+     *
+     * ArchetypeCharacter memakai skill id archetype-nya; Warrior/Mage bawaan memakai
+     * id skill archetype dengan family yang sama di GameRegistry.defaults().
+     */
+    public static int skillIdOf(Command command) {
+        if (command.getActionType() != ActionType.SKILL || command.getSkill() == null) {
+            return 0;
+        }
+        Character attacker = command.getAttacker();
+        if (attacker instanceof ArchetypeCharacter archetype) {
+            return archetype.getArchetype().skillId() + 1;
+        }
+        return DEFAULT_SKILL_IDS[attacker.getCharacterType().ordinal()] + 1;
+    }
+    
+    private static int[] defaultSkillIds() {
+        GameRegistry defaults = GameRegistry.defaults();
+        int[] ids = new int[CharacterType.values().length];
+        for (int id = 0; id < defaults.getArchetypeCount(); id++) {
+            ArchetypeDefinition archetype = defaults.getArchetype(id);
+            ids[archetype.family().ordinal()] = archetype.skillId();
+        }
+        return ids;
+    }
+    
+    @Override
+    public int size() {
+        return count;
+    }
+    
+    @Override
+    public List<CommandRecord> getRecords() {
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Dipanggil BattleManager saat battle selesai: flush record ke file, writer tetap terbuka
+     */
+    @Override
+    public void close() {
+        writer.flush();
+    }
+}
@@ -0,0 +1,331 @@
+package com.game.log;
+
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.battle.Command;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.event.ActionType;
+import com.game.skill.DamageContext;
+import com.game.skill.SkillCache;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.game.GameConstants.MAX_TURNS;
+import static com.game.log.BattleLogFormat.*;
+
+/**
+ * Membaca battle log lewat memory-mapped file
+ *
+ * Field record dibaca langsung dari mapped buffer berdasarkan index,
+ * sehingga analisis jutaan battle tidak perlu membuat object per record.
+ * Karena record berukuran variabel, open() memindai file sekali dan menyimpan
+ * offset setiap record (8 byte per record). File yang lebih besar dari 2 GB
+ * dipetakan dalam beberapa segment yang saling overlap sebesar satu record
+ * maksimal, jadi setiap record selalu utuh di satu segment.
+ */
+public class BattleLogReader implements AutoCloseable {
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+    private static final long SEGMENT_SIZE = (Integer.MAX_VALUE - MAX_RECORD_SIZE) & -DRAW_SIZE;
+    private static final int MAX_RECORDS = Integer.MAX_VALUE - 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long[] offsets;
+    private final int recordCount;
+    private Map<Long, OffsetList> battleIndex;
+
+    /**
+     * Callback untuk scan record tanpa alokasi object
+     *
+     * Draw command dibaca lewat getRngDraw(record, i) selama visit berjalan.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long record, long battleId, int turn, int actorIndex, int actionType,
+                   int skillId, int drawCount, int damage);
+    }
+
+    /**
+     * Offset record milik satu battle, sesuai urutan di file
+     */
+    private static final class OffsetList {
+        long[] offsets = new long[16];
+        int size;
+
+        void add(long offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = offset;
+        }
+    }
+
+    private BattleLogReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            throw new IOException("Not a battle log: file too small");
+        }
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a battle log: bad magic");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported battle log version: " + header.getInt(4));
+        }
+
+        long dataSize = size - HEADER_SIZE;
+        int segmentCount = (int) ((dataSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long start = i * SEGMENT_SIZE;
+            long length = Math.min(SEGMENT_SIZE + MAX_RECORD_SIZE, dataSize - start);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + start, length);
+        }
+
+        long[] offsets = new long[1024];
+        int count = 0;
+        long offset = 0;
+        while (offset < dataSize) {
+            if (dataSize - offset < RECORD_HEADER_SIZE
+                    || dataSize - offset < recordSize(drawCountAt(offset))) {
+                throw new IOException("Truncated battle log record at byte " + (HEADER_SIZE + offset));
+            }
+            if (count == MAX_RECORDS) {
+                throw new IOException("Battle log has more than " + MAX_RECORDS + " records");
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, (int) Math.min(MAX_RECORDS, count * 2L));
+            }
+            offsets[count++] = offset;
+            offset += recordSize(drawCountAt(offset));
+        }
+        this.offsets = offsets;
+        this.recordCount = count;
+    }
+
+    public static BattleLogReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new BattleLogReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public long getBattleId(long record) {
+        long offset = offsetOf(record);
+        return segment(offset).getLong(local(offset) + OFFSET_BATTLE_ID);
+    }
+
+    public int getTurn(long record) {
+        return turnAt(offsetOf(record));
+    }
+
+    public int getActorIndex(long record) {
+        return actorAt(offsetOf(record));
+    }
+
+    /**
+     * ActionType.ordinal() dari record, atau -1 untuk command non-battle
+     */
+    public int getActionTypeOrdinal(long record) {
+        return actionAt(offsetOf(record));
+    }
+
+    public ActionType getActionType(long record) {
+        int ordinal = getActionTypeOrdinal(record);
+        return ordinal < 0 ? null : ACTION_TYPES[ordinal];
+    }
+
+    /**
+     * Id skill record (lihat BattleLogHistory.skillIdOf())
+     */
+    public int getSkillId(long record) {
+        return skillIdAt(offsetOf(record));
+    }
+
+    /**
+     * Jumlah random draw yang dipakai command
+     */
+    public int getDrawCount(long record) {
+        return drawCountAt(offsetOf(record));
+    }
+
+    /**
+     * Nilai mentah draw ke-index (urutan draw saat battle direkam)
+     */
+    public long getRngDraw(long record, int index) {
+        long offset = offsetOf(record);
+        int drawCount = drawCountAt(offset);
+        if (index < 0 || index >= drawCount) {
+            throw new IndexOutOfBoundsException("Draw " + index + " out of range [0, " + drawCount + ")");
+        }
+        return drawAt(offset, index);
+    }
+
+    public int getDamage(long record) {
+        return damageAt(offsetOf(record));
+    }
+
+    /**
+     * Kunjungi semua record secara berurutan
+     */
+    public void scan(RecordVisitor visitor) {
+        for (int record = 0; record < recordCount; record++) {
+            long offset = offsets[record];
+            ByteBuffer segment = segment(offset);
+            int local = local(offset);
+            visitor.visit(
+                record,
+                segment.getLong(local + OFFSET_BATTLE_ID),
+                segment.getInt(local + OFFSET_TURN),
+                segment.get(local + OFFSET_ACTOR),
+                segment.get(local + OFFSET_ACTION),
+                segment.getInt(local + OFFSET_SKILL_ID),
+                Short.toUnsignedInt(segment.getShort(local + OFFSET_DRAW_COUNT)),
+                segment.getInt(local + OFFSET_DAMAGE));
+        }
+    }
+
+    /**
+     * Replay satu battle lewat AttackCommand/UseSkillCommand yang sebenarnya
+     *
+     * Skill diambil dari SkillCache berdasarkan character, RNG outcome dari log
+     * diberikan lewat ReplayRandom. Battle event dipublish seperti battle aslinya
+     * (battle yang mencapai MAX_TURNS diakhiri dengan endAsDraw()).
+     * Replay pertama membangun index offset record per battle (satu scan), replay
+     * berikutnya langsung membaca record battle tersebut.
+     *
+     * @throws IllegalStateException jika skill, damage atau jumlah draw hasil replay tidak sama dengan log
+     */
+    public BattleManager replay(long battleId, Character player1, Character player2, SkillCache skillCache) {
+        BattleManager battleManager = new BattleManager(player1, player2);
+        ReplayRandom replayRandom = new ReplayRandom();
+        DamageContext damageContext = new DamageContext(replayRandom);
+        OffsetList battle = battleIndex().get(battleId);
+        int size = battle == null ? 0 : battle.size;
+
+        for (int i = 0; i < size; i++) {
+            long offset = battle.offsets[i];
+            while (battleManager.getTurnNumber() < turnAt(offset)) {
+                battleManager.startNextTurn();
+            }
+
+            Character attacker = actorAt(offset) == 0 ? player1 : player2;
+            Character target = attacker == player1 ? player2 : player1;
+            int action = actionAt(offset);
+            replayRandom.clear();
+            for (int draw = 0; draw < drawCountAt(offset); draw++) {
+                replayRandom.addDraw(drawAt(offset, draw));
+            }
+            Command command;
+            if (action == ActionType.ATTACK.ordinal()) {
+                command = new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker));
+            } else if (action == ActionType.SKILL.ordinal()) {
+                command = new UseSkillCommand(attacker, target, skillCache.getDecoratedSkill(attacker), damageContext);
+            } else {
+                throw new IllegalStateException("Cannot replay record at byte " + (HEADER_SIZE + offset)
+                    + " without an action type");
+            }
+
+            if (BattleLogHistory.skillIdOf(command) != skillIdAt(offset)) {
+                throw new IllegalStateException("Replay diverged at byte " + (HEADER_SIZE + offset)
+                    + ": expected skill id " + skillIdAt(offset) + ", got " + BattleLogHistory.skillIdOf(command));
+            }
+            battleManager.executeCommand(command);
+            if (command.getDamageDealt() != damageAt(offset)) {
+                throw new IllegalStateException("Replay diverged at byte " + (HEADER_SIZE + offset)
+                    + ": expected damage " + damageAt(offset) + ", got " + command.getDamageDealt());
+            }
+            if (replayRandom.getRemaining() != 0) {
+                throw new IllegalStateException("Replay diverged at byte " + (HEADER_SIZE + offset)
+                    + ": " + replayRandom.getRemaining() + " recorded draws were not used");
+            }
+        }
+        if (battleManager.getTurnNumber() >= MAX_TURNS) {
+            battleManager.endAsDraw();
+        }
+        return battleManager;
+    }
+
+    private Map<Long, OffsetList> battleIndex() {
+        if (battleIndex == null) {
+            Map<Long, OffsetList> index = new HashMap<>();
+            for (int record = 0; record < recordCount; record++) {
+                long offset = offsets[record];
+                long battleId = segment(offset).getLong(local(offset) + OFFSET_BATTLE_ID);
+                index.computeIfAbsent(battleId, id -> new OffsetList()).add(offset);
+            }
+            battleIndex = index;
+        }
+        return battleIndex;
+    }
+
+    private int turnAt(long offset) {
+        return segment(offset).getInt(local(offset) + OFFSET_TURN);
+    }
+
+    private int actorAt(long offset) {
+        return segment(offset).get(local(offset) + OFFSET_ACTOR);
+    }
+
+    private int actionAt(long offset) {
+        return segment(offset).get(local(offset) + OFFSET_ACTION);
+    }
+
+    private int skillIdAt(long offset) {
+        return segment(offset).getInt(local(offset) + OFFSET_SKILL_ID);
+    }
+
+    private int drawCountAt(long offset) {
+        return Short.toUnsignedInt(segment(offset).getShort(local(offset) + OFFSET_DRAW_COUNT));
+    }
+
+    private int damageAt(long offset) {
+        return segment(offset).getInt(local(offset) + OFFSET_DAMAGE);
+    }
+
+    private long drawAt(long offset, int index) {
+        return segment(offset).getLong(local(offset) + OFFSET_DRAWS + index * DRAW_SIZE);
+    }
+
+    private long offsetOf(long record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + record + " out of range [0, " + recordCount + ")");
+        }
+        return offsets[(int) record];
+    }
+
+    private ByteBuffer segment(long offset) {
+        return segments[(int) (offset / SEGMENT_SIZE)];
+    }
+
+    private static int local(long offset) {
+        return (int) (offset % SEGMENT_SIZE);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close battle log", e);
+        }
+    }
+}
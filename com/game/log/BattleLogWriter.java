@@ -0,0 +1,117 @@
+package com.game.log;
+
+import com.game.event.ActionType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.game.log.BattleLogFormat.*;
+
+/**
+ * Menulis command stream ke file binary battle log (lihat BattleLogFormat)
+ *
+ * Record dikumpulkan di direct ByteBuffer dan ditulis ke FileChannel per batch,
+ * sehingga satu system call mencakup ribuan record.
+ * Method append() synchronized, jadi satu writer bisa dipakai banyak battle/thread.
+ */
+public class BattleLogWriter implements AutoCloseable {
+    private static final int DEFAULT_BATCH_BYTES = 64 * 1024;
+    
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long recordCount;
+    
+    private BattleLogWriter(Path file, FileChannel channel, int batchBytes) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(batchBytes);
+    }
+    
+    /**
+     * Buat file log baru (file lama ditimpa)
+     */
+    public static BattleLogWriter create(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(0L).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            return new BattleLogWriter(file, channel, DEFAULT_BATCH_BYTES);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Tambahkan satu record
+     *
+     * @param draws     nilai mentah random yang dipakai command, sesuai urutan draw
+     * @param drawCount jumlah draw yang dipakai dari awal array draws
+     */
+    public synchronized void append(long battleId, int turn, int actorIndex, ActionType actionType,
+                                    int skillId, long[] draws, int drawCount, int damage) {
+        if (turn < 0) {
+            throw new IllegalArgumentException("Turn number cannot be negative, got: " + turn);
+        }
+        if (drawCount < 0 || drawCount > MAX_DRAWS) {
+            throw new IllegalArgumentException("Draw count must be between 0 and " + MAX_DRAWS + ", got: " + drawCount);
+        }
+        ensureRemaining(RECORD_HEADER_SIZE);
+        buffer.putLong(battleId);
+        buffer.putInt(turn);
+        buffer.put((byte) actorIndex);
+        buffer.put((byte) (actionType == null ? -1 : actionType.ordinal()));
+        buffer.putShort((short) drawCount);
+        buffer.putInt(skillId);
+        buffer.putInt(damage);
+        for (int i = 0; i < drawCount; i++) {
+            ensureRemaining(DRAW_SIZE);
+            buffer.putLong(draws[i]);
+        }
+        recordCount++;
+    }
+    
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flushBuffer();
+        }
+    }
+    
+    public synchronized void flush() {
+        flushBuffer();
+    }
+    
+    private void flushBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write battle log " + file, e);
+        }
+        buffer.clear();
+    }
+    
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+    
+    @Override
+    public synchronized void close() {
+        flushBuffer();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close battle log " + file, e);
+        }
+    }
+}
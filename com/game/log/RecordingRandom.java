@@ -0,0 +1,63 @@
+package com.game.log;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Wrapper random yang mengingat semua nilai mentah (nextLong) yang di-draw
+ *
+ * Dipakai oleh BattleLogHistory untuk menyimpan RNG outcome setiap command;
+ * satu command boleh memakai berapapun draw. Semua method RandomGenerator
+ * diturunkan dari nextLong(), sehingga hasilnya sama persis dengan generator
+ * yang dibungkus.
+ */
+public class RecordingRandom implements RandomGenerator {
+    private final RandomGenerator delegate;
+    private long[] draws = new long[4];
+    private int drawCount;
+    
+    public RecordingRandom(RandomGenerator delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate random cannot be null");
+        }
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public long nextLong() {
+        long draw = delegate.nextLong();
+        if (drawCount == draws.length) {
+            draws = Arrays.copyOf(draws, drawCount * 2);
+        }
+        draws[drawCount++] = draw;
+        return draw;
+    }
+    
+    /**
+     * Draw ke-index sejak reset() terakhir
+     */
+    public long getDraw(int index) {
+        if (index < 0 || index >= drawCount) {
+            throw new IndexOutOfBoundsException("Draw " + index + " out of range [0, " + drawCount + ")");
+        }
+        return draws[index];
+    }
+    
+    /**
+     * Jumlah draw sejak reset() terakhir
+     */
+    public int getDrawCount() {
+        return drawCount;
+    }
+    
+    /**
+     * Buffer draw internal (hanya drawCount elemen pertama yang berarti), tanpa copy
+     */
+    long[] drawBuffer() {
+        return draws;
+    }
+    
+    public void reset() {
+        drawCount = 0;
+    }
+}
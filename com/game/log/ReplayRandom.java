@@ -0,0 +1,47 @@
+package com.game.log;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random yang mengembalikan RNG outcome dari battle log
+ *
+ * Dengan memberikan nilai mentah yang sama dalam urutan yang sama, critical
+ * roll pada CriticalHitDecorator/CompiledSkill menghasilkan keputusan yang
+ * sama seperti saat battle direkam.
+ */
+public class ReplayRandom implements RandomGenerator {
+    private long[] draws = new long[4];
+    private int drawCount;
+    private int next;
+    
+    /**
+     * Tambahkan draw yang akan dikembalikan oleh nextLong() berikutnya (FIFO)
+     */
+    public void addDraw(long draw) {
+        if (drawCount == draws.length) {
+            draws = Arrays.copyOf(draws, drawCount * 2);
+        }
+        draws[drawCount++] = draw;
+    }
+    
+    /**
+     * Jumlah draw yang sudah ditambahkan tetapi belum dipakai
+     */
+    public int getRemaining() {
+        return drawCount - next;
+    }
+    
+    public void clear() {
+        drawCount = 0;
+        next = 0;
+    }
+    
+    @Override
+    public long nextLong() {
+        if (next == drawCount) {
+            throw new IllegalStateException("Replay requested a random draw that was not recorded");
+        }
+        return draws[next++];
+    }
+}
@@ -0,0 +1,133 @@
+package com.game.matchmaking;
+
+import com.game.battle.BattleManager;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Satu player di antrian matchmaking
+ *
+ * Status diubah dengan CAS: cancel() dari thread manapun (WAITING -> CANCELLED)
+ * dan thread matcher saat pairing (WAITING -> RESERVED -> MATCHED). RESERVED
+ * hanya berlangsung selama matcher mengunci kedua ticket satu pairing.
+ */
+public final class MatchTicket {
+    private static final int WAITING = 0;
+    private static final int RESERVED = 1;
+    private static final int MATCHED = 2;
+    private static final int CANCELLED = 3;
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(MatchTicket.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long playerId;
+    private final int archetypeId;
+    private final int rating;
+    private final int bucket;
+    private final long enqueuedAtNanos;
+    private final AtomicInteger queued;
+
+    private volatile int state = WAITING;
+    private volatile long matchedAtNanos;
+    private volatile BattleManager battle;
+
+    MatchTicket(long playerId, int archetypeId, int rating, int bucket, long enqueuedAtNanos, AtomicInteger queued) {
+        this.playerId = playerId;
+        this.archetypeId = archetypeId;
+        this.rating = rating;
+        this.bucket = bucket;
+        this.enqueuedAtNanos = enqueuedAtNanos;
+        this.queued = queued;
+    }
+
+    /**
+     * Keluar dari antrian
+     *
+     * @return false jika ticket sudah dipasangkan atau sudah di-cancel
+     */
+    public boolean cancel() {
+        while (true) {
+            int current = state;
+            if (current == RESERVED) {
+                Thread.onSpinWait();
+            } else if (current != WAITING) {
+                return false;
+            } else if (STATE.compareAndSet(this, WAITING, CANCELLED)) {
+                queued.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public TicketState getState() {
+        return switch (state) {
+            case MATCHED -> TicketState.MATCHED;
+            case CANCELLED -> TicketState.CANCELLED;
+            default -> TicketState.WAITING;
+        };
+    }
+
+    /**
+     * Battle hasil pairing; null sampai batch-nya diterima listener
+     */
+    public BattleManager getBattle() {
+        return battle;
+    }
+
+    public long getPlayerId() {
+        return playerId;
+    }
+
+    public int getArchetypeId() {
+        return archetypeId;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public long getEnqueuedAtNanos() {
+        return enqueuedAtNanos;
+    }
+
+    /**
+     * Waktu tunggu sampai dipasangkan, atau -1 jika belum
+     */
+    public long getWaitNanos() {
+        return state == MATCHED ? matchedAtNanos - enqueuedAtNanos : -1L;
+    }
+
+    // ===== Dipakai oleh thread matcher =====
+
+    int bucket() {
+        return bucket;
+    }
+
+    boolean isWaiting() {
+        return state == WAITING;
+    }
+
+    boolean reserve() {
+        return STATE.compareAndSet(this, WAITING, RESERVED);
+    }
+
+    void release() {
+        state = WAITING;
+    }
+
+    void matched(long nowNanos) {
+        matchedAtNanos = nowNanos;
+        state = MATCHED;
+    }
+
+    void spawned(BattleManager battle) {
+        this.battle = battle;
+    }
+}
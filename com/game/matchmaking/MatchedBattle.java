@@ -0,0 +1,9 @@
+package com.game.matchmaking;
+
+import com.game.battle.BattleManager;
+
+/**
+ * Satu pairing beserta battle yang sudah dibuat; player1 adalah ticket yang menunggu lebih lama
+ */
+public record MatchedBattle(MatchTicket player1, MatchTicket player2, BattleManager battle) {
+}
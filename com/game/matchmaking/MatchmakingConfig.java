@@ -0,0 +1,49 @@
+package com.game.matchmaking;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parameter matchmaking
+ *
+ * Rating dikelompokkan per bucket selebar bucketWidth. Window pencarian
+ * dihitung dalam bucket: mulai dari initialWindow dan bertambah satu bucket
+ * setiap widenIntervalNanos sampai maxWindow.
+ *
+ * @param maxRating   rating di atas nilai ini masuk ke bucket terakhir
+ * @param batchSize   jumlah pairing maksimal per batch ke MatchmakingListener
+ * @param allowMirror false jika dua player dengan archetype sama tidak boleh dipasangkan
+ */
+public record MatchmakingConfig(int bucketWidth, int maxRating, int initialWindow, int maxWindow,
+                                long widenIntervalNanos, int batchSize, boolean allowMirror) {
+
+    public MatchmakingConfig {
+        if (bucketWidth <= 0 || maxRating <= 0) {
+            throw new IllegalArgumentException("Bucket width and max rating must be positive");
+        }
+        if (initialWindow < 0 || maxWindow < initialWindow) {
+            throw new IllegalArgumentException("Window must satisfy 0 <= initial <= max, got: "
+                + initialWindow + ".." + maxWindow);
+        }
+        if (widenIntervalNanos <= 0) {
+            throw new IllegalArgumentException("Widen interval must be positive, got: " + widenIntervalNanos);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+    }
+
+    /**
+     * Bucket 50 rating, window awal +-50 dan melebar tiap detik sampai +-500
+     */
+    public static MatchmakingConfig defaults() {
+        return new MatchmakingConfig(50, 5_000, 1, 10, TimeUnit.SECONDS.toNanos(1), 256, true);
+    }
+
+    public int bucketCount() {
+        return maxRating / bucketWidth + 1;
+    }
+
+    public int bucketOf(int rating) {
+        return Math.min(rating, maxRating) / bucketWidth;
+    }
+}
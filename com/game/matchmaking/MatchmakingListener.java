@@ -0,0 +1,16 @@
+package com.game.matchmaking;
+
+import java.util.List;
+
+/**
+ * Menerima batch battle hasil matchmaking; dipanggil dari thread matcher
+ *
+ * Jika onMatched() melempar exception, pairing yang sama dikirim ulang di
+ * flush berikutnya dengan BattleManager baru, jadi listener sebaiknya tidak
+ * menerima sebagian batch sebelum gagal.
+ */
+@FunctionalInterface
+public interface MatchmakingListener {
+
+    void onMatched(List<MatchedBattle> battles);
+}
@@ -0,0 +1,124 @@
+package com.game.matchmaking;
+
+import com.game.metrics.LatencyHistogram;
+import com.game.registry.GameRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator sintetis lokal untuk MatchmakingService
+ *
+ * Skenario archetype populer: mirror match dilarang dan antrian diisi dulu
+ * dengan sejumlah besar player archetype 0 yang tidak punya lawan. Selama
+ * pengujian beberapa thread producer mengirim pasangan player (archetype 1
+ * dan pengganti archetype 0) dengan laju tetap, jadi setiap pairing harus
+ * dicari di index yang berisi ratusan ribu player.
+ *
+ * Pemakaian: java com.game.matchmaking.MatchmakingLoadGenerator
+ *            [queuedPlayers] [pairingsPerSecond] [seconds] [producers]
+ */
+public class MatchmakingLoadGenerator {
+    private static final long TICK_MILLIS = 5L;
+    private static final int MEAN_RATING = 1_500;
+    private static final int RATING_DEVIATION = 400;
+
+    /**
+     * Ringkasan hasil load test, waktu tunggu dalam mikrodetik
+     */
+    public record Report(long pairings, double seconds, int queuedAtEnd,
+                         long p50WaitMicros, long p99WaitMicros, long maxWaitMicros) {
+        @Override
+        public String toString() {
+            return String.format("Pairings: %d in %.2f s (%.0f/s), queued at end: %d%n"
+                    + "Wait p50: %d us, p99: %d us, max: %d us",
+                pairings, seconds, pairings / seconds, queuedAtEnd, p50WaitMicros, p99WaitMicros, maxWaitMicros);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int queuedPlayers = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int pairingsPerSecond = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int producers = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+        System.out.println(run(queuedPlayers, pairingsPerSecond, seconds, producers));
+    }
+
+    public static Report run(int queuedPlayers, int pairingsPerSecond, int seconds, int producers)
+            throws InterruptedException {
+        if (queuedPlayers < 0 || pairingsPerSecond <= 0 || seconds <= 0 || producers <= 0) {
+            throw new IllegalArgumentException("Invalid load parameters");
+        }
+        GameRegistry registry = GameRegistry.defaults();
+        MatchmakingConfig defaults = MatchmakingConfig.defaults();
+        MatchmakingConfig config = new MatchmakingConfig(defaults.bucketWidth(), defaults.maxRating(),
+            defaults.initialWindow(), defaults.maxWindow(), defaults.widenIntervalNanos(), defaults.batchSize(), false);
+
+        LatencyHistogram waits = new LatencyHistogram();
+        AtomicLong playerIds = new AtomicLong();
+        try (MatchmakingService service = new MatchmakingService(registry, config, battles -> {
+            for (MatchedBattle battle : battles) {
+                waits.record(battle.player2().getWaitNanos());
+            }
+        })) {
+            SplittableRandom random = new SplittableRandom(42L);
+            for (int i = 0; i < queuedPlayers; i++) {
+                service.enqueue(playerIds.getAndIncrement(), 0, rating(random));
+            }
+            service.tick(System.nanoTime());
+            System.out.printf("Prefilled %d players%n", service.getQueuedCount());
+            service.start(TICK_MILLIS);
+
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(seconds);
+            List<Thread> threads = new ArrayList<>(producers);
+            for (int p = 0; p < producers; p++) {
+                long intervalNanos = TimeUnit.SECONDS.toNanos(1) * producers / pairingsPerSecond;
+                SplittableRandom producerRandom = random.split();
+                threads.add(Thread.ofPlatform().daemon().start(
+                    () -> produce(service, playerIds, producerRandom, intervalNanos, end)));
+            }
+
+            long lastPairings = 0;
+            while (System.nanoTime() < end) {
+                Thread.sleep(1_000L);
+                long pairings = service.getPairingCount();
+                System.out.printf("queued %d, pairings/s %d, wait p99 %d us%n",
+                    service.getQueuedCount(), pairings - lastPairings, waits.getPercentile(99.0) / 1_000);
+                lastPairings = pairings;
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Thread.sleep(TICK_MILLIS * 4);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            return new Report(service.getPairingCount(), elapsed, service.getQueuedCount(),
+                waits.getPercentile(50.0) / 1_000, waits.getPercentile(99.0) / 1_000, waits.getMax() / 1_000);
+        }
+    }
+
+    /**
+     * Kirim player archetype 1 (akan dipasangkan) dan pengganti archetype 0 dengan laju tetap
+     */
+    private static void produce(MatchmakingService service, AtomicLong playerIds, SplittableRandom random,
+                                long intervalNanos, long endNanos) {
+        long next = System.nanoTime();
+        while (next < endNanos) {
+            service.enqueue(playerIds.getAndIncrement(), 1, rating(random));
+            service.enqueue(playerIds.getAndIncrement(), 0, rating(random));
+            next += intervalNanos;
+            long delay = next - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+        }
+    }
+
+    private static int rating(SplittableRandom random) {
+        double gaussian = random.nextDouble() + random.nextDouble() + random.nextDouble() - 1.5;
+        return Math.max(0, MEAN_RATING + (int) (gaussian * 2 * RATING_DEVIATION));
+    }
+}
@@ -0,0 +1,336 @@
+package com.game.matchmaking;
+
+import com.game.battle.BattleManager;
+import com.game.character.Character;
+import com.game.metrics.BattleMetrics;
+import com.game.registry.GameRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Antrian matchmaking dengan index per archetype dan bucket rating
+ *
+ * Banyak thread memanggil enqueue(); satu thread matcher memanggil tick()
+ * (sendiri, atau lewat start()). Setiap tick:
+ * 1. player baru mencari lawan dari bucket terdekat ke terjauh, lalu masuk index
+ * 2. player yang window-nya melebar hanya memeriksa ring bucket yang baru terbuka
+ * 3. pairing di-spawn menjadi BattleManager per batch dan dikirim ke listener
+ *
+ * Jika listener (atau pembuatan character) gagal, pairing batch itu tetap
+ * tertunda dan dikirim ulang di flush berikutnya dengan BattleManager baru;
+ * kegagalan tick terjadwal dicatat lewat BattleMetrics.recordError().
+ *
+ * Dua player cocok jika jarak bucket-nya <= window player yang menunggu lebih lama.
+ * Antrian per bucket urut waktu masuk, jadi cukup memeriksa head setiap bucket:
+ * head adalah player yang paling lama menunggu dan window-nya paling lebar.
+ * Karena setiap player baru langsung memeriksa semua bucket dalam jangkauan,
+ * tidak pernah ada dua player di index yang saling cocok, dan pelebaran window
+ * tidak perlu memeriksa ulang bucket yang lebih dekat.
+ *
+ * Archetype id mengacu ke GameRegistry snapshot yang diberikan; setelah
+ * registry di-reload, buat service baru untuk snapshot yang baru.
+ */
+public class MatchmakingService implements AutoCloseable {
+    private final GameRegistry registry;
+    private final MatchmakingConfig config;
+    private final MatchmakingListener listener;
+    private final ConcurrentLinkedQueue<MatchTicket> arrivals = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong pairings = new AtomicLong();
+
+    // Hanya diakses thread matcher
+    // Bucket rating per archetype, index archetypeId * bucketCount + bucket
+    private final List<ArrayDeque<MatchTicket>> buckets;
+    private final int archetypeCount;
+    private final List<ArrayDeque<MatchTicket>> widening;
+    private final List<MatchTicket> pendingPairs = new ArrayList<>();
+    private int foundArchetype;
+    private int foundBucket;
+
+    private ScheduledExecutorService scheduler;
+
+    public MatchmakingService(GameRegistry registry, MatchmakingConfig config, MatchmakingListener listener) {
+        if (registry == null || config == null || listener == null) {
+            throw new IllegalArgumentException("Registry, config and listener cannot be null");
+        }
+        this.registry = registry;
+        this.config = config;
+        this.listener = listener;
+
+        this.archetypeCount = registry.getArchetypeCount();
+        int bucketCount = archetypeCount * config.bucketCount();
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.widening = new ArrayList<>(config.maxWindow());
+        for (int level = 0; level < config.maxWindow(); level++) {
+            widening.add(new ArrayDeque<>());
+        }
+    }
+
+    private ArrayDeque<MatchTicket> bucket(int archetypeId, int bucket) {
+        return buckets.get(archetypeId * config.bucketCount() + bucket);
+    }
+
+    public MatchTicket enqueue(long playerId, int archetypeId, int rating) {
+        return enqueue(playerId, archetypeId, rating, System.nanoTime());
+    }
+
+    /**
+     * Enqueue dengan waktu sendiri (clock yang sama dengan tick(nowNanos))
+     */
+    public MatchTicket enqueue(long playerId, int archetypeId, int rating, long nowNanos) {
+        if (archetypeId < 0 || archetypeId >= archetypeCount) {
+            throw new IllegalArgumentException("Unknown archetype id: " + archetypeId);
+        }
+        if (rating < 0) {
+            throw new IllegalArgumentException("Rating cannot be negative, got: " + rating);
+        }
+        MatchTicket ticket = new MatchTicket(playerId, archetypeId, rating, config.bucketOf(rating), nowNanos, queued);
+        queued.incrementAndGet();
+        arrivals.offer(ticket);
+        return ticket;
+    }
+
+    /**
+     * Jalankan tick() setiap tickMillis di satu daemon thread
+     */
+    public synchronized void start(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive, got: " + tickMillis);
+        }
+        if (scheduler != null) {
+            throw new IllegalStateException("Matchmaking already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "matchmaking");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scheduledTick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduledTick() {
+        try {
+            tick(System.nanoTime());
+        } catch (RuntimeException e) {
+            // Exception yang lolos akan menghentikan scheduler
+            BattleMetrics.recordError("MATCHMAKING", "Tick failed", e);
+        }
+    }
+
+    /**
+     * Satu putaran matching; hanya boleh dipanggil oleh satu thread
+     *
+     * @return jumlah pairing baru
+     */
+    public int tick(long nowNanos) {
+        int spawned = 0;
+
+        MatchTicket ticket;
+        while ((ticket = arrivals.poll()) != null) {
+            int level = levelAt(ticket, nowNanos);
+            MatchTicket opponent = reserveOpponent(ticket, 0, config.maxWindow(), level, nowNanos);
+            if (opponent != null) {
+                pair(ticket, opponent, nowNanos);
+            } else if (ticket.isWaiting()) {
+                bucket(ticket.getArchetypeId(), ticket.bucket()).addLast(ticket);
+                scheduleWidening(ticket, level);
+            }
+            spawned += flushIfFull();
+        }
+
+        for (int level = config.initialWindow(); level < widening.size(); level++) {
+            ArrayDeque<MatchTicket> due = widening.get(level);
+            while ((ticket = due.peekFirst()) != null && widenAt(ticket, level) <= nowNanos) {
+                due.pollFirst();
+                int newLevel = levelAt(ticket, nowNanos);
+                MatchTicket opponent = reserveOpponent(ticket, level + 1, newLevel, newLevel, nowNanos);
+                if (opponent != null) {
+                    pair(ticket, opponent, nowNanos);
+                    spawned += flushIfFull();
+                } else if (ticket.isWaiting()) {
+                    scheduleWidening(ticket, newLevel);
+                }
+            }
+        }
+
+        spawned += flush();
+        return spawned;
+    }
+
+
+    private int levelAt(MatchTicket ticket, long nowNanos) {
+        long waited = Math.max(0L, nowNanos - ticket.getEnqueuedAtNanos());
+        long level = config.initialWindow() + waited / config.widenIntervalNanos();
+        return (int) Math.min(config.maxWindow(), level);
+    }
+
+    private long widenAt(MatchTicket ticket, int level) {
+        return ticket.getEnqueuedAtNanos() + (level + 1 - config.initialWindow()) * config.widenIntervalNanos();
+    }
+
+    private void scheduleWidening(MatchTicket ticket, int level) {
+        if (level < widening.size()) {
+            widening.get(level).addLast(ticket);
+        }
+    }
+
+    /**
+     * Cari lawan dan kunci kedua ticket (RESERVED) supaya tidak bisa di-cancel saat dipasangkan
+     *
+     * @return lawan, atau null jika tidak ada lawan atau ticket sudah di-cancel
+     */
+    private MatchTicket reserveOpponent(MatchTicket ticket, int fromRing, int toRing, int level, long nowNanos) {
+        while (ticket.isWaiting()) {
+            MatchTicket opponent = findOpponent(ticket, fromRing, toRing, level, nowNanos);
+            if (opponent == null) {
+                return null;
+            }
+            ArrayDeque<MatchTicket> bucket = bucket(foundArchetype, foundBucket);
+            if (!opponent.reserve()) {
+                // Baru saja di-cancel; buang dan cari lagi
+                bucket.pollFirst();
+                continue;
+            }
+            if (!ticket.reserve()) {
+                opponent.release();
+                return null;
+            }
+            bucket.pollFirst();
+            return opponent;
+        }
+        return null;
+    }
+
+    /**
+     * Cari lawan pada ring bucket fromRing..toRing; ring dekat diutamakan,
+     * dalam satu ring dipilih yang paling lama menunggu
+     *
+     * @param level window ticket; ring di luar window hanya cocok dengan player yang window-nya mencakup ring itu
+     */
+    private MatchTicket findOpponent(MatchTicket ticket, int fromRing, int toRing, int level, long nowNanos) {
+        int center = ticket.bucket();
+        for (int ring = fromRing; ring <= toRing; ring++) {
+            MatchTicket best = null;
+            for (int side = -1; side <= 1; side += 2) {
+                int bucket = center + side * ring;
+                if (bucket < 0 || bucket >= config.bucketCount() || (ring == 0 && side > 0)) {
+                    continue;
+                }
+                for (int archetype = 0; archetype < archetypeCount; archetype++) {
+                    if (!config.allowMirror() && archetype == ticket.getArchetypeId()) {
+                        continue;
+                    }
+                    MatchTicket head = waitingHead(bucket(archetype, bucket));
+                    if (head == null || (ring > level && levelAt(head, nowNanos) < ring)) {
+                        continue;
+                    }
+                    if (best == null || head.getEnqueuedAtNanos() < best.getEnqueuedAtNanos()) {
+                        best = head;
+                        foundArchetype = archetype;
+                        foundBucket = bucket;
+                    }
+                }
+            }
+            if (best != null) {
+                return best;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Head yang masih menunggu; ticket yang sudah dipasangkan atau di-cancel dibuang
+     */
+    private MatchTicket waitingHead(ArrayDeque<MatchTicket> bucket) {
+        MatchTicket head;
+        while ((head = bucket.peekFirst()) != null && !head.isWaiting()) {
+            bucket.pollFirst();
+        }
+        return head;
+    }
+
+    private void pair(MatchTicket ticket, MatchTicket opponent, long nowNanos) {
+        boolean ticketFirst = ticket.getEnqueuedAtNanos() <= opponent.getEnqueuedAtNanos();
+        ticket.matched(nowNanos);
+        opponent.matched(nowNanos);
+        pendingPairs.add(ticketFirst ? ticket : opponent);
+        pendingPairs.add(ticketFirst ? opponent : ticket);
+        queued.addAndGet(-2);
+        pairings.incrementAndGet();
+    }
+
+    private int flushIfFull() {
+        return pendingPairs.size() >= config.batchSize() * 2 ? flush() : 0;
+    }
+
+    /**
+     * Spawn BattleManager untuk semua pairing yang tertunda dan kirim sebagai satu batch
+     *
+     * Pairing baru dikosongkan dan ticket baru mendapat battle-nya setelah listener
+     * menerima batch; jika gagal, exception diteruskan dan batch dicoba lagi nanti.
+     */
+    private int flush() {
+        int count = pendingPairs.size() / 2;
+        if (count == 0) {
+            return 0;
+        }
+        List<MatchedBattle> batch = new ArrayList<>(count);
+        for (int i = 0; i < pendingPairs.size(); i += 2) {
+            MatchTicket player1 = pendingPairs.get(i);
+            MatchTicket player2 = pendingPairs.get(i + 1);
+            Character character1 = registry.createCharacter(player1.getArchetypeId(), "Player" + player1.getPlayerId());
+            Character character2 = registry.createCharacter(player2.getArchetypeId(), "Player" + player2.getPlayerId());
+            batch.add(new MatchedBattle(player1, player2, new BattleManager(character1, character2)));
+        }
+        listener.onMatched(batch);
+        pendingPairs.clear();
+        for (MatchedBattle matched : batch) {
+            matched.player1().spawned(matched.battle());
+            matched.player2().spawned(matched.battle());
+        }
+        return count;
+    }
+
+    /**
+     * Jumlah player yang sedang menunggu (termasuk yang belum diproses tick)
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public long getPairingCount() {
+        return pairings.get();
+    }
+
+    public MatchmakingConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Hentikan tick terjadwal; menunggu tick yang sedang berjalan selesai
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            while (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
+                // tick dengan backlog besar bisa lebih dari satu detik
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.game.matchmaking;
+
+/**
+ * Status satu MatchTicket
+ */
+public enum TicketState {
+    WAITING,
+    MATCHED,
+    CANCELLED
+}
@@ -0,0 +1,237 @@
+package com.game.metrics;
+
+import com.game.event.ActionType;
+import com.game.event.BattleEvents;
+import com.game.event.ServiceErrorEvent;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics bawaan untuk hot path battle: command, skill pipeline dan battle
+ *
+ * Default-nya nonaktif. Setiap hook di hot path dijaga dengan
+ * if (BattleMetrics.isEnabled()), jadi saat nonaktif biayanya hanya satu
+ * volatile read, sama seperti BattleEvents. Saat aktif, semua counter dan
+ * histogram lock-free dan tidak mengalokasi object per record.
+ *
+ * Yang dicatat:
+ * - per command type: jumlah, latency execute, total damage
+ * - per skill (berdasarkan description): eksekusi, crit rate, distribusi damage
+ * - per battle: jumlah battle dan turn, durasi turn dan battle, alokasi memory
+ *
+ * Hasilnya bisa dibaca lewat JMX (BattleMetricsJmx) atau di-dump berkala
+ * sebagai text/JSON (MetricsReporter).
+ */
+public final class BattleMetrics {
+    private static volatile boolean enabled;
+    private static volatile long resetNanos = System.nanoTime();
+
+    private static final CommandMetrics[] COMMANDS = newCommandMetrics();
+    private static final ConcurrentMap<String, SkillMetrics> SKILLS = new ConcurrentHashMap<>();
+
+    private static final LongAdder BATTLES = new LongAdder();
+    private static final LongAdder TURNS = new LongAdder();
+    private static final LatencyHistogram TURN_DURATION = new LatencyHistogram();
+    private static final LatencyHistogram BATTLE_DURATION = new LatencyHistogram();
+    private static final LongAdder ALLOCATED_BYTES = new LongAdder();
+    private static final LongAdder ALLOCATION_SAMPLES = new LongAdder();
+    private static final LongAdder ERRORS = new LongAdder();
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private BattleMetrics() {
+    }
+
+    private static CommandMetrics[] newCommandMetrics() {
+        ActionType[] types = ActionType.values();
+        CommandMetrics[] metrics = new CommandMetrics[types.length + 1];
+        for (ActionType type : types) {
+            metrics[type.ordinal()] = new CommandMetrics(type.name());
+        }
+        metrics[types.length] = new CommandMetrics("OTHER");
+        return metrics;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()) {
+            return allocationBean;
+        }
+        return null;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Kosongkan semua counter; handle SkillMetrics yang sudah ada tetap valid
+     */
+    public static void reset() {
+        for (CommandMetrics metrics : COMMANDS) {
+            metrics.reset();
+        }
+        for (SkillMetrics metrics : SKILLS.values()) {
+            metrics.reset();
+        }
+        BATTLES.reset();
+        TURNS.reset();
+        TURN_DURATION.reset();
+        BATTLE_DURATION.reset();
+        ALLOCATED_BYTES.reset();
+        ALLOCATION_SAMPLES.reset();
+        ERRORS.reset();
+        resetNanos = System.nanoTime();
+    }
+
+    /**
+     * Catat kegagalan service latar dan publish ServiceErrorEvent jika ada subscriber;
+     * selalu dihitung, juga saat metrics tidak aktif, karena kegagalan jarang dan
+     * tidak boleh hilang
+     */
+    public static void recordError(String service, String message, Throwable error) {
+        ERRORS.increment();
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new ServiceErrorEvent(service, message, error));
+        }
+    }
+
+    // ===== Hooks (dipanggil hanya jika isEnabled()) =====
+
+    public static void recordCommand(ActionType type, long nanos, int damage) {
+        COMMANDS[type == null ? COMMANDS.length - 1 : type.ordinal()].record(nanos, damage);
+    }
+
+    /**
+     * Handle metrics untuk skill; simpan di field supaya lookup hanya sekali
+     */
+    public static SkillMetrics skill(String description) {
+        return SKILLS.computeIfAbsent(description, SkillMetrics::new);
+    }
+
+    public static void recordTurn(long nanos) {
+        TURNS.increment();
+        TURN_DURATION.record(nanos);
+    }
+
+    /**
+     * @param allocatedBytes alokasi thread selama battle, atau negatif jika tidak diketahui
+     */
+    public static void recordBattle(long nanos, long allocatedBytes) {
+        BATTLES.increment();
+        BATTLE_DURATION.record(nanos);
+        if (allocatedBytes >= 0) {
+            ALLOCATED_BYTES.add(allocatedBytes);
+            ALLOCATION_SAMPLES.increment();
+        }
+    }
+
+    /**
+     * Total byte yang dialokasi thread saat ini, atau -1 jika tidak didukung
+     * (mis. JVM tanpa allocation tracking atau virtual thread)
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (ALLOCATION_BEAN == null) {
+            return -1;
+        }
+        return ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    // ===== Query =====
+
+    public static CommandMetrics command(ActionType type) {
+        return COMMANDS[type.ordinal()];
+    }
+
+    public static List<CommandMetrics> commands() {
+        return List.of(COMMANDS);
+    }
+
+    /**
+     * Semua skill yang pernah tercatat, urut berdasarkan description
+     */
+    public static List<SkillMetrics> skills() {
+        List<SkillMetrics> skills = new ArrayList<>(SKILLS.values());
+        skills.sort(Comparator.comparing(SkillMetrics::getDescription));
+        return skills;
+    }
+
+    public static double getUptimeSeconds() {
+        return (System.nanoTime() - resetNanos) / 1e9;
+    }
+
+    public static long getCommandCount() {
+        long total = 0;
+        for (CommandMetrics metrics : COMMANDS) {
+            total += metrics.getCount();
+        }
+        return total;
+    }
+
+    /**
+     * Rata-rata command per detik sejak reset terakhir
+     */
+    public static double getCommandsPerSecond() {
+        double seconds = getUptimeSeconds();
+        return seconds <= 0.0 ? 0.0 : getCommandCount() / seconds;
+    }
+
+    /**
+     * Crit rate gabungan semua skill
+     */
+    public static double getCritRate() {
+        long executions = 0;
+        long crits = 0;
+        for (SkillMetrics metrics : SKILLS.values()) {
+            executions += metrics.getExecutions();
+            crits += metrics.getCrits();
+        }
+        return executions == 0 ? 0.0 : (double) crits / executions;
+    }
+
+    public static long getBattleCount() {
+        return BATTLES.sum();
+    }
+
+    /**
+     * Jumlah kegagalan service latar sejak reset (lihat recordError())
+     */
+    public static long getErrorCount() {
+        return ERRORS.sum();
+    }
+
+    public static long getTurnCount() {
+        return TURNS.sum();
+    }
+
+    public static LatencyHistogram getTurnDuration() {
+        return TURN_DURATION;
+    }
+
+    public static LatencyHistogram getBattleDuration() {
+        return BATTLE_DURATION;
+    }
+
+    /**
+     * Rata-rata byte yang dialokasi per battle, atau -1 jika belum ada sampel
+     */
+    public static long getAllocatedBytesPerBattle() {
+        long samples = ALLOCATION_SAMPLES.sum();
+        return samples == 0 ? -1 : ALLOCATED_BYTES.sum() / samples;
+    }
+}
@@ -0,0 +1,135 @@
+package com.game.metrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Implementasi BattleMetricsMXBean yang didaftarkan ke platform MBeanServer
+ *
+ * Setelah register(), metrics bisa dibaca dari jconsole/VisualVM di
+ * com.game:type=BattleMetrics.
+ */
+public final class BattleMetricsJmx implements BattleMetricsMXBean {
+    public static final String OBJECT_NAME = "com.game:type=BattleMetrics";
+
+    private BattleMetricsJmx() {
+    }
+
+    /**
+     * Daftarkan MXBean; aman dipanggil lebih dari sekali
+     */
+    public static synchronized ObjectName register() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new BattleMetricsJmx(), name);
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return BattleMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        if (enabled) {
+            BattleMetrics.enable();
+        } else {
+            BattleMetrics.disable();
+        }
+    }
+
+    @Override
+    public void reset() {
+        BattleMetrics.reset();
+    }
+
+    @Override
+    public double getUptimeSeconds() {
+        return BattleMetrics.getUptimeSeconds();
+    }
+
+    @Override
+    public long getCommandCount() {
+        return BattleMetrics.getCommandCount();
+    }
+
+    @Override
+    public double getCommandsPerSecond() {
+        return BattleMetrics.getCommandsPerSecond();
+    }
+
+    @Override
+    public long getCommandLatencyP50Micros() {
+        return commandPercentileMicros(50);
+    }
+
+    @Override
+    public long getCommandLatencyP99Micros() {
+        return commandPercentileMicros(99);
+    }
+
+    /**
+     * Percentile terburuk di antara semua command type
+     */
+    private static long commandPercentileMicros(double percentile) {
+        long worst = 0;
+        for (CommandMetrics command : BattleMetrics.commands()) {
+            worst = Math.max(worst, command.getLatency().getPercentile(percentile));
+        }
+        return worst / 1_000L;
+    }
+
+    @Override
+    public double getCritRate() {
+        return BattleMetrics.getCritRate();
+    }
+
+    @Override
+    public long getBattleCount() {
+        return BattleMetrics.getBattleCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return BattleMetrics.getErrorCount();
+    }
+
+    @Override
+    public long getTurnCount() {
+        return BattleMetrics.getTurnCount();
+    }
+
+    @Override
+    public long getTurnDurationP50Micros() {
+        return BattleMetrics.getTurnDuration().getPercentile(50) / 1_000L;
+    }
+
+    @Override
+    public long getTurnDurationP99Micros() {
+        return BattleMetrics.getTurnDuration().getPercentile(99) / 1_000L;
+    }
+
+    @Override
+    public long getBattleDurationP99Micros() {
+        return BattleMetrics.getBattleDuration().getPercentile(99) / 1_000L;
+    }
+
+    @Override
+    public long getAllocatedBytesPerBattle() {
+        return BattleMetrics.getAllocatedBytesPerBattle();
+    }
+
+    @Override
+    public String getSnapshotJson() {
+        return MetricsFormat.JSON.format();
+    }
+}
@@ -0,0 +1,42 @@
+package com.game.metrics;
+
+/**
+ * Tampilan JMX dari BattleMetrics (lihat BattleMetricsJmx)
+ *
+ * Durasi dalam mikrodetik; snapshot lengkap tersedia sebagai JSON.
+ */
+public interface BattleMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    void reset();
+
+    double getUptimeSeconds();
+
+    long getCommandCount();
+
+    double getCommandsPerSecond();
+
+    long getCommandLatencyP50Micros();
+
+    long getCommandLatencyP99Micros();
+
+    double getCritRate();
+
+    long getBattleCount();
+
+    long getErrorCount();
+
+    long getTurnCount();
+
+    long getTurnDurationP50Micros();
+
+    long getTurnDurationP99Micros();
+
+    long getBattleDurationP99Micros();
+
+    long getAllocatedBytesPerBattle();
+
+    String getSnapshotJson();
+}
@@ -0,0 +1,42 @@
+package com.game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics untuk satu jenis command (attack, skill, atau lainnya)
+ */
+public final class CommandMetrics {
+    private final String name;
+    private final LongAdder totalDamage = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    CommandMetrics(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, int damage) {
+        latency.record(nanos);
+        totalDamage.add(damage);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    public long getTotalDamage() {
+        return totalDamage.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    void reset() {
+        totalDamage.reset();
+        latency.reset();
+    }
+}
@@ -0,0 +1,170 @@
+package com.game.metrics;
+
+import java.util.Locale;
+
+/**
+ * Format dump snapshot BattleMetrics
+ */
+public enum MetricsFormat {
+    TEXT {
+        @Override
+        public String format() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format(Locale.ROOT, "=== Battle metrics (%.1f s, %s) ===%n",
+                BattleMetrics.getUptimeSeconds(), BattleMetrics.isEnabled() ? "enabled" : "disabled"));
+            out.append(String.format(Locale.ROOT, "Commands: %d total, %.1f/s%n",
+                BattleMetrics.getCommandCount(), BattleMetrics.getCommandsPerSecond()));
+            for (CommandMetrics command : BattleMetrics.commands()) {
+                if (command.getCount() > 0) {
+                    out.append(String.format(Locale.ROOT, "  %-8s n=%d damage=%d %s%n", command.getName(),
+                        command.getCount(), command.getTotalDamage(), latencyText(command.getLatency())));
+                }
+            }
+            out.append(String.format(Locale.ROOT, "Skills: crit rate %.2f%%%n", BattleMetrics.getCritRate() * 100));
+            for (SkillMetrics skill : BattleMetrics.skills()) {
+                if (skill.getExecutions() > 0) {
+                    out.append(String.format(Locale.ROOT, "  %s: n=%d crit=%.2f%% damage mean=%.1f %s%n",
+                        skill.getDescription(), skill.getExecutions(), skill.getCritRate() * 100,
+                        skill.getDamage().getMean(), latencyText(skill.getLatency())));
+                }
+            }
+            out.append(String.format(Locale.ROOT, "Battles: %d, turns: %d, allocated/battle: %s%n",
+                BattleMetrics.getBattleCount(), BattleMetrics.getTurnCount(),
+                allocationText(BattleMetrics.getAllocatedBytesPerBattle())));
+            out.append("  turn   ").append(latencyText(BattleMetrics.getTurnDuration())).append(System.lineSeparator());
+            out.append("  battle ").append(latencyText(BattleMetrics.getBattleDuration())).append(System.lineSeparator());
+            out.append(String.format(Locale.ROOT, "Service errors: %d%n", BattleMetrics.getErrorCount()));
+            return out.toString();
+        }
+    },
+
+    JSON {
+        @Override
+        public String format() {
+            StringBuilder out = new StringBuilder(512);
+            out.append('{');
+            out.append("\"uptimeSeconds\":").append(number(BattleMetrics.getUptimeSeconds()));
+            out.append(",\"enabled\":").append(BattleMetrics.isEnabled());
+            out.append(",\"commandsPerSecond\":").append(number(BattleMetrics.getCommandsPerSecond()));
+            out.append(",\"commands\":{");
+            boolean first = true;
+            for (CommandMetrics command : BattleMetrics.commands()) {
+                if (command.getCount() == 0) {
+                    continue;
+                }
+                out.append(first ? "" : ",");
+                first = false;
+                quote(out, command.getName());
+                out.append(":{\"count\":").append(command.getCount());
+                out.append(",\"totalDamage\":").append(command.getTotalDamage());
+                out.append(",\"latencyNanos\":");
+                latencyJson(out, command.getLatency());
+                out.append('}');
+            }
+            out.append("},\"critRate\":").append(number(BattleMetrics.getCritRate()));
+            out.append(",\"skills\":{");
+            first = true;
+            for (SkillMetrics skill : BattleMetrics.skills()) {
+                if (skill.getExecutions() == 0) {
+                    continue;
+                }
+                out.append(first ? "" : ",");
+                first = false;
+                quote(out, skill.getDescription());
+                out.append(":{\"executions\":").append(skill.getExecutions());
+                out.append(",\"crits\":").append(skill.getCrits());
+                out.append(",\"damage\":");
+                damageJson(out, skill.getDamage());
+                out.append(",\"latencyNanos\":");
+                latencyJson(out, skill.getLatency());
+                out.append('}');
+            }
+            out.append("},\"battles\":{\"count\":").append(BattleMetrics.getBattleCount());
+            out.append(",\"turns\":").append(BattleMetrics.getTurnCount());
+            out.append(",\"allocatedBytesPerBattle\":").append(BattleMetrics.getAllocatedBytesPerBattle());
+            out.append(",\"turnNanos\":");
+            latencyJson(out, BattleMetrics.getTurnDuration());
+            out.append(",\"battleNanos\":");
+            latencyJson(out, BattleMetrics.getBattleDuration());
+            out.append("},\"errors\":").append(BattleMetrics.getErrorCount());
+            out.append('}');
+            return out.toString();
+        }
+    };
+
+    /**
+     * Snapshot metrics saat ini dalam format ini
+     */
+    public abstract String format();
+
+    private static String latencyText(LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "p50=%s p90=%s p99=%s p99.9=%s max=%s",
+            duration(histogram.getPercentile(50)), duration(histogram.getPercentile(90)),
+            duration(histogram.getPercentile(99)), duration(histogram.getPercentile(99.9)),
+            duration(histogram.getMax()));
+    }
+
+    private static String duration(long nanos) {
+        if (nanos < 10_000L) {
+            return nanos + "ns";
+        } else if (nanos < 10_000_000L) {
+            return nanos / 1_000L + "us";
+        }
+        return nanos / 1_000_000L + "ms";
+    }
+
+    private static String allocationText(long bytes) {
+        if (bytes < 0) {
+            return "n/a";
+        }
+        return bytes < 10_240L ? bytes + " B" : bytes / 1_024L + " KiB";
+    }
+
+    private static void latencyJson(StringBuilder out, LatencyHistogram histogram) {
+        out.append("{\"count\":").append(histogram.getCount());
+        out.append(",\"mean\":").append(number(histogram.getMean()));
+        out.append(",\"p50\":").append(histogram.getPercentile(50));
+        out.append(",\"p90\":").append(histogram.getPercentile(90));
+        out.append(",\"p99\":").append(histogram.getPercentile(99));
+        out.append(",\"p999\":").append(histogram.getPercentile(99.9));
+        out.append(",\"max\":").append(histogram.getMax()).append('}');
+    }
+
+    /**
+     * Distribusi damage sebagai {"nilai": jumlah}, hanya nilai yang pernah muncul
+     */
+    private static void damageJson(StringBuilder out, ValueHistogram histogram) {
+        out.append("{\"mean\":").append(number(histogram.getMean())).append(",\"counts\":{");
+        boolean first = true;
+        for (int value = 0; value <= histogram.getMaxValue() + 1; value++) {
+            long count = histogram.getCount(value);
+            if (count == 0) {
+                continue;
+            }
+            out.append(first ? "\"" : ",\"");
+            first = false;
+            out.append(value > histogram.getMaxValue() ? "overflow" : Integer.toString(value));
+            out.append("\":").append(count);
+        }
+        out.append("}}");
+    }
+
+    private static String number(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static void quote(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
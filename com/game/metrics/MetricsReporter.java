@@ -0,0 +1,126 @@
+package com.game.metrics;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dump BattleMetrics secara berkala ke console atau file
+ *
+ * Dump dikerjakan oleh satu daemon thread, jadi thread battle tidak pernah
+ * menunggu I/O. Format JSON ditulis satu snapshot per baris (JSON Lines).
+ * Dump berkala baru dijadwalkan setelah start() (toConsole()/toFile() sudah
+ * memanggilnya). close() menulis satu dump terakhir.
+ *
+ * Dump yang gagal dicatat lewat BattleMetrics.recordError() (thread scheduler
+ * tidak punya caller yang bisa menerima exception); gagal menutup writer
+ * dilempar sebagai UncheckedIOException.
+ */
+public class MetricsReporter implements AutoCloseable {
+    private final Writer writer;
+    private final boolean closeWriter;
+    private final MetricsFormat format;
+    private final long periodMillis;
+    private final ScheduledExecutorService scheduler;
+    private boolean started;
+
+    /**
+     * Reporter untuk writer sendiri; dump berkala dimulai lewat start()
+     */
+    public MetricsReporter(Writer writer, MetricsFormat format, long periodMillis, boolean closeWriter) {
+        if (writer == null || format == null) {
+            throw new IllegalArgumentException("Writer and format cannot be null");
+        }
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Period must be positive, got: " + periodMillis);
+        }
+        this.writer = writer;
+        this.closeWriter = closeWriter;
+        this.format = format;
+        this.periodMillis = periodMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "battle-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Mulai dump berkala setiap periodMillis (idempotent)
+     */
+    public synchronized MetricsReporter start() {
+        if (!started) {
+            started = true;
+            scheduler.scheduleAtFixedRate(this::dump, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Reporter yang menulis ke System.out
+     */
+    public static MetricsReporter toConsole(MetricsFormat format, long periodMillis) {
+        return new MetricsReporter(newWriter(new FileOutputStream(FileDescriptor.out)), format, periodMillis, false)
+            .start();
+    }
+
+    /**
+     * Reporter yang menambahkan (append) dump ke file
+     */
+    public static MetricsReporter toFile(Path file, MetricsFormat format, long periodMillis) throws IOException {
+        OutputStream out = Files.newOutputStream(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new MetricsReporter(newWriter(out), format, periodMillis, true).start();
+    }
+
+    private static Writer newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tulis snapshot saat ini; dipanggil oleh scheduler
+     */
+    public synchronized void dump() {
+        try {
+            writer.write(format.format());
+            if (format == MetricsFormat.JSON) {
+                writer.write(System.lineSeparator());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            BattleMetrics.recordError("METRICS", "Failed to write battle metrics", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dump();
+        if (closeWriter) {
+            synchronized (this) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to close battle metrics writer", e);
+                }
+            }
+        }
+    }
+}
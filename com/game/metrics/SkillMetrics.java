@@ -0,0 +1,61 @@
+package com.game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics untuk satu skill pipeline (berdasarkan description-nya)
+ *
+ * Handle ini stabil selama aplikasi berjalan (reset hanya mengosongkan
+ * counter), jadi skill boleh menyimpannya di field.
+ */
+public final class SkillMetrics {
+    private static final int MAX_TRACKED_DAMAGE = 1_000;
+
+    private final String description;
+    private final LongAdder crits = new LongAdder();
+    private final ValueHistogram damage = new ValueHistogram(MAX_TRACKED_DAMAGE);
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    SkillMetrics(String description) {
+        this.description = description;
+    }
+
+    public void record(long nanos, int damageDealt, boolean critical) {
+        latency.record(nanos);
+        damage.record(damageDealt);
+        if (critical) {
+            crits.increment();
+        }
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getExecutions() {
+        return latency.getCount();
+    }
+
+    public long getCrits() {
+        return crits.sum();
+    }
+
+    public double getCritRate() {
+        long executions = getExecutions();
+        return executions == 0 ? 0.0 : (double) getCrits() / executions;
+    }
+
+    public ValueHistogram getDamage() {
+        return damage;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    void reset() {
+        crits.reset();
+        damage.reset();
+        latency.reset();
+    }
+}
@@ -0,0 +1,57 @@
+package com.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram linear untuk nilai kecil (mis. damage per hit)
+ *
+ * Nilai di atas maxValue masuk ke satu bucket overflow.
+ */
+public final class ValueHistogram {
+    private final AtomicLongArray counts;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public ValueHistogram(int maxValue) {
+        if (maxValue <= 0) {
+            throw new IllegalArgumentException("Max value must be positive, got: " + maxValue);
+        }
+        this.counts = new AtomicLongArray(maxValue + 2);
+    }
+
+    public void record(int value) {
+        int bucket = Math.min(Math.max(value, 0), counts.length() - 1);
+        counts.incrementAndGet(bucket);
+        count.increment();
+        sum.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Jumlah sampel dengan nilai tertentu; index maxValue + 1 adalah overflow
+     */
+    public long getCount(int value) {
+        return counts.get(value);
+    }
+
+    public int getMaxValue() {
+        return counts.length() - 2;
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+    }
+}
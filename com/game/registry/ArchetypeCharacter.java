@@ -0,0 +1,54 @@
+package com.game.registry;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.skill.Skill;
+import com.game.skill.SkillProvider;
+
+/**
+ * Character yang dibuat dari archetype registry
+ *
+ * Definisi dan skill pipeline diambil dari snapshot registry saat character
+ * dibuat, jadi reload registry tidak mengubah battle yang sedang berjalan.
+ */
+public class ArchetypeCharacter extends Character implements SkillProvider {
+    private final ArchetypeDefinition archetype;
+    private final Skill decoratedSkill;
+    private final Skill basicAttack;
+
+    ArchetypeCharacter(String name, ArchetypeDefinition archetype, Skill decoratedSkill, Skill basicAttack) {
+        super(name, archetype.hp(), archetype.attackPower());
+        this.archetype = archetype;
+        this.decoratedSkill = decoratedSkill;
+        this.basicAttack = basicAttack;
+    }
+
+    public ArchetypeDefinition getArchetype() {
+        return archetype;
+    }
+
+    public int getArchetypeId() {
+        return archetype.id();
+    }
+
+    @Override
+    public CharacterType getCharacterType() {
+        return archetype.family();
+    }
+
+    @Override
+    public Skill getDecoratedSkill() {
+        return decoratedSkill;
+    }
+
+    @Override
+    public Skill getBasicAttack() {
+        return basicAttack;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s) - HP: %d/%d, Attack: %d",
+            getName(), archetype.displayName(), getHp(), getMaxHp(), getAttackPower());
+    }
+}
@@ -0,0 +1,25 @@
+package com.game.registry;
+
+import com.game.character.Character;
+import com.game.character.CharacterCreator;
+
+/**
+ * DESIGN PATTERN: Factory Method
+ * Peran: ConcreteCreator untuk satu archetype registry
+ *
+ * Satu class untuk semua archetype: tidak perlu subclass Character/CharacterCreator baru.
+ */
+public class ArchetypeCreator extends CharacterCreator {
+    private final GameRegistry registry;
+    private final int archetypeId;
+
+    ArchetypeCreator(GameRegistry registry, int archetypeId) {
+        this.registry = registry;
+        this.archetypeId = archetypeId;
+    }
+
+    @Override
+    public Character createCharacter(String name) {
+        return registry.createCharacter(archetypeId, name);
+    }
+}
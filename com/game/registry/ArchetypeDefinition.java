@@ -0,0 +1,21 @@
+package com.game.registry;
+
+import com.game.character.CharacterType;
+
+/**
+ * Definisi archetype character dari config
+ *
+ * @param family character type yang dipakai untuk display dan event
+ */
+public record ArchetypeDefinition(int id, String key, String displayName, CharacterType family,
+                                  int hp, int attackPower, int skillId) {
+
+    public ArchetypeDefinition {
+        if (hp <= 0) {
+            throw new IllegalArgumentException("HP must be positive, got: " + hp);
+        }
+        if (attackPower <= 0) {
+            throw new IllegalArgumentException("Attack power must be positive, got: " + attackPower);
+        }
+    }
+}
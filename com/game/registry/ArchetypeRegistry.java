@@ -0,0 +1,75 @@
+package com.game.registry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Pemegang GameRegistry aktif dengan hot reload copy-on-write
+ *
+ * Reload mem-parse config ke snapshot baru secara penuh, baru kemudian
+ * mem-publish-nya lewat satu volatile write. Pembaca (current()) tidak pernah
+ * melihat registry setengah jadi dan tidak pernah menunggu lock; battle yang
+ * sedang berjalan tetap memakai snapshot yang dipakai saat character dibuat.
+ * Jika config baru tidak valid, snapshot lama tetap aktif.
+ */
+public class ArchetypeRegistry {
+    private final Path configFile;
+    private volatile GameRegistry current;
+    private FileTime lastModified;
+
+    private ArchetypeRegistry(Path configFile, GameRegistry initial, FileTime lastModified) {
+        this.configFile = configFile;
+        this.current = initial;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Registry dari file config
+     */
+    public static ArchetypeRegistry load(Path configFile) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(configFile);
+        return new ArchetypeRegistry(configFile, RegistryLoader.load(configFile, 0L), modified);
+    }
+
+    /**
+     * Registry tetap berisi Warrior dan Mage bawaan (tidak bisa di-reload)
+     */
+    public static ArchetypeRegistry defaults() {
+        return new ArchetypeRegistry(null, GameRegistry.defaults(), null);
+    }
+
+    public GameRegistry current() {
+        return current;
+    }
+
+    /**
+     * Muat ulang config dan publish snapshot baru
+     *
+     * @throws IllegalArgumentException jika config tidak valid (snapshot lama tetap aktif)
+     */
+    public synchronized GameRegistry reload() throws IOException {
+        if (configFile == null) {
+            return current;
+        }
+        // Dicatat sebelum parse, supaya file yang tidak valid tidak di-reload berulang kali
+        lastModified = Files.getLastModifiedTime(configFile);
+        GameRegistry reloaded = RegistryLoader.load(configFile, current.getVersion() + 1);
+        current = reloaded;
+        return reloaded;
+    }
+
+    /**
+     * Reload hanya jika file config berubah sejak load terakhir
+     *
+     * @return true jika snapshot baru dipublish
+     */
+    public synchronized boolean reloadIfModified() throws IOException {
+        if (configFile == null || Files.getLastModifiedTime(configFile).equals(lastModified)) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+}
@@ -0,0 +1,129 @@
+package com.game.registry;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.CompiledSkill;
+import com.game.skill.Skill;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Snapshot immutable dari semua archetype dan skill yang dimuat dari config
+ *
+ * Archetype dan skill mendapat id padat (0..n-1) sesuai urutan di config;
+ * lookup berdasarkan id hanyalah indexing array. Skill pipeline setiap
+ * archetype sudah di-build dan di-compile saat snapshot dibuat.
+ */
+public final class GameRegistry {
+    private final ArchetypeDefinition[] archetypes;
+    private final SkillDefinition[] skills;
+    private final CompiledSkill[] decoratedSkills;
+    private final Skill[] basicAttacks;
+    private final Map<String, Integer> archetypeIds;
+    private final long version;
+
+    GameRegistry(List<ArchetypeDefinition> archetypes, List<SkillDefinition> skills, long version) {
+        this.archetypes = archetypes.toArray(new ArchetypeDefinition[0]);
+        this.skills = skills.toArray(new SkillDefinition[0]);
+        this.decoratedSkills = new CompiledSkill[this.archetypes.length];
+        this.basicAttacks = new Skill[this.archetypes.length];
+        this.archetypeIds = new HashMap<>(this.archetypes.length * 2);
+        this.version = version;
+
+        for (int id = 0; id < this.archetypes.length; id++) {
+            ArchetypeDefinition archetype = this.archetypes[id];
+            if (archetype.id() != id) {
+                throw new IllegalArgumentException("Archetype ids must be dense, got " + archetype.id() + " at " + id);
+            }
+            if (archetype.skillId() < 0 || archetype.skillId() >= this.skills.length) {
+                throw new IllegalArgumentException("Archetype " + archetype.key() + " has unknown skill id " + archetype.skillId());
+            }
+            if (archetypeIds.put(archetype.key().toLowerCase(), id) != null) {
+                throw new IllegalArgumentException("Duplicate archetype: " + archetype.key());
+            }
+            decoratedSkills[id] = this.skills[archetype.skillId()].build(archetype.attackPower());
+            basicAttacks[id] = new BasicAttackSkill(archetype.attackPower());
+        }
+    }
+
+    /**
+     * Registry bawaan yang sama persis dengan Warrior/Mage + SkillBuilder
+     */
+    public static GameRegistry defaults() {
+        List<SkillDefinition.DecoratorSpec> decorators = List.of(
+            new SkillDefinition.DecoratorSpec(SkillDefinition.DecoratorSpec.BOOST, DAMAGE_BOOST_AMOUNT),
+            new SkillDefinition.DecoratorSpec(SkillDefinition.DecoratorSpec.CRIT, CRITICAL_HIT_CHANCE));
+        Character warrior = new Warrior("Warrior");
+        Character mage = new Mage("Mage");
+        return new GameRegistry(
+            List.of(
+                new ArchetypeDefinition(0, "warrior", "Warrior", CharacterType.WARRIOR,
+                    warrior.getMaxHp(), warrior.getAttackPower(), 0),
+                new ArchetypeDefinition(1, "mage", "Mage", CharacterType.MAGE,
+                    mage.getMaxHp(), mage.getAttackPower(), 1)),
+            List.of(
+                new SkillDefinition(0, "strike", "basic", decorators),
+                new SkillDefinition(1, "fireball", "fireball", decorators)),
+            0L);
+    }
+
+    public int getArchetypeCount() {
+        return archetypes.length;
+    }
+
+    public int getSkillCount() {
+        return skills.length;
+    }
+
+    /**
+     * Nomor urut snapshot; naik setiap kali registry di-reload
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public ArchetypeDefinition getArchetype(int archetypeId) {
+        return archetypes[archetypeId];
+    }
+
+    public SkillDefinition getSkill(int skillId) {
+        return skills[skillId];
+    }
+
+    public CompiledSkill getDecoratedSkill(int archetypeId) {
+        return decoratedSkills[archetypeId];
+    }
+
+    public Skill getBasicAttack(int archetypeId) {
+        return basicAttacks[archetypeId];
+    }
+
+    /**
+     * Id archetype berdasarkan key (case-insensitive), atau -1 jika tidak ada
+     */
+    public int idOf(String key) {
+        Integer id = archetypeIds.get(key.toLowerCase());
+        return id == null ? -1 : id;
+    }
+
+    public Character createCharacter(int archetypeId, String name) {
+        return new ArchetypeCharacter(name, archetypes[archetypeId],
+            decoratedSkills[archetypeId], basicAttacks[archetypeId]);
+    }
+
+    /**
+     * Factory Method creator untuk satu archetype di snapshot ini
+     */
+    public ArchetypeCreator creatorFor(int archetypeId) {
+        if (archetypeId < 0 || archetypeId >= archetypes.length) {
+            throw new IllegalArgumentException("Unknown archetype id: " + archetypeId);
+        }
+        return new ArchetypeCreator(this, archetypeId);
+    }
+}
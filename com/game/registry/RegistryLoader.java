@@ -0,0 +1,151 @@
+package com.game.registry;
+
+import com.game.character.CharacterType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser untuk file config archetype
+ *
+ * Format per baris (baris kosong dan komentar '#' diabaikan):
+ * <pre>
+ * skill     &lt;key&gt; &lt;basic|fireball&gt; [boost=&lt;n&gt;] [crit=&lt;chance&gt;] ...
+ * archetype &lt;key&gt; &lt;WARRIOR|MAGE&gt; hp=&lt;n&gt; attack=&lt;n&gt; skill=&lt;skillKey&gt; [name=&lt;Display_Name&gt;]
+ * </pre>
+ * Decorator skill diterapkan sesuai urutan penulisan. Skill harus didefinisikan
+ * sebelum archetype yang memakainya. Underscore di name menjadi spasi.
+ */
+public final class RegistryLoader {
+
+    private RegistryLoader() {
+        throw new AssertionError("RegistryLoader should not be instantiated");
+    }
+
+    public static GameRegistry load(Path file, long version) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader, version);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException jika config tidak valid (pesan berisi nomor baris)
+     */
+    public static GameRegistry parse(Reader reader, long version) throws IOException {
+        List<SkillDefinition> skills = new ArrayList<>();
+        List<ArchetypeDefinition> archetypes = new ArrayList<>();
+        Map<String, Integer> skillIds = new HashMap<>();
+
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = content.split("\\s+");
+            try {
+                switch (tokens[0]) {
+                    case "skill" -> {
+                        SkillDefinition skill = parseSkill(tokens, skills.size());
+                        if (skillIds.putIfAbsent(skill.key(), skill.id()) != null) {
+                            throw new IllegalArgumentException("Duplicate skill: " + skill.key());
+                        }
+                        skills.add(skill);
+                    }
+                    case "archetype" -> archetypes.add(parseArchetype(tokens, archetypes.size(), skillIds));
+                    default -> throw new IllegalArgumentException("Unknown entry: " + tokens[0]);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        if (archetypes.isEmpty()) {
+            throw new IllegalArgumentException("Config defines no archetypes");
+        }
+        return new GameRegistry(archetypes, skills, version);
+    }
+
+    private static SkillDefinition parseSkill(String[] tokens, int id) {
+        if (tokens.length < 3) {
+            throw new IllegalArgumentException("Usage: skill <key> <base> [boost=<n>] [crit=<chance>]");
+        }
+        List<SkillDefinition.DecoratorSpec> decorators = new ArrayList<>();
+        for (int i = 3; i < tokens.length; i++) {
+            String[] pair = keyValue(tokens[i]);
+            decorators.add(new SkillDefinition.DecoratorSpec(pair[0], parseDouble(pair)));
+        }
+        return new SkillDefinition(id, tokens[1].toLowerCase(), tokens[2].toLowerCase(), decorators);
+    }
+
+    private static ArchetypeDefinition parseArchetype(String[] tokens, int id, Map<String, Integer> skillIds) {
+        if (tokens.length < 3) {
+            throw new IllegalArgumentException("Usage: archetype <key> <family> hp=<n> attack=<n> skill=<key>");
+        }
+        String key = tokens[1].toLowerCase();
+        CharacterType family = CharacterType.valueOf(tokens[2].toUpperCase());
+        String displayName = null;
+        int hp = -1;
+        int attack = -1;
+        Integer skillId = null;
+
+        for (int i = 3; i < tokens.length; i++) {
+            String[] pair = keyValue(tokens[i]);
+            switch (pair[0]) {
+                case "hp" -> hp = parseInt(pair);
+                case "attack" -> attack = parseInt(pair);
+                case "name" -> displayName = pair[1].replace('_', ' ');
+                case "skill" -> {
+                    skillId = skillIds.get(pair[1].toLowerCase());
+                    if (skillId == null) {
+                        throw new IllegalArgumentException("Unknown skill: " + pair[1]);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown archetype field: " + pair[0]);
+            }
+        }
+        if (skillId == null) {
+            throw new IllegalArgumentException("Archetype " + key + " needs skill=<key>");
+        }
+        if (displayName == null) {
+            displayName = java.lang.Character.toUpperCase(key.charAt(0)) + key.substring(1);
+        }
+        return new ArchetypeDefinition(id, key, displayName, family, hp, attack, skillId);
+    }
+
+    private static String[] keyValue(String token) {
+        int separator = token.indexOf('=');
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw new IllegalArgumentException("Expected key=value, got: " + token);
+        }
+        return new String[] { token.substring(0, separator).toLowerCase(), token.substring(separator + 1) };
+    }
+
+    private static int parseInt(String[] pair) {
+        try {
+            return Integer.parseInt(pair[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + pair[0] + ": " + pair[1]);
+        }
+    }
+
+    private static double parseDouble(String[] pair) {
+        try {
+            return Double.parseDouble(pair[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + pair[0] + ": " + pair[1]);
+        }
+    }
+}
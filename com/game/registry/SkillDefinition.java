@@ -0,0 +1,68 @@
+package com.game.registry;
+
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.CompiledSkill;
+import com.game.skill.CriticalHitDecorator;
+import com.game.skill.DamageBoostDecorator;
+import com.game.skill.Fireball;
+import com.game.skill.Skill;
+import com.game.skill.SkillCompiler;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Definisi skill dari config: base skill dan urutan decorator-nya
+ *
+ * @param decorators decorator dari dalam ke luar, sesuai urutan di config
+ */
+public record SkillDefinition(int id, String key, String base, List<DecoratorSpec> decorators) {
+
+    private static final Map<String, IntFunction<Skill>> BASE_SKILLS = Map.of(
+        "basic", BasicAttackSkill::new,
+        "fireball", Fireball::new);
+
+    /**
+     * Satu decorator: boost (damage tambahan) atau crit (critical chance)
+     */
+    public record DecoratorSpec(String kind, double value) {
+        public static final String BOOST = "boost";
+        public static final String CRIT = "crit";
+
+        public DecoratorSpec {
+            if (BOOST.equals(kind)) {
+                if (value < 0 || value != Math.rint(value)) {
+                    throw new IllegalArgumentException("Boost must be a non-negative integer, got: " + value);
+                }
+            } else if (CRIT.equals(kind)) {
+                if (value < 0.0 || value > 1.0) {
+                    throw new IllegalArgumentException("Crit chance must be between 0 and 1, got: " + value);
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown decorator: " + kind);
+            }
+        }
+    }
+
+    public SkillDefinition {
+        if (!BASE_SKILLS.containsKey(base)) {
+            throw new IllegalArgumentException("Unknown base skill: " + base + " (expected one of " + BASE_SKILLS.keySet() + ")");
+        }
+        decorators = List.copyOf(decorators);
+    }
+
+    /**
+     * Bangun decorator chain untuk attack power tertentu lalu compile
+     */
+    public CompiledSkill build(int attackPower) {
+        Skill skill = BASE_SKILLS.get(base).apply(attackPower);
+        for (DecoratorSpec decorator : decorators) {
+            if (DecoratorSpec.BOOST.equals(decorator.kind())) {
+                skill = new DamageBoostDecorator(skill, (int) decorator.value());
+            } else {
+                skill = new CriticalHitDecorator(skill, decorator.value());
+            }
+        }
+        return SkillCompiler.compile(skill);
+    }
+}
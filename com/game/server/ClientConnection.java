@@ -0,0 +1,67 @@
+package com.game.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Satu koneksi client; dibaca oleh virtual thread miliknya sendiri
+ * dan ditulis oleh thread match. Menulis memakai ReentrantLock
+ * (bukan synchronized) supaya virtual thread tidak ter-pin saat I/O.
+ */
+class ClientConnection implements AutoCloseable {
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean open = true;
+    
+    ClientConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        this.socket.setTcpNoDelay(true);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+    
+    String readLine() throws IOException {
+        return reader.readLine();
+    }
+    
+    /**
+     * Kirim satu baris; koneksi yang sudah putus diabaikan
+     */
+    void send(String line) {
+        if (!open) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            open = false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    boolean isOpen() {
+        return open;
+    }
+    
+    @Override
+    public void close() {
+        open = false;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // koneksi sudah tertutup
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.game.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load generator lokal untuk MatchServer
+ *
+ * Membuka sejumlah koneksi bersamaan (satu virtual thread per koneksi);
+ * setiap koneksi memainkan match SOLO berturut-turut dan mengukur latency
+ * dari ACT dikirim sampai RESULT diterima.
+ *
+ * Pemakaian: java com.game.server.LoadGenerator [port] [concurrentMatches] [matchesPerConnection]
+ * Tanpa port yang berjalan, generator menyalakan MatchServer sendiri di port acak.
+ */
+public class LoadGenerator {
+
+    /**
+     * Ringkasan hasil load test, latency dalam mikrodetik
+     */
+    public record Report(long matches, long turns, double seconds,
+                         long p50Micros, long p99Micros, long maxMicros) {
+        @Override
+        public String toString() {
+            return String.format("Matches: %d, turns: %d, %.2f s (%.0f turns/s)%n"
+                    + "Turn latency p50: %d us, p99: %d us, max: %d us",
+                matches, turns, seconds, turns / seconds, p50Micros, p99Micros, maxMicros);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrentMatches = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int matchesPerConnection = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        if (args.length > 0 && Integer.parseInt(args[0]) > 0) {
+            System.out.println(run("localhost", Integer.parseInt(args[0]), concurrentMatches, matchesPerConnection));
+            return;
+        }
+        try (MatchServer server = new MatchServer(0, MatchServer.DEFAULT_TURN_TIMEOUT_MILLIS, 42L)) {
+            server.start();
+            System.out.println(run("localhost", server.getPort(), concurrentMatches, matchesPerConnection));
+        }
+    }
+
+    public static Report run(String host, int port, int concurrentMatches, int matchesPerConnection)
+            throws Exception {
+        long start = System.nanoTime();
+        List<Future<long[]>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrentMatches; i++) {
+                long seed = i;
+                futures.add(executor.submit(() -> playMatches(host, port, matchesPerConnection, seed)));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[][] perConnection = new long[futures.size()][];
+        int total = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            perConnection[i] = futures.get(i).get();
+            total += perConnection[i].length;
+        }
+        long[] latencies = new long[total];
+        int position = 0;
+        for (long[] connectionLatencies : perConnection) {
+            System.arraycopy(connectionLatencies, 0, latencies, position, connectionLatencies.length);
+            position += connectionLatencies.length;
+        }
+        Arrays.sort(latencies);
+
+        return new Report((long) concurrentMatches * matchesPerConnection, total, seconds,
+            percentile(latencies, 0.50) / 1000, percentile(latencies, 0.99) / 1000,
+            total == 0 ? 0 : latencies[total - 1] / 1000);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    /**
+     * Mainkan beberapa match SOLO di satu koneksi, kembalikan latency per turn (nanodetik)
+     */
+    private static long[] playMatches(String host, int port, int matches, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] latencies = new long[64];
+        int count = 0;
+
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+
+            for (int match = 0; match < matches; match++) {
+                send(writer, MatchProtocol.NEW + " WARRIOR MAGE " + MatchProtocol.SOLO);
+                long sentAt = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(MatchProtocol.TURN)) {
+                        sentAt = System.nanoTime();
+                        send(writer, MatchProtocol.ACT + " " + (random.nextBoolean() ? "ATTACK" : "SKILL"));
+                    } else if (line.startsWith(MatchProtocol.RESULT)) {
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - sentAt;
+                    } else if (line.startsWith(MatchProtocol.END)) {
+                        break;
+                    } else if (line.startsWith(MatchProtocol.ERROR)) {
+                        throw new IllegalStateException("Server error: " + line);
+                    }
+                }
+            }
+            send(writer, MatchProtocol.QUIT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static void send(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+}
@@ -0,0 +1,345 @@
+package com.game.server;
+
+import com.game.GameRandom;
+import com.game.ai.BotMatchup;
+import com.game.ai.BotPolicy;
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.battle.CombatProfile;
+import com.game.battle.Command;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.event.ActionType;
+import com.game.skill.CompiledSkill;
+import com.game.skill.DamageContext;
+import com.game.skill.Skill;
+import com.game.skill.SkillCache;
+import com.game.skill.SkillCompiler;
+import com.game.spectator.SpectatorCursor;
+import com.game.spectator.SpectatorFeed;
+import com.game.spectator.SpectatorFrame;
+import com.game.spectator.SpectatorFrameHandler;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.GameConstants.*;
+
+/**
+ * Satu match yang dijalankan oleh virtual thread-nya sendiri
+ *
+ * Koneksi player hanya memasukkan aksi ke queue match. Thread match
+ * menunggu aksi seat yang sedang mendapat giliran sampai turn timeout;
+ * jika tidak ada aksi, seat tersebut otomatis melakukan basic attack.
+ * Seat yang dimainkan bot langsung memilih aksi lewat BotPolicy tanpa menunggu.
+ * Match yang tidak mendapat player 2 sampai seat timeout dibatalkan.
+ *
+ * Setiap match menulis SpectatorFeed; spectator (WATCH) membaca feed tersebut
+ * dari virtual thread-nya sendiri, jadi thread match tidak menunggu spectator.
+ */
+class Match implements Runnable {
+    private static final int SEAT_1 = 0;
+    private static final int SEAT_2 = 1;
+    // 2 KB per match: cukup untuk dua putaran keyframe interval
+    private static final int SPECTATOR_CAPACITY = 2048;
+    private static final int SPECTATOR_KEYFRAME_INTERVAL = 8;
+    private static final int SPECTATOR_BATCH = 64;
+    private static final long SPECTATOR_POLL_MILLIS = 20L;
+
+    private final long matchId;
+    private final BattleManager battleManager;
+    private final DamageContext damageContext;
+    private final SpectatorFeed spectatorFeed;
+    private final Skill[] basicAttacks = new Skill[2];
+    private final Skill[] decoratedSkills = new Skill[2];
+    private final ClientConnection[] seats = new ClientConnection[2];
+    private final BotPolicy[] bots = new BotPolicy[2];
+    private final BotMatchup[] botMatchups = new BotMatchup[2];
+    private final LinkedBlockingQueue<Submission> submissions = new LinkedBlockingQueue<>();
+    private final CountDownLatch seatsFilled = new CountDownLatch(1);
+    private final long turnTimeoutNanos;
+    private final long seatTimeoutNanos;
+    private final MatchServer server;
+    private volatile int currentSeat = SEAT_1;
+    private volatile boolean finished;
+    private boolean expired;
+
+    private record Submission(int seat, ActionType actionType) {
+    }
+
+    Match(long matchId, Character player1, Character player2, GameRandom random,
+          SkillCache skillCache, long turnTimeoutNanos, long seatTimeoutNanos, MatchServer server) {
+        this.matchId = matchId;
+        this.battleManager = new BattleManager(player1, player2);
+        this.damageContext = new DamageContext(random);
+        this.spectatorFeed = battleManager.enableSpectatorFeed(SPECTATOR_CAPACITY, SPECTATOR_KEYFRAME_INTERVAL);
+        this.turnTimeoutNanos = turnTimeoutNanos;
+        this.seatTimeoutNanos = seatTimeoutNanos;
+        this.server = server;
+
+        // Pipeline di-resolve sekali per match, bukan setiap turn
+        basicAttacks[SEAT_1] = skillCache.getBasicAttack(player1);
+        basicAttacks[SEAT_2] = skillCache.getBasicAttack(player2);
+        decoratedSkills[SEAT_1] = skillCache.getDecoratedSkill(player1);
+        decoratedSkills[SEAT_2] = skillCache.getDecoratedSkill(player2);
+    }
+
+    long getMatchId() {
+        return matchId;
+    }
+
+    /**
+     * true sampai battle selesai (END sudah dikirim), dibatalkan atau kedaluwarsa
+     */
+    boolean isActive() {
+        return !finished;
+    }
+
+    /**
+     * Satu koneksi memainkan kedua seat
+     */
+    void seatSolo(ClientConnection connection) {
+        seats[SEAT_1] = connection;
+        seats[SEAT_2] = connection;
+        seatsFilled.countDown();
+    }
+
+    /**
+     * Koneksi memainkan player 1 melawan bot di seat player 2
+     *
+     * @throws IllegalArgumentException jika skill character tidak bisa dimodelkan oleh bot
+     */
+    void seatAgainstBot(ClientConnection connection, BotPolicy policy) {
+        CombatProfile human = profileOf(battleManager.getPlayer1(), decoratedSkills[SEAT_1]);
+        CombatProfile bot = profileOf(battleManager.getPlayer2(), decoratedSkills[SEAT_2]);
+        bots[SEAT_2] = policy;
+        botMatchups[SEAT_2] = BotMatchup.of(bot, human, false);
+        seatSolo(connection);
+    }
+
+    private static CombatProfile profileOf(Character character, Skill skill) {
+        CompiledSkill compiled = skill instanceof CompiledSkill compiledSkill
+            ? compiledSkill
+            : SkillCompiler.compile(skill);
+        return CombatProfile.of(character, compiled);
+    }
+
+    void seatCreator(ClientConnection connection) {
+        seats[SEAT_1] = connection;
+    }
+
+    /**
+     * Player 2 bergabung; mengembalikan false jika seat sudah terisi atau match kedaluwarsa
+     */
+    synchronized boolean join(ClientConnection connection) {
+        if (expired || seatsFilled.getCount() == 0) {
+            return false;
+        }
+        seats[SEAT_2] = connection;
+        seatsFilled.countDown();
+        return true;
+    }
+
+    /**
+     * Dipanggil dari thread koneksi saat menerima ACT
+     */
+    void submit(ClientConnection connection, ActionType actionType) {
+        int seat = currentSeat;
+        if (seats[seat] != connection || bots[seat] != null) {
+            connection.send(MatchProtocol.ERROR + " not your turn");
+            return;
+        }
+        submissions.offer(new Submission(seat, actionType));
+    }
+
+    /**
+     * Koneksi putus; match yang masih menunggu player 2 dibatalkan,
+     * dan thread match yang sedang menunggu aksi dibangunkan
+     */
+    synchronized void connectionClosed(ClientConnection connection) {
+        if (seatsFilled.getCount() > 0 && seats[SEAT_1] == connection) {
+            seatsFilled.countDown();
+        }
+        submissions.offer(new Submission(-1, null));
+    }
+
+    /**
+     * Kirim spectator feed ke koneksi (LIVE lalu END) sampai battle selesai atau koneksi putus
+     *
+     * Dijalankan di virtual thread milik spectator; spectator yang baru bergabung
+     * mulai dari keyframe terakhir.
+     */
+    void spectate(ClientConnection connection) {
+        SpectatorCursor cursor = spectatorFeed.subscribe();
+        LiveFrameWriter writer = new LiveFrameWriter(connection);
+        try {
+            while (connection.isOpen() && !writer.ended) {
+                // Dibaca sebelum poll: frame terakhir sudah dipublish saat finished terlihat
+                boolean last = finished;
+                if (cursor.poll(writer, SPECTATOR_BATCH) == 0) {
+                    if (last) {
+                        break;
+                    }
+                    Thread.sleep(SPECTATOR_POLL_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writer.ended) {
+            connection.send(MatchProtocol.ERROR + " match " + matchId + " not played");
+        }
+    }
+
+    /**
+     * Tutup seat player 2 setelah seat timeout; false jika player 2 sempat bergabung
+     */
+    private synchronized boolean expire() {
+        if (seatsFilled.getCount() == 0) {
+            return false;
+        }
+        expired = true;
+        return true;
+    }
+
+    @Override
+    public void run() {
+        boolean played = false;
+        try {
+            if (!seatsFilled.await(seatTimeoutNanos, TimeUnit.NANOSECONDS) && expire()) {
+                seats[SEAT_1].send(MatchProtocol.ERROR + " match " + matchId + " expired");
+            } else if (seats[SEAT_2] != null) {
+                playBattle();
+                played = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finished = true;
+            server.matchFinished(this, played);
+        }
+    }
+
+    private void playBattle() throws InterruptedException {
+        Character player1 = battleManager.getPlayer1();
+        Character player2 = battleManager.getPlayer2();
+        int turnNumber = 0;
+
+        while (battleManager.isBattleOngoing() && turnNumber < MAX_TURNS && anySeatOpen()) {
+            turnNumber = battleManager.startNextTurn();
+            if (battleManager.isBattleOngoing()) {
+                playSeat(SEAT_1, player1, player2, turnNumber);
+            }
+            if (battleManager.isBattleOngoing()) {
+                playSeat(SEAT_2, player2, player1, turnNumber);
+            }
+        }
+        battleManager.endAsDraw();
+
+        String winner;
+        if (battleManager.isBattleOngoing()) {
+            winner = MatchProtocol.DRAW;
+        } else {
+            winner = String.valueOf(battleManager.getWinner() == player1 ? SEAT_1 : SEAT_2);
+        }
+        // Sebelum END, supaya client boleh langsung membuat match berikutnya
+        finished = true;
+        broadcast(MatchProtocol.END + " " + winner + " " + battleManager.getTotalCommands());
+    }
+
+    private void playSeat(int seat, Character attacker, Character target, int turnNumber)
+            throws InterruptedException {
+        currentSeat = seat;
+        submissions.clear();
+
+        ActionType actionType;
+        boolean timedOut = false;
+        if (bots[seat] != null) {
+            actionType = bots[seat].chooseAction(botMatchups[seat], attacker.getHp(), target.getHp(), turnNumber);
+        } else {
+            seats[seat].send(MatchProtocol.TURN + " " + turnNumber + " " + seat);
+            actionType = awaitAction(seat);
+            timedOut = actionType == null;
+            if (timedOut) {
+                actionType = ActionType.ATTACK;
+            }
+        }
+
+        Command command = actionType == ActionType.ATTACK
+            ? new AttackCommand(attacker, target, basicAttacks[seat])
+            : new UseSkillCommand(attacker, target, decoratedSkills[seat], damageContext);
+        battleManager.executeCommand(command);
+
+        broadcast(MatchProtocol.RESULT + " " + turnNumber + " " + seat + " " + actionType + " "
+            + command.getDamageDealt() + " " + battleManager.getPlayer1().getHp() + " "
+            + battleManager.getPlayer2().getHp() + (timedOut ? " " + MatchProtocol.TIMEOUT : ""));
+    }
+
+    /**
+     * Tunggu aksi seat sampai deadline turn; null jika timeout
+     */
+    private ActionType awaitAction(int seat) throws InterruptedException {
+        long deadline = System.nanoTime() + turnTimeoutNanos;
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !seats[seat].isOpen()) {
+                return null;
+            }
+            Submission submission = submissions.poll(remaining, TimeUnit.NANOSECONDS);
+            if (submission == null) {
+                return null;
+            }
+            if (submission.seat() == seat) {
+                return submission.actionType();
+            }
+        }
+    }
+
+    private boolean anySeatOpen() {
+        return seats[SEAT_1].isOpen() || seats[SEAT_2].isOpen();
+    }
+
+    private void broadcast(String line) {
+        seats[SEAT_1].send(line);
+        if (seats[SEAT_2] != seats[SEAT_1]) {
+            seats[SEAT_2].send(line);
+        }
+    }
+
+    /**
+     * Satu baris protocol per frame spectator; frame battle over diakhiri END
+     */
+    private static final class LiveFrameWriter implements SpectatorFrameHandler {
+        private final ClientConnection connection;
+        private final StringBuilder line = new StringBuilder();
+        private boolean ended;
+
+        LiveFrameWriter(ClientConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void onFrame(SpectatorFrame frame) {
+            if (frame.getType() != SpectatorFrame.Type.END) {
+                line.setLength(0);
+                line.append(MatchProtocol.LIVE).append(' ').append(frame.getType()).append(' ').append(frame.getTurn());
+                if (frame.getType() == SpectatorFrame.Type.COMMAND) {
+                    line.append(' ').append(frame.getActorIndex()).append(' ').append(frame.getActionType())
+                        .append(' ').append(frame.getDamage());
+                }
+                for (int i = 0; i < frame.getPlayerCount(); i++) {
+                    line.append(' ').append(frame.getHp(i));
+                }
+                if (frame.isCritical()) {
+                    line.append(' ').append(MatchProtocol.CRITICAL);
+                }
+                connection.send(line.toString());
+            }
+            if (frame.isBattleOver() && !ended) {
+                ended = true;
+                String winner = frame.getWinnerIndex() < 0 ? MatchProtocol.DRAW : String.valueOf(frame.getWinnerIndex());
+                connection.send(MatchProtocol.END + " " + winner + " " + frame.getCommandCount());
+            }
+        }
+    }
+}
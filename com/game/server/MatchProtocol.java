@@ -0,0 +1,50 @@
+package com.game.server;
+
+/**
+ * Protocol teks per baris antara client dan MatchServer
+ *
+ * Client -> server:
+ *   NEW <TYPE1> <TYPE2> [SOLO|BOT]  buat match baru; TYPE = key archetype di registry, mis. WARRIOR
+ *                                (SOLO = satu koneksi memainkan kedua seat,
+ *                                 BOT = seat 1 dimainkan bot lookahead)
+ *   JOIN <matchId>               bergabung sebagai player 2
+ *   WATCH <matchId>              tonton match sebagai spectator
+ *                                (NEW/JOIN/WATCH ditolak selama koneksi masih punya match aktif)
+ *   ACT <ATTACK|SKILL>           aksi untuk turn seat sendiri
+ *   QUIT                         tutup koneksi
+ *
+ * Server -> client:
+ *   MATCH <matchId> SEAT <0|1|BOTH>
+ *   TURN <turn> <seat>                                     seat yang harus beraksi
+ *   RESULT <turn> <seat> <action> <damage> <hp1> <hp2> [TIMEOUT]
+ *   WATCHING <matchId>
+ *   LIVE <KEYFRAME|TURN> <turn> <hp1> <hp2>                 spectator: state lengkap / turn baru
+ *   LIVE COMMAND <turn> <seat> <action> <damage> <hp1> <hp2> [CRITICAL]
+ *   END <0|1|DRAW> <totalCommands>                         juga dikirim ke spectator
+ *   ERROR <message>                                        mis. ERROR match <matchId> expired (seat timeout)
+ */
+final class MatchProtocol {
+    static final String NEW = "NEW";
+    static final String JOIN = "JOIN";
+    static final String ACT = "ACT";
+    static final String QUIT = "QUIT";
+    static final String WATCH = "WATCH";
+    
+    static final String MATCH = "MATCH";
+    static final String TURN = "TURN";
+    static final String RESULT = "RESULT";
+    static final String WATCHING = "WATCHING";
+    static final String LIVE = "LIVE";
+    static final String END = "END";
+    static final String ERROR = "ERROR";
+    
+    static final String SOLO = "SOLO";
+    static final String BOT = "BOT";
+    static final String BOTH_SEATS = "BOTH";
+    static final String DRAW = "DRAW";
+    static final String TIMEOUT = "TIMEOUT";
+    static final String CRITICAL = "CRITICAL";
+    
+    private MatchProtocol() {
+    }
+}
@@ -0,0 +1,344 @@
+package com.game.server;
+
+import com.game.GameRandom;
+import com.game.ai.BotPolicy;
+import com.game.ai.LookaheadPolicy;
+import com.game.character.Character;
+import com.game.event.ActionType;
+import com.game.metrics.BattleMetrics;
+import com.game.metrics.BattleMetricsJmx;
+import com.game.metrics.MetricsFormat;
+import com.game.metrics.MetricsReporter;
+import com.game.registry.ArchetypeRegistry;
+import com.game.registry.GameRegistry;
+import com.game.skill.SkillCache;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server match multiplayer berbasis BattleManager
+ *
+ * Setiap koneksi dan setiap match dijalankan di virtual thread sendiri,
+ * sehingga puluhan ribu battle bisa berjalan bersamaan di satu JVM
+ * dengan kode blocking yang sederhana. Protocol ada di MatchProtocol.
+ * Tipe character di-resolve dari ArchetypeRegistry; match baru selalu memakai
+ * snapshot registry terbaru, match yang sedang berjalan tidak terpengaruh reload.
+ * Spectator (WATCH) menerima delta frame dari SpectatorFeed match tersebut.
+ * Satu koneksi hanya boleh punya satu match aktif; match yang menunggu player 2
+ * lebih lama dari seat timeout dibatalkan dan dihapus dari daftar match.
+ */
+public class MatchServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7777;
+    public static final long DEFAULT_TURN_TIMEOUT_MILLIS = 5_000L;
+    public static final long DEFAULT_SEAT_TIMEOUT_MILLIS = 60_000L;
+    private static final long ACCEPT_RETRY_DELAY_MILLIS = 100L;
+    private static final long REGISTRY_POLL_MILLIS = 2_000L;
+    private static final long METRICS_REPORT_MILLIS = 10_000L;
+    
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Match> matches = new ConcurrentHashMap<>();
+    private final AtomicLong nextMatchId = new AtomicLong(1);
+    private final AtomicLong completedMatches = new AtomicLong();
+    private final AtomicLong abandonedMatches = new AtomicLong();
+    private final SkillCache skillCache = new SkillCache();
+    private final ArchetypeRegistry registry;
+    private final BotPolicy botPolicy;
+    private final long turnTimeoutNanos;
+    private final long seatTimeoutNanos;
+    private final long masterSeed;
+    private volatile boolean running = true;
+    
+    public MatchServer(int port, long turnTimeoutMillis, long masterSeed) throws IOException {
+        this(port, turnTimeoutMillis, masterSeed, ArchetypeRegistry.defaults());
+    }
+    
+    public MatchServer(int port, long turnTimeoutMillis, long masterSeed, ArchetypeRegistry registry)
+            throws IOException {
+        this(port, turnTimeoutMillis, DEFAULT_SEAT_TIMEOUT_MILLIS, masterSeed, registry);
+    }
+    
+    /**
+     * @param seatTimeoutMillis batas waktu match baru menunggu player 2 (JOIN)
+     */
+    public MatchServer(int port, long turnTimeoutMillis, long seatTimeoutMillis, long masterSeed,
+                       ArchetypeRegistry registry) throws IOException {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        if (turnTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Turn timeout must be positive, got: " + turnTimeoutMillis);
+        }
+        if (seatTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Seat timeout must be positive, got: " + seatTimeoutMillis);
+        }
+        this.turnTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(turnTimeoutMillis);
+        this.seatTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(seatTimeoutMillis);
+        this.masterSeed = masterSeed;
+        this.registry = registry;
+        this.botPolicy = new LookaheadPolicy(masterSeed);
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+    }
+    
+    /**
+     * Pemakaian: java [-Dgame.metrics=text|json] com.game.server.MatchServer
+     *            [port] [turnTimeoutMillis] [archetypes.conf]
+     * 
+     * Dengan -Dgame.metrics, BattleMetrics diaktifkan, didaftarkan ke JMX
+     * dan di-dump ke console setiap 10 detik.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long timeout = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TURN_TIMEOUT_MILLIS;
+        ArchetypeRegistry registry = args.length > 2
+            ? ArchetypeRegistry.load(Path.of(args[2]))
+            : ArchetypeRegistry.defaults();
+        String metricsFormat = System.getProperty("game.metrics");
+        if (metricsFormat != null) {
+            BattleMetrics.enable();
+            BattleMetricsJmx.register();
+            MetricsReporter.toConsole(MetricsFormat.valueOf(metricsFormat.toUpperCase(Locale.ROOT)),
+                METRICS_REPORT_MILLIS);
+        }
+        MatchServer server = new MatchServer(port, timeout, System.nanoTime(), registry);
+        System.out.println("[SERVER] Listening on port " + server.getPort()
+            + " with " + registry.current().getArchetypeCount() + " archetypes");
+        if (args.length > 2) {
+            server.executor.submit(server::watchRegistry);
+        }
+        // Virtual thread adalah daemon, jadi accept loop dijalankan di main thread supaya JVM tetap hidup
+        server.acceptLoop();
+    }
+    
+    /**
+     * Cek perubahan file config secara berkala dan hot reload registry
+     */
+    private void watchRegistry() {
+        while (running) {
+            try {
+                Thread.sleep(REGISTRY_POLL_MILLIS);
+                if (registry.reloadIfModified()) {
+                    System.out.println("[SERVER] Registry reloaded: version " + registry.current().getVersion()
+                        + ", " + registry.current().getArchetypeCount() + " archetypes");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | IllegalArgumentException e) {
+                BattleMetrics.recordError("SERVER", "Registry reload failed", e);
+            }
+        }
+    }
+    
+    /**
+     * Mulai menerima koneksi di virtual thread (kembali langsung; untuk server yang di-embed)
+     */
+    public void start() {
+        executor.submit(this::acceptLoop);
+    }
+    
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+    
+    public int getActiveMatches() {
+        return matches.size();
+    }
+    
+    public long getCompletedMatches() {
+        return completedMatches.get();
+    }
+    
+    /**
+     * Jumlah match yang tidak pernah dimainkan: player 2 tidak bergabung sebelum
+     * seat timeout, atau pembuatnya putus lebih dulu
+     */
+    public long getAbandonedMatches() {
+        return abandonedMatches.get();
+    }
+    
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> handleConnection(socket));
+            } catch (IOException e) {
+                if (running) {
+                    // Biasanya kehabisan file descriptor; beri jeda supaya tidak busy loop
+                    BattleMetrics.recordError("SERVER", "Accept failed", e);
+                    pauseAfterAcceptFailure();
+                }
+            }
+        }
+    }
+    
+    private static void pauseAfterAcceptFailure() {
+        try {
+            Thread.sleep(ACCEPT_RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void handleConnection(Socket socket) {
+        ClientConnection connection;
+        try {
+            connection = new ClientConnection(socket);
+        } catch (IOException e) {
+            return;
+        }
+        
+        Match match = null;
+        Match watched = null;
+        try {
+            String line;
+            while ((line = connection.readLine()) != null) {
+                String[] parts = line.trim().split("\\s+");
+                String command = parts[0];
+                boolean opensMatch = MatchProtocol.NEW.equals(command) || MatchProtocol.JOIN.equals(command)
+                    || MatchProtocol.WATCH.equals(command);
+                if (opensMatch && match != null && match.isActive()) {
+                    connection.send(MatchProtocol.ERROR + " already in match " + match.getMatchId());
+                    continue;
+                }
+                if (opensMatch && watched != null && watched.isActive()) {
+                    connection.send(MatchProtocol.ERROR + " already watching match " + watched.getMatchId());
+                    continue;
+                }
+                switch (command) {
+                    case MatchProtocol.NEW -> match = createMatch(connection, parts);
+                    case MatchProtocol.JOIN -> match = joinMatch(connection, parts);
+                    case MatchProtocol.WATCH -> watched = watchMatch(connection, parts);
+                    case MatchProtocol.ACT -> submitAction(connection, match, parts);
+                    case MatchProtocol.QUIT -> {
+                        return;
+                    }
+                    default -> connection.send(MatchProtocol.ERROR + " unknown command " + command);
+                }
+            }
+        } catch (IOException e) {
+            // client putus; seat-nya akan otomatis timeout
+        } finally {
+            connection.close();
+            if (match != null) {
+                match.connectionClosed(connection);
+            }
+        }
+    }
+    
+    private Match createMatch(ClientConnection connection, String[] parts) {
+        if (parts.length < 3) {
+            connection.send(MatchProtocol.ERROR + " usage: NEW <TYPE1> <TYPE2> [SOLO|BOT]");
+            return null;
+        }
+        GameRegistry snapshot = registry.current();
+        int archetype1 = snapshot.idOf(parts[1]);
+        int archetype2 = snapshot.idOf(parts[2]);
+        if (archetype1 < 0 || archetype2 < 0) {
+            connection.send(MatchProtocol.ERROR + " unknown character type");
+            return null;
+        }
+        Character player1 = snapshot.createCharacter(archetype1, "Player1");
+        Character player2 = snapshot.createCharacter(archetype2, "Player2");
+        
+        long matchId = nextMatchId.getAndIncrement();
+        Match match = new Match(matchId, player1, player2, GameRandom.forStream(masterSeed, matchId),
+            skillCache, turnTimeoutNanos, seatTimeoutNanos, this);
+        boolean solo = parts.length > 3 && MatchProtocol.SOLO.equals(parts[3]);
+        boolean bot = parts.length > 3 && MatchProtocol.BOT.equals(parts[3]);
+        if (bot) {
+            try {
+                match.seatAgainstBot(connection, botPolicy);
+            } catch (IllegalArgumentException e) {
+                connection.send(MatchProtocol.ERROR + " bot not available: " + e.getMessage());
+                return null;
+            }
+        } else if (solo) {
+            match.seatSolo(connection);
+        } else {
+            match.seatCreator(connection);
+        }
+        matches.put(matchId, match);
+        connection.send(MatchProtocol.MATCH + " " + matchId + " SEAT " + (solo ? MatchProtocol.BOTH_SEATS : "0"));
+        executor.submit(match);
+        return match;
+    }
+    
+    private Match joinMatch(ClientConnection connection, String[] parts) {
+        long matchId;
+        try {
+            matchId = Long.parseLong(parts[1]);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            connection.send(MatchProtocol.ERROR + " usage: JOIN <matchId>");
+            return null;
+        }
+        Match match = matches.get(matchId);
+        if (match == null || !match.join(connection)) {
+            connection.send(MatchProtocol.ERROR + " match not available");
+            return null;
+        }
+        connection.send(MatchProtocol.MATCH + " " + match.getMatchId() + " SEAT 1");
+        return match;
+    }
+    
+    private Match watchMatch(ClientConnection connection, String[] parts) {
+        long matchId;
+        try {
+            matchId = Long.parseLong(parts[1]);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            connection.send(MatchProtocol.ERROR + " usage: WATCH <matchId>");
+            return null;
+        }
+        Match match = matches.get(matchId);
+        if (match == null) {
+            connection.send(MatchProtocol.ERROR + " match not available");
+            return null;
+        }
+        connection.send(MatchProtocol.WATCHING + " " + matchId);
+        executor.submit(() -> match.spectate(connection));
+        return match;
+    }
+    
+    private void submitAction(ClientConnection connection, Match match, String[] parts) {
+        if (match == null) {
+            connection.send(MatchProtocol.ERROR + " no match");
+            return;
+        }
+        try {
+            match.submit(connection, ActionType.valueOf(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            connection.send(MatchProtocol.ERROR + " usage: ACT <ATTACK|SKILL>");
+        }
+    }
+    
+    /**
+     * @param played false jika match dibatalkan atau kedaluwarsa sebelum battle dimulai
+     */
+    void matchFinished(Match match, boolean played) {
+        matches.remove(match.getMatchId());
+        if (played) {
+            completedMatches.incrementAndGet();
+        } else {
+            abandonedMatches.incrementAndGet();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -8,7 +8,7 @@ package com.game.skill;
  * yang bisa didekorasi dengan berbagai decorator.
  */
 public class BasicAttackSkill implements Skill {
-    private int baseDamage;
+    private final int baseDamage;
     
     public BasicAttackSkill(int baseDamage) {
         this.baseDamage = baseDamage;
@@ -19,6 +19,11 @@ public class BasicAttackSkill implements Skill {
         return baseDamage;
     }
     
+    @Override
+    public void resolve(DamageContext context) {
+        context.setBaseDamage(baseDamage);
+    }
+    
     @Override
     public String getDescription() {
         return "Basic Attack";
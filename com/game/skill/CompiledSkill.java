@@ -0,0 +1,225 @@
+package com.game.skill;
+
+import com.game.effect.EffectSpec;
+import com.game.event.BattleEvents;
+import com.game.metrics.BattleMetrics;
+import com.game.metrics.SkillMetrics;
+import java.util.random.RandomGenerator;
+
+/**
+ * Hasil SkillCompiler: decorator chain yang sudah di-flatten
+ * menjadi satu fungsi damage
+ *
+ * Damage dihitung sebagai:
+ *   damage = base (+ leadingBoost)
+ *   untuk setiap critical stage i: jika crit, damage *= 2; lalu damage += boostAfter[i]
+ * Base skill yang deterministik (BasicAttackSkill, Fireball) dan semua boost
+ * sebelum critical pertama sudah dilipat menjadi satu konstanta.
+ *
+ * Status effect dari StatusEffectDecorator hanya dilaporkan lewat resolve();
+ * execute() tetap hanya menghitung damage.
+ *
+ * Untuk random draw yang sama, hasilnya identik dengan chain aslinya.
+ * execute() tanpa random didelegasikan ke chain asli, jadi gagal untuk
+ * chain dengan CriticalHitDecorator yang tidak punya random sendiri.
+ * Jika ada subscriber battle event, eksekusi didelegasikan ke chain asli
+ * supaya log decorator tetap lengkap.
+ *
+ * Jika BattleMetrics aktif, setiap eksekusi dicatat (damage, crit, latency)
+ * ke SkillMetrics milik description skill ini.
+ */
+public final class CompiledSkill implements Skill {
+    private final Skill original;
+    private final String description;
+    private final Skill source;
+    private final int sourceDamage;
+    private final int leadingBoost;
+    private final int baseDamage;
+    private final double[] critChances;
+    private final int[] boostAfterCrit;
+    private final int normalDamage;
+    private final int critDamage;
+    private final EffectSpec[] effects;
+    private SkillMetrics metrics;
+    
+    CompiledSkill(Skill original, Skill source, int sourceDamage, int leadingBoost,
+                  double[] critChances, int[] boostAfterCrit, EffectSpec[] effects) {
+        this.original = original;
+        this.description = original.getDescription();
+        this.source = source;
+        this.sourceDamage = sourceDamage;
+        this.leadingBoost = leadingBoost;
+        this.baseDamage = sourceDamage + leadingBoost;
+        this.critChances = critChances;
+        this.boostAfterCrit = boostAfterCrit;
+        this.effects = effects;
+        
+        if (critChances.length == 0) {
+            this.normalDamage = baseDamage;
+            this.critDamage = baseDamage;
+        } else {
+            this.normalDamage = baseDamage + boostAfterCrit[0];
+            this.critDamage = baseDamage * 2 + boostAfterCrit[0];
+        }
+    }
+    
+    @Override
+    public int execute() {
+        return original.execute();
+    }
+    
+    @Override
+    public int execute(RandomGenerator random) {
+        if (BattleMetrics.isEnabled()) {
+            return executeMetered(random);
+        }
+        if (BattleEvents.isEnabled()) {
+            return original.execute(random);
+        }
+        
+        if (source == null) {
+            if (critChances.length == 0) {
+                return normalDamage;
+            }
+            if (critChances.length == 1) {
+                return random.nextDouble() < critChances[0] ? critDamage : normalDamage;
+            }
+        }
+        
+        int damage = source == null ? baseDamage : source.execute(random) + baseDamage;
+        for (int i = 0; i < critChances.length; i++) {
+            if (random.nextDouble() < critChances[i]) {
+                damage *= 2;
+            }
+            damage += boostAfterCrit[i];
+        }
+        return damage;
+    }
+    
+    /**
+     * Eksekusi dengan pencatatan metrics; urutan random draw sama dengan execute()
+     */
+    private int executeMetered(RandomGenerator random) {
+        long start = System.nanoTime();
+        int damage;
+        boolean critical = false;
+        if (BattleEvents.isEnabled()) {
+            damage = original.execute(random);
+            // Tanpa source runtime, crit terlihat dari damage (kecuali crit tidak mengubah damage)
+            critical = source == null && critChances.length == 1
+                && damage == critDamage && critDamage != normalDamage;
+        } else {
+            damage = source == null ? baseDamage : source.execute(random) + baseDamage;
+            for (int i = 0; i < critChances.length; i++) {
+                if (random.nextDouble() < critChances[i]) {
+                    damage *= 2;
+                    critical = true;
+                }
+                damage += boostAfterCrit[i];
+            }
+        }
+        
+        skillMetrics().record(System.nanoTime() - start, damage, critical);
+        return damage;
+    }
+    
+    /**
+     * Versi resolve dari execute(random): urutan random draw sama, dan boost
+     * yang sudah dilipat tetap dilaporkan sebagai modifier di context
+     */
+    @Override
+    public void resolve(DamageContext context) {
+        boolean metered = BattleMetrics.isEnabled();
+        long start = metered ? System.nanoTime() : 0L;
+        if (BattleEvents.isEnabled()) {
+            original.resolve(context);
+        } else {
+            resolveCompiled(context);
+        }
+        if (metered) {
+            skillMetrics().record(System.nanoTime() - start, context.getDamage(), context.isCritical());
+        }
+    }
+    
+    private void resolveCompiled(DamageContext context) {
+        if (source == null) {
+            context.setBaseDamage(sourceDamage);
+        } else {
+            source.resolve(context);
+        }
+        if (leadingBoost != 0) {
+            context.addBoost(leadingBoost);
+        }
+        for (int i = 0; i < critChances.length; i++) {
+            context.rollCritical(critChances[i]);
+            if (boostAfterCrit[i] != 0) {
+                context.addBoost(boostAfterCrit[i]);
+            }
+        }
+        for (EffectSpec effect : effects) {
+            context.addEffect(effect);
+        }
+    }
+    
+    private SkillMetrics skillMetrics() {
+        SkillMetrics skillMetrics = metrics;
+        if (skillMetrics == null) {
+            skillMetrics = BattleMetrics.skill(description);
+            metrics = skillMetrics;
+        }
+        return skillMetrics;
+    }
+    
+    @Override
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * Chain asli sebelum di-compile
+     */
+    public Skill getOriginal() {
+        return original;
+    }
+    
+    /**
+     * true jika damage hanya bergantung pada critical roll
+     * (tidak ada skill opaque yang harus dieksekusi saat runtime)
+     */
+    public boolean isConstantSource() {
+        return source == null;
+    }
+    
+    /**
+     * true jika chain menerapkan status effect (hanya lewat resolve())
+     */
+    public boolean hasEffects() {
+        return effects.length > 0;
+    }
+    
+    public int getCritStageCount() {
+        return critChances.length;
+    }
+    
+    public double getCritChance(int stage) {
+        return critChances[stage];
+    }
+    
+    /**
+     * Damage jika critical stage yang bit-nya di-set pada critMask terjadi.
+     * Hanya valid untuk skill dengan constant source.
+     */
+    public int damageFor(long critMask) {
+        if (source != null) {
+            throw new IllegalStateException("Damage of " + description + " depends on a runtime skill");
+        }
+        int damage = baseDamage;
+        for (int i = 0; i < critChances.length; i++) {
+            if ((critMask & (1L << i)) != 0) {
+                damage *= 2;
+            }
+            damage += boostAfterCrit[i];
+        }
+        return damage;
+    }
+}
@@ -1,6 +1,8 @@
 package com.game.skill;
 
-import java.util.Random;
+import com.game.event.BattleEvents;
+import com.game.event.CriticalHitEvent;
+import java.util.random.RandomGenerator;
 
 /**
  * DESIGN PATTERN: Decorator
@@ -8,24 +10,64 @@ import java.util.Random;
  * 
  * CriticalHitDecorator menambahkan functionality berupa critical hit chance
  * ke skill yang di-wrap. Jika critical hit terjadi, damage akan digandakan.
+ * 
+ * Decorator tanpa random sendiri hanya bisa dieksekusi dengan random dari
+ * caller (execute(random) atau resolve(DamageContext)); execute() tanpa
+ * argumen akan gagal, bukan diam-diam memakai random yang tidak di-seed.
  */
 public class CriticalHitDecorator extends SkillDecorator {
-    private double critChance;
-    private Random random;
+    private final double critChance;
+    private final RandomGenerator random;
     
     public CriticalHitDecorator(Skill skill, double critChance) {
+        this(skill, critChance, null);
+    }
+    
+    /**
+     * @param random random untuk execute() tanpa argumen; null jika random selalu dari caller
+     */
+    public CriticalHitDecorator(Skill skill, double critChance, RandomGenerator random) {
         super(skill);
         this.critChance = critChance;
-        this.random = new Random();
+        this.random = random;
+    }
+    
+    public double getCritChance() {
+        return critChance;
     }
     
     @Override
     public int execute() {
-        int originalDamage = super.execute();
-        
+        if (random == null) {
+            throw new IllegalStateException("Critical hit decorator has no random; use execute(RandomGenerator)");
+        }
+        return applyCritical(super.execute(), random);
+    }
+    
+    /**
+     * Critical roll memakai random dari caller, bukan random milik decorator,
+     * sehingga satu instance decorator bisa dipakai ulang oleh banyak battle
+     */
+    @Override
+    public int execute(RandomGenerator random) {
+        return applyCritical(super.execute(random), random);
+    }
+    
+    @Override
+    public void resolve(DamageContext context) {
+        wrappedSkill.resolve(context);
+        int originalDamage = context.getDamage();
+        if (context.rollCritical(critChance) && BattleEvents.isEnabled()) {
+            BattleEvents.publish(new CriticalHitEvent(originalDamage, context.getDamage()));
+        }
+    }
+    
+    private int applyCritical(int originalDamage, RandomGenerator random) {
         if (random.nextDouble() < critChance) {
             int critDamage = originalDamage * 2;
-            System.out.println("[DECORATOR] CRITICAL HIT! Damage doubled!");
+            if (BattleEvents.isEnabled()) {
+                BattleEvents.publish(new CriticalHitEvent(originalDamage, critDamage));
+            }
             return critDamage;
         }
         
@@ -1,5 +1,9 @@
 package com.game.skill;
 
+import com.game.event.BattleEvents;
+import com.game.event.DamageBoostEvent;
+import java.util.random.RandomGenerator;
+
 /**
  * DESIGN PATTERN: Decorator
  * Peran: ConcreteDecorator
@@ -8,18 +12,41 @@ package com.game.skill;
  * ke skill yang di-wrap tanpa mengubah class skill aslinya.
  */
 public class DamageBoostDecorator extends SkillDecorator {
-    private int boostAmount;
+    private final int boostAmount;
     
     public DamageBoostDecorator(Skill skill, int boostAmount) {
         super(skill);
         this.boostAmount = boostAmount;
     }
     
+    public int getBoostAmount() {
+        return boostAmount;
+    }
+    
     @Override
     public int execute() {
-        int originalDamage = super.execute();
+        return applyBoost(super.execute());
+    }
+    
+    @Override
+    public int execute(RandomGenerator random) {
+        return applyBoost(super.execute(random));
+    }
+    
+    @Override
+    public void resolve(DamageContext context) {
+        wrappedSkill.resolve(context);
+        context.addBoost(boostAmount);
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new DamageBoostEvent(boostAmount));
+        }
+    }
+    
+    private int applyBoost(int originalDamage) {
         int boostedDamage = originalDamage + boostAmount;
-        System.out.println("[DECORATOR] Damage Boost applied: +" + boostAmount + " damage");
+        if (BattleEvents.isEnabled()) {
+            BattleEvents.publish(new DamageBoostEvent(boostAmount));
+        }
         return boostedDamage;
     }
     
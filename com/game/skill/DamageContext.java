@@ -0,0 +1,185 @@
+package com.game.skill;
+
+import com.game.character.Character;
+import com.game.effect.EffectSpec;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Context mutable untuk Skill.resolve(): input (random, attacker, target)
+ * dan output (damage, critical, modifier dan status effect yang diterapkan)
+ *
+ * Satu instance dipakai ulang untuk banyak hit, jadi resolve satu hit tidak
+ * mengalokasikan object apapun (selama tidak ada subscriber battle event).
+ * Tidak thread-safe: satu context untuk satu battle/thread.
+ */
+public final class DamageContext {
+    public static final int MODIFIER_BOOST = 1;
+    public static final int MODIFIER_CRITICAL = 1 << 1;
+
+    private static final EffectSpec[] NO_EFFECTS = new EffectSpec[0];
+
+    private RandomGenerator random;
+    private Character attacker;
+    private Character target;
+
+    private int baseDamage;
+    private int damage;
+    private int boostTotal;
+    private int critCount;
+    private int modifiers;
+    private EffectSpec[] effects = NO_EFFECTS;
+    private int effectCount;
+
+    public DamageContext() {
+    }
+
+    public DamageContext(RandomGenerator random) {
+        prepare(random, null, null);
+    }
+
+    /**
+     * Set input untuk hit berikutnya
+     *
+     * @param attacker boleh null (mis. simulasi headless)
+     * @param target   boleh null
+     */
+    public DamageContext prepare(RandomGenerator random, Character attacker, Character target) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        this.random = random;
+        this.attacker = attacker;
+        this.target = target;
+        clearOutput();
+        return this;
+    }
+
+    /**
+     * Resolve satu hit dengan input saat ini
+     *
+     * @return damage akhir
+     */
+    public int resolve(Skill skill) {
+        if (random == null) {
+            throw new IllegalStateException("Damage context is not prepared");
+        }
+        clearOutput();
+        skill.resolve(this);
+        return damage;
+    }
+
+    private void clearOutput() {
+        baseDamage = 0;
+        damage = 0;
+        boostTotal = 0;
+        critCount = 0;
+        modifiers = 0;
+        effectCount = 0;
+    }
+
+    // ===== Dipakai oleh skill dan decorator =====
+
+    /**
+     * Damage dari base skill (sebelum modifier)
+     */
+    public void setBaseDamage(int baseDamage) {
+        this.baseDamage = baseDamage;
+        this.damage = baseDamage;
+    }
+
+    public void addBoost(int amount) {
+        damage += amount;
+        boostTotal += amount;
+        modifiers |= MODIFIER_BOOST;
+    }
+
+    /**
+     * Critical roll dengan random context; damage digandakan jika berhasil
+     *
+     * @return true jika critical
+     */
+    public boolean rollCritical(double critChance) {
+        if (random.nextDouble() < critChance) {
+            damage *= 2;
+            critCount++;
+            modifiers |= MODIFIER_CRITICAL;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Status effect yang akan diterapkan setelah damage hit ini masuk
+     */
+    public void addEffect(EffectSpec effect) {
+        if (effectCount == effects.length) {
+            effects = Arrays.copyOf(effects, Math.max(2, effectCount * 2));
+        }
+        effects[effectCount++] = effect;
+    }
+
+    // ===== Input =====
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    public Character getAttacker() {
+        return attacker;
+    }
+
+    public Character getTarget() {
+        return target;
+    }
+
+    // ===== Output =====
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+
+    /**
+     * Total boost flat yang ditambahkan (termasuk boost setelah critical)
+     */
+    public int getBoostTotal() {
+        return boostTotal;
+    }
+
+    public boolean isCritical() {
+        return critCount > 0;
+    }
+
+    public int getCritCount() {
+        return critCount;
+    }
+
+    /**
+     * Bitmask MODIFIER_* yang diterapkan pada hit terakhir
+     */
+    public int getModifiers() {
+        return modifiers;
+    }
+
+    public boolean hasModifier(int modifier) {
+        return (modifiers & modifier) != 0;
+    }
+
+    public int getEffectCount() {
+        return effectCount;
+    }
+
+    /**
+     * Status effect ke-index, urut dari decorator terdalam
+     */
+    public EffectSpec getEffect(int index) {
+        if (index < 0 || index >= effectCount) {
+            throw new IndexOutOfBoundsException("Effect index " + index + " out of range, count: " + effectCount);
+        }
+        return effects[index];
+    }
+}
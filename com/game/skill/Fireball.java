@@ -8,7 +8,7 @@ package com.game.skill;
  * yang merepresentasikan serangan skill khusus.
  */
 public class Fireball implements Skill {
-    private int baseDamage;
+    private final int baseDamage;
     
     public Fireball(int baseDamage) {
         this.baseDamage = baseDamage;
@@ -19,6 +19,11 @@ public class Fireball implements Skill {
         return (int)(baseDamage * 1.5); // Fireball deals 1.5x base damage
     }
     
+    @Override
+    public void resolve(DamageContext context) {
+        context.setBaseDamage(execute());
+    }
+    
     @Override
     public String getDescription() {
         return "Fireball";
@@ -1,5 +1,7 @@
 package com.game.skill;
 
+import java.util.random.RandomGenerator;
+
 /**
  * DESIGN PATTERN: Decorator (Structural)
  * Peran: Component interface
@@ -11,5 +13,22 @@ public interface Skill {
    
     int execute();
     
+    /**
+     * Eksekusi skill dengan random source dari caller.
+     * Skill tanpa efek random cukup memakai execute() biasa.
+     */
+    default int execute(RandomGenerator random) {
+        return execute();
+    }
+    
+    /**
+     * Resolve damage ke context yang dipakai ulang (tanpa alokasi).
+     * Default-nya memakai execute(random) dan mencatat hasilnya sebagai base damage;
+     * skill dan decorator bawaan meng-override untuk mengisi detail modifier.
+     */
+    default void resolve(DamageContext context) {
+        context.setBaseDamage(execute(context.getRandom()));
+    }
+    
     String getDescription();
 }
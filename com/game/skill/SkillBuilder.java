@@ -2,6 +2,7 @@ package com.game.skill;
 
 import com.game.character.Character;
 import com.game.character.CharacterType;
+import java.util.random.RandomGenerator;
 import static com.game.GameConstants.*;
 
 /**
@@ -12,11 +13,35 @@ import static com.game.GameConstants.*;
 public class SkillBuilder {
     
     /**
-     * Build decorated skill berdasarkan character type
+     * Build decorated skill berdasarkan character type tanpa random sendiri;
+     * critical roll memakai random dari caller lewat execute(random) atau
+     * resolve(DamageContext), jadi pipeline bisa di-cache dan di-compile
      */
     public Skill buildDecoratedSkill(Character character) {
+        return buildDecoratedSkill(character, null);
+    }
+    
+    /**
+     * Build decorated skill yang memakai random generator tertentu
+     * untuk critical hit di execute() (supaya battle bisa di-reproduce dari seed)
+     */
+    public Skill buildDecoratedSkill(Character character, RandomGenerator random) {
         Skill baseSkill = createBaseSkill(character);
-        return applyDecorators(baseSkill);
+        return applyDecorators(baseSkill, random);
+    }
+    
+    /**
+     * Build base skill (tanpa decorator) berdasarkan character type
+     */
+    public Skill buildBaseSkill(Character character) {
+        return createBaseSkill(character);
+    }
+    
+    /**
+     * Build basic attack skill untuk character
+     */
+    public Skill buildBasicAttack(Character character) {
+        return new BasicAttackSkill(character.getAttackPower());
     }
     
     private Skill createBaseSkill(Character character) {
@@ -27,9 +52,9 @@ public class SkillBuilder {
         }
     }
     
-    private Skill applyDecorators(Skill baseSkill) {
+    private Skill applyDecorators(Skill baseSkill, RandomGenerator random) {
         Skill decorated = new DamageBoostDecorator(baseSkill, DAMAGE_BOOST_AMOUNT);
-        decorated = new CriticalHitDecorator(decorated, CRITICAL_HIT_CHANCE);
+        decorated = new CriticalHitDecorator(decorated, CRITICAL_HIT_CHANCE, random);
         return decorated;
     }
 }
@@ -0,0 +1,127 @@
+package com.game.skill;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import java.util.Arrays;
+
+/**
+ * Cache untuk skill pipeline yang sudah di-compose
+ *
+ * SkillBuilder membuat decorator chain baru setiap kali dipanggil.
+ * SkillCache menyimpan pipeline per (character type, attack power) dan
+ * mengembalikan instance yang sama untuk setiap turn berikutnya.
+ * Pipeline disimpan dalam bentuk CompiledSkill (lihat SkillCompiler) dan
+ * bersifat immutable; random untuk critical hit diberikan
+ * saat eksekusi lewat Skill.execute(RandomGenerator), sehingga satu
+ * pipeline aman dipakai bersama oleh banyak battle.
+ *
+ * Lookup tanpa lock dan tanpa alokasi: key di-pack ke long dan dicari dengan
+ * binary search di snapshot immutable (array terurut). Cache miss membuat
+ * snapshot baru (copy-on-write) di bawah lock. Jika sudah berisi maxSize entry,
+ * snapshot dimulai ulang dari kosong. Character yang mengimplementasi
+ * SkillProvider memakai pipeline miliknya sendiri dan tidak masuk cache.
+ */
+public class SkillCache {
+    private static final int DEFAULT_MAX_SIZE = 256;
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new Skill[0]);
+    
+    private final SkillBuilder skillBuilder;
+    private final int maxSize;
+    private volatile Snapshot snapshot = EMPTY;
+    
+    public SkillCache() {
+        this(new SkillBuilder(), DEFAULT_MAX_SIZE);
+    }
+    
+    public SkillCache(SkillBuilder skillBuilder, int maxSize) {
+        if (skillBuilder == null) {
+            throw new IllegalArgumentException("SkillBuilder cannot be null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive, got: " + maxSize);
+        }
+        this.skillBuilder = skillBuilder;
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * Decorated skill (base skill + Damage Boost + Critical Chance) untuk character
+     */
+    public Skill getDecoratedSkill(Character character) {
+        if (character instanceof SkillProvider provider) {
+            return provider.getDecoratedSkill();
+        }
+        long key = decoratedKey(character.getCharacterType(), character.getAttackPower());
+        Skill skill = snapshot.get(key);
+        return skill != null ? skill : cache(key, character, true);
+    }
+    
+    /**
+     * Basic attack untuk character (dipakai oleh AttackCommand)
+     */
+    public Skill getBasicAttack(Character character) {
+        if (character instanceof SkillProvider provider) {
+            return provider.getBasicAttack();
+        }
+        long key = basicAttackKey(character.getAttackPower());
+        Skill skill = snapshot.get(key);
+        return skill != null ? skill : cache(key, character, false);
+    }
+    
+    private synchronized Skill cache(long key, Character character, boolean decorated) {
+        Snapshot current = snapshot;
+        Skill skill = current.get(key);
+        if (skill == null) {
+            skill = decorated
+                ? SkillCompiler.compile(skillBuilder.buildDecoratedSkill(character))
+                : skillBuilder.buildBasicAttack(character);
+            snapshot = (current.size() < maxSize ? current : EMPTY).with(key, skill);
+        }
+        return skill;
+    }
+    
+    /**
+     * Bit 32 ke atas: 0 untuk basic attack, ordinal + 1 untuk decorated skill;
+     * 32 bit bawah: attack power
+     */
+    private static long decoratedKey(CharacterType characterType, int attackPower) {
+        return ((long) (characterType.ordinal() + 1) << 32) | (attackPower & 0xFFFFFFFFL);
+    }
+    
+    private static long basicAttackKey(int attackPower) {
+        return attackPower & 0xFFFFFFFFL;
+    }
+    
+    public int size() {
+        return snapshot.size();
+    }
+    
+    public synchronized void clear() {
+        snapshot = EMPTY;
+    }
+    
+    private record Snapshot(long[] keys, Skill[] skills) {
+        
+        int size() {
+            return keys.length;
+        }
+        
+        Skill get(long key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? skills[index] : null;
+        }
+        
+        Snapshot with(long key, Skill skill) {
+            int insert = -(Arrays.binarySearch(keys, key) + 1);
+            long[] newKeys = new long[keys.length + 1];
+            Skill[] newSkills = new Skill[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(skills, 0, newSkills, 0, insert);
+            newKeys[insert] = key;
+            newSkills[insert] = skill;
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            System.arraycopy(skills, insert, newSkills, insert + 1, keys.length - insert);
+            return new Snapshot(newKeys, newSkills);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.game.skill;
+
+import com.game.effect.EffectSpec;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiler yang mengubah decorator chain menjadi CompiledSkill
+ *
+ * Chain dibaca dari decorator terluar ke dalam. DamageBoostDecorator yang
+ * berurutan dijumlahkan, CriticalHitDecorator menjadi critical stage,
+ * StatusEffectDecorator dikumpulkan sebagai daftar effect (tidak mengubah
+ * damage), dan base skill deterministik (BasicAttackSkill, Fireball)
+ * dieksekusi sekali saat compile. Skill atau decorator lain yang tidak dikenal tetap
+ * dieksekusi apa adanya sebagai source.
+ */
+public final class SkillCompiler {
+    
+    private SkillCompiler() {
+        throw new AssertionError("SkillCompiler should not be instantiated");
+    }
+    
+    public static CompiledSkill compile(Skill skill) {
+        if (skill == null) {
+            throw new IllegalArgumentException("Skill cannot be null");
+        }
+        if (skill instanceof CompiledSkill) {
+            return (CompiledSkill) skill;
+        }
+        
+        // Operasi dari luar ke dalam: Integer = boost, Double = critical chance
+        List<Number> operations = new ArrayList<>();
+        List<EffectSpec> effects = new ArrayList<>();
+        Skill current = skill;
+        while (true) {
+            if (current.getClass() == DamageBoostDecorator.class) {
+                DamageBoostDecorator boost = (DamageBoostDecorator) current;
+                operations.add(boost.getBoostAmount());
+                current = boost.getWrappedSkill();
+            } else if (current.getClass() == CriticalHitDecorator.class) {
+                CriticalHitDecorator critical = (CriticalHitDecorator) current;
+                operations.add(critical.getCritChance());
+                current = critical.getWrappedSkill();
+            } else if (current.getClass() == StatusEffectDecorator.class) {
+                StatusEffectDecorator effect = (StatusEffectDecorator) current;
+                effects.add(0, effect.getEffect());
+                current = effect.getWrappedSkill();
+            } else {
+                break;
+            }
+        }
+        
+        boolean constantSource = current.getClass() == BasicAttackSkill.class
+            || current.getClass() == Fireball.class;
+        int sourceDamage = constantSource ? current.execute() : 0;
+        int leadingBoost = 0;
+        
+        List<Double> critChances = new ArrayList<>();
+        List<Integer> boostAfterCrit = new ArrayList<>();
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            Number operation = operations.get(i);
+            if (operation instanceof Double) {
+                critChances.add((Double) operation);
+                boostAfterCrit.add(0);
+            } else if (critChances.isEmpty()) {
+                leadingBoost += operation.intValue();
+            } else {
+                int last = boostAfterCrit.size() - 1;
+                boostAfterCrit.set(last, boostAfterCrit.get(last) + operation.intValue());
+            }
+        }
+        
+        double[] chances = new double[critChances.size()];
+        int[] boosts = new int[boostAfterCrit.size()];
+        for (int i = 0; i < chances.length; i++) {
+            chances[i] = critChances.get(i);
+            boosts[i] = boostAfterCrit.get(i);
+        }
+        
+        return new CompiledSkill(skill, constantSource ? null : current, sourceDamage, leadingBoost, chances, boosts,
+            effects.toArray(new EffectSpec[0]));
+    }
+}
@@ -1,5 +1,7 @@
 package com.game.skill;
 
+import java.util.random.RandomGenerator;
+
 /**
  * DESIGN PATTERN: Decorator (Structural)
  * Peran: Abstract Decorator
@@ -11,17 +13,26 @@ package com.game.skill;
  * secara dinamis tanpa mengubah class aslinya.
  */
 public abstract class SkillDecorator implements Skill {
-    protected Skill wrappedSkill;
+    protected final Skill wrappedSkill;
     
     public SkillDecorator(Skill skill) {
         this.wrappedSkill = skill;
     }
     
+    public Skill getWrappedSkill() {
+        return wrappedSkill;
+    }
+    
     @Override
     public int execute() {
         return wrappedSkill.execute();
     }
     
+    @Override
+    public int execute(RandomGenerator random) {
+        return wrappedSkill.execute(random);
+    }
+    
     @Override
     public String getDescription() {
         return wrappedSkill.getDescription();
@@ -0,0 +1,19 @@
+package com.game.skill;
+
+/**
+ * Character yang membawa skill pipeline-nya sendiri
+ * (mis. archetype dari registry), sehingga SkillCache tidak perlu
+ * membangun pipeline berdasarkan character type.
+ */
+public interface SkillProvider {
+    
+    /**
+     * Decorated skill milik character (immutable, aman dipakai bersama)
+     */
+    Skill getDecoratedSkill();
+    
+    /**
+     * Basic attack milik character
+     */
+    Skill getBasicAttack();
+}
@@ -0,0 +1,39 @@
+package com.game.skill;
+
+import com.game.effect.EffectSpec;
+
+/**
+ * DESIGN PATTERN: Decorator
+ * Peran: ConcreteDecorator
+ * 
+ * StatusEffectDecorator menambahkan status effect (burn, shield, stun, buff)
+ * ke skill yang di-wrap. Damage tidak berubah; effect dilaporkan ke
+ * DamageContext saat resolve() dan diterapkan oleh command ke EffectScheduler
+ * milik battle.
+ */
+public class StatusEffectDecorator extends SkillDecorator {
+    private final EffectSpec effect;
+    
+    public StatusEffectDecorator(Skill skill, EffectSpec effect) {
+        super(skill);
+        if (effect == null) {
+            throw new IllegalArgumentException("Effect cannot be null");
+        }
+        this.effect = effect;
+    }
+    
+    public EffectSpec getEffect() {
+        return effect;
+    }
+    
+    @Override
+    public void resolve(DamageContext context) {
+        wrappedSkill.resolve(context);
+        context.addEffect(effect);
+    }
+    
+    @Override
+    public String getDescription() {
+        return super.getDescription() + " + " + effect.getDescription();
+    }
+}
@@ -0,0 +1,196 @@
+package com.game.spectator;
+
+import java.util.Arrays;
+
+import static com.game.spectator.SpectatorFormat.*;
+
+/**
+ * Posisi baca satu spectator di SpectatorFeed
+ *
+ * Frame di-decode langsung dari buffer bersama ke SpectatorFrame milik cursor
+ * (tanpa copy byte), lalu divalidasi; frame yang tertimpa writer di tengah
+ * decode dibuang dan cursor melompat ke keyframe terakhir. Cursor menyimpan
+ * HP terakhir setiap player untuk menerapkan delta.
+ *
+ * Tidak thread-safe: satu cursor untuk satu thread spectator. Banyak cursor
+ * boleh membaca feed yang sama dari thread berbeda.
+ */
+public final class SpectatorCursor {
+    private final SpectatorFeed feed;
+    private final byte[] buffer;
+    private final int mask;
+    private final SpectatorFrame frame;
+    private final int[] hp;
+    private long position;
+    private int turn;
+    private int commandCount;
+    private int winnerIndex = -1;
+    private int read;
+    private long lapCount;
+
+    SpectatorCursor(SpectatorFeed feed) {
+        this.feed = feed;
+        this.buffer = feed.buffer();
+        this.mask = feed.mask();
+        this.frame = new SpectatorFrame(feed.getPlayerCount());
+        this.hp = new int[feed.getPlayerCount()];
+        this.position = feed.latestKeyframe();
+    }
+
+    /**
+     * Kirim frame yang sudah tersedia ke handler, paling banyak maxFrames
+     *
+     * @return jumlah frame yang dikirim
+     */
+    public int poll(SpectatorFrameHandler handler, int maxFrames) {
+        if (maxFrames <= 0) {
+            throw new IllegalArgumentException("Max frames must be positive, got: " + maxFrames);
+        }
+        int delivered = 0;
+        while (delivered < maxFrames) {
+            long tail = feed.tail();
+            if (position >= tail) {
+                break;
+            }
+            int index = (int) position & mask;
+            int length = (int) INT.get(buffer, index + OFFSET_LENGTH);
+            byte type = buffer[index + OFFSET_TYPE];
+            boolean decoded = type != TYPE_PADDING && decode(index, type);
+            if (!feed.isIntact(position)) {
+                position = feed.latestKeyframe();
+                lapCount++;
+                continue;
+            }
+            if (type == TYPE_PADDING) {
+                position += length;
+                continue;
+            }
+            if (!decoded) {
+                throw new IllegalStateException("Corrupt spectator frame type " + type + " at " + position);
+            }
+            position += align(length);
+            apply();
+            handler.onFrame(frame);
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * Decode frame ke this.frame tanpa mengubah state cursor
+     *
+     * @return false jika type tidak dikenal (hanya mungkin untuk frame yang tertimpa)
+     */
+    private boolean decode(int index, byte type) {
+        if (index + HEADER_SIZE > buffer.length) {
+            return false;
+        }
+        SpectatorFrame frame = this.frame;
+        frame.flags = buffer[index + OFFSET_FLAGS];
+        frame.sequence = (int) INT.get(buffer, index + OFFSET_SEQUENCE);
+        frame.turn = turn;
+        frame.commandCount = commandCount;
+        frame.winnerIndex = winnerIndex;
+        frame.actorIndex = -1;
+        frame.actionType = -1;
+        frame.damage = 0;
+        System.arraycopy(hp, 0, frame.hp, 0, hp.length);
+        Arrays.fill(frame.hpDelta, 0);
+
+        read = index + HEADER_SIZE;
+        switch (type) {
+            case TYPE_KEYFRAME -> {
+                frame.type = SpectatorFrame.Type.KEYFRAME;
+                frame.turn = readVarInt();
+                frame.commandCount = readVarInt();
+                frame.winnerIndex = readByte();
+                for (int i = 0; i < frame.hp.length; i++) {
+                    frame.hp[i] = readVarInt();
+                }
+            }
+            case TYPE_TURN -> {
+                frame.type = SpectatorFrame.Type.TURN;
+                frame.turn = readVarInt();
+                readDeltas();
+            }
+            case TYPE_COMMAND -> {
+                frame.type = SpectatorFrame.Type.COMMAND;
+                frame.commandCount++;
+                frame.actorIndex = readByte();
+                frame.actionType = readByte();
+                frame.damage = readVarInt();
+                readDeltas();
+            }
+            case TYPE_END -> {
+                frame.type = SpectatorFrame.Type.END;
+                frame.winnerIndex = readByte();
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readDeltas() {
+        int changed = readByte();
+        for (int i = 0; i < frame.hp.length; i++) {
+            if ((changed & (1 << i)) != 0) {
+                int delta = unZigZag(readVarInt());
+                frame.hpDelta[i] = delta;
+                frame.hp[i] += delta;
+            }
+        }
+    }
+
+    private void apply() {
+        System.arraycopy(frame.hp, 0, hp, 0, hp.length);
+        turn = frame.turn;
+        commandCount = frame.commandCount;
+        winnerIndex = frame.winnerIndex;
+    }
+
+    private int readByte() {
+        return buffer[read++ & mask];
+    }
+
+    /**
+     * Varint paling banyak MAX_VARINT_SIZE byte, supaya frame yang tertimpa tidak membuat loop panjang
+     */
+    private int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_VARINT_SIZE; shift += 7) {
+            int b = buffer[read++ & mask];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        return value;
+    }
+
+    // ===== State spectator =====
+
+    public int getHp(int player) {
+        return hp[player];
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Berapa kali cursor tertinggal satu putaran buffer dan melompat ke keyframe terakhir
+     */
+    public long getLapCount() {
+        return lapCount;
+    }
+
+    public SpectatorFeed getFeed() {
+        return feed;
+    }
+}
@@ -0,0 +1,317 @@
+package com.game.spectator;
+
+import com.game.character.Character;
+import com.game.event.ActionType;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import static com.game.spectator.SpectatorFormat.*;
+
+/**
+ * Feed spectator satu battle: frame biner compact di satu broadcast buffer bersama
+ * (lihat SpectatorFormat)
+ *
+ * BattleManager menulis satu frame per command dan per turn yang hanya berisi
+ * perubahan: delta HP player yang berubah, damage, critical, dan kematian
+ * (HP menjadi 0). Setiap keyframeInterval frame ditulis keyframe berisi state
+ * lengkap, jadi spectator yang baru bergabung atau tertinggal cukup mulai dari
+ * keyframe terakhir.
+ *
+ * Buffer berupa ring yang ditulis satu thread (thread battle). Spectator membaca
+ * lewat SpectatorCursor masing-masing langsung dari buffer yang sama, tanpa copy
+ * per subscriber dan tanpa daftar subscriber di sisi writer, jadi biaya writer
+ * tidak bergantung pada jumlah spectator. Writer menandai area yang akan ditulis
+ * (tailIntent) sebelum menulis dan mempublish tail setelahnya; cursor memvalidasi
+ * frame setelah decode dan melompat ke keyframe terakhir jika frame-nya sudah
+ * tertimpa (cursor tertinggal lebih dari satu putaran buffer).
+ */
+public final class SpectatorFeed {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+    private static final VarHandle TAIL_INTENT;
+    private static final VarHandle TAIL;
+    private static final VarHandle LATEST_KEYFRAME;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL_INTENT = lookup.findVarHandle(SpectatorFeed.class, "tailIntent", long.class);
+            TAIL = lookup.findVarHandle(SpectatorFeed.class, "tail", long.class);
+            LATEST_KEYFRAME = lookup.findVarHandle(SpectatorFeed.class, "latestKeyframe", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final byte[] buffer;
+    private final int mask;
+    private final int keyframeInterval;
+    private final Character[] players;
+
+    // Dibaca cursor dari thread lain
+    private volatile long tailIntent;
+    private volatile long tail;
+    private volatile long latestKeyframe;
+
+    // State writer (thread battle)
+    private final int[] publishedHp;
+    private final int[] currentHp;
+    private int sequence;
+    private int framesSinceKeyframe;
+    private int turn;
+    private int commandCount;
+    private int winnerIndex = -1;
+    private boolean ended;
+    private long claimedTail;
+
+    public SpectatorFeed(int turn, Character... players) {
+        this(DEFAULT_CAPACITY, DEFAULT_KEYFRAME_INTERVAL, turn, players);
+    }
+
+    /**
+     * @param capacity         ukuran buffer dalam byte, pangkat dua
+     * @param keyframeInterval jumlah frame di antara dua keyframe
+     * @param turn             turn battle saat feed dibuat
+     */
+    public SpectatorFeed(int capacity, int keyframeInterval, int turn, Character... players) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive, got: " + keyframeInterval);
+        }
+        // Keyframe terakhir harus tetap utuh selama satu interval penuh
+        long minCapacity = 2L * (keyframeInterval + 1) * align(MAX_FRAME_SIZE);
+        if (capacity < minCapacity || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two of at least " + minCapacity
+                + " for keyframe interval " + keyframeInterval + ", got: " + capacity);
+        }
+        if (turn < 0) {
+            throw new IllegalArgumentException("Turn number cannot be negative, got: " + turn);
+        }
+        if (players == null || players.length == 0 || players.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Spectator feed needs 1 to " + MAX_PLAYERS + " players");
+        }
+        this.buffer = new byte[capacity];
+        this.mask = capacity - 1;
+        this.keyframeInterval = keyframeInterval;
+        this.players = players.clone();
+        this.publishedHp = new int[players.length];
+        this.currentHp = new int[players.length];
+        this.turn = turn;
+        writeKeyframe();
+    }
+
+    /**
+     * Cursor baru yang mulai dari keyframe terakhir
+     */
+    public SpectatorCursor subscribe() {
+        return new SpectatorCursor(this);
+    }
+
+    // ===== Writer (dipanggil BattleManager dari thread battle) =====
+
+    /**
+     * Turn baru dimulai; perubahan HP sejak frame terakhir (mis. damage BURN) ikut dikirim
+     */
+    public void turnStarted(int turn) {
+        this.turn = turn;
+        int changed = captureHp();
+        int length = HEADER_SIZE + varIntSize(turn) + 1 + deltaSize(changed);
+        int at = begin(length, TYPE_TURN, 0);
+        at = putVarInt(at, turn);
+        putDeltas(at, changed);
+        commit();
+    }
+
+    /**
+     * Satu command selesai dieksekusi
+     *
+     * @param actorIndex index player yang beraksi, -1 jika tidak diketahui
+     * @param actionType boleh null
+     */
+    public void commandExecuted(int actorIndex, ActionType actionType, int damage, boolean critical) {
+        commandCount++;
+        int changed = captureHp();
+        int length = HEADER_SIZE + 2 + varIntSize(Math.max(0, damage)) + 1 + deltaSize(changed);
+        int at = begin(length, TYPE_COMMAND, critical ? FLAG_CRITICAL : 0);
+        buffer[at++] = (byte) actorIndex;
+        buffer[at++] = (byte) (actionType == null ? -1 : actionType.ordinal());
+        at = putVarInt(at, Math.max(0, damage));
+        putDeltas(at, changed);
+        commit();
+    }
+
+    /**
+     * Battle selesai; winnerIndex -1 untuk draw
+     */
+    public void battleEnded(int winnerIndex) {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        this.winnerIndex = winnerIndex;
+        int at = begin(HEADER_SIZE + 1, TYPE_END, FLAG_BATTLE_OVER);
+        buffer[at] = (byte) winnerIndex;
+        commit();
+    }
+
+    private void writeKeyframe() {
+        captureHp();
+        int length = HEADER_SIZE + varIntSize(turn) + varIntSize(commandCount) + 1;
+        for (int hp : currentHp) {
+            length += varIntSize(hp);
+        }
+        int at = begin(length, TYPE_KEYFRAME, ended ? FLAG_BATTLE_OVER : 0);
+        long position = claimedTail - align(length);
+        at = putVarInt(at, turn);
+        at = putVarInt(at, commandCount);
+        buffer[at++] = (byte) winnerIndex;
+        for (int i = 0; i < currentHp.length; i++) {
+            at = putVarInt(at, currentHp[i]);
+            publishedHp[i] = currentHp[i];
+        }
+        TAIL.setRelease(this, claimedTail);
+        LATEST_KEYFRAME.setRelease(this, position);
+        sequence++;
+        framesSinceKeyframe = 0;
+    }
+
+    /**
+     * Baca HP semua player sekali; bit i di hasil = HP player i berubah sejak frame terakhir
+     */
+    private int captureHp() {
+        int changed = 0;
+        for (int i = 0; i < players.length; i++) {
+            currentHp[i] = players[i].getHp();
+            if (currentHp[i] != publishedHp[i]) {
+                changed |= 1 << i;
+            }
+        }
+        return changed;
+    }
+
+    private int deltaSize(int changed) {
+        int size = 0;
+        for (int i = 0; i < players.length; i++) {
+            if ((changed & (1 << i)) != 0) {
+                size += varIntSize(zigZag(currentHp[i] - publishedHp[i]));
+            }
+        }
+        return size;
+    }
+
+    private int putDeltas(int at, int changed) {
+        buffer[at++] = (byte) changed;
+        for (int i = 0; i < players.length; i++) {
+            if ((changed & (1 << i)) != 0) {
+                at = putVarInt(at, zigZag(currentHp[i] - publishedHp[i]));
+                publishedHp[i] = currentHp[i];
+            }
+        }
+        return at;
+    }
+
+    /**
+     * Klaim ruang untuk satu frame dan tulis header-nya
+     *
+     * @return index body frame di buffer
+     */
+    private int begin(int length, byte type, int flags) {
+        int aligned = align(length);
+        long position = tail;
+        int index = (int) position & mask;
+        int padding = index + aligned > buffer.length ? buffer.length - index : 0;
+        claimedTail = position + padding + aligned;
+        // Intent harus terlihat sebelum byte lama di area ini mulai ditimpa
+        TAIL_INTENT.setOpaque(this, claimedTail);
+        VarHandle.storeStoreFence();
+        if (padding > 0) {
+            INT.set(buffer, index + OFFSET_LENGTH, padding);
+            buffer[index + OFFSET_TYPE] = TYPE_PADDING;
+            index = 0;
+        }
+        INT.set(buffer, index + OFFSET_LENGTH, length);
+        buffer[index + OFFSET_TYPE] = type;
+        buffer[index + OFFSET_FLAGS] = (byte) flags;
+        INT.set(buffer, index + OFFSET_SEQUENCE, sequence);
+        return index + HEADER_SIZE;
+    }
+
+    private void commit() {
+        TAIL.setRelease(this, claimedTail);
+        sequence++;
+        if (++framesSinceKeyframe >= keyframeInterval) {
+            writeKeyframe();
+        }
+    }
+
+    private int putVarInt(int at, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[at++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[at++] = (byte) value;
+        return at;
+    }
+
+    // ===== Reader (dipakai SpectatorCursor) =====
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int mask() {
+        return mask;
+    }
+
+    long tail() {
+        return (long) TAIL.getAcquire(this);
+    }
+
+    long latestKeyframe() {
+        return (long) LATEST_KEYFRAME.getAcquire(this);
+    }
+
+    /**
+     * true jika frame di position belum tertimpa writer; dipanggil setelah frame dibaca
+     */
+    boolean isIntact(long position) {
+        VarHandle.loadLoadFence();
+        return position >= (long) TAIL_INTENT.getVolatile(this) - buffer.length;
+    }
+
+    // ===== Metadata =====
+
+    public int getPlayerCount() {
+        return players.length;
+    }
+
+    public String getPlayerName(int index) {
+        return players[index].getName();
+    }
+
+    public int getMaxHp(int index) {
+        return players[index].getMaxHp();
+    }
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    /**
+     * Total byte yang sudah ditulis ke buffer, termasuk alignment dan padding
+     */
+    public long getBytesWritten() {
+        return tail;
+    }
+
+    /**
+     * Jumlah frame yang sudah ditulis, termasuk keyframe
+     */
+    public int getFrameCount() {
+        return sequence;
+    }
+}
@@ -0,0 +1,72 @@
+package com.game.spectator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Layout frame di broadcast buffer SpectatorFeed
+ *
+ * Setiap frame dimulai di posisi kelipatan ALIGNMENT dan tidak pernah melewati
+ * ujung buffer; sisa ruang di ujung diisi frame PADDING.
+ *
+ * Header (big-endian):
+ *
+ *   offset  0  int   length     (header + body, tanpa alignment)
+ *   offset  4  byte  type       (TYPE_*)
+ *   offset  5  byte  flags      (FLAG_*)
+ *   offset  6  short reserved
+ *   offset  8  int   sequence   (urutan frame di battle, mulai dari 0)
+ *
+ * Body (varint = unsigned LEB128, delta = zigzag varint):
+ *
+ *   KEYFRAME  varint turn, varint commandCount, byte winnerIndex, varint hp per player
+ *   TURN      varint turn, byte changedMask, delta hp per player yang berubah
+ *   COMMAND   byte actorIndex, byte actionType (ordinal, -1 = null), varint damage,
+ *             byte changedMask, delta hp per player yang berubah
+ *   END       byte winnerIndex (-1 = draw)
+ *
+ * changedMask: bit i = HP player i berubah sejak frame sebelumnya.
+ */
+final class SpectatorFormat {
+    static final int ALIGNMENT = 8;
+    static final int HEADER_SIZE = 12;
+    static final int MAX_PLAYERS = 8;
+    static final int MAX_VARINT_SIZE = 5;
+    static final int MAX_FRAME_SIZE = HEADER_SIZE + 2 * MAX_VARINT_SIZE + 2 + MAX_PLAYERS * MAX_VARINT_SIZE;
+
+    static final int OFFSET_LENGTH = 0;
+    static final int OFFSET_TYPE = 4;
+    static final int OFFSET_FLAGS = 5;
+    static final int OFFSET_SEQUENCE = 8;
+
+    static final byte TYPE_PADDING = 0;
+    static final byte TYPE_KEYFRAME = 1;
+    static final byte TYPE_TURN = 2;
+    static final byte TYPE_COMMAND = 3;
+    static final byte TYPE_END = 4;
+
+    static final int FLAG_CRITICAL = 1;
+    static final int FLAG_BATTLE_OVER = 1 << 1;
+
+    static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private SpectatorFormat() {
+    }
+
+    static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    static int varIntSize(int value) {
+        return value >>> 7 == 0 ? 1 : value >>> 14 == 0 ? 2 : value >>> 21 == 0 ? 3 : value >>> 28 == 0 ? 4 : 5;
+    }
+
+    static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.game.spectator;
+
+import com.game.event.ActionType;
+
+/**
+ * Hasil decode satu frame feed, dipakai ulang oleh SpectatorCursor untuk setiap frame
+ *
+ * HP selalu absolut (state cursor setelah frame diterapkan); getHpDelta()
+ * adalah perubahan yang dibawa frame. Hanya valid selama handler berjalan.
+ */
+public final class SpectatorFrame {
+
+    public enum Type {
+        /** State lengkap: turn, jumlah command, pemenang dan HP semua player */
+        KEYFRAME,
+        /** Turn baru dimulai, plus perubahan HP di awal turn (mis. BURN) */
+        TURN,
+        /** Satu command dieksekusi */
+        COMMAND,
+        /** Battle selesai */
+        END
+    }
+
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+
+    final int[] hp;
+    final int[] hpDelta;
+    Type type;
+    int sequence;
+    int turn;
+    int commandCount;
+    int actorIndex;
+    int actionType;
+    int damage;
+    int winnerIndex;
+    int flags;
+
+    SpectatorFrame(int playerCount) {
+        this.hp = new int[playerCount];
+        this.hpDelta = new int[playerCount];
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Urutan frame di battle; selisih lebih dari satu berarti cursor melompat ke keyframe
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Jumlah command yang sudah dieksekusi sampai frame ini
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Index player yang beraksi (COMMAND), -1 jika tidak ada
+     */
+    public int getActorIndex() {
+        return actorIndex;
+    }
+
+    /**
+     * Jenis aksi (COMMAND), atau null
+     */
+    public ActionType getActionType() {
+        return actionType < 0 || actionType >= ACTION_TYPES.length ? null : ACTION_TYPES[actionType];
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public boolean isCritical() {
+        return (flags & SpectatorFormat.FLAG_CRITICAL) != 0;
+    }
+
+    public int getPlayerCount() {
+        return hp.length;
+    }
+
+    public int getHp(int player) {
+        return hp[player];
+    }
+
+    public int getHpDelta(int player) {
+        return hpDelta[player];
+    }
+
+    /**
+     * true jika player kalah di frame ini (HP turun menjadi 0)
+     */
+    public boolean isDefeated(int player) {
+        return hp[player] == 0 && hpDelta[player] != 0;
+    }
+
+    public boolean isBattleOver() {
+        return (flags & SpectatorFormat.FLAG_BATTLE_OVER) != 0;
+    }
+
+    /**
+     * Pemenang (END, atau KEYFRAME setelah battle selesai); -1 untuk draw atau belum ada
+     */
+    public int getWinnerIndex() {
+        return winnerIndex;
+    }
+}
@@ -0,0 +1,13 @@
+package com.game.spectator;
+
+/**
+ * Penerima frame dari SpectatorCursor.poll()
+ */
+@FunctionalInterface
+public interface SpectatorFrameHandler {
+
+    /**
+     * Frame dipakai ulang setelah method ini kembali; salin field yang perlu disimpan
+     */
+    void onFrame(SpectatorFrame frame);
+}
@@ -0,0 +1,49 @@
+package com.game.tournament;
+
+import com.game.battle.CombatProfile;
+import com.game.character.Character;
+import com.game.character.CharacterCreator;
+import com.game.skill.SkillBuilder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Satu peserta tournament
+ *
+ * @param seed posisi di roster (0 = unggulan teratas); juga dipakai sebagai id
+ */
+public record Entrant(int seed, String name, CombatProfile profile) {
+
+    public Entrant {
+        if (seed < 0) {
+            throw new IllegalArgumentException("Seed cannot be negative, got: " + seed);
+        }
+        if (profile == null) {
+            throw new IllegalArgumentException("Combat profile cannot be null");
+        }
+    }
+
+    /**
+     * Roster dari beberapa creator secara bergiliran: entrant ke-i dibuat oleh creators[i % creators.size()]
+     */
+    public static List<Entrant> roster(List<? extends CharacterCreator> creators, int size, SkillBuilder skillBuilder) {
+        if (creators == null || creators.isEmpty()) {
+            throw new IllegalArgumentException("Roster needs at least one creator");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Roster size must be positive, got: " + size);
+        }
+        List<Entrant> entrants = new ArrayList<>(size);
+        for (int seed = 0; seed < size; seed++) {
+            CharacterCreator creator = creators.get(seed % creators.size());
+            Character character = creator.orderCharacter("Entrant" + (seed + 1));
+            entrants.add(new Entrant(seed, character.getName(), CombatProfile.of(character, skillBuilder)));
+        }
+        return entrants;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + profile.getCharacterType() + ", seed " + (seed + 1) + ")";
+    }
+}
@@ -0,0 +1,42 @@
+package com.game.tournament;
+
+/**
+ * Hasil satu match best-of-N
+ *
+ * @param player2 null untuk bye
+ * @param winner  null jika draw (jumlah game yang dimenangkan sama)
+ */
+public record MatchResult(int round, Entrant player1, Entrant player2,
+                          int wins1, int wins2, int games, Entrant winner) {
+
+    static MatchResult bye(int round, Entrant entrant) {
+        return new MatchResult(round, entrant, null, 0, 0, 0, entrant);
+    }
+
+    public boolean isBye() {
+        return player2 == null;
+    }
+
+    public boolean isDraw() {
+        return winner == null;
+    }
+
+    /**
+     * Entrant yang kalah, atau null untuk draw dan bye
+     */
+    public Entrant loser() {
+        if (winner == null || player2 == null) {
+            return null;
+        }
+        return winner == player1 ? player2 : player1;
+    }
+
+    @Override
+    public String toString() {
+        if (isBye()) {
+            return "R" + (round + 1) + " " + player1.name() + " bye";
+        }
+        return "R" + (round + 1) + " " + player1.name() + " " + wins1 + "-" + wins2 + " " + player2.name()
+            + (winner == null ? " (draw)" : "");
+    }
+}
@@ -0,0 +1,17 @@
+package com.game.tournament;
+
+/**
+ * Snapshot posisi satu entrant di klasemen
+ *
+ * @param wins     match yang dimenangkan, tanpa bye
+ * @param buchholz jumlah points semua lawan (tiebreak pertama)
+ */
+public record Standing(int rank, Entrant entrant, int points, int wins, int draws, int losses, int byes,
+                       int gamesWon, int gamesLost, int buchholz) {
+
+    @Override
+    public String toString() {
+        return String.format("%4d. %-32s %3d pts  %d-%d-%d  games %d-%d  buchholz %d",
+            rank, entrant, points, wins, draws, losses, gamesWon, gamesLost, buchholz);
+    }
+}
@@ -0,0 +1,139 @@
+package com.game.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Klasemen yang diperbarui incremental setiap kali satu match selesai
+ *
+ * Menang 2 points, draw 1, kalah 0; bye dihitung sebagai menang.
+ * Urutan rank: points, buchholz, selisih game, lalu seed.
+ * Semua method synchronized karena match selesai di banyak worker thread.
+ */
+public final class Standings {
+    public static final int WIN_POINTS = 2;
+    public static final int DRAW_POINTS = 1;
+
+    private final List<Entrant> entrants;
+    private final int[] points;
+    private final int[] wins;
+    private final int[] draws;
+    private final int[] losses;
+    private final int[] byes;
+    private final int[] gamesWon;
+    private final int[] gamesLost;
+    private final int[][] opponents;
+    private final int[] opponentCount;
+    private long matchCount;
+    private long gameCount;
+
+    /**
+     * @param maxRounds jumlah match maksimal per entrant (kapasitas daftar lawan)
+     */
+    Standings(List<Entrant> entrants, int maxRounds) {
+        int count = entrants.size();
+        this.entrants = entrants;
+        this.points = new int[count];
+        this.wins = new int[count];
+        this.draws = new int[count];
+        this.losses = new int[count];
+        this.byes = new int[count];
+        this.gamesWon = new int[count];
+        this.gamesLost = new int[count];
+        this.opponents = new int[count][maxRounds];
+        this.opponentCount = new int[count];
+    }
+
+    synchronized void record(MatchResult result) {
+        matchCount++;
+        int seed1 = result.player1().seed();
+        if (result.isBye()) {
+            points[seed1] += WIN_POINTS;
+            byes[seed1]++;
+            return;
+        }
+
+        int seed2 = result.player2().seed();
+        gameCount += result.games();
+        gamesWon[seed1] += result.wins1();
+        gamesLost[seed1] += result.wins2();
+        gamesWon[seed2] += result.wins2();
+        gamesLost[seed2] += result.wins1();
+        opponents[seed1][opponentCount[seed1]++] = seed2;
+        opponents[seed2][opponentCount[seed2]++] = seed1;
+
+        if (result.isDraw()) {
+            points[seed1] += DRAW_POINTS;
+            points[seed2] += DRAW_POINTS;
+            draws[seed1]++;
+            draws[seed2]++;
+        } else {
+            int winner = result.winner().seed();
+            int loser = winner == seed1 ? seed2 : seed1;
+            points[winner] += WIN_POINTS;
+            wins[winner]++;
+            losses[loser]++;
+        }
+    }
+
+    public synchronized int getPoints(int seed) {
+        return points[seed];
+    }
+
+    public synchronized int getByes(int seed) {
+        return byes[seed];
+    }
+
+    /**
+     * true jika kedua entrant sudah pernah bertemu
+     */
+    public synchronized boolean havePlayed(int seed1, int seed2) {
+        int[] played = opponents[seed1];
+        for (int i = 0; i < opponentCount[seed1]; i++) {
+            if (played[i] == seed2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Jumlah match yang sudah selesai, termasuk bye
+     */
+    public synchronized long getMatchCount() {
+        return matchCount;
+    }
+
+    public synchronized long getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Snapshot klasemen saat ini, urut rank
+     */
+    public synchronized List<Standing> ranking() {
+        List<Standing> rows = new ArrayList<>(entrants.size());
+        for (Entrant entrant : entrants) {
+            int seed = entrant.seed();
+            int buchholz = 0;
+            for (int i = 0; i < opponentCount[seed]; i++) {
+                buchholz += points[opponents[seed][i]];
+            }
+            rows.add(new Standing(0, entrant, points[seed], wins[seed], draws[seed], losses[seed], byes[seed],
+                gamesWon[seed], gamesLost[seed], buchholz));
+        }
+        rows.sort(Comparator.comparingInt(Standing::points).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::buchholz).reversed())
+            .thenComparing(Comparator.comparingInt((Standing row) -> row.gamesWon() - row.gamesLost()).reversed())
+            .thenComparingInt(row -> row.entrant().seed()));
+
+        List<Standing> ranked = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Standing row = rows.get(i);
+            ranked.add(new Standing(i + 1, row.entrant(), row.points(), row.wins(), row.draws(), row.losses(),
+                row.byes(), row.gamesWon(), row.gamesLost(), row.buchholz()));
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,241 @@
+package com.game.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node DAG untuk satu ronde Swiss
+ *
+ * Entrant dengan score s sebelum ronde r+1 hanya bisa berasal dari entrant
+ * dengan score s-2 (menang), s-1 (draw) atau s (kalah) sebelum ronde r.
+ * Jadi score group s di ronde r+1 bisa dipasangkan begitu match ronde r dari
+ * ketiga group itu selesai, tanpa menunggu seluruh ronde r. Group dipasangkan
+ * dari score tertinggi ke terendah karena entrant sisa dari group ganjil turun
+ * (float) ke group di bawahnya.
+ *
+ * Untuk jumlah entrant ganjil, penerima bye ditentukan sebelum pairing: entrant
+ * terbawah yang belum pernah mendapat bye di score group terendah yang masih
+ * punya entrant seperti itu. Karena itu setiap group juga menunggu group asal
+ * sampai score tersebut selesai (biasanya hanya group score 0). Entrant sisa
+ * di group terendah mendapat bye hanya jika semua entrant sudah pernah.
+ *
+ * Pairing dalam group: urut seed, paruh atas melawan paruh bawah, dan lawan
+ * yang sudah pernah ditemui dilewati jika masih ada alternatif.
+ */
+final class SwissRound {
+    private final TournamentRun run;
+    private final int round;
+    private final SwissRound previous;
+    private final int maxScore;
+
+    // members[s]: entrant dengan score s sebelum ronde ini, ditulis saat group s dipasangkan
+    private final int[][] members;
+    private final AtomicInteger[] pending;
+    private final List<CompletableFuture<Void>> settled;
+
+    SwissRound(TournamentRun run, int round, SwissRound previous) {
+        this.run = run;
+        this.round = round;
+        this.previous = previous;
+        this.maxScore = round * Standings.WIN_POINTS;
+        this.members = new int[maxScore + 1][];
+        this.pending = new AtomicInteger[maxScore + 1];
+        this.settled = new ArrayList<>(maxScore + 1);
+        for (int score = 0; score <= maxScore; score++) {
+            pending[score] = new AtomicInteger();
+            settled.add(new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Bangun rantai pairing group untuk ronde ini; tidak menunggu apapun
+     */
+    void schedule() {
+        CompletableFuture<Integer> bye = run.watch(reserveBye());
+        CompletableFuture<Entrant> above = CompletableFuture.completedFuture(null);
+        for (int score = maxScore; score >= 0; score--) {
+            int groupScore = score;
+            CompletableFuture<Integer> ready = previous == null
+                ? bye
+                : previous.settledBetween(score - Standings.WIN_POINTS, score).thenCombine(bye, (ignored, seed) -> seed);
+            above = run.watch(ready.thenCombineAsync(above,
+                (byeSeed, floater) -> pairGroup(groupScore, floater, byeSeed), run.pool()));
+        }
+    }
+
+    /**
+     * Seed penerima bye ronde ini, atau -1 jika jumlah entrant genap atau semua sudah pernah bye
+     */
+    private CompletableFuture<Integer> reserveBye() {
+        if ((run.entrantCount() & 1) == 0) {
+            return CompletableFuture.completedFuture(-1);
+        }
+        if (previous == null) {
+            return CompletableFuture.completedFuture(run.entrantCount() - 1);
+        }
+        return findBye(0);
+    }
+
+    /**
+     * Cari di group score ini begitu group asalnya selesai; group di bawahnya sudah diperiksa
+     */
+    private CompletableFuture<Integer> findBye(int score) {
+        if (score > maxScore) {
+            return CompletableFuture.completedFuture(-1);
+        }
+        return previous.settledBetween(score - Standings.WIN_POINTS, score).thenComposeAsync(ignored -> {
+            int[] group = collectGroup(score);
+            Standings standings = run.standings();
+            for (int i = group.length - 1; i >= 0; i--) {
+                if (standings.getByes(group[i]) == 0) {
+                    return CompletableFuture.completedFuture(group[i]);
+                }
+            }
+            return findBye(score + 1);
+        }, run.pool());
+    }
+
+    /**
+     * Selesai jika semua entrant dengan score di [fromScore, toScore] sudah menyelesaikan match ronde ini
+     */
+    CompletableFuture<Void> settledBetween(int fromScore, int toScore) {
+        int from = Math.max(0, fromScore);
+        int to = Math.min(maxScore, toScore);
+        return CompletableFuture.allOf(settled.subList(from, to + 1).toArray(new CompletableFuture<?>[0]));
+    }
+
+    CompletableFuture<Void> allSettled() {
+        return CompletableFuture.allOf(settled.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Pasangkan group score ini (plus floater dari atas) dan jadwalkan match-nya
+     *
+     * @param byeSeed penerima bye yang sudah ditentukan, atau -1
+     * @return entrant yang turun ke group berikutnya, atau null
+     */
+    private Entrant pairGroup(int score, Entrant floater, int byeSeed) {
+        int[] group = collectGroup(score);
+        members[score] = group;
+        pending[score].set(group.length);
+        if (group.length == 0) {
+            settled.get(score).complete(null);
+        }
+
+        Standings standings = run.standings();
+        List<Entrant> players = new ArrayList<>(group.length + 1);
+        if (floater != null) {
+            players.add(floater);
+        }
+        for (int seed : group) {
+            if (seed == byeSeed) {
+                run.complete(MatchResult.bye(round, run.entrant(seed)));
+                settle(score);
+            } else {
+                players.add(run.entrant(seed));
+            }
+        }
+
+        Entrant out = null;
+        if ((players.size() & 1) != 0) {
+            out = players.remove(score == 0 ? byeCandidate(players, standings) : players.size() - 1);
+            if (score == 0) {
+                int outScore = standings.getPoints(out.seed());
+                run.complete(MatchResult.bye(round, out));
+                settle(outScore);
+                out = null;
+            }
+        }
+
+        int half = players.size() / 2;
+        boolean[] used = new boolean[players.size()];
+        for (int upper = 0; upper < half; upper++) {
+            Entrant player1 = players.get(upper);
+            int lower = pickOpponent(players, used, half, upper, standings);
+            used[lower] = true;
+            schedule(player1, players.get(lower), standings);
+        }
+        return out;
+    }
+
+    /**
+     * Entrant di group ini: dari group s-2, s-1 dan s ronde sebelumnya yang score-nya sekarang s
+     */
+    private int[] collectGroup(int score) {
+        if (previous == null) {
+            int[] all = new int[run.entrantCount()];
+            for (int seed = 0; seed < all.length; seed++) {
+                all[seed] = seed;
+            }
+            return all;
+        }
+        Standings standings = run.standings();
+        int[] group = new int[16];
+        int size = 0;
+        for (int source = Math.max(0, score - Standings.WIN_POINTS); source <= Math.min(score, previous.maxScore); source++) {
+            for (int seed : previous.members[source]) {
+                if (standings.getPoints(seed) == score) {
+                    if (size == group.length) {
+                        group = Arrays.copyOf(group, size * 2);
+                    }
+                    group[size++] = seed;
+                }
+            }
+        }
+        int[] result = Arrays.copyOf(group, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Bye untuk entrant terbawah yang belum pernah mendapat bye (jika bye belum ditentukan)
+     */
+    private static int byeCandidate(List<Entrant> players, Standings standings) {
+        for (int i = players.size() - 1; i >= 0; i--) {
+            if (standings.getByes(players.get(i).seed()) == 0) {
+                return i;
+            }
+        }
+        return players.size() - 1;
+    }
+
+    /**
+     * Lawan dari paruh bawah mulai dari posisi fold (upper + half); rematch dihindari jika bisa
+     */
+    private static int pickOpponent(List<Entrant> players, boolean[] used, int half, int upper, Standings standings) {
+        int seed = players.get(upper).seed();
+        int fallback = -1;
+        for (int offset = 0; offset < half; offset++) {
+            int lower = half + (upper + offset) % half;
+            if (used[lower]) {
+                continue;
+            }
+            if (!standings.havePlayed(seed, players.get(lower).seed())) {
+                return lower;
+            }
+            if (fallback < 0) {
+                fallback = lower;
+            }
+        }
+        return fallback;
+    }
+
+    private void schedule(Entrant player1, Entrant player2, Standings standings) {
+        int score1 = standings.getPoints(player1.seed());
+        int score2 = standings.getPoints(player2.seed());
+        run.watch(CompletableFuture.supplyAsync(() -> run.play(round, player1, player2, false), run.pool())
+            .thenRun(() -> {
+                settle(score1);
+                settle(score2);
+            }));
+    }
+
+    private void settle(int score) {
+        if (pending[score].decrementAndGet() == 0) {
+            settled.get(score).complete(null);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.game.tournament;
+
+import com.game.GameRandom;
+import com.game.battle.BattleSimulator;
+import com.game.battle.SimulationResult;
+import com.game.character.CharacterCreator;
+import com.game.character.MageCreator;
+import com.game.character.WarriorCreator;
+import com.game.registry.GameRegistry;
+import com.game.registry.RegistryLoader;
+import com.game.skill.SkillBuilder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Menjalankan tournament (round robin, Swiss, single elimination) di ForkJoinPool
+ *
+ * Setiap match adalah node di DAG dan langsung dijadwalkan begitu
+ * dependensinya selesai, tanpa barrier per ronde:
+ * - round robin: match entrant A di ronde r+1 hanya menunggu match A di ronde r
+ * - single elimination: match menunggu dua match yang mengisi slot-nya
+ * - Swiss: score group menunggu group asalnya di ronde sebelumnya (lihat SwissRound)
+ * Klasemen diperbarui setiap kali satu match selesai.
+ *
+ * Match best-of-N memakai battle headless BattleSimulator dan random stream
+ * GameRandom.forStream(masterSeed, index) dengan index dari (ronde, seed A, seed B),
+ * jadi hasil tournament deterministik berapapun jumlah thread dan urutan selesai match.
+ * Urutan giliran ditukar setiap game; entrant pertama (seed lebih kecil) mulai di game pertama.
+ */
+public class TournamentEngine {
+    private static final int MAX_TIEBREAK_GAMES = 16;
+
+    private final ForkJoinPool pool;
+    private final long masterSeed;
+    private final int bestOf;
+
+    /**
+     * Pool bawaan selebar jumlah core. Bukan commonPool: commonPool hanya punya
+     * (core - 1) worker karena mengandalkan thread pemanggil ikut bekerja,
+     * sedangkan engine hanya menunggu hasil akhir.
+     */
+    private static final class DefaultPool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    public TournamentEngine(long masterSeed, int bestOf) {
+        this(DefaultPool.INSTANCE, masterSeed, bestOf);
+    }
+
+    public TournamentEngine(ForkJoinPool pool, long masterSeed, int bestOf) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (bestOf <= 0) {
+            throw new IllegalArgumentException("Best-of must be positive, got: " + bestOf);
+        }
+        this.pool = pool;
+        this.masterSeed = masterSeed;
+        this.bestOf = bestOf;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getBestOf() {
+        return bestOf;
+    }
+
+    /**
+     * Jalankan tournament; Swiss memakai ceil(log2(n)) ronde
+     */
+    public TournamentResult run(TournamentFormat format, List<Entrant> entrants, TournamentListener listener) {
+        return switch (format) {
+            case ROUND_ROBIN -> roundRobin(entrants, listener);
+            case SWISS -> swiss(entrants, defaultSwissRounds(entrants.size()), listener);
+            case SINGLE_ELIMINATION -> singleElimination(entrants, listener);
+        };
+    }
+
+    public static int defaultSwissRounds(int entrants) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(entrants - 1));
+    }
+
+    /**
+     * Round robin dengan circle method; untuk jumlah ganjil satu entrant libur setiap ronde (tanpa points)
+     */
+    public TournamentResult roundRobin(List<Entrant> entrants, TournamentListener listener) {
+        int count = validate(entrants, listener);
+        int slots = count + (count & 1);
+        int rounds = slots - 1;
+        TournamentRun run = new TournamentRun(this, TournamentFormat.ROUND_ROBIN, rounds, entrants, listener);
+
+        CompletableFuture<?>[] last = new CompletableFuture<?>[count];
+        Arrays.fill(last, CompletableFuture.completedFuture(null));
+        int[] circle = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            circle[i] = i;
+        }
+
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < slots / 2; i++) {
+                int seed1 = Math.min(circle[i], circle[slots - 1 - i]);
+                int seed2 = Math.max(circle[i], circle[slots - 1 - i]);
+                if (seed2 >= count) {
+                    continue;
+                }
+                int matchRound = round;
+                CompletableFuture<MatchResult> match = run.watch(CompletableFuture.allOf(last[seed1], last[seed2])
+                    .thenApplyAsync(ignored -> run.play(matchRound, run.entrant(seed1), run.entrant(seed2), false), pool));
+                last[seed1] = match;
+                last[seed2] = match;
+            }
+            // Slot 0 tetap, slot lain berputar satu posisi
+            int moved = circle[slots - 1];
+            System.arraycopy(circle, 1, circle, 2, slots - 2);
+            circle[1] = moved;
+        }
+        return run.await(CompletableFuture.allOf(last));
+    }
+
+    /**
+     * Swiss dengan jumlah ronde tertentu; bye bernilai menang
+     */
+    public TournamentResult swiss(List<Entrant> entrants, int rounds, TournamentListener listener) {
+        validate(entrants, listener);
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Rounds must be positive, got: " + rounds);
+        }
+        TournamentRun run = new TournamentRun(this, TournamentFormat.SWISS, rounds, entrants, listener);
+
+        SwissRound current = null;
+        for (int round = 0; round < rounds; round++) {
+            current = new SwissRound(run, round, current);
+            current.schedule();
+        }
+        return run.await(current.allSettled());
+    }
+
+    /**
+     * Single elimination; bracket dibulatkan ke pangkat dua dan slot kosong menjadi bye untuk seed teratas.
+     * Match yang seri setelah N game dilanjutkan sudden death, lalu seed lebih tinggi yang lolos.
+     */
+    public TournamentResult singleElimination(List<Entrant> entrants, TournamentListener listener) {
+        int count = validate(entrants, listener);
+        int size = Integer.highestOneBit(count);
+        if (size < count) {
+            size <<= 1;
+        }
+        int rounds = Integer.numberOfTrailingZeros(size);
+        TournamentRun run = new TournamentRun(this, TournamentFormat.SINGLE_ELIMINATION, rounds, entrants, listener);
+
+        int[] order = bracketOrder(size);
+        List<CompletableFuture<Entrant>> slots = new ArrayList<>(size / 2);
+        for (int i = 0; i < size; i += 2) {
+            Entrant player1 = run.entrant(order[i]);
+            if (order[i + 1] >= count) {
+                run.complete(MatchResult.bye(0, player1));
+                slots.add(CompletableFuture.completedFuture(player1));
+            } else {
+                Entrant player2 = run.entrant(order[i + 1]);
+                slots.add(run.watch(CompletableFuture.supplyAsync(
+                    () -> run.play(0, player1, player2, true).winner(), pool)));
+            }
+        }
+
+        for (int round = 1; round < rounds; round++) {
+            int matchRound = round;
+            List<CompletableFuture<Entrant>> next = new ArrayList<>(slots.size() / 2);
+            for (int i = 0; i < slots.size(); i += 2) {
+                next.add(run.watch(slots.get(i).thenCombineAsync(slots.get(i + 1), (player1, player2) -> {
+                    boolean ordered = player1.seed() < player2.seed();
+                    return run.play(matchRound, ordered ? player1 : player2, ordered ? player2 : player1, true).winner();
+                }, pool)));
+            }
+            slots = next;
+        }
+        return run.await(slots.get(0));
+    }
+
+    /**
+     * Urutan seed di bracket: 1 vs n, lalu pemenangnya bertemu pemenang n/2 vs n/2+1, dan seterusnya
+     */
+    static int[] bracketOrder(int size) {
+        int[] order = {0};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] next = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = length - 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    private static int validate(List<Entrant> entrants, TournamentListener listener) {
+        if (entrants == null || listener == null) {
+            throw new IllegalArgumentException("Entrants and listener cannot be null");
+        }
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("Tournament needs at least two entrants, got: " + entrants.size());
+        }
+        for (int i = 0; i < entrants.size(); i++) {
+            if (entrants.get(i).seed() != i) {
+                throw new IllegalArgumentException("Entrant seed must match roster position " + i
+                    + ", got: " + entrants.get(i).seed());
+            }
+        }
+        return entrants.size();
+    }
+
+    /**
+     * Mainkan satu match best-of-N di thread pemanggil
+     *
+     * @param decisive true jika match tidak boleh draw (single elimination)
+     */
+    MatchResult playMatch(int round, Entrant player1, Entrant player2, int entrantCount, boolean decisive) {
+        int low = Math.min(player1.seed(), player2.seed());
+        int high = Math.max(player1.seed(), player2.seed());
+        GameRandom random = new GameRandom(masterSeed);
+        random.setStream(masterSeed, ((long) round * entrantCount + low) * entrantCount + high);
+
+        BattleSimulator player1First = new BattleSimulator(player1.profile(), player2.profile());
+        BattleSimulator player2First = new BattleSimulator(player2.profile(), player1.profile());
+        int needed = bestOf / 2 + 1;
+        int wins1 = 0;
+        int wins2 = 0;
+        int games = 0;
+        while ((games < bestOf && wins1 < needed && wins2 < needed)
+                || (decisive && wins1 == wins2 && games < bestOf + MAX_TIEBREAK_GAMES)) {
+            boolean firstSeat = (games & 1) == 0;
+            int seat = firstSeat ? player1First.play(random) : player2First.play(random);
+            games++;
+            if (seat == -1) {
+                continue;
+            }
+            if ((seat == SimulationResult.PLAYER_1) == firstSeat) {
+                wins1++;
+            } else {
+                wins2++;
+            }
+        }
+
+        Entrant winner;
+        if (wins1 != wins2) {
+            winner = wins1 > wins2 ? player1 : player2;
+        } else {
+            winner = decisive ? (player1.seed() < player2.seed() ? player1 : player2) : null;
+        }
+        return new MatchResult(round, player1, player2, wins1, wins2, games, winner);
+    }
+
+    /**
+     * Pemakaian: java com.game.tournament.TournamentEngine [format] [entrants] [bestOf] [seed] [registryFile]
+     *
+     * Tanpa registryFile roster bergantian Warrior dan Mage; dengan registryFile
+     * roster bergantian semua archetype di file tersebut.
+     */
+    public static void main(String[] args) throws IOException {
+        TournamentFormat format = args.length > 0 ? TournamentFormat.valueOf(args[0].toUpperCase()) : TournamentFormat.SWISS;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 4_096;
+        int bestOf = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        List<CharacterCreator> creators = new ArrayList<>();
+        if (args.length > 4) {
+            GameRegistry registry = RegistryLoader.load(Path.of(args[4]), 0L);
+            for (int id = 0; id < registry.getArchetypeCount(); id++) {
+                creators.add(registry.creatorFor(id));
+            }
+        } else {
+            creators.add(new WarriorCreator());
+            creators.add(new MageCreator());
+        }
+        List<Entrant> entrants = Entrant.roster(creators, size, new SkillBuilder());
+
+        TournamentEngine engine = new TournamentEngine(seed, bestOf);
+        System.out.printf("%s, %d entrants, best of %d, %d worker threads%n",
+            format, size, bestOf, engine.getPool().getParallelism());
+        TournamentResult result = engine.run(format, entrants, TournamentListener.IGNORE);
+
+        System.out.println(result);
+        System.out.println("Champion: " + result.champion());
+        result.standings().stream().limit(10).forEach(System.out::println);
+    }
+}
@@ -0,0 +1,13 @@
+package com.game.tournament;
+
+/**
+ * Format tournament yang didukung TournamentEngine
+ */
+public enum TournamentFormat {
+    /** Semua entrant bertemu satu kali */
+    ROUND_ROBIN,
+    /** Pairing per score group, jumlah ronde default ceil(log2(n)) */
+    SWISS,
+    /** Bracket gugur dengan seeding standar (1 vs n, 2 vs n-1, ...) */
+    SINGLE_ELIMINATION
+}
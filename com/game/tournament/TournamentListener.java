@@ -0,0 +1,14 @@
+package com.game.tournament;
+
+/**
+ * Menerima setiap hasil match segera setelah klasemen diperbarui
+ *
+ * Dipanggil dari worker thread TournamentEngine, jadi implementasi harus thread-safe.
+ */
+@FunctionalInterface
+public interface TournamentListener {
+
+    TournamentListener IGNORE = (result, standings) -> { };
+
+    void onMatchCompleted(MatchResult result, Standings standings);
+}
@@ -0,0 +1,25 @@
+package com.game.tournament;
+
+import java.util.List;
+
+/**
+ * Hasil akhir satu tournament
+ *
+ * @param standings klasemen akhir, urut rank
+ * @param matches   semua match (termasuk bye), urut ronde lalu seed player 1
+ * @param games     jumlah battle yang disimulasikan
+ */
+public record TournamentResult(TournamentFormat format, int rounds, List<Standing> standings,
+                               List<MatchResult> matches, long games, long elapsedNanos) {
+
+    public Entrant champion() {
+        return standings.get(0).entrant();
+    }
+
+    @Override
+    public String toString() {
+        double seconds = elapsedNanos / 1e9;
+        return String.format("%s: %d entrants, %d rounds, %d matches, %d games in %.2f s (%.0f games/s)",
+            format, standings.size(), rounds, matches.size(), games, seconds, games / seconds);
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * State satu tournament yang sedang berjalan: klasemen, daftar match dan
+ * future kegagalan yang dipakai bersama oleh semua node DAG
+ */
+final class TournamentRun {
+    private final TournamentEngine engine;
+    private final TournamentFormat format;
+    private final int rounds;
+    private final List<Entrant> entrants;
+    private final TournamentListener listener;
+    private final Standings standings;
+    private final ConcurrentLinkedQueue<MatchResult> matches = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> failure = new CompletableFuture<>();
+    private final long startNanos = System.nanoTime();
+
+    TournamentRun(TournamentEngine engine, TournamentFormat format, int rounds,
+                  List<Entrant> entrants, TournamentListener listener) {
+        this.engine = engine;
+        this.format = format;
+        this.rounds = rounds;
+        this.entrants = entrants;
+        this.listener = listener;
+        this.standings = new Standings(entrants, rounds);
+    }
+
+    ForkJoinPool pool() {
+        return engine.getPool();
+    }
+
+    Entrant entrant(int seed) {
+        return entrants.get(seed);
+    }
+
+    int entrantCount() {
+        return entrants.size();
+    }
+
+    Standings standings() {
+        return standings;
+    }
+
+    /**
+     * Mainkan satu match di thread pemanggil lalu catat hasilnya
+     */
+    MatchResult play(int round, Entrant player1, Entrant player2, boolean decisive) {
+        return complete(engine.playMatch(round, player1, player2, entrants.size(), decisive));
+    }
+
+    MatchResult complete(MatchResult result) {
+        standings.record(result);
+        matches.add(result);
+        listener.onMatchCompleted(result, standings);
+        return result;
+    }
+
+    /**
+     * Exception di node manapun langsung menghentikan await(); node turunannya tidak pernah jalan
+     */
+    <T> CompletableFuture<T> watch(CompletableFuture<T> future) {
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                failure.completeExceptionally(error);
+            }
+        });
+        return future;
+    }
+
+    TournamentResult await(CompletableFuture<?> done) {
+        try {
+            CompletableFuture.anyOf(done, failure).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        List<MatchResult> sorted = new ArrayList<>(matches);
+        sorted.sort(Comparator.comparingInt(MatchResult::round)
+            .thenComparingInt(result -> result.player1().seed()));
+        return new TournamentResult(format, rounds, standings.ranking(), sorted,
+            standings.getGameCount(), System.nanoTime() - startNanos);
+    }
+}
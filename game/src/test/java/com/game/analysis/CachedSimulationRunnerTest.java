@@ -0,0 +1,133 @@
+package com.game.analysis;
+
+import com.game.battle.BattleSimulator;
+import com.game.battle.SimulationResult;
+import com.game.metrics.BattleMetrics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cache hit, top-up range yang belum tersimpan, dan eviction LRU berdasarkan
+ * last-modified file saat store dibuka ulang
+ */
+class CachedSimulationRunnerTest {
+    private static final long MASTER_SEED = 7L;
+    private static final long CHUNK = 256;
+    private static final long MAX_BYTES = 1L << 20;
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static BattleSimulator simulator() {
+        return BalanceConfig.defaults().toSimulator();
+    }
+
+    private static SimulationResult uncached(long fromIndex, long toIndex) {
+        BattleSimulator simulator = simulator();
+        SimulationResult result = simulator.newResult();
+        simulator.simulateRange(MASTER_SEED, fromIndex, toIndex, result);
+        return result;
+    }
+
+    private CachedSimulationRunner newRunner(SimulationResultStore store) {
+        return new CachedSimulationRunner(store, pool, CHUNK);
+    }
+
+    @Test
+    void repeatedJobIsServedFromCache() throws IOException {
+        SimulationResultStore store = new SimulationResultStore(tempDir, MAX_BYTES);
+        SimulationJob job = SimulationJob.of(simulator(), MASTER_SEED, 3 * CHUNK);
+
+        SimulationResult first = newRunner(store).run(job);
+        assertEquals(uncached(0, 3 * CHUNK), first);
+        assertEquals(3, store.size());
+
+        // Runner baru di atas store yang dibuka ulang: semua dari file, tidak ada simulasi
+        CachedSimulationRunner runner = newRunner(new SimulationResultStore(tempDir, MAX_BYTES));
+        assertEquals(first, runner.run(job));
+        assertEquals(3 * CHUNK, runner.getCachedBattles());
+        assertEquals(0, runner.getComputedBattles());
+    }
+
+    @Test
+    void widerJobComputesOnlyMissingRange() throws IOException {
+        SimulationResultStore store = new SimulationResultStore(tempDir, MAX_BYTES);
+        newRunner(store).run(SimulationJob.of(simulator(), MASTER_SEED, 2 * CHUNK));
+
+        // Range tidak sejajar chunk: [CHUNK / 2, CHUNK) dan [2 * CHUNK, to) belum ada
+        long from = CHUNK / 2;
+        long to = 4 * CHUNK + 10;
+        CachedSimulationRunner runner = newRunner(store);
+        SimulationResult result = runner.run(new SimulationJob(simulator(), MASTER_SEED, from, to));
+        assertEquals(uncached(from, to), result);
+        assertEquals(CHUNK, runner.getCachedBattles());
+        assertEquals((CHUNK - from) + (to - 2 * CHUNK), runner.getComputedBattles());
+
+        // Setelah top-up, query yang sama sepenuhnya dari cache
+        CachedSimulationRunner again = newRunner(store);
+        assertEquals(result, again.run(new SimulationJob(simulator(), MASTER_SEED, from, to)));
+        assertEquals(0, again.getComputedBattles());
+    }
+
+    @Test
+    void reopenedStoreEvictsLeastRecentlyModifiedEntries() throws IOException {
+        SimulationResultStore store = new SimulationResultStore(tempDir, MAX_BYTES);
+        newRunner(store).run(SimulationJob.of(simulator(), MASTER_SEED, 3 * CHUNK));
+        long totalBytes = store.getTotalBytes();
+
+        // Chunk tengah paling lama tidak dipakai, chunk pertama paling baru
+        String hash = SimulationJob.of(simulator(), MASTER_SEED, 0).key().configHash();
+        Path chunk0 = tempDir.resolve(hash + "-0-" + CHUNK + ".sim");
+        Path chunk1 = tempDir.resolve(hash + "-" + CHUNK + "-" + 2 * CHUNK + ".sim");
+        Path chunk2 = tempDir.resolve(hash + "-" + 2 * CHUNK + "-" + 3 * CHUNK + ".sim");
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(chunk1, FileTime.fromMillis(now - 30_000));
+        Files.setLastModifiedTime(chunk2, FileTime.fromMillis(now - 20_000));
+        Files.setLastModifiedTime(chunk0, FileTime.fromMillis(now - 10_000));
+
+        SimulationResultStore reopened = new SimulationResultStore(tempDir, totalBytes - 1);
+        assertEquals(1, reopened.getEvictions());
+        assertFalse(Files.exists(chunk1));
+        assertTrue(Files.exists(chunk0));
+        assertTrue(Files.exists(chunk2));
+
+        // Hanya chunk yang di-evict disimulasikan ulang
+        CachedSimulationRunner runner = newRunner(reopened);
+        assertEquals(uncached(0, 3 * CHUNK), runner.run(SimulationJob.of(simulator(), MASTER_SEED, 3 * CHUNK)));
+        assertEquals(CHUNK, runner.getComputedBattles());
+    }
+
+    @Test
+    void storeFailureIsReportedAndResultStillReturned() throws IOException {
+        Path directory = tempDir.resolve("cache");
+        SimulationResultStore store = new SimulationResultStore(directory, MAX_BYTES);
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+
+        long errors = BattleMetrics.getErrorCount();
+        CachedSimulationRunner runner = newRunner(store);
+        assertEquals(uncached(0, CHUNK), runner.run(SimulationJob.of(simulator(), MASTER_SEED, CHUNK)));
+        assertEquals(1, runner.getStoreFailures());
+        assertEquals(errors + 1, BattleMetrics.getErrorCount());
+    }
+}
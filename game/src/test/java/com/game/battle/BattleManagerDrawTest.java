@@ -0,0 +1,123 @@
+package com.game.battle;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.event.BattleEndedEvent;
+import com.game.event.BattleEventSink;
+import com.game.event.BattleEvents;
+import com.game.metrics.BattleMetrics;
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.Skill;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.game.GameConstants.MAX_TURNS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Battle yang berhenti di MAX_TURNS diakhiri lewat endAsDraw()
+ */
+class BattleManagerDrawTest {
+    /** int sequence, int turn, byte actorIndex, byte actionType, int damage, int targetHp */
+    private static final int SPILL_RECORD_BYTES = 18;
+
+    private final List<BattleEndedEvent> ended = new ArrayList<>();
+    private final BattleEventSink endedCollector = event -> {
+        if (event instanceof BattleEndedEvent battleEnded) {
+            ended.add(battleEnded);
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private static final class Fighter extends Character {
+        Fighter(String name) {
+            super(name, 1000, 1);
+        }
+
+        @Override
+        public CharacterType getCharacterType() {
+            return CharacterType.WARRIOR;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        BattleEvents.subscribe(endedCollector);
+        BattleMetrics.reset();
+        BattleMetrics.enable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        BattleEvents.unsubscribe(endedCollector);
+        BattleMetrics.disable();
+        BattleMetrics.reset();
+    }
+
+    @Test
+    void drawClosesCompleteSpillFileAndEndsOnce() throws Exception {
+        Path file = tempDir.resolve("draw.history");
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        CommandHistory history = CommandHistory.spillToFile(file);
+        BattleManager battle = new BattleManager(player1, player2, history);
+        Skill hit = new BasicAttackSkill(1);
+
+        while (battle.isBattleOngoing() && battle.getTurnNumber() < MAX_TURNS) {
+            battle.startNextTurn();
+            assertTrue(battle.executeCommand(new AttackCommand(player1, player2, hit)).isExecuted());
+            assertTrue(battle.executeCommand(new AttackCommand(player2, player1, hit)).isExecuted());
+        }
+        assertTrue(battle.isBattleOngoing());
+
+        assertTrue(battle.endAsDraw());
+        assertFalse(battle.endAsDraw(), "draw must end the battle only once");
+        assertNull(battle.getWinner());
+        assertEquals(CommandStatus.REJECTED_BATTLE_OVER,
+            battle.executeCommand(new AttackCommand(player1, player2, hit)));
+
+        assertEquals(1, ended.size());
+        assertNull(ended.get(0).winnerName());
+        assertEquals(2 * MAX_TURNS, ended.get(0).totalCommands());
+        assertEquals(1, BattleMetrics.getBattleCount());
+
+        // File sudah di-flush dan ditutup: isinya lengkap tanpa flush tambahan
+        assertEquals((long) 2 * MAX_TURNS * SPILL_RECORD_BYTES, Files.size(file));
+        List<CommandRecord> records = history.getRecords();
+        assertEquals(2 * MAX_TURNS, records.size());
+        CommandRecord last = records.get(records.size() - 1);
+        assertEquals(2 * MAX_TURNS - 1, last.sequence());
+        assertEquals(MAX_TURNS, last.turn());
+        assertEquals(1, last.actorIndex());
+        assertEquals(1000 - MAX_TURNS, last.targetHp());
+        assertThrows(IllegalStateException.class,
+            () -> history.record(new AttackCommand(player1, player2, hit), 0, MAX_TURNS));
+    }
+
+    @Test
+    void drawAfterLethalHitHasNoEffect() {
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        BattleManager battle = new BattleManager(player1, player2);
+
+        battle.startNextTurn();
+        battle.executeCommand(new AttackCommand(player1, player2, new BasicAttackSkill(5000)));
+
+        assertFalse(battle.endAsDraw());
+        assertEquals(player1, battle.getWinner());
+        assertEquals(1, ended.size());
+        assertEquals("P1", ended.get(0).winnerName());
+    }
+}
@@ -0,0 +1,134 @@
+package com.game.battle;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.event.BattleEndedEvent;
+import com.game.event.BattleEventSink;
+import com.game.event.BattleEvents;
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.Skill;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Beberapa thread per player saling menyerang di satu BattleManager
+ */
+class BattleManagerRaceTest {
+    private static final int ROUNDS = 200;
+    private static final int THREADS_PER_PLAYER = 4;
+    private static final int HP = 500;
+
+    private final AtomicInteger battlesEnded = new AtomicInteger();
+    private final BattleEventSink endedCounter = event -> {
+        if (event instanceof BattleEndedEvent) {
+            battlesEnded.incrementAndGet();
+        }
+    };
+    private ExecutorService pool;
+
+    private static final class Fighter extends Character {
+        Fighter(String name) {
+            super(name, HP, 1);
+        }
+
+        @Override
+        public CharacterType getCharacterType() {
+            return CharacterType.WARRIOR;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(THREADS_PER_PLAYER * 2);
+        BattleEvents.subscribe(endedCounter);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        BattleEvents.unsubscribe(endedCounter);
+        pool.shutdownNow();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentHitsSettleExactlyOneWinner() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            race(round);
+        }
+    }
+
+    private void race(int round) throws Exception {
+        Character[] players = { new Fighter("P1"), new Fighter("P2") };
+        BattleManager battle = new BattleManager(players[0], players[1]);
+        Skill hit = new BasicAttackSkill(1);
+        AtomicIntegerArray executedOn = new AtomicIntegerArray(2);
+        AtomicIntegerArray lethalOn = new AtomicIntegerArray(2);
+        CyclicBarrier start = new CyclicBarrier(THREADS_PER_PLAYER * 2);
+        battlesEnded.set(0);
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS_PER_PLAYER * 2; i++) {
+            int attackerIndex = i % 2;
+            int targetIndex = 1 - attackerIndex;
+            workers.add(pool.submit(() -> {
+                start.await();
+                while (true) {
+                    Command command = new AttackCommand(players[attackerIndex], players[targetIndex], hit);
+                    if (!battle.executeCommand(command).isExecuted()) {
+                        return null;
+                    }
+                    executedOn.incrementAndGet(targetIndex);
+                    if (command.isLethal()) {
+                        lethalOn.incrementAndGet(targetIndex);
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+
+        Character winner = battle.getWinner();
+        assertNotNull(winner, "round " + round + " has no winner");
+        int winnerIndex = winner == players[0] ? 0 : 1;
+        int loserIndex = 1 - winnerIndex;
+        String context = "round " + round + ", winner P" + (winnerIndex + 1);
+
+        assertEquals(1, battlesEnded.get(), context + ": battle must end exactly once");
+        assertEquals(0, players[loserIndex].getHp(), context);
+        assertEquals(1, lethalOn.get(loserIndex), context + ": exactly one lethal hit on the loser");
+        assertTrue(players[winnerIndex].getHp() >= 0, context + ": negative HP");
+        // Setiap hit sebesar 1 ke character yang masih hidup harus mengurangi tepat 1 HP
+        assertTrue(executedOn.get(loserIndex) >= HP, context + ": lost update on loser");
+        if (players[winnerIndex].isAlive()) {
+            assertEquals(0, lethalOn.get(winnerIndex), context);
+            assertEquals(HP - players[winnerIndex].getHp(), executedOn.get(winnerIndex),
+                context + ": lost update on winner");
+        } else {
+            // Hit balasan yang sudah berjalan juga lethal, tetapi tidak mengubah pemenang
+            assertEquals(1, lethalOn.get(winnerIndex), context);
+        }
+
+        int winnerHp = players[winnerIndex].getHp();
+        CommandStatus late = battle.executeCommand(
+            new AttackCommand(players[loserIndex], players[winnerIndex], hit));
+        assertFalse(late.isExecuted(), context + ": defeated attacker executed a command");
+        assertEquals(winnerHp, players[winnerIndex].getHp(), context);
+        assertEquals(winner, battle.getWinner(), context);
+    }
+}
@@ -0,0 +1,155 @@
+package com.game.battle;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.Skill;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Banyak producer (satu per participant) mengirim command ke satu pipeline kecil:
+ * setiap command harus di-publish tepat sekali, EXECUTED, dan berurutan per participant
+ */
+class CommandPipelineTest {
+    private static final int BATTLES = 16;
+    private static final int TURNS = 200;
+    private static final int HP = 1_000_000;
+    private static final int CAPACITY = 8;
+    private static final int BATCH_SIZE = 4;
+    private static final long TURN_TIMEOUT_MILLIS = 60_000L;
+
+    private static final class Fighter extends Character {
+        Fighter(String name) {
+            super(name, HP, 1);
+        }
+
+        @Override
+        public CharacterType getCharacterType() {
+            return CharacterType.WARRIOR;
+        }
+    }
+
+    /**
+     * Command dan hasil milik satu participant; hasil hanya ditulis thread consumer
+     */
+    private static final class Participant {
+        final BattleManager battle;
+        final List<Command> commands = new ArrayList<>(TURNS);
+        final List<Command> published = new ArrayList<>(TURNS);
+        final List<CommandStatus> statuses = new ArrayList<>(TURNS);
+        final Semaphore resolved = new Semaphore(0);
+
+        Participant(BattleManager battle, Character attacker, Character target, Skill skill) {
+            this.battle = battle;
+            for (int turn = 0; turn < TURNS; turn++) {
+                commands.add(new AttackCommand(attacker, target, skill));
+            }
+        }
+    }
+
+    @Test
+    void everyCommandIsAppliedExactlyOnceInOrderPerParticipant() throws Exception {
+        Skill hit = new BasicAttackSkill(1);
+        List<BattleManager> battles = new ArrayList<>();
+        List<Participant> participants = new ArrayList<>();
+        Map<Character, Participant> byAttacker = new IdentityHashMap<>();
+        for (int i = 0; i < BATTLES; i++) {
+            Character player1 = new Fighter("P1-" + i);
+            Character player2 = new Fighter("P2-" + i);
+            BattleManager battle = new BattleManager(player1, player2);
+            battles.add(battle);
+            for (Participant participant : new Participant[] {
+                    new Participant(battle, player1, player2, hit),
+                    new Participant(battle, player2, player1, hit) }) {
+                participants.add(participant);
+                byAttacker.put(participant.commands.get(0).getAttacker(), participant);
+            }
+        }
+
+        CommandPipeline pipeline = new CommandPipeline(CAPACITY, BATCH_SIZE, TURN_TIMEOUT_MILLIS,
+            (battle, command, status) -> {
+                Participant participant = byAttacker.get(command.getAttacker());
+                participant.published.add(command);
+                participant.statuses.add(status);
+                participant.resolved.release();
+            });
+
+        ExecutorService pool = Executors.newFixedThreadPool(participants.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> producers = new ArrayList<>();
+            for (int p = 0; p < participants.size(); p++) {
+                Participant participant = participants.get(p);
+                // Separuh producer memakai offer() (retry), separuh submit() (menunggu)
+                boolean useOffer = p % 2 == 0;
+                producers.add(pool.submit(() -> {
+                    start.await();
+                    for (Command command : participant.commands) {
+                        if (useOffer) {
+                            while (!pipeline.offer(participant.battle, command)) {
+                                Thread.yield();
+                            }
+                        } else {
+                            pipeline.submit(participant.battle, command);
+                        }
+                        // Command berikutnya baru dikirim setelah turn ini di-resolve
+                        assertTrue(participant.resolved.tryAcquire(30, TimeUnit.SECONDS), "turn never resolved");
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (!allDone(producers) || pipeline.size() > 0 || pipeline.getOpenTurnCount() > 0) {
+                if (pipeline.drain() == 0) {
+                    Thread.yield();
+                }
+                assertTrue(System.nanoTime() < deadline, "pipeline did not finish");
+            }
+            for (Future<?> producer : producers) {
+                producer.get();
+            }
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        for (Participant participant : participants) {
+            assertEquals(TURNS, participant.published.size());
+            for (int turn = 0; turn < TURNS; turn++) {
+                assertSame(participant.commands.get(turn), participant.published.get(turn), "turn " + turn);
+                assertEquals(CommandStatus.EXECUTED, participant.statuses.get(turn), "turn " + turn);
+            }
+        }
+        for (BattleManager battle : battles) {
+            assertEquals(TURNS, battle.getTurnNumber());
+            assertEquals(2 * TURNS, battle.getTotalCommands());
+            assertEquals(HP - TURNS, battle.getPlayer1().getHp());
+            assertEquals(HP - TURNS, battle.getPlayer2().getHp());
+        }
+    }
+
+    private static boolean allDone(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            if (!future.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,178 @@
+package com.game.checkpoint;
+
+import com.game.GameRandom;
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.battle.Command;
+import com.game.battle.CommandHistory;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.registry.GameRegistry;
+import com.game.skill.DamageContext;
+import com.game.skill.SkillCache;
+import com.game.spectator.SpectatorFeed;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.game.GameConstants.MAX_TURNS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Battle yang di-checkpoint di tengah turn lalu di-restore harus berlanjut
+ * sama persis dengan battle yang tidak pernah berhenti (seed sama)
+ */
+class BattleCheckpointRestoreTest {
+    private static final long MASTER_SEED = 42L;
+    private static final int BATTLES = 32;
+    private static final int INTERRUPT_TURN = 2;
+    private static final int FEED_CAPACITY = 1 << 15;
+    private static final int FEED_KEYFRAME_INTERVAL = 16;
+
+    private final SkillCache skillCache = new SkillCache();
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Menjalankan battle lewat turn pipeline seperti Match: aksi dipilih saat collect,
+     * critical roll saat resolve, semuanya dari random stream battle
+     */
+    private final class Driver {
+        private final BattleManager battle;
+        private final GameRandom random;
+        private final DamageContext damageContext;
+        private final List<String> log;
+
+        Driver(BattleManager battle, GameRandom random, List<String> log) {
+            this.battle = battle;
+            this.random = random;
+            this.damageContext = new DamageContext(random);
+            this.log = log;
+        }
+
+        boolean isOngoing() {
+            return battle.isBattleOngoing() && battle.getTurnNumber() < MAX_TURNS;
+        }
+
+        void startTurnAndCollect() {
+            battle.startNextTurn();
+            collect(battle.getPlayer1(), battle.getPlayer2());
+            collect(battle.getPlayer2(), battle.getPlayer1());
+        }
+
+        private void collect(Character attacker, Character target) {
+            Command command = random.nextInt(2) == 0
+                ? new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker))
+                : new UseSkillCommand(attacker, target, skillCache.getDecoratedSkill(attacker), damageContext,
+                    battle.getStatusEffects());
+            battle.collect(command);
+        }
+
+        void resolve() {
+            battle.resolvePending((manager, command, status) -> log.add(command.getAttacker().getName() + " "
+                + command.getActionType() + " " + status + " " + command.getDamageDealt()
+                + (command.isCritical() ? " critical" : "") + " -> " + command.getTarget().getHp()));
+        }
+
+        void finish() {
+            while (isOngoing()) {
+                startTurnAndCollect();
+                resolve();
+            }
+            if (battle.isBattleOngoing()) {
+                battle.endAsDraw();
+            }
+        }
+
+        String summary() {
+            Character winner = battle.getWinner();
+            return "turn " + battle.getTurnNumber() + ", commands " + battle.getTotalCommands()
+                + ", hp " + battle.getPlayer1().getHp() + "/" + battle.getPlayer2().getHp()
+                + ", winner " + (winner == null ? "none" : winner.getName());
+        }
+    }
+
+    private static BattleManager newBattle() {
+        BattleManager battle = new BattleManager(new Warrior("Aragorn"), new Mage("Gandalf"));
+        battle.enableStatusEffects();
+        battle.enableSpectatorFeed(FEED_CAPACITY, FEED_KEYFRAME_INTERVAL);
+        return battle;
+    }
+
+    @Test
+    void restoredBattleContinuesLikeUninterruptedBattle() throws IOException {
+        List<List<String>> expectedLogs = new ArrayList<>();
+        List<String> expectedSummaries = new ArrayList<>();
+        for (int i = 0; i < BATTLES; i++) {
+            List<String> log = new ArrayList<>();
+            Driver driver = new Driver(newBattle(), GameRandom.forStream(MASTER_SEED, i), log);
+            driver.finish();
+            expectedLogs.add(log);
+            expectedSummaries.add(driver.summary());
+        }
+
+        // Checkpoint di tengah turn: command kedua player sudah di-collect tapi belum di-resolve
+        Path file = tempDir.resolve("battles.ckpt");
+        List<List<String>> logs = new ArrayList<>();
+        try (BattleCheckpoint checkpoint = BattleCheckpoint.create(file, BATTLES)) {
+            for (int i = 0; i < BATTLES; i++) {
+                List<String> log = new ArrayList<>();
+                GameRandom random = GameRandom.forStream(MASTER_SEED, i);
+                Driver driver = new Driver(newBattle(), random, log);
+                while (driver.isOngoing() && driver.battle.getTurnNumber() < INTERRUPT_TURN - 1) {
+                    driver.startTurnAndCollect();
+                    driver.resolve();
+                }
+                if (driver.isOngoing()) {
+                    driver.startTurnAndCollect();
+                    assertTrue(checkpoint.checkpoint(i, driver.battle, random));
+                }
+                logs.add(log);
+            }
+        }
+
+        int interrupted = 0;
+        try (BattleCheckpoint checkpoint = BattleCheckpoint.open(file)) {
+            for (int i = 0; i < BATTLES; i++) {
+                RestoredBattle restored = checkpoint.restore(i, GameRegistry.defaults(), skillCache);
+                if (restored == null) {
+                    continue;
+                }
+                interrupted++;
+                BattleManager battle = restored.battleManager();
+                assertEquals(2, battle.getPendingCount());
+                assertNotNull(battle.getStatusEffects());
+                SpectatorFeed feed = battle.getSpectatorFeed();
+                assertNotNull(feed);
+                assertEquals(FEED_CAPACITY, feed.getCapacity());
+                assertEquals(FEED_KEYFRAME_INTERVAL, feed.getKeyframeInterval());
+
+                Driver driver = new Driver(battle, restored.random(), logs.get(i));
+                driver.resolve();
+                driver.finish();
+                assertEquals(expectedLogs.get(i), logs.get(i), "battle " + i);
+                assertEquals(expectedSummaries.get(i), driver.summary(), "battle " + i);
+            }
+        }
+        assertTrue(interrupted > 0, "no battle lasted until turn " + INTERRUPT_TURN);
+    }
+
+    @Test
+    void historyThatCannotBeRestoredIsRejected() throws IOException {
+        BattleManager battle = new BattleManager(new Warrior("Aragorn"), new Mage("Gandalf"),
+            CommandHistory.ringBuffer(8));
+        try (BattleCheckpoint checkpoint = BattleCheckpoint.create(tempDir.resolve("ring.ckpt"), 1)) {
+            assertThrows(IllegalArgumentException.class,
+                () -> checkpoint.checkpoint(0, battle, GameRandom.forStream(MASTER_SEED, 0)));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.game.effect;
+
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Timing effect di timing wheel: expiry dan tick harus jatuh di turn yang sama
+ * persis berapapun level wheel yang dilewati, termasuk shield yang habis
+ * (keluar dari list shield) sebelum expiry-nya di-cascade ke level bawah
+ */
+class EffectSchedulerTest {
+    private static final int HP = 1_000_000;
+    private static final int MAX_DURATION = 300;
+    private static final int[] WHEEL_SIZES = { 2, 4, EffectScheduler.DEFAULT_WHEEL_SIZE };
+    // Turn awal di tengah block dan tepat sebelum batas block beberapa level
+    private static final int[] START_TURNS = { 0, 1, 3, 15, 62, 63, 1_000 };
+
+    private static final class Fighter extends Character {
+        Fighter(String name) {
+            super(name, HP, 1);
+        }
+
+        @Override
+        public CharacterType getCharacterType() {
+            return CharacterType.WARRIOR;
+        }
+    }
+
+    /** Jumlah effect dengan durasi 1..MAX_DURATION (diterapkan di turn start) yang masih aktif di turn */
+    private static int stillActive(int start, int turn) {
+        return Math.max(0, MAX_DURATION - Math.max(0, turn - start - 1));
+    }
+
+    @Test
+    void buffsExpireAtTheStartOfTurnAfterTheirDurationOnEveryWheelLevel() {
+        for (int wheelSize : WHEEL_SIZES) {
+            for (int start : START_TURNS) {
+                Character fighter = new Fighter("P1");
+                EffectScheduler effects = new EffectScheduler(wheelSize, start, fighter);
+                for (int duration = 1; duration <= MAX_DURATION; duration++) {
+                    effects.apply(EffectSpec.attackBuff(1, duration), fighter, fighter);
+                }
+                for (int turn = start + 1; turn <= start + MAX_DURATION + 2; turn++) {
+                    effects.advanceTo(turn);
+                    // Buff durasi d aktif sampai turn start + d, berakhir di awal turn start + d + 1
+                    assertEquals(stillActive(start, turn), effects.getAttackBonus(fighter),
+                        "wheel " + wheelSize + ", start " + start + ", turn " + turn);
+                    assertEquals(stillActive(start, turn), effects.getActiveCount());
+                }
+                assertEquals(MAX_DURATION, effects.getFiredCount());
+            }
+        }
+    }
+
+    @Test
+    void burnsTickOncePerTurnAcrossWheelLevels() {
+        for (int wheelSize : WHEEL_SIZES) {
+            for (int start : START_TURNS) {
+                Character player1 = new Fighter("P1");
+                Character player2 = new Fighter("P2");
+                EffectScheduler effects = new EffectScheduler(wheelSize, start, player1, player2);
+                for (int duration = 1; duration <= MAX_DURATION; duration++) {
+                    effects.apply(EffectSpec.burn(1, duration), player1, player2);
+                }
+                int hp = HP;
+                for (int turn = start + 1; turn <= start + MAX_DURATION + 2; turn++) {
+                    // Burn durasi d tick di turn start + 1 .. start + d
+                    int ticks = turn <= start + MAX_DURATION ? MAX_DURATION - (turn - start - 1) : 0;
+                    assertEquals(ticks, effects.advanceTo(turn), "wheel " + wheelSize + ", start " + start + ", turn " + turn);
+                    hp -= ticks;
+                    assertEquals(hp, player2.getHp());
+                }
+                assertEquals(HP, player1.getHp());
+                assertEquals(0, effects.getActiveCount());
+            }
+        }
+    }
+
+    @Test
+    void stunCoversExactlyItsTurnsWhenItCrossesBlockBoundaries() {
+        for (int wheelSize : WHEEL_SIZES) {
+            for (int start : START_TURNS) {
+                for (int duration : new int[] { 1, 2, 3, 4, 5, 16, 17, 64, 65, 257 }) {
+                    Character player1 = new Fighter("P1");
+                    Character player2 = new Fighter("P2");
+                    EffectScheduler effects = new EffectScheduler(wheelSize, start, player1, player2);
+                    effects.apply(EffectSpec.stun(duration), player1, player2);
+                    assertFalse(effects.isStunned(player2));
+                    for (int turn = start + 1; turn <= start + duration + 1; turn++) {
+                        effects.advanceTo(turn);
+                        assertEquals(turn <= start + duration, effects.isStunned(player2),
+                            "wheel " + wheelSize + ", start " + start + ", duration " + duration + ", turn " + turn);
+                    }
+                    assertEquals(0, effects.getActiveCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    void jumpingManyTurnsAtOnceFiresEveryPendingEvent() {
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        EffectScheduler effects = new EffectScheduler(4, 5, player1, player2);
+        effects.apply(EffectSpec.burn(2, 100), player1, player2);
+        effects.apply(EffectSpec.shield(50, 70), player1, player2);
+        effects.apply(EffectSpec.stun(40), player1, player2);
+        effects.apply(EffectSpec.attackBuff(3, 1_000), player1, player2);
+
+        assertEquals(100 + 1 + 2, effects.advanceTo(5 + 150));
+        assertEquals(HP - 200, player2.getHp());
+        assertEquals(0, effects.getShield(player1));
+        assertFalse(effects.isStunned(player2));
+        assertEquals(3, effects.getAttackBonus(player1));
+        assertEquals(1, effects.getActiveCount());
+
+        assertEquals(1, effects.advanceTo(5 + 1_001));
+        assertEquals(0, effects.getAttackBonus(player1));
+        assertEquals(0, effects.getActiveCount());
+    }
+
+    @Test
+    void shieldBrokenBeforeExpiryLeavesAbsorptionButStillExpiresOnTime() {
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        // Wheel kecil: shield durasi 40 mulai di level 2 dan di-cascade dua kali sebelum expiry
+        EffectScheduler effects = new EffectScheduler(4, 1, player1, player2);
+        effects.apply(EffectSpec.shield(10, 40), player1, player2);
+        effects.apply(EffectSpec.shield(30, 60), player1, player2);
+        assertEquals(40, effects.getShield(player1));
+
+        // Shield tertua habis lebih dulu dan keluar dari list shield
+        assertEquals(0, effects.absorb(player1, 15));
+        assertEquals(25, effects.getShield(player1));
+        assertEquals(2, effects.getActiveCount());
+
+        // Melewati batas block 16 (cascade), lalu shield kedua dihabiskan tepat di turn cascade
+        effects.advanceTo(16);
+        assertEquals(25, effects.getShield(player1));
+        assertEquals(5, effects.absorb(player1, 30));
+        assertEquals(0, effects.getShield(player1));
+        assertEquals(7, effects.absorb(player1, 7));
+
+        // Keduanya tetap terjadwal sampai expiry dan tidak mengurangi shield dua kali
+        effects.advanceTo(1 + 40);
+        assertEquals(2, effects.getActiveCount());
+        effects.advanceTo(1 + 41);
+        assertEquals(1, effects.getActiveCount());
+        assertEquals(0, effects.getShield(player1));
+        effects.advanceTo(1 + 61);
+        assertEquals(0, effects.getActiveCount());
+        assertEquals(0, effects.getShield(player1));
+
+        // Node yang dipakai ulang dari free list berperilaku seperti shield baru
+        effects.apply(EffectSpec.shield(20, 5), player1, player2);
+        effects.apply(EffectSpec.shield(5, 100), player1, player2);
+        assertEquals(25, effects.getShield(player1));
+        assertEquals(0, effects.absorb(player1, 20));
+        assertEquals(5, effects.getShield(player1));
+        effects.advanceTo(1 + 61 + 6);
+        assertEquals(5, effects.getShield(player1));
+        assertEquals(1, effects.getActiveCount());
+        assertEquals(2, effects.absorb(player1, 7));
+        assertEquals(0, effects.getShield(player1));
+    }
+
+    @Test
+    void shieldExpiringThisTurnDoesNotAbsorbThisTurnsBurn() {
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        EffectScheduler effects = new EffectScheduler(4, 0, player1, player2);
+        effects.apply(EffectSpec.shield(100, 3), player2, player1);
+        effects.apply(EffectSpec.burn(10, 5), player1, player2);
+
+        effects.advanceTo(3);
+        assertEquals(HP, player2.getHp());
+        assertEquals(70, effects.getShield(player2));
+        effects.advanceTo(4);
+        assertEquals(0, effects.getShield(player2));
+        assertEquals(HP - 10, player2.getHp());
+    }
+
+    @Test
+    void burnOnDefeatedTargetStopsDamageButStillExpires() {
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        EffectScheduler effects = new EffectScheduler(4, 0, player1, player2);
+        effects.apply(EffectSpec.burn(10, 20), player1, player2);
+        effects.advanceTo(2);
+        assertEquals(HP - 20, player2.getHp());
+
+        assertTrue(player2.applyDamage(HP));
+        effects.advanceTo(19);
+        assertEquals(0, player2.getHp());
+        assertEquals(1, effects.getActiveCount());
+        effects.advanceTo(20);
+        assertEquals(0, effects.getActiveCount());
+    }
+}
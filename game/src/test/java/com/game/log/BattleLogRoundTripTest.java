@@ -0,0 +1,138 @@
+package com.game.log;
+
+import com.game.GameRandom;
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.battle.Command;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Character;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.event.ActionType;
+import com.game.registry.GameRegistry;
+import com.game.skill.DamageContext;
+import com.game.skill.SkillCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.game.GameConstants.MAX_TURNS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Battle yang direkam lewat BattleLogHistory harus bisa di-replay dari file
+ * dan berakhir dengan state yang sama persis
+ */
+class BattleLogRoundTripTest {
+    private static final long MASTER_SEED = 42L;
+    private static final int BATTLES = 16;
+
+    private final SkillCache skillCache = new SkillCache();
+
+    @TempDir
+    Path tempDir;
+
+    private static String summary(BattleManager battle) {
+        Character winner = battle.getWinner();
+        return "turn " + battle.getTurnNumber() + ", commands " + battle.getTotalCommands()
+            + ", hp " + battle.getPlayer1().getHp() + "/" + battle.getPlayer2().getHp()
+            + ", winner " + (winner == null ? "none" : winner.getName());
+    }
+
+    /**
+     * Pilihan aksi memakai random terpisah supaya draw yang direkam hanya milik command
+     */
+    private BattleManager record(BattleLogWriter writer, long battleId, Character player1, Character player2) {
+        RecordingRandom recordingRandom = new RecordingRandom(GameRandom.forStream(MASTER_SEED, battleId));
+        GameRandom choices = GameRandom.forStream(MASTER_SEED + 1, battleId);
+        DamageContext damageContext = new DamageContext(recordingRandom);
+        BattleManager battle = new BattleManager(player1, player2,
+            new BattleLogHistory(writer, battleId, recordingRandom));
+
+        while (battle.isBattleOngoing() && battle.getTurnNumber() < MAX_TURNS) {
+            battle.startNextTurn();
+            for (Character attacker : new Character[] { player1, player2 }) {
+                if (!battle.isBattleOngoing()) {
+                    break;
+                }
+                Character target = attacker == player1 ? player2 : player1;
+                Command command = choices.nextInt(2) == 0
+                    ? new AttackCommand(attacker, target, skillCache.getBasicAttack(attacker))
+                    : new UseSkillCommand(attacker, target, skillCache.getDecoratedSkill(attacker), damageContext);
+                battle.executeCommand(command);
+            }
+        }
+        if (battle.isBattleOngoing()) {
+            battle.endAsDraw();
+        }
+        return battle;
+    }
+
+    @Test
+    void recordedBattlesReplayToTheSameState() throws IOException {
+        Path file = tempDir.resolve("battles.mtbl");
+        GameRegistry registry = GameRegistry.defaults();
+        List<String> expected = new ArrayList<>();
+        long commands = 0;
+        try (BattleLogWriter writer = BattleLogWriter.create(file)) {
+            for (int i = 0; i < BATTLES; i++) {
+                // Separuh battle memakai character dari registry
+                BattleManager battle = i % 2 == 0
+                    ? record(writer, i, new Warrior("Aragorn"), new Mage("Gandalf"))
+                    : record(writer, i, registry.createCharacter(0, "Aragorn"), registry.createCharacter(1, "Gandalf"));
+                expected.add(summary(battle));
+                commands += battle.getTotalCommands();
+            }
+        }
+
+        try (BattleLogReader reader = BattleLogReader.open(file)) {
+            assertEquals(commands, reader.getRecordCount());
+            for (long record = 0; record < reader.getRecordCount(); record++) {
+                // Skill id stabil: id SkillDefinition + 1 (strike untuk Warrior, fireball untuk Mage)
+                int expectedSkillId = reader.getActionType(record) == ActionType.ATTACK
+                    ? 0
+                    : registry.getArchetype(reader.getActorIndex(record)).skillId() + 1;
+                assertEquals(expectedSkillId, reader.getSkillId(record), "record " + record);
+            }
+
+            for (int i = 0; i < BATTLES; i++) {
+                BattleManager replayed = i % 2 == 0
+                    ? reader.replay(i, new Warrior("Aragorn"), new Mage("Gandalf"), skillCache)
+                    : reader.replay(i, registry.createCharacter(0, "Aragorn"), registry.createCharacter(1, "Gandalf"),
+                        skillCache);
+                assertEquals(expected.get(i), summary(replayed), "battle " + i);
+            }
+        }
+    }
+
+    @Test
+    void replayWithDifferentSkillIsRejected() throws IOException {
+        Path file = tempDir.resolve("battle.mtbl");
+        try (BattleLogWriter writer = BattleLogWriter.create(file)) {
+            record(writer, 0, new Warrior("Aragorn"), new Mage("Gandalf"));
+        }
+        try (BattleLogReader reader = BattleLogReader.open(file)) {
+            boolean usedSkill = false;
+            for (long record = 0; record < reader.getRecordCount(); record++) {
+                usedSkill |= reader.getActionType(record) == ActionType.SKILL;
+            }
+            assertTrue(usedSkill);
+            assertThrows(IllegalStateException.class,
+                () -> reader.replay(0, new Mage("Gandalf"), new Warrior("Aragorn"), skillCache));
+        }
+    }
+
+    @Test
+    void fileThatIsNotABattleLogIsRejected() throws IOException {
+        Path file = tempDir.resolve("not-a-log.mtbl");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> BattleLogReader.open(file));
+        Files.delete(file);
+    }
+}
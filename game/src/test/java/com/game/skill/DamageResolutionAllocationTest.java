@@ -0,0 +1,109 @@
+package com.game.skill;
+
+import com.game.GameRandom;
+import com.game.battle.UseSkillCommand;
+import com.game.character.Mage;
+import com.game.character.Warrior;
+import com.game.effect.EffectSpec;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.game.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Regression check: resolve satu hit lewat DamageContext tidak boleh mengalokasikan apapun
+ *
+ * Alokasi diukur dengan ThreadMXBean.getCurrentThreadAllocatedBytes() di sekitar
+ * loop yang sudah di-warm up; hasil dibagi jumlah iterasi harus 0 byte/op.
+ */
+class DamageResolutionAllocationTest {
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private GameRandom random;
+    private DamageContext context;
+    private Mage attacker;
+    private Warrior target;
+
+    @FunctionalInterface
+    private interface Hit {
+        int resolve();
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocation counter not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        random = new GameRandom(42L);
+        attacker = new Mage("Gandalf");
+        target = new Warrior("Aragorn");
+        context = new DamageContext().prepare(random, attacker, target);
+    }
+
+    @Test
+    void decoratorChainResolvesWithoutAllocation() {
+        Skill skill = chain(8);
+        assertZeroBytesPerHit("decorator chain", () -> context.resolve(skill));
+    }
+
+    @Test
+    void compiledSkillResolvesWithoutAllocation() {
+        CompiledSkill skill = SkillCompiler.compile(chain(8));
+        assertZeroBytesPerHit("compiled skill", () -> context.resolve(skill));
+    }
+
+    @Test
+    void commandPathResolvesWithoutAllocation() {
+        Skill skill = new SkillCache().getDecoratedSkill(attacker);
+        assertZeroBytesPerHit("prepare + resolve", () -> context.prepare(random, attacker, target).resolve(skill));
+    }
+
+    @Test
+    void skillCommandReusesBattleContext() {
+        UseSkillCommand command = new UseSkillCommand(attacker, target,
+            new SkillCache().getDecoratedSkill(attacker), context);
+        assertZeroBytesPerHit("skill command", () -> {
+            command.execute();
+            return command.getDamageDealt();
+        });
+    }
+
+    @Test
+    void statusEffectResolvesWithoutAllocation() {
+        Skill skill = new StatusEffectDecorator(chain(2), EffectSpec.burn(5, 3));
+        assertZeroBytesPerHit("status effect", () -> context.resolve(skill));
+    }
+
+    private Skill chain(int depth) {
+        Skill skill = new Fireball(30);
+        for (int i = 0; i < depth; i++) {
+            skill = i % 2 == 0
+                ? new DamageBoostDecorator(skill, DAMAGE_BOOST_AMOUNT)
+                : new CriticalHitDecorator(skill, CRITICAL_HIT_CHANCE, random);
+        }
+        return skill;
+    }
+
+    private void assertZeroBytesPerHit(String path, Hit hit) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += hit.resolve();
+        }
+        // Panggilan pertama counter bisa mengalokasikan sendiri
+        threads.getCurrentThreadAllocatedBytes();
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += hit.resolve();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated / ITERATIONS,
+            path + " allocated " + allocated + " bytes over " + ITERATIONS + " hits (sink " + sink + ")");
+    }
+}
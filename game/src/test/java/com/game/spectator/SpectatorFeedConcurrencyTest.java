@@ -0,0 +1,228 @@
+package com.game.spectator;
+
+import com.game.battle.AttackCommand;
+import com.game.battle.BattleManager;
+import com.game.character.Character;
+import com.game.character.CharacterType;
+import com.game.event.ActionType;
+import com.game.skill.BasicAttackSkill;
+import com.game.skill.Skill;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static com.game.GameConstants.MAX_TURNS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Satu writer dan banyak SpectatorCursor di thread berbeda: setiap frame yang
+ * dikirim harus utuh dan berurutan, atau keyframe setelah cursor tertinggal
+ */
+class SpectatorFeedConcurrencyTest {
+    private static final int COMMANDS = 200_000;
+    private static final int HP = 1_000_000;
+    private static final int CAPACITY = 1024;
+    private static final int KEYFRAME_INTERVAL = 4;
+    private static final int FAST_READERS = 4;
+    private static final int SLOW_READERS = 4;
+
+    private static final class Fighter extends Character {
+        Fighter(String name) {
+            super(name, HP, 1);
+        }
+
+        @Override
+        public CharacterType getCharacterType() {
+            return CharacterType.WARRIOR;
+        }
+    }
+
+    /** Damage command ke-c (mulai dari 1); player 0 beraksi di command ganjil */
+    private static int damageOf(int command) {
+        return 1 + command % 7;
+    }
+
+    private static boolean criticalOf(int command) {
+        return command % 5 == 0;
+    }
+
+    /** expectedHp[player][c] = HP setelah c command */
+    private static int[][] expectedHp() {
+        int[][] hp = new int[2][COMMANDS + 1];
+        hp[0][0] = HP;
+        hp[1][0] = HP;
+        for (int c = 1; c <= COMMANDS; c++) {
+            int target = c % 2 == 1 ? 1 : 0;
+            hp[target][c] = hp[target][c - 1] - damageOf(c);
+            hp[1 - target][c] = hp[1 - target][c - 1];
+        }
+        return hp;
+    }
+
+    @Test
+    void readersRacingWriterSeeIntactFramesInOrderOrResyncAtKeyframe() throws Exception {
+        int[][] expectedHp = expectedHp();
+        Character[] players = { new Fighter("P1"), new Fighter("P2") };
+        SpectatorFeed feed = new SpectatorFeed(CAPACITY, KEYFRAME_INTERVAL, 0, players);
+
+        ExecutorService pool = Executors.newFixedThreadPool(FAST_READERS + SLOW_READERS + 1);
+        try {
+            CountDownLatch ready = new CountDownLatch(FAST_READERS + SLOW_READERS);
+            List<Future<FrameChecker>> readers = new ArrayList<>();
+            for (int i = 0; i < FAST_READERS + SLOW_READERS; i++) {
+                boolean slow = i >= FAST_READERS;
+                readers.add(pool.submit(() -> {
+                    SpectatorCursor cursor = feed.subscribe();
+                    FrameChecker checker = new FrameChecker(expectedHp, slow);
+                    ready.countDown();
+                    while (!checker.ended) {
+                        if (cursor.poll(checker, slow ? 3 : 256) == 0) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    checker.laps = cursor.getLapCount();
+                    return checker;
+                }));
+            }
+
+            Future<?> writer = pool.submit(() -> {
+                ready.await();
+                for (int c = 1; c <= COMMANDS; c++) {
+                    if (c % 2 == 1) {
+                        feed.turnStarted(c / 2 + 1);
+                    }
+                    int actor = c % 2 == 1 ? 0 : 1;
+                    players[1 - actor].takeDamage(damageOf(c));
+                    feed.commandExecuted(actor, ActionType.ATTACK, damageOf(c), criticalOf(c));
+                }
+                feed.battleEnded(0);
+                return null;
+            });
+            writer.get(60, TimeUnit.SECONDS);
+
+            long laps = 0;
+            for (Future<FrameChecker> reader : readers) {
+                FrameChecker checker = reader.get(60, TimeUnit.SECONDS);
+                assertEquals(COMMANDS, checker.commandCount, "END must carry the final command count");
+                assertEquals(0, checker.winnerIndex);
+                assertTrue(checker.frames > 0);
+                laps += checker.laps;
+            }
+            // Buffer kecil dan reader lambat: jalur overrun/resync harus ikut teruji
+            assertTrue(laps > 0, "no reader fell behind; overrun path not exercised");
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void drawnBattleEndsFeedWithDrawFrame() {
+        Character player1 = new Fighter("P1");
+        Character player2 = new Fighter("P2");
+        BattleManager battle = new BattleManager(player1, player2);
+        SpectatorFeed feed = battle.enableSpectatorFeed();
+        SpectatorCursor cursor = feed.subscribe();
+        Skill hit = new BasicAttackSkill(1);
+
+        while (battle.getTurnNumber() < MAX_TURNS) {
+            battle.startNextTurn();
+            battle.executeCommand(new AttackCommand(player1, player2, hit));
+            battle.executeCommand(new AttackCommand(player2, player1, hit));
+        }
+        battle.endAsDraw();
+
+        List<SpectatorFrame.Type> types = new ArrayList<>();
+        int[] winner = { 0 };
+        while (cursor.poll(frame -> {
+            types.add(frame.getType());
+            winner[0] = frame.getWinnerIndex();
+        }, 64) > 0) {
+            // baca sampai habis
+        }
+        assertEquals(SpectatorFrame.Type.END, types.get(types.size() - 1));
+        assertEquals(-1, winner[0]);
+        assertEquals(2 * MAX_TURNS, cursor.getCommandCount());
+    }
+
+    /**
+     * Memeriksa setiap frame terhadap state yang diharapkan untuk commandCount-nya
+     */
+    private static final class FrameChecker implements SpectatorFrameHandler {
+        private final int[][] expectedHp;
+        private final boolean slow;
+        private int lastSequence = -1;
+        private int commandCount = -1;
+        private int winnerIndex = -2;
+        private long frames;
+        private long laps;
+        private boolean ended;
+
+        FrameChecker(int[][] expectedHp, boolean slow) {
+            this.expectedHp = expectedHp;
+            this.slow = slow;
+        }
+
+        @Override
+        public void onFrame(SpectatorFrame frame) {
+            int sequence = frame.getSequence();
+            if (lastSequence >= 0 && sequence != lastSequence + 1) {
+                if (frame.getType() != SpectatorFrame.Type.KEYFRAME || sequence <= lastSequence) {
+                    fail("frame " + sequence + " (" + frame.getType() + ") after " + lastSequence
+                        + " is neither in order nor a keyframe resync");
+                }
+            }
+            lastSequence = sequence;
+
+            int c = frame.getCommandCount();
+            if (c < commandCount || c > COMMANDS) {
+                fail("command count went from " + commandCount + " to " + c + " at frame " + sequence);
+            }
+            commandCount = c;
+            for (int player = 0; player < 2; player++) {
+                if (frame.getHp(player) != expectedHp[player][c]) {
+                    fail("torn frame " + sequence + " (" + frame.getType() + "): player " + player + " hp "
+                        + frame.getHp(player) + ", expected " + expectedHp[player][c] + " after " + c + " commands");
+                }
+            }
+            switch (frame.getType()) {
+                case COMMAND -> {
+                    assertEquals((c - 1) % 2, frame.getActorIndex(), "actor at frame " + sequence);
+                    assertEquals(ActionType.ATTACK, frame.getActionType());
+                    assertEquals(damageOf(c), frame.getDamage(), "damage at frame " + sequence);
+                    assertEquals(criticalOf(c), frame.isCritical(), "critical at frame " + sequence);
+                    assertEquals((c + 1) / 2, frame.getTurn(), "turn at frame " + sequence);
+                }
+                case TURN -> assertEquals(c / 2 + 1, frame.getTurn(), "turn at frame " + sequence);
+                case KEYFRAME -> {
+                    // Keyframe bisa ditulis sebelum atau sesudah turnStarted() untuk commandCount genap
+                    int turn = frame.getTurn();
+                    if (turn != (c + 1) / 2 && !(c % 2 == 0 && turn == c / 2 + 1)) {
+                        fail("keyframe " + sequence + " has turn " + turn + " after " + c + " commands");
+                    }
+                }
+                case END -> assertTrue(frame.isBattleOver());
+            }
+            // Reader yang resync setelah END bisa langsung mendapat keyframe battle over
+            if (frame.isBattleOver()) {
+                winnerIndex = frame.getWinnerIndex();
+                ended = true;
+            }
+            frames++;
+            if (slow && frames % 16 == 0) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
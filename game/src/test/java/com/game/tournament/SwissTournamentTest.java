@@ -0,0 +1,112 @@
+package com.game.tournament;
+
+import com.game.character.MageCreator;
+import com.game.character.WarriorCreator;
+import com.game.skill.SkillBuilder;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pairing Swiss untuk jumlah entrant ganjil di beberapa ronde, dan hasil
+ * tournament (semua format) yang deterministik untuk seed yang sama
+ */
+class SwissTournamentTest {
+    private static final long MASTER_SEED = 42L;
+    private static final int BEST_OF = 3;
+    private static final int SEEDS = 8;
+    private static final int[] ODD_FIELDS = { 3, 5, 7, 9, 13, 33 };
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static List<Entrant> roster(int size) {
+        return Entrant.roster(List.of(new WarriorCreator(), new MageCreator()), size, new SkillBuilder());
+    }
+
+    @Test
+    void oddFieldsPairEveryEntrantOncePerRoundAndNeverRepeatAByeRecipient() {
+        for (long masterSeed = MASTER_SEED; masterSeed < MASTER_SEED + SEEDS; masterSeed++) {
+            for (int size : ODD_FIELDS) {
+                checkOddField(masterSeed, size);
+            }
+        }
+    }
+
+    private void checkOddField(long masterSeed, int size) {
+        // Lebih banyak ronde dari default sampai group score 0 kosong, tetapi tidak lebih dari
+        // jumlah entrant supaya setiap bye masih bisa ke entrant baru
+        int rounds = Math.min(size, TournamentEngine.defaultSwissRounds(size) + 2);
+        TournamentResult result = new TournamentEngine(pool, masterSeed, BEST_OF)
+            .swiss(roster(size), rounds, TournamentListener.IGNORE);
+        assertEquals(rounds * (size + 1) / 2, result.matches().size(), size + " entrants");
+
+        Set<Integer> byeRecipients = new HashSet<>();
+        for (int round = 0; round < rounds; round++) {
+            boolean[] seen = new boolean[size];
+            int byes = 0;
+            for (MatchResult match : result.matches()) {
+                if (match.round() != round) {
+                    continue;
+                }
+                markPaired(seen, match.player1(), size, round);
+                if (match.isBye()) {
+                    byes++;
+                    assertTrue(byeRecipients.add(match.player1().seed()),
+                        match.player1() + " got a second bye in round " + (round + 1) + " of " + size
+                        + ", seed " + masterSeed);
+                } else {
+                    assertNotEquals(match.player1().seed(), match.player2().seed());
+                    markPaired(seen, match.player2(), size, round);
+                }
+            }
+            assertEquals(1, byes, "byes in round " + (round + 1) + " of " + size + ", seed " + masterSeed);
+            for (int seed = 0; seed < size; seed++) {
+                assertTrue(seen[seed], "seed " + seed + " not paired in round " + (round + 1) + " of " + size);
+            }
+        }
+
+        for (Standing standing : result.standings()) {
+            int seed = standing.entrant().seed();
+            assertEquals(byeRecipients.contains(seed) ? 1 : 0, standing.byes(), "byes of seed " + seed);
+            assertEquals(rounds, standing.wins() + standing.draws() + standing.losses() + standing.byes());
+        }
+    }
+
+    private static void markPaired(boolean[] seen, Entrant entrant, int size, int round) {
+        assertTrue(!seen[entrant.seed()], entrant + " paired twice in round " + (round + 1) + " of " + size);
+        seen[entrant.seed()] = true;
+    }
+
+    @Test
+    void sameSeedGivesSameTournamentRegardlessOfParallelism() {
+        List<Entrant> entrants = roster(33);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            for (TournamentFormat format : TournamentFormat.values()) {
+                TournamentResult expected = new TournamentEngine(single, MASTER_SEED, BEST_OF)
+                    .run(format, entrants, TournamentListener.IGNORE);
+                for (int run = 0; run < 3; run++) {
+                    TournamentResult result = new TournamentEngine(pool, MASTER_SEED, BEST_OF)
+                        .run(format, entrants, TournamentListener.IGNORE);
+                    assertEquals(expected.matches(), result.matches(), format + " run " + run);
+                    assertEquals(expected.standings(), result.standings(), format + " run " + run);
+                    assertEquals(expected.games(), result.games(), format + " run " + run);
+                }
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+}